@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of asynchronous operations in flight without blocking callers.
+ * <p>
+ * Operations submitted while all permits are taken are queued and started, in submission order,
+ * on the thread completing a previous operation.
+ */
+class AsyncConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+
+    AsyncConcurrencyLimiter(final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be positive [maxConcurrency:" + maxConcurrency + "]");
+        }
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Starts an operation as soon as a permit is available.
+     *
+     * @param operation Operation to start
+     * @param <T>       Type of the operation result
+     * @return A future completed with the operation outcome
+     */
+    <T> CompletableFuture<T> submit(final Supplier<CompletableFuture<T>> operation) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        waiting.add(() -> start(operation, result));
+        drain();
+        return result;
+    }
+
+    int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private <T> void start(final Supplier<CompletableFuture<T>> operation, final CompletableFuture<T> result) {
+        final CompletableFuture<T> started;
+        try {
+            started = operation.get();
+        } catch (RuntimeException e) {
+            release();
+            result.completeExceptionally(e);
+            return;
+        }
+        started.whenComplete((value, throwable) -> {
+            release();
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void release() {
+        permits.release();
+        drain();
+    }
+
+    private void drain() {
+        while (!waiting.isEmpty() && permits.tryAcquire()) {
+            final Runnable next = waiting.poll();
+            if (next == null) {
+                permits.release();
+            } else {
+                next.run();
+            }
+        }
+    }
+}
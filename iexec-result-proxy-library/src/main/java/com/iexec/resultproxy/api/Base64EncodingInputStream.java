@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Encodes the bytes of a stream to Base64 while they are read.
+ * <p>
+ * Source bytes are read in chunks whose size is a multiple of 3, so that each chunk encodes without padding
+ * and chunk encodings can be concatenated. Memory usage is bounded by two chunk buffers whatever the source size.
+ */
+class Base64EncodingInputStream extends InputStream {
+
+    static final int CHUNK_SIZE = 48 * 1024;
+    private static final Base64.Encoder ENCODER = Base64.getEncoder();
+
+    private final InputStream source;
+    private final byte[] rawChunk = new byte[CHUNK_SIZE];
+    private final byte[] encodedChunk = new byte[CHUNK_SIZE / 3 * 4];
+    private int position;
+    private int limit;
+    private boolean sourceExhausted;
+
+    Base64EncodingInputStream(final InputStream source) {
+        this.source = source;
+    }
+
+    /**
+     * Computes the length of the Base64 encoding of a content, padding included.
+     *
+     * @param length Length of the content
+     * @return Length of the encoded content
+     */
+    static long getEncodedLength(final long length) {
+        return (length + 2) / 3 * 4;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return encodedChunk[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        final int count = Math.min(len, limit - position);
+        System.arraycopy(encodedChunk, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private boolean fill() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        if (sourceExhausted) {
+            return false;
+        }
+        final int read = source.readNBytes(rawChunk, 0, CHUNK_SIZE);
+        if (read < CHUNK_SIZE) {
+            sourceExhausted = true;
+        }
+        if (read == 0) {
+            return false;
+        }
+        position = 0;
+        limit = read == CHUNK_SIZE
+                ? ENCODER.encode(rawChunk, encodedChunk)
+                : ENCODER.encode(Arrays.copyOf(rawChunk, read), encodedChunk);
+        return true;
+    }
+}
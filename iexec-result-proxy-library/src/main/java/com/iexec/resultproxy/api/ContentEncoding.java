@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.api;
+
+import com.github.luben.zstd.Zstd;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression schemes accepted by Result Proxy on result uploads.
+ */
+@Getter
+@AllArgsConstructor
+public enum ContentEncoding {
+    GZIP("gzip"),
+    ZSTD("zstd");
+
+    private final String value;
+
+    /**
+     * Compresses a request body.
+     *
+     * @param body Request body to compress
+     * @return The compressed body
+     */
+    public byte[] compress(final byte[] body) {
+        if (this == ZSTD) {
+            return Zstd.compress(body);
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gzip request body", e);
+        }
+        return out.toByteArray();
+    }
+}
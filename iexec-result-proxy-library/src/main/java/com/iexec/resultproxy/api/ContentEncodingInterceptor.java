@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.api;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+/**
+ * Compresses result upload bodies before they are sent to Result Proxy.
+ * <p>
+ * Only {@code POST /v1/results} requests are compressed, other requests are left untouched.
+ */
+class ContentEncodingInterceptor implements RequestInterceptor {
+
+    static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String RESULTS_PATH = "/v1/results";
+
+    private final ContentEncoding contentEncoding;
+
+    ContentEncodingInterceptor(final ContentEncoding contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    @Override
+    public void apply(final RequestTemplate template) {
+        final byte[] body = template.body();
+        if (!"POST".equals(template.method()) || !RESULTS_PATH.equals(template.path()) || body == null) {
+            return;
+        }
+        template.body(contentEncoding.compress(body), null);
+        template.header(CONTENT_ENCODING, contentEncoding.getValue());
+    }
+}
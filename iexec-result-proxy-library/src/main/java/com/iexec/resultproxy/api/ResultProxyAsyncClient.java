@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iexec.common.result.ResultModel;
+import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking client of Result Proxy REST endpoints, the asynchronous counterpart of {@link ResultProxyClient}.
+ * <p>
+ * Requests are sent with a {@link HttpClient} pooling its connections. HTTP/2 is negotiated when the proxy supports it,
+ * concurrent requests are then multiplexed on a single connection. The number of requests in flight is bounded,
+ * requests above the limit are queued without blocking the caller.
+ * <p>
+ * Futures complete exceptionally with a {@link ResultProxyClientException} on unexpected HTTP statuses.
+ * To create the client, see the related builder.
+ *
+ * @see ResultProxyClientBuilder#getAsyncInstance(String, int)
+ */
+public class ResultProxyAsyncClient implements AutoCloseable {
+
+    static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10L);
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60L);
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String TOKEN_PATH = "/v1/results/token";
+    private static final String RESULTS_PATH = "/v1/results";
+
+    private final HttpClient httpClient;
+    private final String url;
+    private final ContentEncoding contentEncoding;
+    private final TraceContextInjector traceContextInjector;
+    private final AsyncConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    ResultProxyAsyncClient(final HttpClient httpClient, final String url, final int maxConcurrency,
+                           final ContentEncoding contentEncoding, final TraceContextInjector traceContextInjector) {
+        this.httpClient = httpClient;
+        this.url = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        this.contentEncoding = contentEncoding;
+        this.traceContextInjector = traceContextInjector;
+        this.limiter = new AsyncConcurrencyLimiter(maxConcurrency);
+    }
+
+    /**
+     * Logs against Result Proxy with a {@code WorkerpoolAuthorization}.
+     *
+     * @param authorization           Challenge of the authorization signed by the worker
+     * @param workerpoolAuthorization Authorization given by the workerpool
+     * @return A future completed with the JWT
+     */
+    public CompletableFuture<String> getJwt(final String authorization,
+                                            final WorkerpoolAuthorization workerpoolAuthorization) {
+        final byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(workerpoolAuthorization);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        final HttpRequest request = newRequest(TOKEN_PATH)
+                .header(AUTHORIZATION, authorization)
+                .header(CONTENT_TYPE, APPLICATION_JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return sendForBody(request);
+    }
+
+    /**
+     * Uploads a result, compressed with the client {@link ContentEncoding} if any.
+     *
+     * @param authorization JWT
+     * @param model         Result to upload
+     * @return A future completed with the link to the uploaded result
+     */
+    public CompletableFuture<String> addResult(final String authorization, final ResultModel model) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(model);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        final HttpRequest.Builder builder = newRequest(RESULTS_PATH)
+                .header(AUTHORIZATION, authorization)
+                .header(CONTENT_TYPE, APPLICATION_JSON);
+        if (contentEncoding != null) {
+            body = contentEncoding.compress(body);
+            builder.header(ContentEncodingInterceptor.CONTENT_ENCODING, contentEncoding.getValue());
+        }
+        return sendForBody(builder.POST(HttpRequest.BodyPublishers.ofByteArray(body)).build());
+    }
+
+    /**
+     * Uploads a result zip streamed from disk.
+     * <p>
+     * The zip is Base64 encoded on the fly into the {@code zip} field of the JSON body, client memory usage does not
+     * depend on the zip size. Streamed bodies are never compressed, zips barely compress anyway.
+     *
+     * @param authorization JWT
+     * @param model         Fields of the result other than the zip, its {@code zip} field is ignored
+     * @param zip           Path of the result zip
+     * @return A future completed with the link to the uploaded result
+     */
+    public CompletableFuture<String> addResult(final String authorization, final ResultModel model, final Path zip) {
+        final ResultUploadBody body;
+        try {
+            body = new ResultUploadBody(objectMapper, model, zip);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        final HttpRequest request = newRequest(RESULTS_PATH)
+                .header(AUTHORIZATION, authorization)
+                .header(CONTENT_TYPE, APPLICATION_JSON)
+                .POST(body.toBodyPublisher())
+                .build();
+        return sendForBody(request);
+    }
+
+    /**
+     * Checks whether the result of a task has been uploaded.
+     *
+     * @param authorization JWT
+     * @param chainTaskId   ID of the task
+     * @return A future completed with {@literal true} on HTTP 204 and {@literal false} on HTTP 404
+     */
+    public CompletableFuture<Boolean> isResultUploaded(final String authorization, final String chainTaskId) {
+        final HttpRequest request = newRequest(RESULTS_PATH + "/" + chainTaskId)
+                .header(AUTHORIZATION, authorization)
+                .HEAD()
+                .build();
+        return limiter.submit(() -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()))
+                .thenApply(response -> switch (response.statusCode()) {
+                    case 200, 204 -> true;
+                    case 404 -> false;
+                    default -> throw newException(request, response);
+                });
+    }
+
+    /**
+     * Retrieves the IPFS hash of the result of a task.
+     *
+     * @param chainTaskId ID of the task
+     * @return A future completed with the IPFS hash
+     */
+    public CompletableFuture<String> getIpfsHashForTask(final String chainTaskId) {
+        return sendForBody(newRequest(RESULTS_PATH + "/" + chainTaskId + "/ipfshash").GET().build());
+    }
+
+    /**
+     * Closes the underlying HTTP client, requests in flight are not interrupted.
+     */
+    @Override
+    public void close() {
+        httpClient.close();
+    }
+
+    private HttpRequest.Builder newRequest(final String path) {
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url + path)).timeout(REQUEST_TIMEOUT);
+        if (traceContextInjector != null) {
+            traceContextInjector.inject(builder::setHeader);
+        }
+        return builder;
+    }
+
+    private CompletableFuture<String> sendForBody(final HttpRequest request) {
+        return limiter.submit(() -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw newException(request, response);
+                    }
+                    return response.body();
+                });
+    }
+
+    private static ResultProxyClientException newException(final HttpRequest request, final HttpResponse<?> response) {
+        return new ResultProxyClientException(request.method(), request.uri().getPath(), response.statusCode());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022 IEXEC BLOCKCHAIN TECH
+ * Copyright 2022-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,11 @@
 package com.iexec.resultproxy.api;
 
 import com.iexec.common.utils.FeignBuilder;
+import feign.Feign;
 import feign.Logger;
 
+import java.net.http.HttpClient;
+
 /**
  * Creates Feign client instances to query REST endpoints described in {@link ResultProxyClient}.
  * @see FeignBuilder
@@ -32,4 +35,83 @@ public class ResultProxyClientBuilder {
                 .target(ResultProxyClient.class, url);
     }
 
+    /**
+     * Creates a client compressing result upload bodies with the given encoding.
+     * <p>
+     * Result uploads are base64 encoded JSON documents, compressing them roughly saves the base64 overhead
+     * and reduces the bandwidth needed on constrained uplinks.
+     *
+     * @param logLevel        Feign log level
+     * @param url             Result Proxy URL
+     * @param contentEncoding Compression applied on {@code POST /v1/results} bodies
+     * @return A client targeting the given Result Proxy
+     */
+    public static ResultProxyClient getInstance(Logger.Level logLevel, String url, ContentEncoding contentEncoding) {
+        return getInstance(logLevel, url, contentEncoding, null);
+    }
+
+    /**
+     * Creates a client propagating the trace context of the caller to Result Proxy.
+     *
+     * @param logLevel             Feign log level
+     * @param url                  Result Proxy URL
+     * @param contentEncoding      Compression applied on {@code POST /v1/results} bodies, none if {@literal null}
+     * @param traceContextInjector Injector of trace context headers, none if {@literal null}
+     * @return A client targeting the given Result Proxy
+     */
+    public static ResultProxyClient getInstance(Logger.Level logLevel, String url, ContentEncoding contentEncoding,
+                                                TraceContextInjector traceContextInjector) {
+        final Feign.Builder builder = FeignBuilder.createBuilder(logLevel);
+        if (contentEncoding != null) {
+            builder.requestInterceptor(new ContentEncodingInterceptor(contentEncoding));
+        }
+        if (traceContextInjector != null) {
+            builder.requestInterceptor(new TraceContextInterceptor(traceContextInjector));
+        }
+        return builder.target(ResultProxyClient.class, url);
+    }
+
+    /**
+     * Creates a non-blocking client sending at most {@code maxConcurrency} requests at the same time.
+     *
+     * @param url            Result Proxy URL
+     * @param maxConcurrency Maximum number of requests in flight, further requests are queued
+     * @return A client targeting the given Result Proxy
+     */
+    public static ResultProxyAsyncClient getAsyncInstance(String url, int maxConcurrency) {
+        return getAsyncInstance(url, maxConcurrency, null);
+    }
+
+    /**
+     * Creates a non-blocking client compressing result upload bodies with the given encoding.
+     *
+     * @param url             Result Proxy URL
+     * @param maxConcurrency  Maximum number of requests in flight, further requests are queued
+     * @param contentEncoding Compression applied on {@code POST /v1/results} bodies, none if {@literal null}
+     * @return A client targeting the given Result Proxy
+     * @see #getInstance(Logger.Level, String, ContentEncoding)
+     */
+    public static ResultProxyAsyncClient getAsyncInstance(String url, int maxConcurrency, ContentEncoding contentEncoding) {
+        return getAsyncInstance(url, maxConcurrency, contentEncoding, null);
+    }
+
+    /**
+     * Creates a non-blocking client propagating the trace context of the caller to Result Proxy.
+     *
+     * @param url                  Result Proxy URL
+     * @param maxConcurrency       Maximum number of requests in flight, further requests are queued
+     * @param contentEncoding      Compression applied on {@code POST /v1/results} bodies, none if {@literal null}
+     * @param traceContextInjector Injector of trace context headers, called when a request is created,
+     *                             none if {@literal null}
+     * @return A client targeting the given Result Proxy
+     */
+    public static ResultProxyAsyncClient getAsyncInstance(String url, int maxConcurrency, ContentEncoding contentEncoding,
+                                                          TraceContextInjector traceContextInjector) {
+        final HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(ResultProxyAsyncClient.CONNECT_TIMEOUT)
+                .build();
+        return new ResultProxyAsyncClient(httpClient, url, maxConcurrency, contentEncoding, traceContextInjector);
+    }
+
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import lombok.Getter;
+
+/**
+ * Thrown when Result Proxy answers a {@link ResultProxyAsyncClient} request with an unexpected HTTP status.
+ */
+@Getter
+public class ResultProxyClientException extends RuntimeException {
+
+    private final int status;
+
+    public ResultProxyClientException(final String method, final String path, final int status) {
+        super(String.format("Unexpected response from Result Proxy [request:%s %s, status:%d]", method, path, status));
+        this.status = status;
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import com.iexec.common.result.ResultModel;
+import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
+import com.iexec.commons.poco.utils.BytesUtils;
+import feign.FeignException;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Calls Result Proxy endpoints requiring a JWT and manages tokens on behalf of the caller.
+ * <p>
+ * A JWT is requested once per wallet and cached for the lifetime of the session:
+ * <ul>
+ * <li>When a request is rejected with HTTP 401 because of its token, the token is renewed and the request is retried once.
+ * An upload can also be rejected with HTTP 401 when the result is not accepted, the token is then first checked with
+ * a {@code HEAD} request and the upload is only sent again if the token was rejected
+ * <li>When a max token age is configured, older tokens are renewed before being used
+ * <li>Renewals are single-flighted, concurrent callers of a wallet wait for the renewal in progress
+ * </ul>
+ * A TEE result upload always requests a new token first, Result Proxy only keeps the workerpool authorization
+ * of a task, against which the enclave signature is checked, when a token is requested for this task.
+ * The challenge of a {@code WorkerpoolAuthorization} is signed by a caller-provided function,
+ * the session never handles private keys.
+ */
+public class ResultProxySession {
+
+    private record CachedJwt(String value, long obtainedAtNanos) {
+    }
+
+    @FunctionalInterface
+    private interface JwtRequest<T> {
+        T send(String jwt);
+    }
+
+    private static final int UNAUTHORIZED = 401;
+    private static final int NOT_FOUND = 404;
+
+    private final ResultProxyClient client;
+    private final Function<WorkerpoolAuthorization, String> challengeSigner;
+    private final long maxTokenAgeNanos;
+    private final Map<String, CachedJwt> jwts = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedJwt>> renewals = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a session keeping tokens until they are rejected.
+     *
+     * @param client          Client targeting Result Proxy
+     * @param challengeSigner Returns the challenge of a {@code WorkerpoolAuthorization} signed by its worker wallet
+     */
+    public ResultProxySession(final ResultProxyClient client,
+                              final Function<WorkerpoolAuthorization, String> challengeSigner) {
+        this(client, challengeSigner, Duration.ZERO);
+    }
+
+    /**
+     * Creates a session renewing tokens older than a given age.
+     *
+     * @param client          Client targeting Result Proxy
+     * @param challengeSigner Returns the challenge of a {@code WorkerpoolAuthorization} signed by its worker wallet
+     * @param maxTokenAge     Age after which a token is renewed before use, {@link Duration#ZERO} to keep tokens
+     *                        until they are rejected
+     */
+    public ResultProxySession(final ResultProxyClient client,
+                              final Function<WorkerpoolAuthorization, String> challengeSigner,
+                              final Duration maxTokenAge) {
+        this.client = client;
+        this.challengeSigner = challengeSigner;
+        this.maxTokenAgeNanos = maxTokenAge.toNanos();
+    }
+
+    /**
+     * Returns the cached JWT of the worker wallet, requesting a new one if needed.
+     *
+     * @param workerpoolAuthorization Authorization of the worker for one of its tasks
+     * @return A JWT
+     */
+    public String getJwt(final WorkerpoolAuthorization workerpoolAuthorization) {
+        final String wallet = getWalletKey(workerpoolAuthorization);
+        final CachedJwt cached = jwts.get(wallet);
+        if (cached != null && !isTooOld(cached)) {
+            return cached.value();
+        }
+        return renew(wallet, cached, workerpoolAuthorization).value();
+    }
+
+    /**
+     * Uploads a result.
+     *
+     * @param workerpoolAuthorization Authorization of the worker for the task
+     * @param model                   Result to upload
+     * @return Link to the uploaded result
+     * @see ResultProxyClient#addResult(String, ResultModel)
+     */
+    public String addResult(final WorkerpoolAuthorization workerpoolAuthorization, final ResultModel model) {
+        return sendWithJwt(workerpoolAuthorization, isTeeTask(workerpoolAuthorization),
+                jwt -> client.addResult(jwt, model),
+                jwt -> isJwtRejected(jwt, model.getChainTaskId()));
+    }
+
+    /**
+     * Checks whether the result of a task has been uploaded.
+     *
+     * @param workerpoolAuthorization Authorization of the worker for the task
+     * @param chainTaskId             ID of the task
+     * @return {@literal true} if the result has been uploaded, {@literal false} if it has not been found
+     * @see ResultProxyClient#isResultUploaded(String, String)
+     */
+    public boolean isResultUploaded(final WorkerpoolAuthorization workerpoolAuthorization, final String chainTaskId) {
+        return sendWithJwt(workerpoolAuthorization, false, jwt -> {
+            try {
+                client.isResultUploaded(jwt, chainTaskId);
+                return true;
+            } catch (FeignException e) {
+                if (e.status() == NOT_FOUND) {
+                    return false;
+                }
+                throw e;
+            }
+        }, jwt -> true);
+    }
+
+    /**
+     * Sends a request with the cached JWT of the worker wallet, renewing the token if needed.
+     *
+     * @param workerpoolAuthorization Authorization of the worker
+     * @param authorizeTask           Whether a new token must be requested to authorize the task on Result Proxy
+     * @param request                 Request to send
+     * @param isJwtRejected           Tells whether an HTTP 401 answer was caused by the token,
+     *                                the request is then sent again with a renewed token
+     */
+    private <T> T sendWithJwt(final WorkerpoolAuthorization workerpoolAuthorization, final boolean authorizeTask,
+                              final JwtRequest<T> request, final Predicate<String> isJwtRejected) {
+        final String wallet = getWalletKey(workerpoolAuthorization);
+        CachedJwt jwt = authorizeTask ? authorize(wallet, workerpoolAuthorization) : jwts.get(wallet);
+        if (jwt == null || isTooOld(jwt)) {
+            jwt = renew(wallet, jwt, workerpoolAuthorization);
+        }
+        try {
+            return request.send(jwt.value());
+        } catch (FeignException e) {
+            if (e.status() != UNAUTHORIZED || !isJwtRejected.test(jwt.value())) {
+                throw e;
+            }
+        }
+        final CachedJwt renewed = authorizeTask
+                ? authorize(wallet, workerpoolAuthorization)
+                : renew(wallet, jwt, workerpoolAuthorization);
+        return request.send(renewed.value());
+    }
+
+    /**
+     * Requests a new token for the task of a workerpool authorization, without joining the renewal in progress
+     * for another task of the wallet, and caches it.
+     */
+    private CachedJwt authorize(final String wallet, final WorkerpoolAuthorization workerpoolAuthorization) {
+        final String value = client.getJwt(challengeSigner.apply(workerpoolAuthorization), workerpoolAuthorization);
+        final CachedJwt authorized = new CachedJwt(value, System.nanoTime());
+        jwts.put(wallet, authorized);
+        return authorized;
+    }
+
+    /**
+     * Checks a token with a {@code HEAD} request, only answered with HTTP 401 when the token itself is rejected.
+     */
+    private boolean isJwtRejected(final String jwt, final String chainTaskId) {
+        try {
+            client.isResultUploaded(jwt, chainTaskId);
+            return false;
+        } catch (FeignException e) {
+            return e.status() == UNAUTHORIZED;
+        }
+    }
+
+    /**
+     * Replaces a stale token, or waits for the renewal started by another caller.
+     * <p>
+     * The stale token is not renewed again if it has already been replaced in the cache.
+     */
+    private CachedJwt renew(final String wallet, final CachedJwt stale,
+                            final WorkerpoolAuthorization workerpoolAuthorization) {
+        final CompletableFuture<CachedJwt> renewal = new CompletableFuture<>();
+        final CompletableFuture<CachedJwt> inProgress = renewals.putIfAbsent(wallet, renewal);
+        if (inProgress != null) {
+            return await(inProgress);
+        }
+        try {
+            final CachedJwt current = jwts.get(wallet);
+            if (current != null && current != stale && !isTooOld(current)) {
+                renewal.complete(current);
+                return current;
+            }
+            final String value = client.getJwt(challengeSigner.apply(workerpoolAuthorization), workerpoolAuthorization);
+            final CachedJwt renewed = new CachedJwt(value, System.nanoTime());
+            jwts.put(wallet, renewed);
+            renewal.complete(renewed);
+            return renewed;
+        } catch (RuntimeException e) {
+            renewal.completeExceptionally(e);
+            throw e;
+        } finally {
+            renewals.remove(wallet, renewal);
+        }
+    }
+
+    private boolean isTooOld(final CachedJwt jwt) {
+        return maxTokenAgeNanos > 0 && System.nanoTime() - jwt.obtainedAtNanos() > maxTokenAgeNanos;
+    }
+
+    private static CachedJwt await(final CompletableFuture<CachedJwt> renewal) {
+        try {
+            return renewal.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isTeeTask(final WorkerpoolAuthorization workerpoolAuthorization) {
+        final String enclaveChallenge = workerpoolAuthorization.getEnclaveChallenge();
+        return enclaveChallenge != null && !enclaveChallenge.isEmpty()
+                && !BytesUtils.EMPTY_ADDRESS.equalsIgnoreCase(enclaveChallenge);
+    }
+
+    private static String getWalletKey(final WorkerpoolAuthorization workerpoolAuthorization) {
+        return workerpoolAuthorization.getWorkerWallet().toLowerCase(Locale.ROOT);
+    }
+}
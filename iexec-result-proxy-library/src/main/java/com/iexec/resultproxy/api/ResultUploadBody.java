@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.iexec.common.result.ResultModel;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code POST /v1/results} JSON body whose {@code zip} field is streamed from a file.
+ * <p>
+ * The other fields of the {@link ResultModel} are serialized up-front, the zip is Base64 encoded while the body is sent
+ * and appended as the last field. The body length is known in advance and sent as {@code Content-Length}.
+ */
+class ResultUploadBody {
+
+    private static final String ZIP_FIELD = "zip";
+
+    private final byte[] prefix;
+    private final byte[] suffix;
+    private final Path zip;
+    private final long zipSize;
+
+    ResultUploadBody(final ObjectMapper objectMapper, final ResultModel model, final Path zip)
+            throws IOException {
+        final ObjectNode fields = objectMapper.valueToTree(model);
+        fields.remove(ZIP_FIELD);
+        final String json = objectMapper.writeValueAsString(fields);
+        final String separator = fields.isEmpty() ? "" : ",";
+        this.prefix = (json.substring(0, json.length() - 1) + separator + "\"" + ZIP_FIELD + "\":\"")
+                .getBytes(StandardCharsets.UTF_8);
+        this.suffix = "\"}".getBytes(StandardCharsets.UTF_8);
+        this.zip = zip;
+        this.zipSize = Files.size(zip);
+    }
+
+    long getContentLength() {
+        return prefix.length + Base64EncodingInputStream.getEncodedLength(zipSize) + suffix.length;
+    }
+
+    /**
+     * Opens a new stream over the body, the HTTP client may open several streams when a request is resent.
+     *
+     * @return The body as a stream
+     * @throws UncheckedIOException if the zip file cannot be opened
+     */
+    InputStream openStream() {
+        final InputStream encodedZip;
+        try {
+            encodedZip = new Base64EncodingInputStream(Files.newInputStream(zip));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open result zip [zip:" + zip + "]", e);
+        }
+        return new SequenceInputStream(Collections.enumeration(List.of(
+                new ByteArrayInputStream(prefix), encodedZip, new ByteArrayInputStream(suffix))));
+    }
+
+    HttpRequest.BodyPublisher toBodyPublisher() {
+        return HttpRequest.BodyPublishers.fromPublisher(
+                HttpRequest.BodyPublishers.ofInputStream(this::openStream), getContentLength());
+    }
+}
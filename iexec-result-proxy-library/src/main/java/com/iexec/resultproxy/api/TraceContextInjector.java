@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Adds the trace context of the caller to Result Proxy requests, W3C {@code traceparent} headers being expected
+ * by Result Proxy.
+ * <p>
+ * The library does not depend on a tracing implementation, an injector is a thin adapter over the caller one.
+ * With OpenTelemetry:
+ * <pre>
+ * TraceContextInjector injector = headers -&gt; openTelemetry.getPropagators().getTextMapPropagator()
+ *         .inject(Context.current(), headers, BiConsumer::accept);
+ * </pre>
+ * With Micrometer Tracing:
+ * <pre>
+ * TraceContextInjector injector = headers -&gt; {
+ *     Span span = tracer.currentSpan();
+ *     if (span != null) {
+ *         propagator.inject(span.context(), headers, BiConsumer::accept);
+ *     }
+ * };
+ * </pre>
+ */
+@FunctionalInterface
+public interface TraceContextInjector {
+
+    /**
+     * Injects the current trace context, called on the thread sending the request.
+     *
+     * @param headers Sink receiving header names and values
+     */
+    void inject(BiConsumer<String, String> headers);
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+/**
+ * Adds the trace context of the caller to every request sent to Result Proxy.
+ */
+class TraceContextInterceptor implements RequestInterceptor {
+
+    private final TraceContextInjector traceContextInjector;
+
+    TraceContextInterceptor(final TraceContextInjector traceContextInjector) {
+        this.traceContextInjector = traceContextInjector;
+    }
+
+    @Override
+    public void apply(final RequestTemplate template) {
+        traceContextInjector.inject((name, value) -> template.header(name, value));
+    }
+}
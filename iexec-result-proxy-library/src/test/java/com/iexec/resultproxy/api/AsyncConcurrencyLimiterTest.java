@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncConcurrencyLimiterTest {
+
+    @Test
+    void shouldRejectNonPositiveConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncConcurrencyLimiter(0));
+    }
+
+    @Test
+    void shouldQueueOperationsAboveLimit() {
+        final AsyncConcurrencyLimiter limiter = new AsyncConcurrencyLimiter(2);
+        final List<CompletableFuture<Integer>> operations = new ArrayList<>();
+        final List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final CompletableFuture<Integer> operation = new CompletableFuture<>();
+            results.add(limiter.submit(() -> {
+                operations.add(operation);
+                return operation;
+            }));
+        }
+        assertEquals(2, operations.size());
+        assertEquals(0, limiter.getAvailablePermits());
+
+        operations.get(0).complete(0);
+        assertEquals(3, operations.size());
+        assertEquals(0, results.get(0).join());
+
+        for (int i = 1; i < 5; i++) {
+            operations.get(i).complete(i);
+        }
+        assertEquals(5, operations.size());
+        assertEquals(4, results.get(4).join());
+        assertEquals(2, limiter.getAvailablePermits());
+    }
+
+    @Test
+    void shouldReleasePermitWhenOperationFails() {
+        final AsyncConcurrencyLimiter limiter = new AsyncConcurrencyLimiter(1);
+        final CompletableFuture<Object> failed = limiter.submit(() -> CompletableFuture.failedFuture(new IllegalStateException()));
+        final CompletableFuture<Object> thrown = limiter.submit(() -> {
+            throw new IllegalStateException();
+        });
+        final CompletionException exception = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertThrows(CompletionException.class, thrown::join);
+        assertEquals(1, limiter.getAvailablePermits());
+    }
+}
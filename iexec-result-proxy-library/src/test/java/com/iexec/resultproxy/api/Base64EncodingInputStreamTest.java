@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class Base64EncodingInputStreamTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 4, Base64EncodingInputStream.CHUNK_SIZE - 1, Base64EncodingInputStream.CHUNK_SIZE,
+            Base64EncodingInputStream.CHUNK_SIZE + 1, 3 * Base64EncodingInputStream.CHUNK_SIZE + 2})
+    void shouldEncodeLikeJdkEncoder(final int size) throws IOException {
+        final byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        final byte[] expected = Base64.getEncoder().encode(content);
+        try (InputStream encoded = new Base64EncodingInputStream(new ByteArrayInputStream(content))) {
+            assertArrayEquals(expected, encoded.readAllBytes());
+        }
+        assertEquals(expected.length, Base64EncodingInputStream.getEncodedLength(size));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 1000})
+    void shouldEncodeWhenReadByteByByte(final int size) throws IOException {
+        final byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        final byte[] expected = Base64.getEncoder().encode(content);
+        final byte[] actual = new byte[expected.length];
+        try (InputStream encoded = new Base64EncodingInputStream(new ByteArrayInputStream(content))) {
+            for (int i = 0; i < actual.length; i++) {
+                actual[i] = (byte) encoded.read();
+            }
+            assertEquals(-1, encoded.read());
+        }
+        assertArrayEquals(expected, actual);
+    }
+}
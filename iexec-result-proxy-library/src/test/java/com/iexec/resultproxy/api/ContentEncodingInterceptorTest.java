@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.api;
+
+import com.github.luben.zstd.Zstd;
+import feign.Request;
+import feign.RequestTemplate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+class ContentEncodingInterceptorTest {
+
+    private static final byte[] BODY = "{\"chainTaskId\":\"0x1\",\"zip\":\"UEsDBBQ=\"}".getBytes(StandardCharsets.UTF_8);
+
+    private RequestTemplate template(final Request.HttpMethod method, final String path) {
+        final RequestTemplate template = new RequestTemplate().method(method).uri(path);
+        template.body(BODY, StandardCharsets.UTF_8);
+        return template;
+    }
+
+    @Test
+    void shouldGzipResultUpload() throws IOException {
+        final RequestTemplate template = template(Request.HttpMethod.POST, "/v1/results");
+        new ContentEncodingInterceptor(ContentEncoding.GZIP).apply(template);
+        Assertions.assertEquals(List.of("gzip"), List.copyOf(template.headers().get(ContentEncodingInterceptor.CONTENT_ENCODING)));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(template.body()))) {
+            Assertions.assertArrayEquals(BODY, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldZstdResultUpload() {
+        final RequestTemplate template = template(Request.HttpMethod.POST, "/v1/results");
+        new ContentEncodingInterceptor(ContentEncoding.ZSTD).apply(template);
+        Assertions.assertEquals(List.of("zstd"), List.copyOf(template.headers().get(ContentEncodingInterceptor.CONTENT_ENCODING)));
+        Assertions.assertArrayEquals(BODY, Zstd.decompress(template.body(), BODY.length));
+    }
+
+    @Test
+    void shouldNotCompressTokenRequest() {
+        final RequestTemplate template = template(Request.HttpMethod.POST, "/v1/results/token");
+        new ContentEncodingInterceptor(ContentEncoding.GZIP).apply(template);
+        Assertions.assertFalse(template.headers().containsKey(ContentEncodingInterceptor.CONTENT_ENCODING));
+        Assertions.assertArrayEquals(BODY, template.body());
+    }
+
+    @Test
+    void instantiationTest() {
+        Assertions.assertNotNull(ResultProxyClientBuilder.getInstance(feign.Logger.Level.FULL, "localhost", ContentEncoding.ZSTD));
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iexec.common.result.ResultModel;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultProxyAsyncClientTest {
+
+    private static final String CHAIN_TASK_ID = "0x877210dbec7b8461e396751e311b574d6b6909e3618dd0622f7182eaffdc6901";
+    private static final String UNKNOWN_TASK_ID = "0x01";
+    private static final String JWT = "jwt";
+    private static final String IPFS_HASH = "QmcipfsHash";
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean blockHeadRequests;
+    private volatile String lastContentEncoding;
+    private volatile String lastContentLength;
+    private volatile byte[] lastBody;
+    private volatile String lastTraceparent;
+    private HttpServer server;
+    private String url;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        final int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try (exchange) {
+            final byte[] body = exchange.getRequestBody().readAllBytes();
+            final String path = exchange.getRequestURI().getPath();
+            final String method = exchange.getRequestMethod();
+            lastTraceparent = exchange.getRequestHeaders().getFirst("traceparent");
+            if ("HEAD".equals(method)) {
+                if (blockHeadRequests) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                exchange.sendResponseHeaders(path.endsWith(CHAIN_TASK_ID) ? 204 : 404, -1);
+            } else if ("POST".equals(method) && "/v1/results/token".equals(path)) {
+                respond(exchange, 200, JWT);
+            } else if ("POST".equals(method) && "/v1/results".equals(path)) {
+                lastContentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+                lastContentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+                lastBody = body;
+                final boolean authorized = JWT.equals(exchange.getRequestHeaders().getFirst("Authorization"));
+                respond(exchange, authorized ? 200 : 401, authorized ? "/ipfs/" + IPFS_HASH : "");
+            } else if ("GET".equals(method) && path.equals("/v1/results/" + CHAIN_TASK_ID + "/ipfshash")) {
+                respond(exchange, 200, IPFS_HASH);
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    private static ResultModel getResultModel() {
+        return ResultModel.builder()
+                .chainTaskId(CHAIN_TASK_ID)
+                .zip(new byte[]{1, 2, 3})
+                .build();
+    }
+
+    @Test
+    void shouldCallAllEndpoints() {
+        try (ResultProxyAsyncClient client = ResultProxyClientBuilder.getAsyncInstance(url, 4)) {
+            assertEquals(JWT, client.getJwt("signature", null).join());
+            assertEquals("/ipfs/" + IPFS_HASH, client.addResult(JWT, getResultModel()).join());
+            assertTrue(client.isResultUploaded(JWT, CHAIN_TASK_ID).join());
+            assertFalse(client.isResultUploaded(JWT, UNKNOWN_TASK_ID).join());
+            assertEquals(IPFS_HASH, client.getIpfsHashForTask(CHAIN_TASK_ID).join());
+            assertNull(lastContentEncoding);
+        }
+    }
+
+    @Test
+    void shouldFailOnUnexpectedStatus() {
+        try (ResultProxyAsyncClient client = ResultProxyClientBuilder.getAsyncInstance(url, 4)) {
+            final CompletableFuture<String> upload = client.addResult("invalid", getResultModel());
+            final CompletionException exception = assertThrows(CompletionException.class, upload::join);
+            final ResultProxyClientException cause = assertInstanceOf(ResultProxyClientException.class, exception.getCause());
+            assertEquals(401, cause.getStatus());
+            final CompletionException notFound = assertThrows(CompletionException.class,
+                    () -> client.getIpfsHashForTask(UNKNOWN_TASK_ID).join());
+            assertEquals(404, assertInstanceOf(ResultProxyClientException.class, notFound.getCause()).getStatus());
+        }
+    }
+
+    @Test
+    void shouldCompressResultUploads() {
+        try (ResultProxyAsyncClient client = ResultProxyClientBuilder.getAsyncInstance(url, 4, ContentEncoding.GZIP)) {
+            client.addResult(JWT, getResultModel()).join();
+            assertEquals("gzip", lastContentEncoding);
+        }
+    }
+
+    @Test
+    void shouldPropagateTraceContext() {
+        final String traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+        try (ResultProxyAsyncClient client = ResultProxyClientBuilder.getAsyncInstance(
+                url, 4, null, headers -> headers.accept("traceparent", traceparent))) {
+            client.getIpfsHashForTask(CHAIN_TASK_ID).join();
+            assertEquals(traceparent, lastTraceparent);
+        }
+    }
+
+    @Test
+    void shouldStreamResultZipFromDisk(@TempDir final Path tempDir) throws IOException {
+        final byte[] zip = new byte[300_000];
+        new Random(42L).nextBytes(zip);
+        final Path zipPath = Files.write(tempDir.resolve("result.zip"), zip);
+        try (ResultProxyAsyncClient client = ResultProxyClientBuilder.getAsyncInstance(url, 4)) {
+            final ResultModel model = ResultModel.builder().chainTaskId(CHAIN_TASK_ID).build();
+            assertEquals("/ipfs/" + IPFS_HASH, client.addResult(JWT, model, zipPath).join());
+        }
+        assertEquals(String.valueOf(lastBody.length), lastContentLength);
+        final ResultModel uploaded = new ObjectMapper().readValue(lastBody, ResultModel.class);
+        assertEquals(CHAIN_TASK_ID, uploaded.getChainTaskId());
+        assertArrayEquals(zip, uploaded.getZip());
+    }
+
+    @Test
+    void shouldBoundRequestsInFlight() {
+        blockHeadRequests = true;
+        try (ResultProxyAsyncClient client = ResultProxyClientBuilder.getAsyncInstance(url, 3)) {
+            final CompletableFuture<?>[] checks = new CompletableFuture<?>[10];
+            for (int i = 0; i < checks.length; i++) {
+                checks[i] = client.isResultUploaded(JWT, CHAIN_TASK_ID);
+            }
+            release.countDown();
+            CompletableFuture.allOf(checks).join();
+            assertTrue(maxInFlight.get() <= 3, "max in flight: " + maxInFlight.get());
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import com.iexec.common.result.ResultModel;
+import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultProxySessionTest {
+
+    private static final String WORKER_WALLET = "0xAbC1230000000000000000000000000000000000";
+    private static final String CHAIN_TASK_ID = "0x877210dbec7b8461e396751e311b574d6b6909e3618dd0622f7182eaffdc6901";
+    private static final String SIGNED_CHALLENGE = "signedChallenge";
+    private static final String ENCLAVE_CHALLENGE = "0x00000000000000000000000000000000000e0c1a";
+
+    /**
+     * Proxy issuing numbered tokens and accepting only the tokens it considers valid.
+     */
+    private static class FakeClient implements ResultProxyClient {
+        private final AtomicInteger issuedTokens = new AtomicInteger();
+        private final Set<String> validTokens = ConcurrentHashMap.newKeySet();
+        private final Set<String> uploadedTasks = ConcurrentHashMap.newKeySet();
+        private volatile CountDownLatch tokenLatch = new CountDownLatch(0);
+
+        @Override
+        public String getJwt(final String authorization, final WorkerpoolAuthorization workerpoolAuthorization) {
+            assertEquals(SIGNED_CHALLENGE, authorization);
+            try {
+                tokenLatch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final String jwt = "jwt-" + issuedTokens.incrementAndGet();
+            validTokens.add(jwt);
+            return jwt;
+        }
+
+        @Override
+        public String addResult(final String authorization, final ResultModel model) {
+            checkToken(authorization);
+            uploadedTasks.add(model.getChainTaskId());
+            return "/ipfs/hash";
+        }
+
+        @Override
+        public String isResultUploaded(final String authorization, final String chainTaskId) {
+            checkToken(authorization);
+            if (!uploadedTasks.contains(chainTaskId)) {
+                throw error(404);
+            }
+            return null;
+        }
+
+        @Override
+        public String getIpfsHashForTask(final String chainTaskId) {
+            return "hash";
+        }
+
+        void revokeAll() {
+            validTokens.clear();
+        }
+
+        private void checkToken(final String authorization) {
+            if (!validTokens.contains(authorization)) {
+                throw error(401);
+            }
+        }
+
+        private static FeignException error(final int status) {
+            final Request request = Request.create(Request.HttpMethod.POST, "http://localhost/v1/results",
+                    Map.of(), null, StandardCharsets.UTF_8, null);
+            return FeignException.errorStatus("ResultProxyClient", Response.builder()
+                    .status(status)
+                    .reason("error")
+                    .request(request)
+                    .headers(Map.of())
+                    .build());
+        }
+    }
+
+    private final FakeClient client = new FakeClient();
+
+    private static WorkerpoolAuthorization getAuthorization(final String wallet) {
+        return WorkerpoolAuthorization.builder()
+                .chainTaskId(CHAIN_TASK_ID)
+                .workerWallet(wallet)
+                .build();
+    }
+
+    private static ResultModel getResultModel(final String chainTaskId) {
+        return ResultModel.builder().chainTaskId(chainTaskId).build();
+    }
+
+    @Test
+    void shouldRequestTokenOncePerWallet() {
+        final ResultProxySession session = new ResultProxySession(client, authorization -> SIGNED_CHALLENGE);
+        final WorkerpoolAuthorization authorization = getAuthorization(WORKER_WALLET);
+        for (int i = 0; i < 10; i++) {
+            session.addResult(authorization, getResultModel("0x" + i));
+        }
+        assertTrue(session.isResultUploaded(getAuthorization(WORKER_WALLET.toLowerCase()), "0x1"));
+        assertFalse(session.isResultUploaded(authorization, CHAIN_TASK_ID));
+        assertEquals(1, client.issuedTokens.get());
+        assertEquals("jwt-1", session.getJwt(authorization));
+    }
+
+    @Test
+    void shouldRenewTokenAndRetryOnUnauthorized() {
+        final ResultProxySession session = new ResultProxySession(client, authorization -> SIGNED_CHALLENGE);
+        final WorkerpoolAuthorization authorization = getAuthorization(WORKER_WALLET);
+        session.addResult(authorization, getResultModel("0x1"));
+        client.revokeAll();
+
+        assertEquals("/ipfs/hash", session.addResult(authorization, getResultModel("0x2")));
+        assertEquals(2, client.issuedTokens.get());
+        assertEquals("jwt-2", session.getJwt(authorization));
+    }
+
+    @Test
+    void shouldRenewTokenOnceForConcurrentCallers() throws Exception {
+        final ResultProxySession session = new ResultProxySession(client, authorization -> SIGNED_CHALLENGE);
+        final WorkerpoolAuthorization authorization = getAuthorization(WORKER_WALLET);
+        session.getJwt(authorization);
+        client.revokeAll();
+        client.tokenLatch = new CountDownLatch(1);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<String>> uploads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final String chainTaskId = "0x" + i;
+                uploads.add(executor.submit(() -> session.addResult(authorization, getResultModel(chainTaskId))));
+            }
+            Thread.sleep(200L);
+            client.tokenLatch.countDown();
+            for (final Future<String> upload : uploads) {
+                assertEquals("/ipfs/hash", upload.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(2, client.issuedTokens.get());
+    }
+
+    @Test
+    void shouldNotRetryUploadRejectedWithAcceptedToken() {
+        final AtomicInteger uploads = new AtomicInteger();
+        final FakeClient rejectingClient = new FakeClient() {
+            @Override
+            public String addResult(final String authorization, final ResultModel model) {
+                uploads.incrementAndGet();
+                throw error(401);
+            }
+        };
+        final ResultProxySession session = new ResultProxySession(rejectingClient, authorization -> SIGNED_CHALLENGE);
+        final FeignException exception = assertThrows(FeignException.class,
+                () -> session.addResult(getAuthorization(WORKER_WALLET), getResultModel("0x1")));
+        assertEquals(401, exception.status());
+        assertEquals(1, uploads.get());
+        assertEquals(1, rejectingClient.issuedTokens.get());
+    }
+
+    @Test
+    void shouldFailWhenRenewedTokenIsRejected() {
+        final FakeClient rejectingClient = new FakeClient() {
+            @Override
+            public String getJwt(final String authorization, final WorkerpoolAuthorization workerpoolAuthorization) {
+                super.getJwt(authorization, workerpoolAuthorization);
+                revokeAll();
+                return "revoked-" + issuedTokens.get();
+            }
+        };
+        final ResultProxySession session = new ResultProxySession(rejectingClient, authorization -> SIGNED_CHALLENGE);
+        final FeignException exception = assertThrows(FeignException.class,
+                () -> session.addResult(getAuthorization(WORKER_WALLET), getResultModel("0x1")));
+        assertEquals(401, exception.status());
+        assertEquals(2, rejectingClient.issuedTokens.get());
+    }
+
+    @Test
+    void shouldRequestTokenForEachTeeTask() {
+        final Set<String> authorizedTasks = ConcurrentHashMap.newKeySet();
+        final FakeClient teeClient = new FakeClient() {
+            @Override
+            public String getJwt(final String authorization, final WorkerpoolAuthorization workerpoolAuthorization) {
+                authorizedTasks.add(workerpoolAuthorization.getChainTaskId());
+                return super.getJwt(authorization, workerpoolAuthorization);
+            }
+
+            @Override
+            public String addResult(final String authorization, final ResultModel model) {
+                if (!authorizedTasks.remove(model.getChainTaskId())) {
+                    throw error(401);
+                }
+                return super.addResult(authorization, model);
+            }
+        };
+        final ResultProxySession session = new ResultProxySession(teeClient, authorization -> SIGNED_CHALLENGE);
+        for (final String chainTaskId : List.of("0x1", "0x2")) {
+            final WorkerpoolAuthorization authorization = WorkerpoolAuthorization.builder()
+                    .chainTaskId(chainTaskId)
+                    .workerWallet(WORKER_WALLET)
+                    .enclaveChallenge(ENCLAVE_CHALLENGE)
+                    .build();
+            assertEquals("/ipfs/hash", session.addResult(authorization, getResultModel(chainTaskId)));
+        }
+        assertEquals(2, teeClient.issuedTokens.get());
+        assertTrue(session.isResultUploaded(getAuthorization(WORKER_WALLET), "0x2"));
+        assertEquals(2, teeClient.issuedTokens.get());
+    }
+
+    @Test
+    void shouldRenewTokenOlderThanMaxAge() throws InterruptedException {
+        final ResultProxySession session = new ResultProxySession(client, authorization -> SIGNED_CHALLENGE,
+                Duration.ofMillis(50L));
+        final WorkerpoolAuthorization authorization = getAuthorization(WORKER_WALLET);
+        assertEquals("jwt-1", session.getJwt(authorization));
+        Thread.sleep(100L);
+        session.addResult(authorization, getResultModel("0x1"));
+        assertEquals(2, client.issuedTokens.get());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iexec.common.result.ResultModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultUploadBodyTest {
+
+    private static final String CHAIN_TASK_ID = "0x877210dbec7b8461e396751e311b574d6b6909e3618dd0622f7182eaffdc6901";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldStreamBodyDeserializableAsResultModel() throws IOException {
+        final byte[] zip = new byte[200_001];
+        new Random(42L).nextBytes(zip);
+        final Path zipPath = Files.write(tempDir.resolve("result.zip"), zip);
+        final ResultModel model = ResultModel.builder()
+                .chainTaskId(CHAIN_TASK_ID)
+                .deterministHash("0x3210")
+                .zip(new byte[]{1})
+                .build();
+
+        final ResultUploadBody body = new ResultUploadBody(objectMapper, model, zipPath);
+        final byte[] json;
+        try (InputStream stream = body.openStream()) {
+            json = stream.readAllBytes();
+        }
+
+        assertEquals(body.getContentLength(), json.length);
+        final ResultModel uploaded = objectMapper.readValue(json, ResultModel.class);
+        assertEquals(CHAIN_TASK_ID, uploaded.getChainTaskId());
+        assertEquals("0x3210", uploaded.getDeterministHash());
+        assertArrayEquals(zip, uploaded.getZip());
+    }
+
+    @Test
+    void shouldFailWhenZipIsMissing() {
+        assertThrows(IOException.class,
+                () -> new ResultUploadBody(objectMapper, ResultModel.builder().build(), tempDir.resolve("missing.zip")));
+    }
+
+    @Test
+    void shouldFailToOpenStreamWhenZipIsDeleted() throws IOException {
+        final Path zipPath = Files.write(tempDir.resolve("result.zip"), new byte[]{1, 2, 3});
+        final ResultUploadBody body = new ResultUploadBody(objectMapper, ResultModel.builder().build(), zipPath);
+        Files.delete(zipPath);
+        assertThrows(UncheckedIOException.class, body::openStream);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.loadgen;
+
+import com.iexec.resultproxy.Application;
+import com.iexec.resultproxy.authorization.AuthorizationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result Proxy instance started in the load generator JVM.
+ * <p>
+ * The instance uses the real controllers, services and embedded storage, only the blockchain network and the IPFS node
+ * are replaced by {@link FakeChain} and {@link FakeIpfs}. Data is written to a temporary directory deleted on close.
+ * <p>
+ * When a MongoDB instance is given, data is stored in a dedicated database dropped on close instead of the embedded
+ * storage. The {@code reactive} stack is served by the WebFlux controllers and requires MongoDB.
+ */
+@Slf4j
+public class EmbeddedProxy implements Closeable {
+
+    private final Path workDirectory;
+    private final boolean useMongo;
+    private final ConfigurableApplicationContext context;
+
+    public EmbeddedProxy(final FakeChain fakeChain, final FakeIpfs fakeIpfs,
+                         final LoadGeneratorOptions options) throws IOException {
+        this.workDirectory = Files.createTempDirectory("iexec-result-proxy-loadgen");
+        this.useMongo = options.getMongoUri() != null;
+        final List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.main.allow-bean-definition-overriding=true",
+                "spring.main.banner-mode=off",
+                "ipfs.outbox.directory=" + workDirectory.resolve("outbox"),
+                "jwt.key-path=" + workDirectory.resolve("jwt-sign.key"),
+                // each simulated worker owns a wallet, per-wallet rate limits must not throttle the run
+                "rate-limit.capacity=1000000",
+                "logging.level.org.mongodb.driver=OFF",
+                "logging.level.com.iexec.resultproxy=WARN",
+                "logging.level.com.iexec.resultproxy.loadgen=INFO"));
+        if (useMongo) {
+            properties.addAll(List.of(
+                    "storage.type=mongo",
+                    "spring.data.mongodb.uri=" + options.getMongoUri(),
+                    "spring.data.mongodb.database=" + workDirectory.getFileName()));
+        } else {
+            properties.addAll(List.of(
+                    // Mongo is never reached: all repositories in use are replaced by embedded stores
+                    "spring.data.mongodb.auto-index-creation=false",
+                    "management.health.mongo.enabled=false",
+                    "storage.type=embedded",
+                    "storage.embedded.directory=" + workDirectory.resolve("storage")));
+        }
+        this.context = new SpringApplicationBuilder(Application.class, FakeBackendConfiguration.class)
+                .profiles(LoadGeneratorOptions.REACTIVE_STACK.equals(options.getStack())
+                        ? new String[]{LoadGeneratorOptions.REACTIVE_STACK} : new String[0])
+                .properties(properties.toArray(String[]::new))
+                .initializers(applicationContext -> {
+                    applicationContext.getBeanFactory().registerSingleton("fakeChain", fakeChain);
+                    applicationContext.getBeanFactory().registerSingleton("fakeIpfs", fakeIpfs);
+                })
+                .run();
+        log.info("Embedded proxy started [url:{}, stack:{}, workDirectory:{}]", getUrl(), options.getStack(), workDirectory);
+    }
+
+    public String getUrl() {
+        final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return "http://localhost:" + port;
+    }
+
+    public AuthorizationService getAuthorizationService() {
+        return context.getBean(AuthorizationService.class);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (useMongo) {
+            context.getBean(MongoTemplate.class).getDb().drop();
+        }
+        context.close();
+        FileSystemUtils.deleteRecursively(workDirectory);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.loadgen;
+
+import com.iexec.commons.poco.chain.SignerService;
+import com.iexec.resultproxy.chain.IexecHubService;
+import com.iexec.resultproxy.chain.Web3jService;
+import com.iexec.resultproxy.ipfs.IpfsService;
+import com.iexec.resultproxy.ipfs.ReactiveIpfsService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Replaces beans of the proxy reaching the blockchain network or the IPFS node.
+ * <p>
+ * Beans are overridden by name, this configuration must be registered after the proxy application class
+ * and bean definition overriding must be allowed.
+ */
+@Configuration(proxyBeanMethods = false)
+class FakeBackendConfiguration {
+
+    @Bean
+    Web3jService web3jService() {
+        return mock(Web3jService.class);
+    }
+
+    @Bean
+    SignerService signerService() {
+        return mock(SignerService.class);
+    }
+
+    @Bean
+    IexecHubService iexecHubService(final FakeChain fakeChain) {
+        return fakeChain.createIexecHubService();
+    }
+
+    @Bean
+    IpfsService ipfsService(final FakeIpfs fakeIpfs) {
+        return fakeIpfs.createIpfsService();
+    }
+
+    @Bean
+    ReactiveIpfsService reactiveIpfsService(final FakeIpfs fakeIpfs) {
+        return fakeIpfs.createReactiveIpfsService();
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.loadgen;
+
+import com.iexec.commons.poco.chain.ChainContribution;
+import com.iexec.commons.poco.chain.ChainContributionStatus;
+import com.iexec.commons.poco.chain.ChainDeal;
+import com.iexec.commons.poco.chain.ChainTask;
+import com.iexec.commons.poco.chain.ChainTaskStatus;
+import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
+import com.iexec.commons.poco.order.OrderTag;
+import com.iexec.commons.poco.security.Signature;
+import com.iexec.commons.poco.utils.BytesUtils;
+import com.iexec.commons.poco.utils.HashUtils;
+import com.iexec.commons.poco.utils.SignatureUtils;
+import com.iexec.resultproxy.chain.IexecHubService;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Keys;
+import org.web3j.utils.Numeric;
+
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * In-process replacement of the blockchain network.
+ * <p>
+ * Each registered task belongs to its own deal, signed by a workerpool owner key generated at startup.
+ * Depending on its {@link TaskType}, the result of a task is verified on upload as on a real network:
+ * <ul>
+ * <li>{@link TaskType#STANDARD}: the task is {@code REVEALING} and the worker revealed a contribution whose result hash
+ * matches the digest of its result zip
+ * <li>{@link TaskType#TEE}: the task is {@code ACTIVE} and the result is signed by the enclave of the worker
+ * <li>{@link TaskType#TEE_REQUESTER}: the task is {@code ACTIVE} and its deal is requested by the worker,
+ * the result is accepted without enclave signature
+ * </ul>
+ * <p>
+ * Chain reads performed by the proxy, through {@link #createIexecHubService()}, are delayed by a fixed latency.
+ */
+public class FakeChain {
+
+    private static final Duration TASK_DURATION = Duration.ofHours(1L);
+
+    /**
+     * Kinds of tasks processed by simulated workers, each one going through a different result verification.
+     */
+    public enum TaskType {
+        STANDARD("standard"),
+        TEE("tee"),
+        TEE_REQUESTER("tee-requester");
+
+        private final String option;
+
+        TaskType(final String option) {
+            this.option = option;
+        }
+
+        /**
+         * Reads a task type from its command line name.
+         *
+         * @param option Name of the task type, e.g. {@code tee-requester}
+         * @return The task type
+         * @throws IllegalArgumentException if no task type has this name
+         */
+        static TaskType fromOption(final String option) {
+            return Arrays.stream(values())
+                    .filter(taskType -> taskType.option.equals(option.trim().toLowerCase(Locale.ROOT)))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown task type [taskType:" + option + "]"));
+        }
+    }
+
+    private final SimulatedLatency latency;
+    private final Credentials poolOwner;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, ChainTask> tasks = new ConcurrentHashMap<>();
+    private final Map<String, ChainDeal> deals = new ConcurrentHashMap<>();
+    private final Map<String, ChainContribution> contributions = new ConcurrentHashMap<>();
+
+    public FakeChain(final Duration latency) {
+        this.latency = new SimulatedLatency(latency);
+        this.poolOwner = createCredentials();
+    }
+
+    static Credentials createCredentials() {
+        try {
+            return Credentials.create(Keys.createEcKeyPair());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to generate key pair", e);
+        }
+    }
+
+    /**
+     * Creates a {@code REVEALING} task in a new standard deal, in which the given worker revealed its result.
+     *
+     * @param workerWallet Address of the worker which will process the task and upload its result
+     * @param resultDigest Digest of the deterministic output of the result the worker will upload
+     * @return ID of the created task
+     */
+    public String registerStandardTask(final String workerWallet, final String resultDigest) {
+        final String chainTaskId = registerTask(randomAddress(), OrderTag.STANDARD, ChainTaskStatus.REVEALING);
+        contributions.put(getContributionKey(chainTaskId, workerWallet), ChainContribution.builder()
+                .status(ChainContributionStatus.REVEALED)
+                .resultHash(HashUtils.concatenateAndHash(chainTaskId, resultDigest))
+                .build());
+        return chainTaskId;
+    }
+
+    /**
+     * Creates an {@code ACTIVE} task in a new TEE deal, whose result is signed by the enclave of the worker.
+     *
+     * @return ID of the created task
+     */
+    public String registerTeeTask() {
+        return registerTask(randomAddress(), OrderTag.TEE_SCONE, ChainTaskStatus.ACTIVE);
+    }
+
+    /**
+     * Creates an {@code ACTIVE} task in a new TEE deal requested by the given worker.
+     *
+     * @param workerWallet Address of the worker which will process the task and upload its result
+     * @return ID of the created task
+     */
+    public String registerTeeRequesterTask(final String workerWallet) {
+        return registerTask(workerWallet, OrderTag.TEE_SCONE, ChainTaskStatus.ACTIVE);
+    }
+
+    private String registerTask(final String requester, final OrderTag tag, final ChainTaskStatus status) {
+        final String chainDealId = randomBytes32();
+        final String chainTaskId = randomBytes32();
+        deals.put(chainDealId, ChainDeal.builder()
+                .poolOwner(poolOwner.getAddress())
+                .requester(requester)
+                .tag(tag.getValue())
+                .build());
+        tasks.put(chainTaskId, ChainTask.builder()
+                .dealid(chainDealId)
+                .status(status)
+                .finalDeadline(Instant.now().plus(TASK_DURATION).toEpochMilli())
+                .build());
+        return chainTaskId;
+    }
+
+    /**
+     * Creates the authorization a scheduler would give to a worker to run a task.
+     *
+     * @param chainTaskId      ID of the task
+     * @param workerWallet     Address of the worker
+     * @param enclaveChallenge Address of the enclave running the task
+     * @return A {@code WorkerpoolAuthorization} signed by the workerpool owner
+     */
+    public WorkerpoolAuthorization authorize(final String chainTaskId, final String workerWallet,
+                                             final String enclaveChallenge) {
+        final String hash = HashUtils.concatenateAndHash(workerWallet, chainTaskId, enclaveChallenge);
+        final Signature signature = SignatureUtils.signMessageHashAndGetSignature(hash,
+                Numeric.toHexStringWithPrefix(poolOwner.getEcKeyPair().getPrivateKey()));
+        return WorkerpoolAuthorization.builder()
+                .chainTaskId(chainTaskId)
+                .workerWallet(workerWallet)
+                .enclaveChallenge(enclaveChallenge)
+                .signature(signature)
+                .build();
+    }
+
+    /**
+     * Creates an {@code IexecHubService} reading tasks, deals and contributions registered on this fake chain.
+     *
+     * @return A mock answering chain reads after the configured latency
+     */
+    public IexecHubService createIexecHubService() {
+        final IexecHubService iexecHubService = mock(IexecHubService.class);
+        when(iexecHubService.getChainTask(anyString())).thenAnswer(invocation -> {
+            latency.pause();
+            return Optional.ofNullable(tasks.get(invocation.<String>getArgument(0)));
+        });
+        when(iexecHubService.getChainDeal(anyString())).thenAnswer(invocation -> {
+            latency.pause();
+            return Optional.ofNullable(deals.get(invocation.<String>getArgument(0)));
+        });
+        when(iexecHubService.getChainContribution(anyString(), anyString())).thenAnswer(invocation -> {
+            latency.pause();
+            return Optional.ofNullable(contributions.get(
+                    getContributionKey(invocation.getArgument(0), invocation.getArgument(1))));
+        });
+        return iexecHubService;
+    }
+
+    private static String getContributionKey(final String chainTaskId, final String workerWallet) {
+        return chainTaskId + ":" + workerWallet.toLowerCase(Locale.ROOT);
+    }
+
+    private String randomAddress() {
+        final byte[] bytes = new byte[20];
+        random.nextBytes(bytes);
+        return Keys.toChecksumAddress(BytesUtils.bytesToString(bytes));
+    }
+
+    private String randomBytes32() {
+        final byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        return BytesUtils.bytesToString(bytes);
+    }
+}
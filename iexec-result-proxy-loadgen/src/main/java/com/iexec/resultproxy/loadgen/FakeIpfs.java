@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.loadgen;
+
+import com.iexec.resultproxy.ipfs.IpfsCidCalculator;
+import com.iexec.resultproxy.ipfs.IpfsService;
+import com.iexec.resultproxy.ipfs.ReactiveIpfsService;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * In-process replacement of the IPFS node.
+ * <p>
+ * Added files are kept in memory and addressed by the CID a daemon would return, each add or cat is delayed
+ * by a fixed latency.
+ */
+public class FakeIpfs {
+
+    private final SimulatedLatency latency;
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+
+    public FakeIpfs(final Duration latency) {
+        this.latency = new SimulatedLatency(latency);
+    }
+
+    public int getFileCount() {
+        return files.size();
+    }
+
+    /**
+     * Creates an {@code IpfsService} storing files on this fake node.
+     *
+     * @return A mock answering IPFS calls after the configured latency
+     */
+    public IpfsService createIpfsService() {
+        final IpfsService ipfsService = mock(IpfsService.class);
+        when(ipfsService.add(anyString(), any())).thenAnswer(invocation -> {
+            final byte[] content = invocation.getArgument(1);
+            latency.pause();
+            final String cid = IpfsCidCalculator.computeCid(content);
+            files.put(cid, content);
+            return cid;
+        });
+        when(ipfsService.get(anyString())).thenAnswer(invocation -> {
+            latency.pause();
+            return Optional.ofNullable(files.get(invocation.<String>getArgument(0)));
+        });
+        return ipfsService;
+    }
+
+    /**
+     * Creates a {@code ReactiveIpfsService} storing files on this fake node, used by the reactive stack.
+     *
+     * @return A mock completing IPFS adds after the configured latency without blocking the calling thread
+     */
+    public ReactiveIpfsService createReactiveIpfsService() {
+        final ReactiveIpfsService reactiveIpfsService = mock(ReactiveIpfsService.class);
+        when(reactiveIpfsService.add(anyString(), any())).thenAnswer(invocation -> {
+            final byte[] content = invocation.getArgument(1);
+            return Mono.delay(latency.duration()).map(tick -> {
+                final String cid = IpfsCidCalculator.computeCid(content);
+                files.put(cid, content);
+                return cid;
+            });
+        });
+        return reactiveIpfsService;
+    }
+}
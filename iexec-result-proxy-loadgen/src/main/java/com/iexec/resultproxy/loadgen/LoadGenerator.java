@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.loadgen;
+
+import com.iexec.resultproxy.api.ResultProxyClient;
+import com.iexec.resultproxy.api.ResultProxyClientBuilder;
+import feign.Logger;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Simulates a fleet of workers uploading results to a Result Proxy.
+ * <p>
+ * A proxy is started in-process with fake blockchain and IPFS backends, see {@link EmbeddedProxy}.
+ * Each worker runs on its own thread and talks to the proxy over HTTP with the {@link ResultProxyClient}.
+ * Throughputs, latency percentiles and error rates per endpoint are printed at the end of the run,
+ * with the peak heap usage and live threads sampled by a {@link ResourceSampler}.
+ *
+ * @see LoadGeneratorOptions
+ */
+@Slf4j
+public class LoadGenerator {
+
+    private static final Duration SAMPLING_INTERVAL = Duration.ofMillis(100);
+
+    private LoadGenerator() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final LoadGeneratorOptions options = LoadGeneratorOptions.fromArgs(args);
+        log.info("Starting load generation [options:{}]", options);
+        final FakeChain fakeChain = new FakeChain(options.getChainLatency());
+        final FakeIpfs fakeIpfs = new FakeIpfs(options.getIpfsLatency());
+        try (EmbeddedProxy proxy = new EmbeddedProxy(fakeChain, fakeIpfs, options)) {
+            final ResultProxyClient client = ResultProxyClientBuilder.getInstance(Logger.Level.NONE, proxy.getUrl());
+            final LoadStats stats = new LoadStats();
+            final ResourceSampler resourceSampler = new ResourceSampler(SAMPLING_INTERVAL);
+            final long start = System.nanoTime();
+            try (resourceSampler; ExecutorService workers = Executors.newFixedThreadPool(options.getWorkers())) {
+                for (int i = 0; i < options.getWorkers(); i++) {
+                    workers.execute(new SimulatedWorker(client, fakeChain,
+                            proxy.getAuthorizationService()::getChallengeForWorker, options, stats));
+                }
+            }
+            final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            log.info("Load generation completed [stack:{}, ipfsFiles:{}, {}]{}{}", options.getStack(),
+                    fakeIpfs.getFileCount(), resourceSampler.report(), System.lineSeparator(), stats.report(elapsed));
+        }
+    }
+}
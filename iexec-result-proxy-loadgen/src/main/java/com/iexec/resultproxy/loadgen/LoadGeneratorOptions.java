@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.loadgen;
+
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parameters of a load generation run.
+ * <p>
+ * Options are read from {@code --name=value} command line arguments, durations and sizes use the formats
+ * of Spring Boot properties, e.g. {@code 50ms} or {@code 64KB}:
+ * <ul>
+ * <li>{@code workers}: number of simulated workers, each one owning a wallet
+ * <li>{@code tasks-per-worker}: number of tasks processed sequentially by each worker
+ * <li>{@code zip-size}: size of the file compressed in each result zip
+ * <li>{@code head-poll-interval}: delay between two {@code HEAD} requests while waiting for an uploaded result
+ * <li>{@code max-head-polls}: number of {@code HEAD} requests after which an upload is considered as lost
+ * <li>{@code chain-latency}: latency of each fake blockchain read
+ * <li>{@code ipfs-latency}: latency of each fake IPFS add or cat
+ * <li>{@code task-types}: comma-separated {@link FakeChain.TaskType}s processed in turn by each worker,
+ * {@code standard}, {@code tee} or {@code tee-requester}
+ * <li>{@code stack}: web stack serving the proxy endpoints, {@code mvc} or {@code reactive}
+ * <li>{@code mongo-uri}: MongoDB instance storing proxy data instead of the embedded storage,
+ * required by the {@code reactive} stack
+ * </ul>
+ */
+@Value
+@Builder
+public class LoadGeneratorOptions {
+
+    static final String MVC_STACK = "mvc";
+    static final String REACTIVE_STACK = "reactive";
+
+    @Builder.Default
+    int workers = 16;
+    @Builder.Default
+    int tasksPerWorker = 50;
+    @Builder.Default
+    DataSize zipSize = DataSize.ofKilobytes(64);
+    @Builder.Default
+    Duration headPollInterval = Duration.ofMillis(50);
+    @Builder.Default
+    int maxHeadPolls = 20;
+    @Builder.Default
+    Duration chainLatency = Duration.ofMillis(50);
+    @Builder.Default
+    Duration ipfsLatency = Duration.ofMillis(100);
+    @Builder.Default
+    List<FakeChain.TaskType> taskTypes = List.of(FakeChain.TaskType.values());
+    @Builder.Default
+    String stack = MVC_STACK;
+    String mongoUri;
+
+    /**
+     * Reads options from command line arguments, missing options keep their default value.
+     *
+     * @param args Command line arguments
+     * @return Parsed options
+     * @throws IllegalArgumentException if an option value cannot be parsed or if options are inconsistent
+     */
+    public static LoadGeneratorOptions fromArgs(final String[] args) {
+        final SimpleCommandLinePropertySource source = new SimpleCommandLinePropertySource(args);
+        final LoadGeneratorOptions defaults = LoadGeneratorOptions.builder().build();
+        final String stack = source.containsProperty("stack") ? source.getProperty("stack") : defaults.stack;
+        if (!MVC_STACK.equals(stack) && !REACTIVE_STACK.equals(stack)) {
+            throw new IllegalArgumentException("Unknown stack [stack:" + stack + "]");
+        }
+        final String mongoUri = source.getProperty("mongo-uri");
+        if (REACTIVE_STACK.equals(stack) && mongoUri == null) {
+            throw new IllegalArgumentException("Reactive stack requires a MongoDB instance [option:mongo-uri]");
+        }
+        return LoadGeneratorOptions.builder()
+                .workers(getInt(source, "workers", defaults.workers))
+                .tasksPerWorker(getInt(source, "tasks-per-worker", defaults.tasksPerWorker))
+                .zipSize(source.containsProperty("zip-size")
+                        ? DataSize.parse(source.getProperty("zip-size")) : defaults.zipSize)
+                .headPollInterval(getDuration(source, "head-poll-interval", defaults.headPollInterval))
+                .maxHeadPolls(getInt(source, "max-head-polls", defaults.maxHeadPolls))
+                .chainLatency(getDuration(source, "chain-latency", defaults.chainLatency))
+                .ipfsLatency(getDuration(source, "ipfs-latency", defaults.ipfsLatency))
+                .taskTypes(source.containsProperty("task-types")
+                        ? Arrays.stream(source.getProperty("task-types").split(","))
+                        .map(FakeChain.TaskType::fromOption)
+                        .toList()
+                        : defaults.taskTypes)
+                .stack(stack)
+                .mongoUri(mongoUri)
+                .build();
+    }
+
+    private static int getInt(final SimpleCommandLinePropertySource source, final String name, final int defaultValue) {
+        return source.containsProperty(name) ? Integer.parseInt(source.getProperty(name)) : defaultValue;
+    }
+
+    private static Duration getDuration(final SimpleCommandLinePropertySource source, final String name,
+                                        final Duration defaultValue) {
+        return source.containsProperty(name) ? DurationStyle.detectAndParse(source.getProperty(name)) : defaultValue;
+    }
+}
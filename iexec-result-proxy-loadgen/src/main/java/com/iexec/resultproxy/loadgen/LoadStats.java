@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of the requests sent during a run, per endpoint.
+ * <p>
+ * Latencies are recorded in microseconds in auto-resizing HdrHistograms with 3 significant digits.
+ * Requests failing with an HTTP status are counted per status, requests failing before a response is received
+ * are counted with status {@code -1}.
+ */
+class LoadStats {
+
+    static final int NO_RESPONSE = -1;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private static class EndpointStats {
+        private final Histogram latencies = new ConcurrentHistogram(3);
+        private final LongAdder requests = new LongAdder();
+        private final Map<Integer, LongAdder> errorsByStatus = new ConcurrentHashMap<>();
+    }
+
+    private final Map<Endpoint, EndpointStats> endpoints = new EnumMap<>(Endpoint.class);
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder failedTasks = new LongAdder();
+
+    LoadStats() {
+        for (final Endpoint endpoint : Endpoint.values()) {
+            endpoints.put(endpoint, new EndpointStats());
+        }
+    }
+
+    void recordSuccess(final Endpoint endpoint, final long durationNanos) {
+        record(endpoint, durationNanos);
+    }
+
+    void recordError(final Endpoint endpoint, final long durationNanos, final int status) {
+        record(endpoint, durationNanos);
+        endpoints.get(endpoint).errorsByStatus.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void recordTask(final boolean completed) {
+        (completed ? completedTasks : failedTasks).increment();
+    }
+
+    long getRequestCount(final Endpoint endpoint) {
+        return endpoints.get(endpoint).requests.sum();
+    }
+
+    long getErrorCount(final Endpoint endpoint) {
+        return endpoints.get(endpoint).errorsByStatus.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    long getCompletedTaskCount() {
+        return completedTasks.sum();
+    }
+
+    long getFailedTaskCount() {
+        return failedTasks.sum();
+    }
+
+    /**
+     * Formats throughputs, latency percentiles in milliseconds and error rates of all endpoints.
+     *
+     * @param elapsed Duration of the run
+     * @return A human-readable report
+     */
+    String report(final Duration elapsed) {
+        final double seconds = Math.max(elapsed.toNanos(), 1L) / 1e9;
+        final StringBuilder report = new StringBuilder()
+                .append(String.format(Locale.ROOT, "Run of %.1fs: %d tasks completed, %d tasks failed (%.1f tasks/s)%n",
+                        seconds, getCompletedTaskCount(), getFailedTaskCount(), getCompletedTaskCount() / seconds))
+                .append(String.format(Locale.ROOT, "%-32s %9s %9s %9s %9s %9s %9s %9s %8s  %s%n",
+                        "endpoint", "requests", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)",
+                        "errors", "errors by status"));
+        for (final Map.Entry<Endpoint, EndpointStats> entry : endpoints.entrySet()) {
+            final EndpointStats stats = entry.getValue();
+            final long requests = stats.requests.sum();
+            final long errors = getErrorCount(entry.getKey());
+            report.append(String.format(Locale.ROOT, "%-32s %9d %9.1f", entry.getKey().getRoute(), requests, requests / seconds));
+            for (final double percentile : PERCENTILES) {
+                report.append(String.format(Locale.ROOT, " %9.2f", stats.latencies.getValueAtPercentile(percentile) / 1e3));
+            }
+            report.append(String.format(Locale.ROOT, " %9.2f %7.2f%%  %s%n", stats.latencies.getMaxValue() / 1e3,
+                    requests == 0 ? 0.0 : 100.0 * errors / requests, new TreeMap<>(stats.errorsByStatus)));
+        }
+        return report.toString();
+    }
+
+    private void record(final Endpoint endpoint, final long durationNanos) {
+        final EndpointStats stats = endpoints.get(endpoint);
+        stats.requests.increment();
+        stats.latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(durationNanos));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.loadgen;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically samples heap usage and live threads of the JVM during a run.
+ * <p>
+ * The proxy and the simulated workers share the JVM, samples include memory and threads of both.
+ * Peaks are kept, the heap used includes garbage not collected yet at sampling time.
+ */
+class ResourceSampler implements Closeable {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "resource-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile long peakHeapUsed;
+    private volatile int peakThreads;
+
+    ResourceSampler(final Duration interval) {
+        sampler.scheduleAtFixedRate(this::sample, 0L, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        peakHeapUsed = Math.max(peakHeapUsed, memory.getHeapMemoryUsage().getUsed());
+        peakThreads = Math.max(peakThreads, threads.getThreadCount());
+    }
+
+    long getPeakHeapUsed() {
+        return peakHeapUsed;
+    }
+
+    int getPeakThreads() {
+        return peakThreads;
+    }
+
+    /**
+     * Formats peak heap usage in MiB and peak live threads.
+     *
+     * @return A human-readable report
+     */
+    String report() {
+        return String.format(Locale.ROOT, "peak heap used: %.1f MiB, peak live threads: %d",
+                peakHeapUsed / (1024.0 * 1024.0), peakThreads);
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+        sample();
+    }
+}
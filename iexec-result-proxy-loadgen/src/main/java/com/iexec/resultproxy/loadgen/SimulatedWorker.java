@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.loadgen;
+
+import com.iexec.common.result.ResultModel;
+import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
+import com.iexec.commons.poco.utils.BytesUtils;
+import com.iexec.commons.poco.utils.HashUtils;
+import com.iexec.commons.poco.utils.SignatureUtils;
+import com.iexec.resultproxy.loadgen.FakeChain.TaskType;
+import com.iexec.resultproxy.api.ResultProxyClient;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.crypto.Credentials;
+import org.web3j.utils.Numeric;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Worker running the Result Proxy protocol for a sequence of tasks.
+ * <p>
+ * Tasks cycle through the configured {@link TaskType}s. For each task, the worker:
+ * <ul>
+ * <li>Signs the challenge of its {@code WorkerpoolAuthorization} and exchanges it for a JWT
+ * <li>Checks with a {@code HEAD} request that no result has been uploaded yet
+ * <li>Uploads its result zip, signed by its enclave for TEE tasks
+ * <li>Polls with {@code HEAD} requests until the result is reported as uploaded
+ * </ul>
+ * A task is failed as soon as a request fails or when the result is not reported after the configured number of polls.
+ */
+@Slf4j
+class SimulatedWorker implements Runnable {
+
+    private static final String RESULT_FILENAME = "result.bin";
+    private static final String COMPUTED_FILENAME = "computed.json";
+
+    private final ResultProxyClient client;
+    private final FakeChain fakeChain;
+    private final Function<WorkerpoolAuthorization, String> challengeProvider;
+    private final LoadGeneratorOptions options;
+    private final LoadStats stats;
+    private final Credentials credentials = FakeChain.createCredentials();
+    private final Credentials enclave = FakeChain.createCredentials();
+    private final String resultDigest;
+    private final byte[] zip;
+
+    /**
+     * @param client            Client targeting the proxy
+     * @param fakeChain         Chain on which tasks are registered
+     * @param challengeProvider Challenge computation of the proxy, {@code AuthorizationService::getChallengeForWorker}
+     * @param options           Parameters of the run
+     * @param stats             Shared statistics of the run
+     */
+    SimulatedWorker(final ResultProxyClient client,
+                    final FakeChain fakeChain,
+                    final Function<WorkerpoolAuthorization, String> challengeProvider,
+                    final LoadGeneratorOptions options,
+                    final LoadStats stats) {
+        this.client = client;
+        this.fakeChain = fakeChain;
+        this.challengeProvider = challengeProvider;
+        this.options = options;
+        this.stats = stats;
+        final byte[] content = new byte[Math.toIntExact(options.getZipSize().toBytes())];
+        ThreadLocalRandom.current().nextBytes(content);
+        this.resultDigest = sha256(content);
+        this.zip = createResultZip(content);
+    }
+
+    @Override
+    public void run() {
+        final List<TaskType> taskTypes = options.getTaskTypes();
+        for (int i = 0; i < options.getTasksPerWorker() && !Thread.currentThread().isInterrupted(); i++) {
+            stats.recordTask(processTask(taskTypes.get(i % taskTypes.size())));
+        }
+    }
+
+    boolean processTask(final TaskType taskType) {
+        final String workerWallet = credentials.getAddress();
+        final String chainTaskId = switch (taskType) {
+            case STANDARD -> fakeChain.registerStandardTask(workerWallet, resultDigest);
+            case TEE -> fakeChain.registerTeeTask();
+            case TEE_REQUESTER -> fakeChain.registerTeeRequesterTask(workerWallet);
+        };
+        final String enclaveChallenge = taskType == TaskType.STANDARD ? BytesUtils.EMPTY_ADDRESS : enclave.getAddress();
+        final WorkerpoolAuthorization authorization = fakeChain.authorize(chainTaskId, workerWallet, enclaveChallenge);
+        final String signedChallenge = SignatureUtils.signMessageHashAndGetSignature(
+                challengeProvider.apply(authorization),
+                Numeric.toHexStringWithPrefix(credentials.getEcKeyPair().getPrivateKey())).getValue();
+
+        final String jwt = call(Endpoint.GET_JWT, () -> client.getJwt(signedChallenge, authorization));
+        if (jwt == null) {
+            return false;
+        }
+        final Boolean uploadedBeforeUpload = isResultUploaded(jwt, chainTaskId);
+        if (uploadedBeforeUpload == null || uploadedBeforeUpload) {
+            return false;
+        }
+        final ResultModel.ResultModelBuilder model = ResultModel.builder()
+                .chainTaskId(chainTaskId)
+                .zip(zip);
+        if (taskType == TaskType.TEE) {
+            model.deterministHash(resultDigest)
+                    .enclaveSignature(signEnclaveResult(workerWallet, chainTaskId));
+        }
+        if (call(Endpoint.ADD_RESULT, () -> client.addResult(jwt, model.build())) == null) {
+            return false;
+        }
+        for (int poll = 0; poll < options.getMaxHeadPolls(); poll++) {
+            final Boolean uploaded = isResultUploaded(jwt, chainTaskId);
+            if (uploaded == null) {
+                return false;
+            }
+            if (uploaded) {
+                return true;
+            }
+            new SimulatedLatency(options.getHeadPollInterval()).pause();
+        }
+        log.warn("Result not reported as uploaded [chainTaskId:{}, polls:{}]", chainTaskId, options.getMaxHeadPolls());
+        return false;
+    }
+
+    /**
+     * Sends a {@code HEAD} request, a 404 response is expected while the result has not been uploaded.
+     *
+     * @return {@literal true} if uploaded, {@literal false} if not, {@literal null} if the request failed
+     */
+    private Boolean isResultUploaded(final String jwt, final String chainTaskId) {
+        final long start = System.nanoTime();
+        try {
+            client.isResultUploaded(jwt, chainTaskId);
+            stats.recordSuccess(Endpoint.IS_RESULT_UPLOADED, System.nanoTime() - start);
+            return true;
+        } catch (FeignException e) {
+            if (e.status() == HttpURLConnection.HTTP_NOT_FOUND) {
+                stats.recordSuccess(Endpoint.IS_RESULT_UPLOADED, System.nanoTime() - start);
+                return false;
+            }
+            stats.recordError(Endpoint.IS_RESULT_UPLOADED, System.nanoTime() - start, getStatus(e));
+            return null;
+        }
+    }
+
+    private <T> T call(final Endpoint endpoint, final Supplier<T> request) {
+        final long start = System.nanoTime();
+        try {
+            final T response = request.get();
+            stats.recordSuccess(endpoint, System.nanoTime() - start);
+            return response;
+        } catch (FeignException e) {
+            stats.recordError(endpoint, System.nanoTime() - start, getStatus(e));
+            log.debug("Request failed [endpoint:{}, status:{}]", endpoint.getRoute(), e.status(), e);
+            return null;
+        }
+    }
+
+    private static int getStatus(final FeignException e) {
+        return e.status() > 0 ? e.status() : LoadStats.NO_RESPONSE;
+    }
+
+    /**
+     * Signs the result of a TEE task as its enclave would, over the digest of the deterministic output.
+     */
+    private String signEnclaveResult(final String workerWallet, final String chainTaskId) {
+        final String resultHash = HashUtils.concatenateAndHash(chainTaskId, resultDigest);
+        final String resultSeal = HashUtils.concatenateAndHash(workerWallet, chainTaskId, resultDigest);
+        return SignatureUtils.signMessageHashAndGetSignature(HashUtils.concatenateAndHash(resultHash, resultSeal),
+                Numeric.toHexStringWithPrefix(enclave.getEcKeyPair().getPrivateKey())).getValue();
+    }
+
+    /**
+     * Computes the digest of a deterministic output made of a single file, as the proxy does.
+     */
+    static String sha256(final byte[] content) {
+        try {
+            return BytesUtils.bytesToString(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Creates a zip holding a {@code computed.json} file and a single deterministic output file of the given content.
+     *
+     * @param content Content of the deterministic output file, random hence incompressible bytes
+     * @return The zip content
+     */
+    static byte[] createResultZip(final byte[] content) {
+        final ByteArrayOutputStream zip = new ByteArrayOutputStream(content.length + 512);
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(zip)) {
+            zipOutputStream.putNextEntry(new ZipEntry(COMPUTED_FILENAME));
+            zipOutputStream.write(("{\"deterministic-output-path\":\"/iexec_out/" + RESULT_FILENAME + "\"}")
+                    .getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+            zipOutputStream.putNextEntry(new ZipEntry(RESULT_FILENAME));
+            zipOutputStream.write(content);
+            zipOutputStream.closeEntry();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return zip.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.loadgen;
+
+import com.iexec.commons.poco.chain.ChainContributionStatus;
+import com.iexec.commons.poco.chain.ChainTaskStatus;
+import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
+import com.iexec.commons.poco.tee.TeeUtils;
+import com.iexec.commons.poco.utils.HashUtils;
+import com.iexec.resultproxy.authorization.AuthorizationCacheConfig;
+import com.iexec.resultproxy.authorization.AuthorizationService;
+import com.iexec.resultproxy.authorization.AuthorizationStore;
+import com.iexec.resultproxy.chain.IexecHubService;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.Credentials;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class FakeChainTests {
+
+    private final Credentials worker = FakeChain.createCredentials();
+    private final String enclaveChallenge = FakeChain.createCredentials().getAddress();
+    private FakeChain fakeChain;
+    private IexecHubService iexecHubService;
+
+    @BeforeEach
+    void init() {
+        fakeChain = new FakeChain(Duration.ZERO);
+        iexecHubService = fakeChain.createIexecHubService();
+    }
+
+    @Test
+    void shouldRegisterActiveTaskRequestedByWorker() {
+        final String chainTaskId = fakeChain.registerTeeRequesterTask(worker.getAddress());
+        assertThat(iexecHubService.getChainTask(chainTaskId)).hasValueSatisfying(chainTask -> {
+            assertThat(chainTask.getStatus()).isEqualTo(ChainTaskStatus.ACTIVE);
+            assertThat(iexecHubService.getChainDeal(chainTask.getDealid()))
+                    .hasValueSatisfying(chainDeal -> assertThat(chainDeal.getRequester()).isEqualTo(worker.getAddress()));
+        });
+    }
+
+    @Test
+    void shouldRegisterRevealingTaskWithContributionOfWorker() {
+        final String chainTaskId = fakeChain.registerStandardTask(worker.getAddress(), "0x3210");
+        assertThat(iexecHubService.getChainTask(chainTaskId)).hasValueSatisfying(chainTask -> {
+            assertThat(chainTask.getStatus()).isEqualTo(ChainTaskStatus.REVEALING);
+            assertThat(iexecHubService.getChainDeal(chainTask.getDealid()))
+                    .hasValueSatisfying(chainDeal -> assertThat(TeeUtils.getTeeFramework(chainDeal.getTag())).isNull());
+        });
+        assertThat(iexecHubService.getChainContribution(chainTaskId, worker.getAddress().toLowerCase()))
+                .hasValueSatisfying(contribution -> {
+                    assertThat(contribution.getStatus()).isEqualTo(ChainContributionStatus.REVEALED);
+                    assertThat(contribution.getResultHash()).isEqualTo(HashUtils.concatenateAndHash(chainTaskId, "0x3210"));
+                });
+        assertThat(iexecHubService.getChainContribution(chainTaskId, enclaveChallenge)).isEmpty();
+    }
+
+    @Test
+    void shouldRegisterActiveTeeTaskNotRequestedByWorker() {
+        final String chainTaskId = fakeChain.registerTeeTask();
+        assertThat(iexecHubService.getChainTask(chainTaskId)).hasValueSatisfying(chainTask -> {
+            assertThat(chainTask.getStatus()).isEqualTo(ChainTaskStatus.ACTIVE);
+            assertThat(iexecHubService.getChainDeal(chainTask.getDealid())).hasValueSatisfying(chainDeal -> {
+                assertThat(TeeUtils.getTeeFramework(chainDeal.getTag())).isNotNull();
+                assertThat(chainDeal.getRequester()).isNotEqualToIgnoringCase(worker.getAddress());
+            });
+        });
+    }
+
+    @Test
+    void shouldReadTaskTypeOptions() {
+        assertThat(FakeChain.TaskType.fromOption(" Tee-Requester")).isEqualTo(FakeChain.TaskType.TEE_REQUESTER);
+        assertThatThrownBy(() -> FakeChain.TaskType.fromOption("unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldNotFindUnknownTask() {
+        assertThat(iexecHubService.getChainTask("0x01")).isEmpty();
+    }
+
+    @Test
+    void shouldCreateAuthorizationAcceptedByProxy() {
+        final AuthorizationService authorizationService =
+                new AuthorizationService(mock(AuthorizationStore.class), iexecHubService, new AuthorizationCacheConfig(1000), ObservationRegistry.NOOP);
+        final String chainTaskId = fakeChain.registerTeeTask();
+        final WorkerpoolAuthorization authorization =
+                fakeChain.authorize(chainTaskId, worker.getAddress(), enclaveChallenge);
+        assertThat(authorizationService.isAuthorizedOnExecutionWithDetailedIssue(authorization)).isEmpty();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadStatsTests {
+
+    @Test
+    void shouldCountRequestsAndErrorsPerEndpoint() {
+        final LoadStats stats = new LoadStats();
+        stats.recordSuccess(Endpoint.GET_JWT, TimeUnit.MILLISECONDS.toNanos(5));
+        stats.recordError(Endpoint.GET_JWT, TimeUnit.MILLISECONDS.toNanos(5), 401);
+        stats.recordError(Endpoint.ADD_RESULT, TimeUnit.MILLISECONDS.toNanos(5), LoadStats.NO_RESPONSE);
+        stats.recordTask(true);
+        stats.recordTask(false);
+
+        assertThat(stats.getRequestCount(Endpoint.GET_JWT)).isEqualTo(2);
+        assertThat(stats.getErrorCount(Endpoint.GET_JWT)).isEqualTo(1);
+        assertThat(stats.getRequestCount(Endpoint.ADD_RESULT)).isEqualTo(1);
+        assertThat(stats.getErrorCount(Endpoint.ADD_RESULT)).isEqualTo(1);
+        assertThat(stats.getRequestCount(Endpoint.IS_RESULT_UPLOADED)).isZero();
+        assertThat(stats.getCompletedTaskCount()).isEqualTo(1);
+        assertThat(stats.getFailedTaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportAllEndpoints() {
+        final LoadStats stats = new LoadStats();
+        stats.recordError(Endpoint.ADD_RESULT, TimeUnit.MILLISECONDS.toNanos(20), 401);
+
+        final String report = stats.report(Duration.ofSeconds(1));
+
+        for (final Endpoint endpoint : Endpoint.values()) {
+            assertThat(report).contains(endpoint.getRoute());
+        }
+        assertThat(report).contains("100.00%", "{401=1}");
+    }
+}
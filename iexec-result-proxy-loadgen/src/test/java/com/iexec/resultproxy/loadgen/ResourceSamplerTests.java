@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceSamplerTests {
+
+    @Test
+    void shouldKeepPeaksOnClose() {
+        final ResourceSampler sampler = new ResourceSampler(Duration.ofMillis(10));
+        sampler.close();
+
+        assertThat(sampler.getPeakHeapUsed()).isPositive();
+        assertThat(sampler.getPeakThreads()).isPositive();
+        assertThat(sampler.report()).contains("peak heap used", "peak live threads");
+    }
+}
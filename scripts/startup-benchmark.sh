@@ -0,0 +1,105 @@
+#!/usr/bin/env bash
+#
+# Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+
+# Measures the time until the Result Proxy reports it is ready to accept traffic on /actuator/health/readiness.
+#
+# The boot jar is started as is, then extracted and started with a class data sharing archive,
+# and with Spring AOT generated code when the jar was built with -PspringAot.
+# Embedded storage and filesystem result storage are used, so that neither MongoDB nor IPFS is needed.
+# An AOT jar must then be built with the same configuration:
+#   IEXEC_RESULT_PROXY_STORAGE_TYPE=embedded IEXEC_RESULT_STORAGE_TYPE=filesystem ./gradlew bootJar -PspringAot
+#
+# Usage: scripts/startup-benchmark.sh <boot-jar> [runs]
+# Extra JVM options can be provided with the BENCHMARK_OPTS environment variable.
+
+set -euo pipefail
+
+if [ $# -lt 1 ]; then
+  echo "Usage: $0 <boot-jar> [runs]" >&2
+  exit 1
+fi
+
+jar=$(realpath "$1")
+runs=${2:-5}
+port=${BENCHMARK_PORT:-13299}
+work=$(mktemp -d)
+trap 'rm -rf "$work"' EXIT
+
+export IEXEC_RESULT_PROXY_PORT=$port
+export IEXEC_RESULT_PROXY_STORAGE_TYPE=embedded
+export IEXEC_RESULT_PROXY_STORAGE_EMBEDDED_DIRECTORY=$work/storage
+export IEXEC_RESULT_STORAGE_TYPE=filesystem
+export IEXEC_RESULT_STORAGE_FILESYSTEM_DIRECTORY=$work/results
+# shellcheck disable=SC2206
+options=(-Djwt.key-path="$work/jwt-sign.key" ${BENCHMARK_OPTS:-})
+
+# Usage: measure <label> <jar> [JVM options...]
+measure() {
+  local label=$1 app=$2
+  shift 2
+  local total=0
+  for run in $(seq "$runs"); do
+    local start
+    start=$(date +%s%N)
+    java "$@" "${options[@]}" -jar "$app" > "$work/run.log" 2>&1 &
+    local pid=$!
+    until curl -sf "http://localhost:$port/actuator/health/readiness" > /dev/null; do
+      if ! kill -0 "$pid" 2> /dev/null; then
+        echo "$label: startup failed" >&2
+        cat "$work/run.log" >&2
+        exit 1
+      fi
+      sleep 0.05
+    done
+    local elapsed=$((($(date +%s%N) - start) / 1000000))
+    kill "$pid"
+    wait "$pid" || true
+    total=$((total + elapsed))
+    echo "$label [run:$run, timeToReady:${elapsed}ms]"
+  done
+  results+=("$label: $((total / runs))ms")
+}
+
+# Usage: train <archive> <jar> [JVM options...]
+train() {
+  local archive=$1 app=$2
+  shift 2
+  java "$@" "${options[@]}" -XX:ArchiveClassesAtExit="$archive" -Dspring.context.exit=onRefresh -jar "$app" > "$work/training.log" 2>&1 || {
+    echo "Training run failed" >&2
+    cat "$work/training.log" >&2
+    exit 1
+  }
+}
+
+results=()
+java -Djarmode=tools -jar "$jar" extract --destination "$work/app" > /dev/null
+extracted=$work/app/$(basename "$jar")
+
+measure "boot jar" "$jar"
+measure "extracted jar" "$extracted"
+train "$work/app.jsa" "$extracted"
+measure "extracted jar + CDS" "$extracted" -XX:SharedArchiveFile="$work/app.jsa"
+if grep -qa 'Application__ApplicationContextInitializer' "$extracted"; then
+  train "$work/app-aot.jsa" "$extracted" -Dspring.aot.enabled=true
+  measure "extracted jar + AOT" "$extracted" -Dspring.aot.enabled=true
+  measure "extracted jar + AOT + CDS" "$extracted" -Dspring.aot.enabled=true -XX:SharedArchiveFile="$work/app-aot.jsa"
+else
+  echo "No Spring AOT generated code found, build the jar with -PspringAot to measure AOT startups"
+fi
+
+echo "Average time to ready over $runs runs:"
+printf '  %s\n' "${results[@]}"
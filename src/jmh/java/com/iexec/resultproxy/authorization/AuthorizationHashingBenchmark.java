@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.authorization;
+
+import com.iexec.commons.poco.utils.BytesUtils;
+import com.iexec.commons.poco.utils.HashUtils;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares hashes and JWT parsing performed on each JWT request and TEE result upload.
+ * <p>
+ * Hex based {@link HashUtils} hashing is compared with {@link AuthorizationHashes}, and a JWT parser built per call
+ * with a shared one. Allocation rates are reported with {@code ./gradlew jmh -PjmhIncludes=AuthorizationHashing -PjmhProfilers=gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthorizationHashingBenchmark {
+
+    private static final String WALLET = "0x1Aa3F2eb8A7d6Ec6D8e4b2C83bEE5C4B3e4C0E5b";
+    private static final String CHAIN_TASK_ID = "0x877210dbec7b8461e396751e311b574d6b6909e3618dd0622f7182eaffdc6901";
+    private static final String ENCLAVE_CHALLENGE = "0x3bFB02B2b4D3D2b4dD1B8d72B4C1F3a4dC59E4f7";
+    private static final String DETERMINIST_HASH = "0x09b727883db89fa3b3504f83e0c67d04a0d4fc35a9670cc4517c49d2a27ad171";
+
+    private byte[] jwtKey;
+    private JwtParser jwtParser;
+    private String jwt;
+
+    @Setup
+    public void setUp() {
+        jwtKey = new byte[128];
+        new SecureRandom().nextBytes(jwtKey);
+        final SecretKey signingKey = Keys.hmacShaKeyFor(jwtKey);
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        jwt = Jwts.builder()
+                .setAudience(WALLET)
+                .setSubject("benchmark")
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public byte[] workerChallengeHashUtils() {
+        return BytesUtils.stringToBytes(HashUtils.concatenateAndHash(WALLET, CHAIN_TASK_ID, ENCLAVE_CHALLENGE));
+    }
+
+    @Benchmark
+    public byte[] workerChallengeAuthorizationHashes() {
+        return AuthorizationHashes.hashWorkerChallenge(WALLET, CHAIN_TASK_ID, ENCLAVE_CHALLENGE);
+    }
+
+    @Benchmark
+    public byte[] enclaveMessageHashUtils() {
+        final String resultHash = HashUtils.concatenateAndHash(CHAIN_TASK_ID, DETERMINIST_HASH);
+        final String resultSeal = HashUtils.concatenateAndHash(WALLET, CHAIN_TASK_ID, DETERMINIST_HASH);
+        return BytesUtils.stringToBytes(HashUtils.concatenateAndHash(resultHash, resultSeal));
+    }
+
+    @Benchmark
+    public byte[] enclaveMessageAuthorizationHashes() {
+        return AuthorizationHashes.hashEnclaveMessage(WALLET, CHAIN_TASK_ID, DETERMINIST_HASH);
+    }
+
+    @Benchmark
+    public String jwtParserPerCall() {
+        return Jwts.parserBuilder().setSigningKey(jwtKey).build().parseClaimsJws(jwt).getBody().getAudience();
+    }
+
+    @Benchmark
+    public String jwtParserShared() {
+        return jwtParser.parseClaimsJws(jwt).getBody().getAudience();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.proxy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+import com.iexec.common.result.ResultModel;
+import com.iexec.resultproxy.api.ContentEncoding;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Compares result uploads sent as plain JSON and with a compressed {@code Content-Encoding}.
+ * <p>
+ * Each invocation compresses the JSON body on the client side, then decompresses and deserializes it
+ * as {@link ContentEncodingFilter} and Spring MVC do on the server side.
+ * Wire sizes and the estimated transfer time on the configured uplink are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContentEncodingBenchmark {
+
+    @Param({"65536", "1048576", "16777216"})
+    private int zipSize;
+
+    @Param({"10"})
+    private int uplinkMbps;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        // result zips are already deflated, random bytes are a fair approximation of their entropy
+        final byte[] zip = new byte[zipSize];
+        new Random(42L).nextBytes(zip);
+        body = objectMapper.writeValueAsBytes(ResultModel.builder()
+                .chainTaskId("0x877210dbec7b8461e396751e311b574d6b6909e3618dd0622f7182eaffdc6901")
+                .zip(zip)
+                .build());
+        report("identity", body.length);
+        for (final ContentEncoding encoding : ContentEncoding.values()) {
+            report(encoding.getValue(), encoding.compress(body).length);
+        }
+    }
+
+    private void report(final String encoding, final int wireSize) {
+        final double transferMillis = wireSize * 8.0 / (uplinkMbps * 1_000_000.0) * 1000.0;
+        System.out.printf("%n[zipSize:%d, encoding:%s, wireSize:%d, wireRatio:%.3f, transferAt%dMbps:%.1fms]%n",
+                zipSize, encoding, wireSize, (double) wireSize / body.length, uplinkMbps, transferMillis);
+    }
+
+    @Benchmark
+    public ResultModel identity() throws IOException {
+        return objectMapper.readValue(new ByteArrayInputStream(body), ResultModel.class);
+    }
+
+    @Benchmark
+    public ResultModel gzip() throws IOException {
+        final byte[] wire = ContentEncoding.GZIP.compress(body);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(wire), 64 * 1024)) {
+            return objectMapper.readValue(in, ResultModel.class);
+        }
+    }
+
+    @Benchmark
+    public ResultModel zstd() throws IOException {
+        final byte[] wire = ContentEncoding.ZSTD.compress(body);
+        try (InputStream in = new ZstdInputStream(new ByteArrayInputStream(wire))) {
+            return objectMapper.readValue(in, ResultModel.class);
+        }
+    }
+}
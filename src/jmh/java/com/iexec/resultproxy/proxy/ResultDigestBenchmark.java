@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import com.iexec.common.result.ComputedFile;
+import com.iexec.common.worker.result.ResultUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares sequential result digests computed by {@link ResultUtils} with parallel ones computed by
+ * {@link ResultDigestService}, on one thread and on all available processors.
+ * <p>
+ * The {@code layout} parameter gives the number of files of the deterministic output directory and their size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResultDigestBenchmark {
+
+    @Param({"1000x4096", "16x16777216"})
+    private String layout;
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private Path resultFolder;
+    private ComputedFile computedFile;
+    private ResultDigestService resultDigestService;
+
+    @Setup
+    public void setUp() throws IOException {
+        final String[] counts = layout.split("x");
+        final int fileCount = Integer.parseInt(counts[0]);
+        final int fileSize = Integer.parseInt(counts[1]);
+        resultFolder = Files.createTempDirectory("result-digest-benchmark");
+        final Path output = Files.createDirectories(resultFolder.resolve("iexec_out"));
+        final Random random = new Random(42L);
+        final byte[] content = new byte[fileSize];
+        for (int i = 0; i < fileCount; i++) {
+            random.nextBytes(content);
+            Files.write(output.resolve(String.format("file-%05d.bin", i)), content);
+        }
+        computedFile = ComputedFile.builder().deterministicOutputPath("/iexec_out").build();
+        resultDigestService = new ResultDigestService(new ResultDigestConfig(true, parallelism));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        resultDigestService.stop();
+        try (Stream<Path> paths = Files.walk(resultFolder)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public String sequential() {
+        return ResultUtils.computeWeb2ResultDigest(computedFile, resultFolder.toString());
+    }
+
+    @Benchmark
+    public String parallel() {
+        return resultDigestService.computeWeb2ResultDigest(computedFile, resultFolder.toString());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import com.iexec.resultproxy.api.ResultProxyAsyncClient;
+import com.iexec.resultproxy.api.ResultProxyClient;
+import com.iexec.resultproxy.api.ResultProxyClientBuilder;
+import feign.FeignException;
+import feign.Logger;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http2.Http2Protocol;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Compares the blocking Feign {@link ResultProxyClient} and the non-blocking {@link ResultProxyAsyncClient}
+ * on batches of {@code HEAD /v1/results/{chainTaskId}} checks, as sent by a worker tracking many tasks.
+ * <p>
+ * Both clients are allowed the same number of requests in flight: the Feign client runs on a pool of as many threads,
+ * the async client is built with the same max concurrency. Requests target an embedded Tomcat answering after
+ * a fixed latency, with HTTP/2 cleartext upgrade enabled as on the proxy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResultProxyClientBenchmark {
+
+    private static final String JWT = "jwt";
+
+    @Param({"feign", "async"})
+    private String client;
+
+    @Param({"256"})
+    private int tasks;
+
+    @Param({"16", "64"})
+    private int maxConcurrency;
+
+    @Param({"20"})
+    private long serverLatencyMillis;
+
+    private Tomcat tomcat;
+    private ResultProxyClient feignClient;
+    private ExecutorService feignExecutor;
+    private ResultProxyAsyncClient asyncClient;
+    private List<String> chainTaskIds;
+
+    @Setup
+    public void setUp() throws IOException, LifecycleException {
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+        final Connector connector = new Connector();
+        connector.setPort(0);
+        connector.setProperty("maxThreads", "512");
+        connector.addUpgradeProtocol(new Http2Protocol());
+        tomcat.setConnector(connector);
+        final Context context = tomcat.addContext("", null);
+        Tomcat.addServlet(context, "results", new DelayedServlet(serverLatencyMillis));
+        context.addServletMappingDecoded("/*", "results");
+        tomcat.start();
+        final String url = "http://localhost:" + connector.getLocalPort();
+
+        feignClient = ResultProxyClientBuilder.getInstance(Logger.Level.NONE, url);
+        feignExecutor = Executors.newFixedThreadPool(maxConcurrency);
+        asyncClient = ResultProxyClientBuilder.getAsyncInstance(url, maxConcurrency);
+        chainTaskIds = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            chainTaskIds.add(String.format("0x%064x", i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws LifecycleException {
+        feignExecutor.shutdownNow();
+        asyncClient.close();
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Benchmark
+    public int headChecks() throws InterruptedException, ExecutionException {
+        int uploaded = 0;
+        if ("feign".equals(client)) {
+            final List<Future<Boolean>> checks = new ArrayList<>(tasks);
+            for (final String chainTaskId : chainTaskIds) {
+                checks.add(feignExecutor.submit(() -> isUploadedWithFeign(chainTaskId)));
+            }
+            for (final Future<Boolean> check : checks) {
+                uploaded += check.get() ? 1 : 0;
+            }
+        } else {
+            final List<CompletableFuture<Boolean>> checks = new ArrayList<>(tasks);
+            for (final String chainTaskId : chainTaskIds) {
+                checks.add(asyncClient.isResultUploaded(JWT, chainTaskId));
+            }
+            for (final CompletableFuture<Boolean> check : checks) {
+                uploaded += check.get() ? 1 : 0;
+            }
+        }
+        return uploaded;
+    }
+
+    private boolean isUploadedWithFeign(final String chainTaskId) {
+        try {
+            feignClient.isResultUploaded(JWT, chainTaskId);
+            return true;
+        } catch (FeignException.NotFound e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reports one task out of two as uploaded after a fixed latency.
+     */
+    private static class DelayedServlet extends HttpServlet {
+        private final long latencyMillis;
+
+        DelayedServlet(final long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        protected void doHead(final HttpServletRequest request, final HttpServletResponse response) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final boolean uploaded = request.getRequestURI().hashCode() % 2 == 0;
+            response.setStatus(uploaded ? HttpServletResponse.SC_NO_CONTENT : HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+}
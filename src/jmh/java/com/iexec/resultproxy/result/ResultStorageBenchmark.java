@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.result;
+
+import com.iexec.resultproxy.ipfs.IpfsConfig;
+import com.iexec.resultproxy.ipfs.IpfsResultStorage;
+import com.iexec.resultproxy.ipfs.IpfsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares upload throughputs of {@link ResultStorage} backends.
+ * <p>
+ * Each invocation stores a distinct result, so that content-addressed backends cannot skip writes.
+ * The S3 and IPFS backends target the services given by the {@code benchmark.s3.*} and {@code benchmark.ipfs.url}
+ * system properties, multiply the score by {@code resultSize} to get a throughput in bytes per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResultStorageBenchmark {
+
+    @Param({"filesystem", "s3", "ipfs"})
+    private String backend;
+
+    @Param({"65536", "1048576", "16777216"})
+    private int resultSize;
+
+    private final AtomicLong counter = new AtomicLong();
+    private ResultStorage storage;
+    private Path directory;
+    private byte[] template;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        template = new byte[resultSize];
+        new Random(42L).nextBytes(template);
+        storage = switch (backend) {
+            case "filesystem" -> {
+                directory = Files.createTempDirectory("result-storage-benchmark");
+                yield new FileSystemResultStorage(new FileSystemResultStorageConfig(directory.toString()));
+            }
+            case "s3" -> {
+                final S3ResultStorage s3Storage = new S3ResultStorage(new S3ResultStorageConfig(
+                        System.getProperty("benchmark.s3.endpoint"), "us-east-1", "iexec-results-benchmark",
+                        System.getProperty("benchmark.s3.access-key"), System.getProperty("benchmark.s3.secret-key"),
+                        true));
+                s3Storage.createBucketIfMissing();
+                yield s3Storage;
+            }
+            case "ipfs" -> {
+                final IpfsService ipfsService = new IpfsService(new IpfsConfig(System.getProperty("benchmark.ipfs.url")));
+                ipfsService.start();
+                yield new IpfsResultStorage(ipfsService);
+            }
+            default -> throw new IllegalArgumentException("Unknown backend: " + backend);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (storage instanceof S3ResultStorage s3Storage) {
+            s3Storage.close();
+        }
+        if (directory != null) {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Result {
+        private byte[] data;
+
+        @Setup(Level.Invocation)
+        public void setUp(final ResultStorageBenchmark benchmark) {
+            if (data == null) {
+                data = benchmark.template.clone();
+            }
+            ByteBuffer.wrap(data).putLong(0, benchmark.counter.incrementAndGet());
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String store(final Result result) {
+        return storage.store("0x1", result.data);
+    }
+}
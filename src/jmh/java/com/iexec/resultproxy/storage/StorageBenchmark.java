@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import com.iexec.resultproxy.ipfs.task.IpfsName;
+import com.iexec.resultproxy.ipfs.task.IpfsNameRepository;
+import com.iexec.resultproxy.ipfs.task.IpfsNameStore;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the MongoDB and embedded backends of {@link IpfsNameStore}.
+ * <p>
+ * {@code findByTaskId} measures point lookups on a populated store, {@code startup} measures the time needed
+ * before the first lookup can be served: connection and repository creation for MongoDB, log replay for the
+ * embedded store. The MongoDB instance is read from the {@code benchmark.mongo.uri} system property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StorageBenchmark {
+
+    private static final String DATABASE = "iexec-benchmark";
+
+    @Param({"embedded", "mongo"})
+    private String backend;
+
+    @Param({"10000"})
+    private int entries;
+
+    private String[] taskIds;
+    private Path directory;
+    private EmbeddedStorageConfig config;
+    private MongoClient mongoClient;
+    private IpfsNameStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        taskIds = new String[entries];
+        for (int i = 0; i < entries; i++) {
+            taskIds[i] = String.format("0x%064x", i);
+        }
+        if ("embedded".equals(backend)) {
+            directory = Files.createTempDirectory("storage-benchmark");
+            config = new EmbeddedStorageConfig(directory.toString(), Duration.ofHours(1), 0.5, DataSize.ofMegabytes(16));
+            final EmbeddedIpfsNameStore embeddedStore = new EmbeddedIpfsNameStore(config);
+            embeddedStore.open();
+            for (final String taskId : taskIds) {
+                embeddedStore.save(new IpfsName(taskId, "Qm" + taskId.substring(2, 46)));
+            }
+            store = embeddedStore;
+        } else {
+            mongoClient = MongoClients.create(getMongoUri());
+            final MongoTemplate mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+            mongoTemplate.dropCollection(IpfsName.class);
+            mongoTemplate.indexOps(IpfsName.class).ensureIndex(new Index("taskId", Sort.Direction.ASC).unique());
+            final List<IpfsName> documents = new ArrayList<>(entries);
+            for (final String taskId : taskIds) {
+                documents.add(new IpfsName(taskId, "Qm" + taskId.substring(2, 46)));
+            }
+            mongoTemplate.insert(documents, IpfsName.class);
+            store = new MongoRepositoryFactory(mongoTemplate).getRepository(IpfsNameRepository.class);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (store instanceof EmbeddedIpfsNameStore embeddedStore) {
+            embeddedStore.close();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+        if (mongoClient != null) {
+            new MongoTemplate(mongoClient, DATABASE).dropCollection(IpfsName.class);
+            mongoClient.close();
+        }
+    }
+
+    @Benchmark
+    public Optional<IpfsName> findByTaskId() {
+        return store.findByTaskId(taskIds[ThreadLocalRandom.current().nextInt(entries)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 5)
+    public Optional<IpfsName> startup() throws IOException {
+        if ("embedded".equals(backend)) {
+            final EmbeddedIpfsNameStore embeddedStore = new EmbeddedIpfsNameStore(config);
+            embeddedStore.open();
+            try {
+                return embeddedStore.findByTaskId(taskIds[0]);
+            } finally {
+                embeddedStore.close();
+            }
+        }
+        try (MongoClient client = MongoClients.create(getMongoUri())) {
+            return new MongoRepositoryFactory(new MongoTemplate(client, DATABASE))
+                    .getRepository(IpfsNameRepository.class)
+                    .findByTaskId(taskIds[0]);
+        }
+    }
+
+    private static String getMongoUri() {
+        return System.getProperty("benchmark.mongo.uri", "mongodb://localhost:13202");
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.authorization;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the in-memory workerpool authorization cache.
+ * <p>
+ * At most {@code maxEntries} authorizations are kept in memory until their task final deadline,
+ * evicted authorizations are still found in the persistent store.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "authorization.cache")
+public class AuthorizationCacheConfig {
+    @Positive(message = "Authorization cache max entries must be greater than 0")
+    int maxEntries;
+}
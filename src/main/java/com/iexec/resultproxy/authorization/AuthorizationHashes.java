@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.authorization;
+
+import com.iexec.commons.poco.utils.HashUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+
+/**
+ * Keccak-256 hashes of worker challenges and enclave messages, computed without hexadecimal round trips.
+ * <p>
+ * Hashes are the same as the ones of {@link HashUtils#concatenateAndHash(String...)}, but hexadecimal inputs are
+ * decoded into a per-thread buffer and fed to a per-thread Keccak digest which is reset and reused.
+ * Only the returned 32 bytes hash is allocated.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class AuthorizationHashes {
+
+    static final int HASH_LENGTH = 32;
+
+    private static final ThreadLocal<Hasher> HASHERS = ThreadLocal.withInitial(Hasher::new);
+
+    private static class Hasher {
+        private final KeccakDigest digest = new KeccakDigest(256);
+        private final byte[] intermediateHashes = new byte[2 * HASH_LENGTH];
+        private byte[] buffer = new byte[HASH_LENGTH];
+
+        /**
+         * Decodes a hexadecimal string as {@code Numeric.hexStringToByteArray} does and updates the digest.
+         */
+        void updateHex(final String hex) {
+            final int start = hex.length() > 1 && hex.charAt(0) == '0' && hex.charAt(1) == 'x' ? 2 : 0;
+            final int digits = hex.length() - start;
+            final int length = (digits + 1) / 2;
+            if (buffer.length < length) {
+                buffer = new byte[length];
+            }
+            int i = start;
+            int j = 0;
+            if (digits % 2 != 0) {
+                buffer[j++] = (byte) Character.digit(hex.charAt(i++), 16);
+            }
+            while (i < hex.length()) {
+                buffer[j++] = (byte) ((Character.digit(hex.charAt(i), 16) << 4) + Character.digit(hex.charAt(i + 1), 16));
+                i += 2;
+            }
+            digest.update(buffer, 0, length);
+        }
+
+        byte[] doFinal() {
+            final byte[] hash = new byte[HASH_LENGTH];
+            digest.doFinal(hash, 0);
+            return hash;
+        }
+    }
+
+    /**
+     * Hashes the challenge signed by a worker to get a JWT, which is also the hash of a workerpool authorization.
+     *
+     * @return {@code keccak256(workerWallet | chainTaskId | enclaveChallenge)}
+     */
+    static byte[] hashWorkerChallenge(final String workerWallet, final String chainTaskId, final String enclaveChallenge) {
+        final Hasher hasher = HASHERS.get();
+        hasher.digest.reset();
+        hasher.updateHex(workerWallet);
+        hasher.updateHex(chainTaskId);
+        hasher.updateHex(enclaveChallenge);
+        return hasher.doFinal();
+    }
+
+    /**
+     * Hashes the message signed by an enclave for a TEE result.
+     *
+     * @return {@code keccak256(keccak256(chainTaskId | deterministHash) | keccak256(walletAddress | chainTaskId | deterministHash))}
+     */
+    static byte[] hashEnclaveMessage(final String walletAddress, final String chainTaskId, final String deterministHash) {
+        final Hasher hasher = HASHERS.get();
+        hasher.digest.reset();
+        hasher.updateHex(chainTaskId);
+        hasher.updateHex(deterministHash);
+        hasher.digest.doFinal(hasher.intermediateHashes, 0);
+        hasher.updateHex(walletAddress);
+        hasher.updateHex(chainTaskId);
+        hasher.updateHex(deterministHash);
+        hasher.digest.doFinal(hasher.intermediateHashes, HASH_LENGTH);
+        hasher.digest.update(hasher.intermediateHashes, 0, hasher.intermediateHashes.length);
+        return hasher.doFinal();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2024 IEXEC BLOCKCHAIN TECH
+ * Copyright 2024-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
 
-public interface AuthorizationRepository extends MongoRepository<Authorization, String> {
+public interface AuthorizationRepository extends MongoRepository<Authorization, String>, AuthorizationStore {
     Optional<Authorization> findByChainTaskIdAndWorkerWallet(String chainTaskId, String workerWallet);
+
+    Optional<Authorization> deleteByChainTaskIdAndWorkerWallet(String chainTaskId, String workerWallet);
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2024-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,31 +23,77 @@ import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
 import com.iexec.commons.poco.security.Signature;
 import com.iexec.commons.poco.tee.TeeUtils;
 import com.iexec.commons.poco.utils.BytesUtils;
-import com.iexec.commons.poco.utils.HashUtils;
 import com.iexec.commons.poco.utils.SignatureUtils;
 import com.iexec.resultproxy.chain.IexecHubService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import net.jodah.expiringmap.ExpirationPolicy;
+import net.jodah.expiringmap.ExpiringMap;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static com.iexec.resultproxy.authorization.AuthorizationError.*;
 
+/**
+ * Checks workerpool authorizations and keeps the ones of authorized workers until their TEE result upload.
+ * <p>
+ * Kept authorizations are cached in memory until the task final deadline, on top of the {@link AuthorizationStore}
+ * which stays the durable fallback after a restart, a cache eviction or when another instance issued the JWT.
+ * <p>
+ * The cache only saves store reads, it does not remove every store round trip: the first JWT request of a worker
+ * for a task still writes the authorization to the store, and a TEE upload still consumes it with an atomic delete
+ * from the store. Consuming it from the cache alone would let an instance accept an upload whose authorization
+ * has already been consumed by another instance, or by this one before a restart, so one synchronous store call
+ * per TEE upload is kept on purpose for the authorization to be consumed only once across instances.
+ * <p>
+ * Signature checks are observed as {@code iexec.signature.check} spans.
+ */
 @Slf4j
 @Service
 public class AuthorizationService {
 
-    private final AuthorizationRepository authorizationRepository;
+    public static final String OBSERVATION_SIGNATURE_CHECK = "iexec.signature.check";
+
+    private record AuthorizationKey(String chainTaskId, String workerWallet) {
+    }
+
+    /**
+     * Outcome of the checks of a workerpool authorization.
+     *
+     * @param error         The reason if unauthorized, {@literal null} otherwise
+     * @param finalDeadline Final deadline of the task in milliseconds since epoch, only set if authorized
+     */
+    private record AuthorizationCheck(AuthorizationError error, long finalDeadline) {
+    }
+
+    private final AuthorizationStore authorizationStore;
     private final IexecHubService iexecHubService;
+    private final ExpiringMap<AuthorizationKey, Authorization> authorizations;
+    private final ObservationRegistry observationRegistry;
+    private final Object cacheLock = new Object();
 
-    public AuthorizationService(AuthorizationRepository authorizationRepository, IexecHubService iexecHubService) {
-        this.authorizationRepository = authorizationRepository;
+    public AuthorizationService(AuthorizationStore authorizationStore,
+                                IexecHubService iexecHubService,
+                                AuthorizationCacheConfig authorizationCacheConfig,
+                                ObservationRegistry observationRegistry) {
+        this.authorizationStore = authorizationStore;
         this.iexecHubService = iexecHubService;
+        this.observationRegistry = observationRegistry;
+        this.authorizations = ExpiringMap.builder()
+                .maxSize(authorizationCacheConfig.getMaxEntries())
+                .expirationPolicy(ExpirationPolicy.CREATED)
+                .variableExpiration()
+                .build();
     }
 
+
     /**
      * Checks whether this execution is authorized.
      * <p>
@@ -65,30 +111,50 @@ public class AuthorizationService {
      * @return the reason if unauthorized, an empty {@code Optional} otherwise
      */
     public Optional<AuthorizationError> isAuthorizedOnExecutionWithDetailedIssue(final WorkerpoolAuthorization workerpoolAuthorization) {
+        return Optional.ofNullable(checkAuthorization(workerpoolAuthorization).error());
+    }
+
+    /**
+     * Checks whether this execution is authorized and, if so, keeps the authorization until the task final deadline.
+     *
+     * @param workerpoolAuthorization The authorization to check
+     * @return the reason if unauthorized, an empty {@code Optional} otherwise
+     * @see #isAuthorizedOnExecutionWithDetailedIssue(WorkerpoolAuthorization)
+     */
+    public Optional<AuthorizationError> putIfAuthorized(final WorkerpoolAuthorization workerpoolAuthorization) {
+        final AuthorizationCheck check = checkAuthorization(workerpoolAuthorization);
+        if (check.error() != null) {
+            return Optional.of(check.error());
+        }
+        putIfAbsent(workerpoolAuthorization, Instant.ofEpochMilli(check.finalDeadline()));
+        return Optional.empty();
+    }
+
+    private AuthorizationCheck checkAuthorization(final WorkerpoolAuthorization workerpoolAuthorization) {
         if (workerpoolAuthorization == null || StringUtils.isEmpty(workerpoolAuthorization.getChainTaskId())) {
             log.error("Not authorized with empty params");
-            return Optional.of(EMPTY_PARAMS_UNAUTHORIZED);
+            return new AuthorizationCheck(EMPTY_PARAMS_UNAUTHORIZED, 0L);
         }
 
         final String chainTaskId = workerpoolAuthorization.getChainTaskId();
         final ChainTask chainTask = iexecHubService.getChainTask(chainTaskId).orElse(null);
         if (chainTask == null) {
             log.error("Could not get chainTask [chainTaskId:{}]", chainTaskId);
-            return Optional.of(GET_CHAIN_TASK_FAILED);
+            return new AuthorizationCheck(GET_CHAIN_TASK_FAILED, 0L);
         }
 
         final long deadline = chainTask.getFinalDeadline();
         if (Instant.now().isAfter(Instant.ofEpochMilli(deadline))) {
             log.error("Task deadline reached [chainTaskId:{}, deadline:{}]",
                     chainTaskId, Instant.ofEpochMilli(deadline));
-            return Optional.of(TASK_FINAL_DEADLINE_REACHED);
+            return new AuthorizationCheck(TASK_FINAL_DEADLINE_REACHED, 0L);
         }
 
         final String chainDealId = chainTask.getDealid();
         final ChainDeal chainDeal = iexecHubService.getChainDeal(chainDealId).orElse(null);
         if (chainDeal == null) {
             log.error("isAuthorizedOnExecution failed (getChainDeal failed) [chainTaskId:{}]", chainTaskId);
-            return Optional.of(GET_CHAIN_DEAL_FAILED);
+            return new AuthorizationCheck(GET_CHAIN_DEAL_FAILED, 0L);
         }
 
         final boolean isTeeTask = !workerpoolAuthorization.getEnclaveChallenge().equals(BytesUtils.EMPTY_ADDRESS);
@@ -96,70 +162,141 @@ public class AuthorizationService {
         if (isTeeTask != isTeeTaskOnchain) {
             log.error("Could not match on-chain task type [isTeeTask:{}, isTeeTaskOnchain:{}, chainTaskId:{}, walletAddress:{}]",
                     isTeeTask, isTeeTaskOnchain, chainTaskId, workerpoolAuthorization.getWorkerWallet());
-            return Optional.of(NO_MATCH_ONCHAIN_TYPE);
+            return new AuthorizationCheck(NO_MATCH_ONCHAIN_TYPE, 0L);
         }
 
         final String workerpoolAddress = chainDeal.getPoolOwner();
-        final boolean isSignedByWorkerpool = isSignedByHimself(workerpoolAuthorization.getHash(),
+        final byte[] workerpoolAuthorizationHash = AuthorizationHashes.hashWorkerChallenge(
+                workerpoolAuthorization.getWorkerWallet(), chainTaskId, workerpoolAuthorization.getEnclaveChallenge());
+        final boolean isSignedByWorkerpool = isSignedBy(workerpoolAuthorizationHash,
                 workerpoolAuthorization.getSignature().getValue(), workerpoolAddress);
 
         if (!isSignedByWorkerpool) {
             log.error("isAuthorizedOnExecution failed (invalid signature) [chainTaskId:{}, isSignedByWorkerpool:{}]",
                     chainTaskId, isSignedByWorkerpool);
-            return Optional.of(INVALID_SIGNATURE);
+            return new AuthorizationCheck(INVALID_SIGNATURE, 0L);
         }
 
-        return Optional.empty();
+        return new AuthorizationCheck(null, deadline);
     }
 
     public boolean isSignedByHimself(final String message, final String signature, final String address) {
-        return SignatureUtils.isSignatureValid(BytesUtils.stringToBytes(message), new Signature(signature), address);
+        return isSignedBy(BytesUtils.stringToBytes(message), signature, address);
+    }
+
+    private boolean isSignedBy(final byte[] message, final String signature, final String address) {
+        return Observation.createNotStarted(OBSERVATION_SIGNATURE_CHECK, observationRegistry)
+                .observe(() -> SignatureUtils.isSignatureValid(message, new Signature(signature), address));
     }
 
     public String getChallengeForWorker(final WorkerpoolAuthorization workerpoolAuthorization) {
-        return HashUtils.concatenateAndHash(
+        return BytesUtils.bytesToString(AuthorizationHashes.hashWorkerChallenge(
+                workerpoolAuthorization.getWorkerWallet(),
+                workerpoolAuthorization.getChainTaskId(),
+                workerpoolAuthorization.getEnclaveChallenge()));
+    }
+
+    /**
+     * Checks a worker signed the challenge returned by {@link #getChallengeForWorker(WorkerpoolAuthorization)}.
+     *
+     * @param workerpoolAuthorization Authorization of the worker
+     * @param signature               Signature of the challenge
+     * @return {@literal true} if the challenge was signed by the worker wallet, {@literal false} otherwise
+     */
+    public boolean isChallengeSignedByWorker(final WorkerpoolAuthorization workerpoolAuthorization, final String signature) {
+        final byte[] challenge = AuthorizationHashes.hashWorkerChallenge(
                 workerpoolAuthorization.getWorkerWallet(),
                 workerpoolAuthorization.getChainTaskId(),
                 workerpoolAuthorization.getEnclaveChallenge());
+        return isSignedBy(challenge, signature, workerpoolAuthorization.getWorkerWallet());
     }
 
     // region workerpool authorization cache
+
+    /**
+     * Checks the enclave signature of a TEE result and consumes the workerpool authorization it was checked against.
+     * <p>
+     * The authorization is looked up in the cache first, then in the store. Once the signature is valid,
+     * the authorization is removed from the cache and atomically deleted from the store, only the upload whose
+     * delete removed the stored authorization consumes it. The authorization is not consumed if the store
+     * cannot be reached, the stored authorization then stays available for a retry.
+     *
+     * @param model         Result payload holding the enclave signature
+     * @param walletAddress Wallet address of the uploader
+     * @return {@literal true} if the enclave signature is valid and the authorization was consumed by this call,
+     * {@literal false} otherwise
+     */
     public boolean checkEnclaveSignature(final ResultModel model, final String walletAddress) {
         if (ResultModel.EMPTY_WEB3_SIG.equals(model.getEnclaveSignature())) {
             log.warn("Empty enclave signature {}", walletAddress);
             return false;
         }
         final String chainTaskId = model.getChainTaskId();
-        final String resultHash = HashUtils.concatenateAndHash(chainTaskId, model.getDeterministHash());
-        final String resultSeal = HashUtils.concatenateAndHash(walletAddress, chainTaskId, model.getDeterministHash());
-        final String messageHash = HashUtils.concatenateAndHash(resultHash, resultSeal);
-        final Authorization workerpoolAuthorization = authorizationRepository
-                .findByChainTaskIdAndWorkerWallet(chainTaskId, walletAddress)
-                .orElse(null);
+        final AuthorizationKey key = new AuthorizationKey(chainTaskId, walletAddress);
+        final Authorization cachedAuthorization = authorizations.get(key);
+        final Authorization workerpoolAuthorization = cachedAuthorization != null
+                ? cachedAuthorization
+                : authorizationStore.findByChainTaskIdAndWorkerWallet(chainTaskId, walletAddress).orElse(null);
         if (workerpoolAuthorization == null) {
             log.warn("No workerpool authorization was found [chainTaskId:{}, walletAddress:{}]",
                     chainTaskId, walletAddress);
             return false;
         }
         final String enclaveChallenge = workerpoolAuthorization.getEnclaveChallenge();
-        boolean isSignedByEnclave = isSignedByHimself(messageHash, model.getEnclaveSignature(), enclaveChallenge);
-        if (isSignedByEnclave) {
-            log.info("Valid enclave signature received, allowed to push result");
-            authorizationRepository.deleteById(workerpoolAuthorization.getId());
-            log.debug("Workerpool authorization entry removed [chainTaskId:{}, workerWallet:{}]",
-                    workerpoolAuthorization.getChainTaskId(), workerpoolAuthorization.getWorkerWallet());
-        } else {
+        final byte[] messageHash = AuthorizationHashes.hashEnclaveMessage(
+                walletAddress, chainTaskId, model.getDeterministHash());
+        if (!isSignedBy(messageHash, model.getEnclaveSignature(), enclaveChallenge)) {
             log.warn("Invalid enclave signature [chainTaskId:{}, walletAddress:{}]", chainTaskId, walletAddress);
+            return false;
+        }
+        if (cachedAuthorization != null) {
+            authorizations.remove(key, cachedAuthorization);
         }
-        return isSignedByEnclave;
+        final boolean consumed;
+        try {
+            consumed = authorizationStore.deleteByChainTaskIdAndWorkerWallet(chainTaskId, walletAddress).isPresent();
+        } catch (DataAccessException e) {
+            log.warn("Workerpool authorization not consumed, store unavailable [chainTaskId:{}, walletAddress:{}]",
+                    chainTaskId, walletAddress, e);
+            return false;
+        }
+        if (!consumed) {
+            log.warn("Workerpool authorization already consumed [chainTaskId:{}, walletAddress:{}]",
+                    chainTaskId, walletAddress);
+            return false;
+        }
+        log.info("Valid enclave signature received, allowed to push result");
+        log.debug("Workerpool authorization entry removed [chainTaskId:{}, workerWallet:{}]", chainTaskId, walletAddress);
+        return true;
     }
 
-    public void putIfAbsent(final WorkerpoolAuthorization workerpoolAuthorization) {
+    /**
+     * Keeps a workerpool authorization until a deadline.
+     * <p>
+     * The store is only written when the authorization is not cached yet, repeated JWT requests of a worker
+     * for a task do not write to the store again. The authorization is removed from the cache if it cannot be stored,
+     * since it can only be consumed from the store.
+     *
+     * @param workerpoolAuthorization Authorization to keep
+     * @param finalDeadline           Final deadline of the task, after which the cached authorization expires
+     */
+    public void putIfAbsent(final WorkerpoolAuthorization workerpoolAuthorization, final Instant finalDeadline) {
+        final long ttlMillis = Math.max(1L, Duration.between(Instant.now(), finalDeadline).toMillis());
+        final AuthorizationKey key = new AuthorizationKey(
+                workerpoolAuthorization.getChainTaskId(), workerpoolAuthorization.getWorkerWallet());
+        final Authorization authorization = new Authorization(workerpoolAuthorization);
+        synchronized (cacheLock) {
+            if (authorizations.containsKey(key)) {
+                return;
+            }
+            authorizations.put(key, authorization, ExpirationPolicy.CREATED, ttlMillis, TimeUnit.MILLISECONDS);
+        }
         try {
-            authorizationRepository.save(new Authorization(workerpoolAuthorization));
+            authorizationStore.save(authorization);
             log.debug("Workerpool authorization entry added [chainTaskId:{}, workerWallet:{}]",
                     workerpoolAuthorization.getChainTaskId(), workerpoolAuthorization.getWorkerWallet());
         } catch (DataAccessException e) {
+            authorizations.remove(key, authorization);
             log.warn("Workerpool authorization entry not added [chainTaskId:{}, workerWallet: {}]",
                     workerpoolAuthorization.getChainTaskId(), workerpoolAuthorization.getWorkerWallet(), e);
         }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.authorization;
+
+import java.util.Optional;
+
+/**
+ * Storage of workerpool authorizations waiting for a TEE result upload.
+ * <p>
+ * Implemented by {@link AuthorizationRepository} on MongoDB, and by an embedded store when {@code storage.type=embedded}.
+ */
+public interface AuthorizationStore {
+
+    Optional<Authorization> findByChainTaskIdAndWorkerWallet(String chainTaskId, String workerWallet);
+
+    <S extends Authorization> S save(S authorization);
+
+    void deleteById(String id);
+
+    /**
+     * Atomically finds and deletes the authorization of a worker for a task.
+     *
+     * @param chainTaskId  ID of the task
+     * @param workerWallet Wallet of the worker
+     * @return The deleted authorization, an empty {@code Optional} if none was found
+     */
+    Optional<Authorization> deleteByChainTaskIdAndWorkerWallet(String chainTaskId, String workerWallet);
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.chain;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HttpService} gathering concurrent {@code eth_call} requests into JSON-RPC batch requests.
+ * <p>
+ * The first call of a batch waits for the batching window to elapse, or for the batch to be full, and then sends
+ * the whole batch on its own thread. Other calls of the batch wait for their response, no thread being dedicated
+ * to batching. Other methods, as well as batches holding a single call, are sent as plain requests.
+ * <p>
+ * Calls of a batch rejected by the node, or left without response, are sent again one by one, each call being
+ * sent again concurrently by its own caller thread rather than sequentially by the first call of the batch.
+ * Batch sizes are reported by the {@code iexec.chain.rpc.batch.size} summary and call latencies, including the
+ * batching window, by the {@code iexec.chain.rpc.calls} timer.
+ */
+@Slf4j
+public class BatchingHttpService extends HttpService {
+
+    public static final String METRIC_BATCH_SIZE = "iexec.chain.rpc.batch.size";
+    public static final String METRIC_CALLS = "iexec.chain.rpc.calls";
+
+    static final String ETH_CALL = "eth_call";
+
+    private static final class PendingCall {
+        private final Request<?, ? extends Response<?>> request;
+        private final CompletableFuture<Response<?>> response = new CompletableFuture<>();
+
+        private PendingCall(Request<?, ? extends Response<?>> request) {
+            this.request = request;
+        }
+    }
+
+    /**
+     * Completes a call whose batch failed, for its caller to send it again as a plain request.
+     */
+    private static final class ResendIndividually extends RuntimeException {
+        private ResendIndividually() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final ResendIndividually RESEND_INDIVIDUALLY = new ResendIndividually();
+
+    private static final class Batch {
+        private final List<PendingCall> calls = new ArrayList<>();
+        private boolean closed;
+    }
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Object lock = new Object();
+    private final DistributionSummary batchSizes;
+    private final Timer calls;
+    private Batch openBatch;
+
+    public BatchingHttpService(String url, RpcBatchingConfig rpcBatchingConfig) {
+        super(url);
+        this.windowNanos = rpcBatchingConfig.getWindow().toNanos();
+        this.maxBatchSize = rpcBatchingConfig.getMaxBatchSize();
+        this.batchSizes = DistributionSummary.builder(METRIC_BATCH_SIZE)
+                .description("Number of eth_call requests sent in a single JSON-RPC request")
+                .register(Metrics.globalRegistry);
+        this.calls = Timer.builder(METRIC_CALLS)
+                .description("Latency of eth_call requests, including the batching window")
+                .tag("method", ETH_CALL)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        if (!ETH_CALL.equals(request.getMethod())) {
+            return super.send(request, responseType);
+        }
+        final long start = System.nanoTime();
+        try {
+            return responseType.cast(sendBatched(request));
+        } finally {
+            calls.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Response<?> sendBatched(Request<?, ? extends Response<?>> request) throws IOException {
+        final PendingCall call = new PendingCall(request);
+        final Batch batch;
+        final boolean isLeader;
+        synchronized (lock) {
+            isLeader = openBatch == null;
+            if (isLeader) {
+                openBatch = new Batch();
+            }
+            batch = openBatch;
+            batch.calls.add(call);
+            if (batch.calls.size() >= maxBatchSize) {
+                close(batch);
+                lock.notifyAll();
+            }
+        }
+        if (isLeader) {
+            awaitWindow(batch);
+            execute(batch.calls);
+        }
+        try {
+            return call.response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() == RESEND_INDIVIDUALLY) {
+                return super.send(request, request.getResponseType());
+            }
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw e;
+        }
+    }
+
+    private void awaitWindow(Batch batch) {
+        synchronized (lock) {
+            final long deadline = System.nanoTime() + windowNanos;
+            long remaining = windowNanos;
+            try {
+                while (!batch.closed && remaining > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                    remaining = deadline - System.nanoTime();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            close(batch);
+        }
+    }
+
+    private void close(Batch batch) {
+        batch.closed = true;
+        if (openBatch == batch) {
+            openBatch = null;
+        }
+    }
+
+    private void execute(List<PendingCall> batchCalls) {
+        batchSizes.record(batchCalls.size());
+        if (batchCalls.size() == 1) {
+            sendOne(batchCalls.get(0));
+            return;
+        }
+        final Map<Long, PendingCall> callsById = new HashMap<>();
+        final BatchRequest batchRequest = new BatchRequest(this);
+        for (final PendingCall call : batchCalls) {
+            callsById.put(call.request.getId(), call);
+            batchRequest.add(call.request);
+        }
+        try {
+            final BatchResponse batchResponse = batchRequest.send();
+            for (final Response<?> response : batchResponse.getResponses()) {
+                final PendingCall call = callsById.remove(response.getId());
+                if (call != null) {
+                    call.response.complete(response);
+                }
+            }
+            if (!callsById.isEmpty()) {
+                log.warn("Missing responses in JSON-RPC batch, sending calls one by one [size:{}, missing:{}]",
+                        batchCalls.size(), callsById.size());
+                resendIndividually(callsById.values());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("JSON-RPC batch failed, sending calls one by one [size:{}]", batchCalls.size(), e);
+            resendIndividually(callsById.values());
+        }
+    }
+
+    private static void resendIndividually(Collection<PendingCall> failedCalls) {
+        failedCalls.forEach(call -> call.response.completeExceptionally(RESEND_INDIVIDUALLY));
+    }
+
+    private void sendOne(PendingCall call) {
+        try {
+            call.response.complete(super.send(call.request, call.request.getResponseType()));
+        } catch (IOException | RuntimeException e) {
+            call.response.completeExceptionally(e);
+        }
+    }
+}
@@ -16,14 +16,60 @@
 
 package com.iexec.resultproxy.chain;
 
+import com.iexec.commons.poco.chain.ChainContribution;
+import com.iexec.commons.poco.chain.ChainDeal;
+import com.iexec.commons.poco.chain.ChainTask;
 import com.iexec.commons.poco.chain.IexecHubAbstractService;
 
 import com.iexec.commons.poco.chain.SignerService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static com.iexec.resultproxy.tracing.ObservationKeys.CHAIN_DEAL_ID;
+import static com.iexec.resultproxy.tracing.ObservationKeys.CHAIN_TASK_ID;
+import static com.iexec.resultproxy.tracing.ObservationKeys.OPERATION;
+
+/**
+ * Reads the iExec hub contract, each read being observed as an {@code iexec.chain.read} span.
+ */
 @Service
 public class IexecHubService extends IexecHubAbstractService {
-    public IexecHubService(SignerService signerService, Web3jService web3jService, ChainConfig chainConfig) {
+    public static final String OBSERVATION_CHAIN_READ = "iexec.chain.read";
+
+    private final ObservationRegistry observationRegistry;
+
+    public IexecHubService(SignerService signerService, Web3jService web3jService, ChainConfig chainConfig,
+                           ObservationRegistry observationRegistry) {
         super(signerService.getCredentials(), web3jService, chainConfig.getHubAddress());
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Optional<ChainTask> getChainTask(String chainTaskId) {
+        return observe("getChainTask", CHAIN_TASK_ID, chainTaskId, () -> super.getChainTask(chainTaskId));
+    }
+
+    @Override
+    public Optional<ChainDeal> getChainDeal(String chainDealId) {
+        return observe("getChainDeal", CHAIN_DEAL_ID, chainDealId, () -> super.getChainDeal(chainDealId));
+    }
+
+    @Override
+    public Optional<ChainContribution> getChainContribution(String chainTaskId, String workerAddress) {
+        return observe("getChainContribution", CHAIN_TASK_ID, chainTaskId,
+                () -> super.getChainContribution(chainTaskId, workerAddress));
+    }
+
+    // The registry is null if a read happens while the parent class is being constructed, the read is then not observed
+    private <T> T observe(String operation, String idKey, String id, Supplier<T> read) {
+        return Observation.createNotStarted(OBSERVATION_CHAIN_READ, observationRegistry)
+                .contextualName("chain " + operation)
+                .lowCardinalityKeyValue(OPERATION, operation)
+                .highCardinalityKeyValue(idKey, String.valueOf(id))
+                .observe(read);
     }
 }
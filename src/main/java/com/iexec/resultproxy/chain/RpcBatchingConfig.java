@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.chain;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMax;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings of the batching of concurrent {@code eth_call} requests into JSON-RPC batch requests.
+ * <p>
+ * A batch is sent {@code window} after its first call, or as soon as it holds {@code maxBatchSize} calls.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "chain.rpc-batching")
+public class RpcBatchingConfig {
+    boolean enabled;
+
+    @DurationMin(message = "RPC batching window must be positive or zero")
+    @DurationMax(seconds = 1, message = "RPC batching window must be less than 1s")
+    @NotNull(message = "RPC batching window must not be null")
+    Duration window;
+
+    @Positive(message = "RPC batching max batch size must be greater than 0")
+    int maxBatchSize;
+}
@@ -18,11 +18,21 @@ package com.iexec.resultproxy.chain;
 
 import com.iexec.commons.poco.chain.Web3jAbstractService;
 import org.springframework.stereotype.Service;
+import org.web3j.protocol.Web3j;
+import org.web3j.utils.Async;
 
+/**
+ * Web3j client of the blockchain node.
+ * <p>
+ * When {@code chain.rpc-batching.enabled} is set, contract reads go through a {@link BatchingHttpService}
+ * gathering concurrent {@code eth_call} requests into JSON-RPC batch requests.
+ */
 @Service
 public class Web3jService extends Web3jAbstractService {
 
-    public Web3jService(ChainConfig chainConfig) {
+    private final Web3j batchingWeb3j;
+
+    public Web3jService(ChainConfig chainConfig, RpcBatchingConfig rpcBatchingConfig) {
         super(
                 chainConfig.getId(),
                 chainConfig.getNodeAddress(),
@@ -31,6 +41,16 @@ public class Web3jService extends Web3jAbstractService {
                 chainConfig.getGasPriceCap(),
                 chainConfig.isSidechain()
         );
+        this.batchingWeb3j = rpcBatchingConfig.isEnabled()
+                ? Web3j.build(new BatchingHttpService(chainConfig.getNodeAddress(), rpcBatchingConfig),
+                chainConfig.getBlockTime().toMillis(), Async.defaultExecutorService())
+                : null;
+    }
+
+    // The parent constructor may read the client before the batching one is created
+    @Override
+    public Web3j getWeb3j() {
+        return batchingWeb3j != null ? batchingWeb3j : super.getWeb3j();
     }
 
 }
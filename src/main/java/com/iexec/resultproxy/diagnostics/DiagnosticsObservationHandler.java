@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.diagnostics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.iexec.resultproxy.tracing.ObservationKeys.CHAIN_TASK_ID;
+import static com.iexec.resultproxy.tracing.ObservationKeys.PAYLOAD_SIZE;
+
+/**
+ * Turns observations into Flight Recorder events and per-stage breakdowns of slow requests.
+ * <p>
+ * HTTP server request observations are recorded as {@link RequestEvent}, all other observations as
+ * {@link StageEvent}. Events are only begun and committed while Flight Recorder records them.
+ * <p>
+ * Stages ended while their HTTP request is running are collected on the request observation, the request and its
+ * stages being handed to the {@link SlowRequestRecorder} only if it is slow enough to be kept.
+ */
+@Component
+public class DiagnosticsObservationHandler implements ObservationHandler<Observation.Context> {
+
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    static final int MAX_STAGES = 64;
+
+    private static final String START_NANOS = DiagnosticsObservationHandler.class.getName() + ".startNanos";
+
+    private static class RequestProfile {
+        private final List<SlowRequest.Stage> stages = new ArrayList<>();
+        private String chainTaskId;
+
+        synchronized void addStage(SlowRequest.Stage stage, String stageChainTaskId) {
+            if (stages.size() < MAX_STAGES) {
+                stages.add(stage);
+            }
+            if (chainTaskId == null) {
+                chainTaskId = stageChainTaskId;
+            }
+        }
+
+        synchronized List<SlowRequest.Stage> getStages() {
+            return List.copyOf(stages);
+        }
+
+        synchronized String getChainTaskId() {
+            return chainTaskId;
+        }
+    }
+
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    public DiagnosticsObservationHandler(SlowRequestRecorder slowRequestRecorder) {
+        this.slowRequestRecorder = slowRequestRecorder;
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        context.put(START_NANOS, System.nanoTime());
+        if (HTTP_SERVER_REQUESTS.equals(context.getName())) {
+            context.put(RequestProfile.class, new RequestProfile());
+            final RequestEvent event = new RequestEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                context.put(RequestEvent.class, event);
+            }
+        } else {
+            final StageEvent event = new StageEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                context.put(StageEvent.class, event);
+            }
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        final Long startNanos = context.get(START_NANOS);
+        if (startNanos == null) {
+            return;
+        }
+        final long durationNanos = System.nanoTime() - startNanos;
+        final RequestProfile requestProfile = context.get(RequestProfile.class);
+        if (requestProfile != null) {
+            onRequestStop(context, requestProfile, durationNanos);
+        } else {
+            onStageStop(context, durationNanos);
+        }
+    }
+
+    private void onRequestStop(Observation.Context context, RequestProfile requestProfile, long durationNanos) {
+        final RequestEvent event = context.get(RequestEvent.class);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = getValue(context.getLowCardinalityKeyValue("method"));
+                event.uri = getValue(context.getLowCardinalityKeyValue("uri"));
+                event.status = getValue(context.getLowCardinalityKeyValue("status"));
+                event.chainTaskId = requestProfile.getChainTaskId();
+                event.commit();
+            }
+        }
+        if (!slowRequestRecorder.isCandidate(durationNanos)) {
+            return;
+        }
+        slowRequestRecorder.record(new SlowRequest(
+                Instant.now(),
+                getValue(context.getLowCardinalityKeyValue("method")),
+                getValue(context.getLowCardinalityKeyValue("uri")),
+                getValue(context.getLowCardinalityKeyValue("status")),
+                requestProfile.getChainTaskId(),
+                Duration.ofNanos(durationNanos),
+                requestProfile.getStages()));
+    }
+
+    private void onStageStop(Observation.Context context, long durationNanos) {
+        final String chainTaskId = getValue(context.getHighCardinalityKeyValue(CHAIN_TASK_ID));
+        final StageEvent event = context.get(StageEvent.class);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.stage = context.getName();
+                event.operation = context.getContextualName();
+                event.chainTaskId = chainTaskId;
+                event.payloadSize = parsePayloadSize(getValue(context.getHighCardinalityKeyValue(PAYLOAD_SIZE)));
+                event.failed = context.getError() != null;
+                event.commit();
+            }
+        }
+        final RequestProfile requestProfile = findRequestProfile(context.getParentObservation());
+        if (requestProfile != null) {
+            requestProfile.addStage(
+                    new SlowRequest.Stage(context.getName(), context.getContextualName(), Duration.ofNanos(durationNanos)),
+                    chainTaskId);
+        }
+    }
+
+    private static RequestProfile findRequestProfile(ObservationView observation) {
+        while (observation != null) {
+            final Observation.ContextView context = observation.getContextView();
+            final RequestProfile requestProfile = context.get(RequestProfile.class);
+            if (requestProfile != null) {
+                return requestProfile;
+            }
+            observation = context.getParentObservation();
+        }
+        return null;
+    }
+
+    private static String getValue(KeyValue keyValue) {
+        return keyValue == null ? null : keyValue.getValue();
+    }
+
+    private static long parsePayloadSize(String payloadSize) {
+        if (payloadSize == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(payloadSize);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of an HTTP request served by Result Proxy, its stages being recorded as {@link StageEvent}.
+ */
+@Name(RequestEvent.NAME)
+@Label("Result Proxy Request")
+@Description("HTTP request served by Result Proxy")
+@Category({"iExec", "Result Proxy"})
+@StackTrace(false)
+class RequestEvent extends jdk.jfr.Event {
+    static final String NAME = "com.iexec.resultproxy.Request";
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    String status;
+
+    @Label("Chain Task ID")
+    String chainTaskId;
+}
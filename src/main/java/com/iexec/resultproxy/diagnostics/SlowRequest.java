@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.diagnostics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * HTTP request recorded by the {@link SlowRequestRecorder}.
+ *
+ * @param end         Instant the response was sent
+ * @param method      HTTP method
+ * @param uri         URI template of the endpoint
+ * @param status      HTTP status of the response
+ * @param chainTaskId ID of the task the request was about, if any
+ * @param duration    Duration of the request
+ * @param stages      Stages of the request, in completion order
+ */
+public record SlowRequest(Instant end, String method, String uri, String status, String chainTaskId,
+                          Duration duration, List<Stage> stages) {
+
+    /**
+     * Stage of a request.
+     *
+     * @param name     Name of the stage, such as {@code iexec.chain.read}
+     * @param detail   Operation performed in the stage, if any
+     * @param duration Duration of the stage
+     */
+    public record Stage(String name, String detail, Duration duration) {
+    }
+}
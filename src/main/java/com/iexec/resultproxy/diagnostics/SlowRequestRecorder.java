@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.diagnostics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the slowest HTTP requests served since startup or since the last reset.
+ * <p>
+ * Requests are kept in a min-heap bounded by the configured capacity. Once the heap is full, a request is only
+ * admitted if it is slower than the fastest kept one, this admission threshold being read without locking so that
+ * most requests are discarded before their breakdown is even built.
+ */
+@Component
+public class SlowRequestRecorder {
+
+    private static final Comparator<SlowRequest> BY_DURATION = Comparator.comparing(SlowRequest::duration);
+
+    private final int capacity;
+    private final PriorityQueue<SlowRequest> slowestRequests;
+    private volatile long admissionNanos;
+
+    public SlowRequestRecorder(SlowRequestsConfig slowRequestsConfig) {
+        this.capacity = slowRequestsConfig.getCapacity();
+        this.slowestRequests = new PriorityQueue<>(Math.max(capacity, 1), BY_DURATION);
+    }
+
+    /**
+     * Checks whether a request would be kept, before its breakdown is built.
+     *
+     * @param durationNanos Duration of the request
+     * @return {@literal true} if the request is slower than the fastest kept one or if the recorder is not full
+     */
+    boolean isCandidate(long durationNanos) {
+        return capacity > 0 && durationNanos > admissionNanos;
+    }
+
+    synchronized void record(SlowRequest slowRequest) {
+        if (!isCandidate(slowRequest.duration().toNanos())) {
+            return;
+        }
+        slowestRequests.add(slowRequest);
+        if (slowestRequests.size() > capacity) {
+            slowestRequests.poll();
+        }
+        if (slowestRequests.size() == capacity) {
+            admissionNanos = slowestRequests.element().duration().toNanos();
+        }
+    }
+
+    /**
+     * Lists kept requests, the slowest first.
+     *
+     * @return The requests
+     */
+    public synchronized List<SlowRequest> getSlowestRequests() {
+        final List<SlowRequest> requests = new ArrayList<>(slowestRequests);
+        requests.sort(BY_DURATION.reversed());
+        return requests;
+    }
+
+    public synchronized void reset() {
+        slowestRequests.clear();
+        admissionNanos = 0L;
+    }
+}
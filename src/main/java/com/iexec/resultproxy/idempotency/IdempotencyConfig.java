@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.idempotency;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings of idempotent result uploads.
+ * <p>
+ * Responses of uploads sent with an {@code Idempotency-Key} header are kept for {@code ttl},
+ * {@code maxEntries} responses at most are cached in memory on top of the persistent store.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyConfig {
+    @DurationMin(seconds = 1, message = "Idempotency TTL must be greater than 1s")
+    @NotNull(message = "Idempotency TTL must not be null")
+    Duration ttl;
+
+    @Positive(message = "Idempotency max entries must be greater than 0")
+    int maxEntries;
+}
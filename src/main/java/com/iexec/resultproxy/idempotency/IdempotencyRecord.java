@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Response of a result upload sent with an {@code Idempotency-Key} header.
+ * <p>
+ * The key is scoped to the wallet of the uploader. MongoDB removes the document once {@code expiresAt} is reached.
+ */
+@Document
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+    @Id
+    private String id;
+
+    @Version
+    private Long version;
+
+    @Indexed(unique = true)
+    private String key;
+    private String payloadDigest;
+    private int status;
+    private String body;
+    @Indexed(expireAfter = "0s")
+    private Instant expiresAt;
+
+    public IdempotencyRecord(String key, String payloadDigest, int status, String body, Instant expiresAt) {
+        this.key = key;
+        this.payloadDigest = payloadDigest;
+        this.status = status;
+        this.body = body;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.idempotency;
+
+import com.iexec.common.result.ResultModel;
+import lombok.extern.slf4j.Slf4j;
+import net.jodah.expiringmap.ExpirationPolicy;
+import net.jodah.expiringmap.ExpiringMap;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps responses of result uploads sent with an {@code Idempotency-Key} header.
+ * <p>
+ * A retried upload with the same key and the same payload is answered with the original response, without any
+ * chain read nor storage call. Only successful responses are kept, a failed upload may succeed once retried.
+ * <p>
+ * Responses are stored in a bounded in-memory cache backed by an {@link IdempotencyRecordStore},
+ * so that they survive restarts and cache evictions until their TTL is reached.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordStore idempotencyRecordStore;
+    private final Duration ttl;
+    private final ExpiringMap<String, IdempotentResponse> responses;
+
+    public IdempotencyService(IdempotencyRecordStore idempotencyRecordStore, IdempotencyConfig idempotencyConfig) {
+        this.idempotencyRecordStore = idempotencyRecordStore;
+        this.ttl = idempotencyConfig.getTtl();
+        this.responses = ExpiringMap.builder()
+                .maxSize(idempotencyConfig.getMaxEntries())
+                .expirationPolicy(ExpirationPolicy.CREATED)
+                .variableExpiration()
+                .build();
+    }
+
+    /**
+     * Checks an idempotency key is made of 1 to 255 printable ASCII characters.
+     *
+     * @param idempotencyKey Value of the {@code Idempotency-Key} header
+     * @return {@literal true} if the key is valid, {@literal false} otherwise
+     */
+    public static boolean isValidKey(final String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            return false;
+        }
+        return idempotencyKey.chars().allMatch(c -> c >= 0x21 && c <= 0x7E);
+    }
+
+    /**
+     * Computes a SHA-256 digest of all fields of an upload payload.
+     *
+     * @param model Upload payload
+     * @return The hex encoded digest
+     */
+    public static String computePayloadDigest(final ResultModel model) {
+        final MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        update(sha256, model.getChainTaskId() != null ? model.getChainTaskId().getBytes(StandardCharsets.UTF_8) : null);
+        update(sha256, model.getDeterministHash() != null ? model.getDeterministHash().getBytes(StandardCharsets.UTF_8) : null);
+        update(sha256, model.getEnclaveSignature() != null ? model.getEnclaveSignature().getBytes(StandardCharsets.UTF_8) : null);
+        update(sha256, model.getZip());
+        return HexFormat.of().formatHex(sha256.digest());
+    }
+
+    /**
+     * Finds the response of a previous upload.
+     *
+     * @param walletAddress  Wallet address of the uploader
+     * @param idempotencyKey Value of the {@code Idempotency-Key} header
+     * @return The response if it is still kept, an empty {@code Optional} otherwise
+     */
+    public Optional<IdempotentResponse> find(final String walletAddress, final String idempotencyKey) {
+        final String key = getKey(walletAddress, idempotencyKey);
+        final IdempotentResponse cached = responses.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try {
+            final Instant now = Instant.now();
+            return idempotencyRecordStore.findByKey(key)
+                    .filter(idempotencyRecord -> idempotencyRecord.getExpiresAt().isAfter(now))
+                    .map(idempotencyRecord -> {
+                        final IdempotentResponse response = new IdempotentResponse(
+                                idempotencyRecord.getPayloadDigest(), idempotencyRecord.getStatus(), idempotencyRecord.getBody());
+                        responses.put(key, response,
+                                Duration.between(now, idempotencyRecord.getExpiresAt()).toMillis(), TimeUnit.MILLISECONDS);
+                        return response;
+                    });
+        } catch (DataAccessException e) {
+            log.warn("Failed to read idempotency record [walletAddress:{}, idempotencyKey:{}]",
+                    walletAddress, idempotencyKey, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Keeps the response of an upload, the first response persisted for a key is never replaced.
+     *
+     * @param walletAddress  Wallet address of the uploader
+     * @param idempotencyKey Value of the {@code Idempotency-Key} header
+     * @param response       Response sent to the uploader
+     */
+    public void save(final String walletAddress, final String idempotencyKey, final IdempotentResponse response) {
+        final String key = getKey(walletAddress, idempotencyKey);
+        responses.put(key, response, ttl.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            idempotencyRecordStore.save(new IdempotencyRecord(key, response.payloadDigest(), response.status(),
+                    response.body(), Instant.now().plus(ttl)));
+        } catch (DuplicateKeyException e) {
+            log.debug("Idempotency record already exists [walletAddress:{}, idempotencyKey:{}]", walletAddress, idempotencyKey);
+        } catch (DataAccessException e) {
+            log.warn("Failed to save idempotency record [walletAddress:{}, idempotencyKey:{}]",
+                    walletAddress, idempotencyKey, e);
+        }
+    }
+
+    private static String getKey(final String walletAddress, final String idempotencyKey) {
+        return walletAddress.toLowerCase(Locale.ROOT) + "/" + idempotencyKey;
+    }
+
+    private static void update(final MessageDigest digest, final byte[] field) {
+        final int length = field != null ? field.length : -1;
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+        if (field != null) {
+            digest.update(field);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.idempotency;
+
+/**
+ * Response replayed to retries of an idempotent result upload.
+ *
+ * @param payloadDigest Digest of the upload payload, see {@link IdempotencyService#computePayloadDigest}
+ * @param status        HTTP status of the response
+ * @param body          Body of the response
+ */
+public record IdempotentResponse(String payloadDigest, int status, String body) {
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ipfs;
+
+import io.ipfs.multihash.Multihash;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Computes the CID an IPFS daemon returns when adding a file with the {@code add} command defaults.
+ * <p>
+ * The defaults are:
+ * <ul>
+ * <li>Fixed size chunker with 256KiB chunks
+ * <li>CIDv0, hence sha2-256 multihashes and DAG-PB leaves instead of raw leaves
+ * <li>Balanced DAG layout with at most 174 links per node
+ * </ul>
+ * As in the daemon importer, the first leaf is a UnixFS {@code File} node while the following leaves are
+ * UnixFS {@code Raw} nodes. DAG-PB links are serialized before data and always carry an empty name.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class IpfsCidCalculator {
+
+    static final int CHUNK_SIZE = 256 * 1024;
+    static final int MAX_LINKS = 174;
+
+    private static final int UNIXFS_RAW = 0;
+    private static final int UNIXFS_FILE = 2;
+
+    /**
+     * Node of the DAG built for a file.
+     *
+     * @param multihash      sha2-256 multihash of the serialized node
+     * @param fileSize       Number of file bytes below this node
+     * @param cumulativeSize Size of the serialized node and of all its descendants, used as link {@code Tsize}
+     */
+    private record DagNode(byte[] multihash, long fileSize, long cumulativeSize) {
+    }
+
+    /**
+     * Computes the CIDv0 of a file content.
+     *
+     * @param data File content
+     * @return Base58 encoded CIDv0, as returned by an IPFS daemon
+     */
+    public static String computeCid(final byte[] data) {
+        final Importer importer = new Importer(data);
+        final byte[] multihash = importer.importFile().multihash();
+        return new Multihash(Multihash.Type.sha2_256, Arrays.copyOfRange(multihash, 2, multihash.length)).toBase58();
+    }
+
+    private static class Importer {
+        private final byte[] data;
+        private final MessageDigest sha256;
+        private int offset;
+
+        Importer(final byte[] data) {
+            this.data = data;
+            try {
+                this.sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        DagNode importFile() {
+            DagNode root = newLeaf(UNIXFS_FILE);
+            for (int depth = 1; offset < data.length; depth++) {
+                final List<DagNode> children = new ArrayList<>(MAX_LINKS);
+                children.add(root);
+                root = fill(children, depth);
+            }
+            return root;
+        }
+
+        private DagNode fill(final List<DagNode> children, final int depth) {
+            while (children.size() < MAX_LINKS && offset < data.length) {
+                children.add(depth == 1 ? newLeaf(UNIXFS_RAW) : fill(new ArrayList<>(MAX_LINKS), depth - 1));
+            }
+            return newInternalNode(children);
+        }
+
+        private DagNode newLeaf(final int unixFsType) {
+            final int length = Math.min(CHUNK_SIZE, data.length - offset);
+            final ProtoWriter unixFs = new ProtoWriter(length + 16);
+            unixFs.writeVarintField(1, unixFsType);
+            if (length > 0) {
+                unixFs.writeBytesField(2, data, offset, length);
+            }
+            unixFs.writeVarintField(3, length);
+            offset += length;
+            final ProtoWriter node = new ProtoWriter(unixFs.size() + 8);
+            node.writeBytesField(1, unixFs.toByteArray());
+            final byte[] serialized = node.toByteArray();
+            return new DagNode(multihash(serialized), length, serialized.length);
+        }
+
+        private DagNode newInternalNode(final List<DagNode> children) {
+            long fileSize = 0;
+            long childrenCumulativeSize = 0;
+            final ProtoWriter unixFs = new ProtoWriter(16 + 5 * children.size());
+            unixFs.writeVarintField(1, UNIXFS_FILE);
+            for (final DagNode child : children) {
+                fileSize += child.fileSize();
+            }
+            unixFs.writeVarintField(3, fileSize);
+            final ProtoWriter node = new ProtoWriter(48 * children.size() + unixFs.size() + 8);
+            for (final DagNode child : children) {
+                unixFs.writeVarintField(4, child.fileSize());
+                final ProtoWriter link = new ProtoWriter(48);
+                link.writeBytesField(1, child.multihash());
+                link.writeBytesField(2, new byte[0]);
+                link.writeVarintField(3, child.cumulativeSize());
+                node.writeBytesField(2, link.toByteArray());
+                childrenCumulativeSize += child.cumulativeSize();
+            }
+            node.writeBytesField(1, unixFs.toByteArray());
+            final byte[] serialized = node.toByteArray();
+            return new DagNode(multihash(serialized), fileSize, serialized.length + childrenCumulativeSize);
+        }
+
+        private byte[] multihash(final byte[] serialized) {
+            final byte[] digest = sha256.digest(serialized);
+            final byte[] multihash = new byte[digest.length + 2];
+            multihash[0] = 0x12;
+            multihash[1] = (byte) digest.length;
+            System.arraycopy(digest, 0, multihash, 2, digest.length);
+            return multihash;
+        }
+    }
+
+    /**
+     * Minimal protobuf writer, only varint and length-delimited fields are needed by DAG-PB and UnixFS.
+     */
+    private static class ProtoWriter extends ByteArrayOutputStream {
+        ProtoWriter(final int initialSize) {
+            super(initialSize);
+        }
+
+        void writeVarintField(final int fieldNumber, final long value) {
+            writeVarint((long) fieldNumber << 3);
+            writeVarint(value);
+        }
+
+        void writeBytesField(final int fieldNumber, final byte[] bytes) {
+            writeBytesField(fieldNumber, bytes, 0, bytes.length);
+        }
+
+        void writeBytesField(final int fieldNumber, final byte[] bytes, final int off, final int len) {
+            writeVarint(((long) fieldNumber << 3) | 2);
+            writeVarint(len);
+            write(bytes, off, len);
+        }
+
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ipfs;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of result pushes to IPFS.
+ * <p>
+ * When {@code async} is enabled, the CID of a result is computed locally and returned to the uploader
+ * while the push to the IPFS node runs in the background on at most {@code concurrency} threads.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "ipfs.push")
+public class IpfsPushConfig {
+    boolean async;
+
+    @Positive(message = "IPFS push concurrency must be greater than 0")
+    int concurrency;
+}
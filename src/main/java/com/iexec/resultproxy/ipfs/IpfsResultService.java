@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2024 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,52 +16,122 @@
 
 package com.iexec.resultproxy.ipfs;
 
+import com.iexec.resultproxy.ipfs.outbox.IpfsOutboxService;
 import com.iexec.resultproxy.ipfs.task.IpfsNameService;
+import com.iexec.resultproxy.result.ResultStorage;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
 
+import static com.iexec.resultproxy.tracing.ObservationKeys.CHAIN_TASK_ID;
+import static com.iexec.resultproxy.tracing.ObservationKeys.PAYLOAD_SIZE;
+
+@Slf4j
 @Service
 public class IpfsResultService {
 
-    private static final String IPFS_ADDRESS_PREFIX = "/ipfs/";
+    public static final String OBSERVATION_PUSH = "iexec.result.push";
+
     private static final String IPFS_FILENAME_PREFIX = "iexec-result-";
 
-    private final IpfsService ipfsService;
+    private final ResultStorage resultStorage;
     private final IpfsNameService ipfsNameService;
+    private final IpfsOutboxService ipfsOutboxService;
+    private final boolean asyncPush;
+    private final ObservationRegistry observationRegistry;
 
 
-    public IpfsResultService(IpfsService ipfsService,
-                             IpfsNameService ipfsNameService) {
-        this.ipfsService = ipfsService;
+    public IpfsResultService(ResultStorage resultStorage,
+                             IpfsNameService ipfsNameService,
+                             IpfsOutboxService ipfsOutboxService,
+                             IpfsPushConfig ipfsPushConfig,
+                             ObservationRegistry observationRegistry) {
+        this.resultStorage = resultStorage;
         this.ipfsNameService = ipfsNameService;
+        this.ipfsOutboxService = ipfsOutboxService;
+        this.asyncPush = ipfsPushConfig.isAsync();
+        this.observationRegistry = observationRegistry;
     }
 
+    /**
+     * Pushes a result to the configured {@link ResultStorage} and stores the taskId to location ID mapping.
+     * <p>
+     * When asynchronous pushes are enabled, the location ID is computed locally, {@link IpfsCidCalculator} being used
+     * for IPFS, and the mapping is stored before the result is durably stored in the {@link IpfsOutboxService}, the
+     * mapping being removed if the outbox rejects the result. The result link is returned before the storage backend
+     * has received the result.
+     * <p>
+     * The push is observed as an {@code iexec.result.push} span, tagged with the push mode.
+     *
+     * @param taskId ID of the task
+     * @param data   Result as a zip
+     * @return The backend-qualified result link, or an empty string if the result could not be pushed
+     */
     public String addResult(String taskId, byte[] data) {
         String existingIpfsHash = ipfsNameService.getIpfsHashForTask(taskId);
         if (!existingIpfsHash.isEmpty()) {
             return "";
         }
-        String resultFileName = getResultFilename(taskId);
-        String ipfsHash = ipfsService.add(resultFileName, data);
-        ipfsNameService.setIpfsHashForTask(taskId, ipfsHash);
-        return IPFS_ADDRESS_PREFIX + ipfsHash;
+        return Observation.createNotStarted(OBSERVATION_PUSH, observationRegistry)
+                .lowCardinalityKeyValue("mode", asyncPush ? "async" : "sync")
+                .highCardinalityKeyValue(CHAIN_TASK_ID, String.valueOf(taskId))
+                .highCardinalityKeyValue(PAYLOAD_SIZE, String.valueOf(data.length))
+                .observe(() -> asyncPush ? addResultAsync(taskId, data) : addResultSync(taskId, data));
+    }
+
+    private String addResultSync(String taskId, byte[] data) {
+        String locationId = resultStorage.store(taskId, data);
+        ipfsNameService.setIpfsHashForTask(taskId, locationId);
+        return resultStorage.toLink(locationId);
+    }
+
+    private String addResultAsync(String taskId, byte[] data) {
+        final String locationId = resultStorage.computeLocationId(data);
+        ipfsNameService.setIpfsHashForTask(taskId, locationId);
+        final boolean enqueued;
+        try {
+            enqueued = ipfsOutboxService.enqueue(taskId, data, locationId);
+        } catch (RuntimeException e) {
+            ipfsNameService.removeIpfsHashForTask(taskId);
+            throw e;
+        }
+        if (!enqueued) {
+            log.error("Failed to store result in IPFS outbox [taskId:{}]", taskId);
+            ipfsNameService.removeIpfsHashForTask(taskId);
+            return "";
+        }
+        return resultStorage.toLink(locationId);
     }
 
+    /**
+     * Checks whether a result has been pushed to IPFS, results being pushed in the background are considered as existing.
+     *
+     * @param chainTaskId ID of the task
+     * @return {@literal true} if the result exists, {@literal false} otherwise
+     */
     public boolean doesResultExist(String chainTaskId) {
-        return getResult(chainTaskId).isPresent();
+        return ipfsOutboxService.isPending(chainTaskId) || getResult(chainTaskId).isPresent();
     }
 
     public Optional<byte[]> getResult(String chainTaskId) {
         String ipfsHash = ipfsNameService.getIpfsHashForTask(chainTaskId);
         if (!ipfsHash.isEmpty()) {
-            return ipfsService.get(ipfsHash);
+            return resultStorage.load(ipfsHash);
         }
         return Optional.empty();
     }
 
-    private String getResultFilename(String hash) {
-        return IPFS_FILENAME_PREFIX + hash;
+    /**
+     * Gets the name of the file a result is pushed as to IPFS.
+     *
+     * @param chainTaskId ID of the task
+     * @return The file name
+     */
+    public static String getResultFilename(String chainTaskId) {
+        return IPFS_FILENAME_PREFIX + chainTaskId;
     }
 
 }
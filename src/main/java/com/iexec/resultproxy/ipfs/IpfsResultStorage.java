@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.ipfs;
+
+import com.iexec.resultproxy.result.ResultStorage;
+import com.iexec.resultproxy.result.ResultStorageType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Default {@link ResultStorage}, results are added to an IPFS node and addressed by their CID.
+ */
+@Service
+@ConditionalOnProperty(name = "result-storage.type", havingValue = "ipfs", matchIfMissing = true)
+public class IpfsResultStorage implements ResultStorage {
+
+    private final IpfsService ipfsService;
+
+    public IpfsResultStorage(IpfsService ipfsService) {
+        this.ipfsService = ipfsService;
+    }
+
+    @Override
+    public ResultStorageType getType() {
+        return ResultStorageType.IPFS;
+    }
+
+    @Override
+    public String computeLocationId(byte[] data) {
+        return IpfsCidCalculator.computeCid(data);
+    }
+
+    @Override
+    public String store(String chainTaskId, byte[] data) {
+        return ipfsService.add(IpfsResultService.getResultFilename(chainTaskId), data);
+    }
+
+    @Override
+    public Optional<byte[]> load(String locationId) {
+        return ipfsService.get(locationId);
+    }
+}
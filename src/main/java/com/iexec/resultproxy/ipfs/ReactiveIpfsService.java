@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ipfs;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking IPFS client used by the reactive stack, results are added through the HTTP RPC API of the daemon.
+ * <p>
+ * Files are added with the {@code add} command defaults, as {@link IpfsService#add(String, byte[])} does,
+ * so that the returned CID is the one computed by {@link IpfsCidCalculator}.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@ConditionalOnProperty(name = "result-storage.type", havingValue = "ipfs", matchIfMissing = true)
+public class ReactiveIpfsService {
+
+    static final String ADD_PATH = "/api/v0/add";
+
+    record AddResponse(@JsonProperty("Hash") String hash) {
+    }
+
+    private final WebClient webClient;
+
+    public ReactiveIpfsService(IpfsConfig ipfsConfig, WebClient.Builder webClientBuilder) {
+        this.webClient = webClientBuilder.baseUrl(ipfsConfig.getUrl()).build();
+    }
+
+    /**
+     * Adds and pins a file.
+     *
+     * @param fileName    Name of the file
+     * @param fileContent Content of the file
+     * @return The CID of the file, or an empty string if the file could not be added
+     */
+    public Mono<String> add(final String fileName, final byte[] fileContent) {
+        final MultipartBodyBuilder multipartBody = new MultipartBodyBuilder();
+        multipartBody.part("file", fileContent, MediaType.APPLICATION_OCTET_STREAM).filename(fileName);
+        return webClient.post()
+                .uri(uriBuilder -> uriBuilder.path(ADD_PATH).queryParam("pin", true).build())
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(multipartBody.build()))
+                .retrieve()
+                .bodyToMono(AddResponse.class)
+                .map(AddResponse::hash)
+                .defaultIfEmpty("")
+                .onErrorResume(e -> {
+                    log.error("Error when trying to push ipfs object [fileName:{}]", fileName, e);
+                    return Mono.just("");
+                });
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.ipfs.outbox;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings of the durable outbox used by asynchronous IPFS pushes.
+ * <p>
+ * Accepted results are appended to segment files of at most {@code segmentSize} bytes in {@code directory}.
+ * Failed pushes are retried with an exponential backoff starting at {@code initialBackoff} and capped at {@code maxBackoff}.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "ipfs.outbox")
+public class IpfsOutboxConfig {
+    @NotEmpty(message = "IPFS outbox directory must not be empty")
+    String directory;
+
+    @NotNull(message = "IPFS outbox segment size must not be null")
+    DataSize segmentSize;
+
+    @DurationMin(millis = 10, message = "IPFS outbox initial backoff must be greater than 10ms")
+    @NotNull(message = "IPFS outbox initial backoff must not be null")
+    Duration initialBackoff;
+
+    @DurationMin(millis = 10, message = "IPFS outbox max backoff must be greater than 10ms")
+    @NotNull(message = "IPFS outbox max backoff must not be null")
+    Duration maxBackoff;
+}
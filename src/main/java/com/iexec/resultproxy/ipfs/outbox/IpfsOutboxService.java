@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ipfs.outbox;
+
+import com.iexec.resultproxy.ipfs.IpfsPushConfig;
+import com.iexec.resultproxy.ipfs.task.IpfsNameService;
+import com.iexec.resultproxy.result.ResultStorage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durable outbox for asynchronous IPFS pushes.
+ * <p>
+ * An accepted result is appended to a local {@link ResultSpool} and recorded as an {@link OutboxEntry} in Mongo
+ * before the upload is acknowledged. Pushes to the {@link ResultStorage}, IPFS by default, are then performed on
+ * a bounded pool and failed pushes are retried with an exponential backoff, so uploads keep being accepted while
+ * the storage backend is slow or down.
+ * <p>
+ * Pending results are replayed from the spool at startup.
+ * <p>
+ * The taskId to IPFS hash mapping is stored before the push. It is replaced when the storage backend returns another
+ * hash than the locally computed one, and removed when the spooled result cannot be read anymore so that the worker
+ * uploads the result again. A spooled result is only released once the mapping matches what was pushed.
+ * The outbox is only active when asynchronous pushes are enabled with {@code ipfs.push.async}.
+ */
+@Slf4j
+@Service
+public class IpfsOutboxService {
+
+    private record PendingPush(String chainTaskId, String ipfsHash, ResultSpool.Location location, int attempts) {
+        PendingPush withFailedAttempt() {
+            return new PendingPush(chainTaskId, ipfsHash, location, attempts + 1);
+        }
+    }
+
+    private final ResultStorage resultStorage;
+    private final OutboxEntryRepository outboxEntryRepository;
+    private final IpfsNameService ipfsNameService;
+    private final IpfsOutboxConfig outboxConfig;
+    private final boolean enabled;
+    private final int concurrency;
+    private final Map<String, PendingPush> pendingPushes = new ConcurrentHashMap<>();
+    private ResultSpool spool;
+    private ScheduledExecutorService pusher;
+
+    public IpfsOutboxService(ResultStorage resultStorage,
+                             OutboxEntryRepository outboxEntryRepository,
+                             IpfsNameService ipfsNameService,
+                             IpfsPushConfig ipfsPushConfig,
+                             IpfsOutboxConfig outboxConfig) {
+        this.resultStorage = resultStorage;
+        this.outboxEntryRepository = outboxEntryRepository;
+        this.ipfsNameService = ipfsNameService;
+        this.outboxConfig = outboxConfig;
+        this.enabled = ipfsPushConfig.isAsync();
+        this.concurrency = ipfsPushConfig.getConcurrency();
+    }
+
+    /**
+     * Opens the spool and schedules pushes of results which were accepted but not pushed before the last shutdown.
+     *
+     * @throws IOException if the spool cannot be opened
+     */
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        spool = new ResultSpool(Path.of(outboxConfig.getDirectory()), outboxConfig.getSegmentSize().toBytes());
+        pusher = Executors.newScheduledThreadPool(concurrency);
+        final List<ResultSpool.Entry> entries = spool.open();
+        for (final ResultSpool.Entry entry : entries) {
+            final OutboxEntry outboxEntry = outboxEntryRepository.findByChainTaskId(entry.chainTaskId()).orElse(null);
+            final ResultSpool.Location location = entry.location();
+            if (outboxEntry == null
+                    || outboxEntry.getSegmentId() != location.segmentId()
+                    || outboxEntry.getOffset() != location.offset()) {
+                spool.release(location);
+                continue;
+            }
+            final PendingPush pendingPush = new PendingPush(
+                    entry.chainTaskId(), outboxEntry.getIpfsHash(), location, outboxEntry.getAttempts());
+            pendingPushes.put(entry.chainTaskId(), pendingPush);
+            schedule(pendingPush, 0L);
+        }
+        log.info("IPFS outbox started [pendingPushes:{}]", pendingPushes.size());
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        if (pusher != null) {
+            pusher.shutdownNow();
+        }
+        if (spool != null) {
+            spool.close();
+        }
+    }
+
+    /**
+     * Durably stores a result and schedules its push to IPFS.
+     *
+     * @param chainTaskId ID of the task
+     * @param data        Result as a zip
+     * @param ipfsHash    IPFS hash computed locally for the result
+     * @return {@literal true} if the result has been accepted, {@literal false} otherwise
+     */
+    public boolean enqueue(String chainTaskId, byte[] data, String ipfsHash) {
+        if (!enabled) {
+            log.error("IPFS outbox is disabled [chainTaskId:{}]", chainTaskId);
+            return false;
+        }
+        final ResultSpool.Location location;
+        try {
+            location = spool.append(chainTaskId, data);
+        } catch (IOException e) {
+            log.error("Failed to append result to spool [chainTaskId:{}]", chainTaskId, e);
+            return false;
+        }
+        try {
+            outboxEntryRepository.save(new OutboxEntry(chainTaskId, ipfsHash, location.segmentId(), location.offset()));
+        } catch (DataAccessException e) {
+            log.error("Failed to save outbox entry [chainTaskId:{}]", chainTaskId, e);
+            spool.release(location);
+            return false;
+        }
+        final PendingPush pendingPush = new PendingPush(chainTaskId, ipfsHash, location, 0);
+        pendingPushes.put(chainTaskId, pendingPush);
+        schedule(pendingPush, 0L);
+        return true;
+    }
+
+    /**
+     * Checks whether a result has been accepted and is still waiting to be pushed to IPFS.
+     *
+     * @param chainTaskId ID of the task
+     * @return {@literal true} if the push is pending, {@literal false} otherwise
+     */
+    public boolean isPending(String chainTaskId) {
+        return pendingPushes.containsKey(chainTaskId);
+    }
+
+    private void schedule(PendingPush pendingPush, long delayMillis) {
+        pusher.schedule(() -> push(pendingPush), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void push(PendingPush pendingPush) {
+        final String chainTaskId = pendingPush.chainTaskId();
+        final byte[] data;
+        try {
+            data = spool.read(pendingPush.location());
+        } catch (IOException e) {
+            log.error("Failed to read result from spool, removing IPFS hash for the result to be uploaded again " +
+                    "[chainTaskId:{}]", chainTaskId, e);
+            try {
+                ipfsNameService.removeIpfsHashForTask(chainTaskId);
+            } catch (DataAccessException dae) {
+                log.warn("Failed to remove IPFS hash [chainTaskId:{}]", chainTaskId, dae);
+                retry(pendingPush);
+                return;
+            }
+            complete(pendingPush);
+            return;
+        }
+        final String ipfsHash = resultStorage.store(chainTaskId, data);
+        if (ipfsHash.isEmpty()) {
+            retry(pendingPush);
+            return;
+        }
+        if (!ipfsHash.equals(pendingPush.ipfsHash())) {
+            log.error("IPFS hash differs from locally computed one, replacing it " +
+                            "[chainTaskId:{}, ipfsHash:{}, expectedIpfsHash:{}]",
+                    chainTaskId, ipfsHash, pendingPush.ipfsHash());
+            try {
+                ipfsNameService.replaceIpfsHashForTask(chainTaskId, ipfsHash);
+            } catch (DataAccessException e) {
+                log.warn("Failed to replace IPFS hash [chainTaskId:{}]", chainTaskId, e);
+                retry(pendingPush);
+                return;
+            }
+        }
+        log.info("Result pushed to IPFS [chainTaskId:{}, ipfsHash:{}, attempts:{}]",
+                chainTaskId, ipfsHash, pendingPush.attempts() + 1);
+        complete(pendingPush);
+    }
+
+    private void retry(PendingPush pendingPush) {
+        final PendingPush failedPush = pendingPush.withFailedAttempt();
+        final long delayMillis = getBackoffMillis(failedPush.attempts());
+        log.warn("IPFS push failed, retrying later [chainTaskId:{}, attempts:{}, delay:{}ms]",
+                failedPush.chainTaskId(), failedPush.attempts(), delayMillis);
+        pendingPushes.put(failedPush.chainTaskId(), failedPush);
+        try {
+            outboxEntryRepository.findByChainTaskId(failedPush.chainTaskId())
+                    .ifPresent(entry -> outboxEntryRepository.save(entry.withFailedAttempt()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to update outbox entry [chainTaskId:{}]", failedPush.chainTaskId(), e);
+        }
+        schedule(failedPush, delayMillis);
+    }
+
+    private void complete(PendingPush pendingPush) {
+        try {
+            outboxEntryRepository.deleteByChainTaskId(pendingPush.chainTaskId());
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete outbox entry [chainTaskId:{}]", pendingPush.chainTaskId(), e);
+        }
+        pendingPushes.remove(pendingPush.chainTaskId());
+        spool.release(pendingPush.location());
+    }
+
+    /**
+     * Computes an exponential backoff with jitter, capped by the configured max backoff.
+     *
+     * @param attempts Number of failed attempts
+     * @return The delay in milliseconds before the next attempt
+     */
+    long getBackoffMillis(int attempts) {
+        final long initialMillis = outboxConfig.getInitialBackoff().toMillis();
+        final long maxMillis = outboxConfig.getMaxBackoff().toMillis();
+        final int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        final long backoff = Math.min(maxMillis, initialMillis << exponent);
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+}
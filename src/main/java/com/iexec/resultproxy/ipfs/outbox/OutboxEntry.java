@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.ipfs.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Status of a result accepted by the outbox and not yet pushed to IPFS.
+ * <p>
+ * The entry points to the spool record holding the result, it is removed once the push succeeded.
+ */
+@Document
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEntry {
+    @Id
+    private String id;
+
+    @Version
+    private Long version;
+
+    @Indexed(unique = true)
+    private String chainTaskId;
+    private String ipfsHash;
+    private long segmentId;
+    private long offset;
+    private int attempts;
+    private Instant createdAt;
+    private Instant lastAttemptAt;
+
+    public OutboxEntry(String chainTaskId, String ipfsHash, long segmentId, long offset) {
+        this.chainTaskId = chainTaskId;
+        this.ipfsHash = ipfsHash;
+        this.segmentId = segmentId;
+        this.offset = offset;
+        this.createdAt = Instant.now();
+    }
+
+    public OutboxEntry withFailedAttempt() {
+        return new OutboxEntry(id, version, chainTaskId, ipfsHash, segmentId, offset, attempts + 1, createdAt, Instant.now());
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ipfs.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only spool of results waiting to be pushed to IPFS.
+ * <p>
+ * Results are appended to numbered segment files, a record being laid out as follows:
+ * <pre>
+ * | magic (4) | taskId length (4) | data length (4) | taskId | data | CRC32C of taskId and data (8) |
+ * </pre>
+ * Appends are durable when {@link #append(String, byte[])} returns. Concurrent appenders share {@code fsync} calls:
+ * an appender waiting for the sync lock finds its record already synced if another appender forced the segment
+ * after the record was written.
+ * <p>
+ * A segment is deleted once all its records have been released and a newer segment receives appends.
+ * When the spool is opened, records of existing segments are replayed and a torn record at the end of a segment,
+ * left by a crash during an append, is truncated.
+ */
+@Slf4j
+class ResultSpool implements Closeable {
+
+    static final int RECORD_MAGIC = 0x49455852;
+    static final int HEADER_SIZE = 12;
+    static final int TRAILER_SIZE = 8;
+    private static final int MAX_TASK_ID_LENGTH = 256;
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    /**
+     * Location of the data of a record in the spool.
+     */
+    record Location(long segmentId, long offset, int length) {
+    }
+
+    /**
+     * Record found while replaying the spool.
+     */
+    record Entry(String chainTaskId, Location location) {
+    }
+
+    private static class Segment {
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final AtomicInteger pendingRecords = new AtomicInteger();
+        private volatile long size;
+        private long syncedSize;
+
+        Segment(final long id, final Path path, final FileChannel channel, final long size) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.size = size;
+            this.syncedSize = size;
+        }
+
+        synchronized void sync(final long upTo) throws IOException {
+            if (syncedSize >= upTo) {
+                return;
+            }
+            final long written = size;
+            channel.force(false);
+            syncedSize = written;
+        }
+    }
+
+    private final Path directory;
+    private final long segmentSize;
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Object appendLock = new Object();
+    private Segment active;
+
+    ResultSpool(final Path directory, final long segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Opens existing segments and replays their records.
+     * <p>
+     * All replayed records are pending, records which do not need to be pushed anymore must be released.
+     *
+     * @return Records found in the spool, in append order
+     * @throws IOException if segments cannot be read
+     */
+    List<Entry> open() throws IOException {
+        Files.createDirectories(directory);
+        final List<Path> segmentPaths;
+        try (Stream<Path> files = Files.list(directory)) {
+            segmentPaths = files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        final List<Entry> entries = new ArrayList<>();
+        for (final Path path : segmentPaths) {
+            final long id = parseSegmentId(path);
+            final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            final Segment segment = new Segment(id, path, channel, 0L);
+            segment.size = replay(segment, entries);
+            segment.syncedSize = segment.size;
+            channel.position(segment.size);
+            segments.put(id, segment);
+        }
+        synchronized (appendLock) {
+            active = segments.isEmpty() ? createSegment(0L) : segments.lastEntry().getValue();
+        }
+        log.info("Result spool opened [directory:{}, segments:{}, records:{}]", directory, segments.size(), entries.size());
+        return entries;
+    }
+
+    /**
+     * Appends a result to the spool and waits until it is durable.
+     *
+     * @param chainTaskId ID of the task
+     * @param data        Result as a zip
+     * @return Location of the result data in the spool
+     * @throws IOException if the result could not be written or synced
+     */
+    Location append(final String chainTaskId, final byte[] data) throws IOException {
+        final byte[] taskIdBytes = chainTaskId.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + taskIdBytes.length)
+                .putInt(RECORD_MAGIC)
+                .putInt(taskIdBytes.length)
+                .putInt(data.length)
+                .put(taskIdBytes)
+                .flip();
+        final CRC32C crc = new CRC32C();
+        crc.update(taskIdBytes);
+        crc.update(data);
+        final ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE).putLong(crc.getValue()).flip();
+        final long recordSize = (long) header.remaining() + data.length + TRAILER_SIZE;
+
+        final Segment segment;
+        final long offset;
+        synchronized (appendLock) {
+            if (active.size > 0 && active.size + recordSize > segmentSize) {
+                roll();
+            }
+            segment = active;
+            offset = segment.size;
+            final ByteBuffer[] buffers = {header, ByteBuffer.wrap(data), trailer};
+            long written = 0;
+            try {
+                while (written < recordSize) {
+                    written += segment.channel.write(buffers);
+                }
+            } catch (IOException e) {
+                // Drops the partial record, the next record is then written at the offset given by the segment size
+                try {
+                    segment.channel.truncate(offset);
+                    segment.channel.position(offset);
+                } catch (IOException rollbackException) {
+                    e.addSuppressed(rollbackException);
+                }
+                throw e;
+            }
+            segment.size = offset + recordSize;
+            segment.pendingRecords.incrementAndGet();
+        }
+        segment.sync(offset + recordSize);
+        return new Location(segment.id, offset + HEADER_SIZE + taskIdBytes.length, data.length);
+    }
+
+    /**
+     * Reads the data of a record.
+     *
+     * @param location Location of the data
+     * @return The data
+     * @throws IOException if the segment does not exist anymore or cannot be read
+     */
+    byte[] read(final Location location) throws IOException {
+        final Segment segment = segments.get(location.segmentId());
+        if (segment == null) {
+            throw new IOException("Spool segment not found [segmentId:" + location.segmentId() + "]");
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(location.length());
+        long position = location.offset();
+        while (buffer.hasRemaining()) {
+            final int read = segment.channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of spool segment [segmentId:" + location.segmentId() + "]");
+            }
+            position += read;
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Releases a record which does not need to be kept anymore, its segment is deleted when it holds no pending record.
+     *
+     * @param location Location of the record data
+     */
+    void release(final Location location) {
+        final Segment segment = segments.get(location.segmentId());
+        if (segment == null || segment.pendingRecords.decrementAndGet() > 0) {
+            return;
+        }
+        synchronized (appendLock) {
+            if (segment != active && segment.pendingRecords.get() == 0) {
+                deleteSegment(segment);
+            }
+        }
+    }
+
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            for (final Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+            segments.clear();
+        }
+    }
+
+    private long replay(final Segment segment, final List<Entry> entries) throws IOException {
+        final FileChannel channel = segment.channel;
+        final long fileSize = channel.size();
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        final ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = 0;
+        while (position + HEADER_SIZE <= fileSize) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            final int magic = header.getInt();
+            final int taskIdLength = header.getInt();
+            final int dataLength = header.getInt();
+            final long recordSize = (long) HEADER_SIZE + taskIdLength + dataLength + TRAILER_SIZE;
+            if (magic != RECORD_MAGIC || taskIdLength <= 0 || taskIdLength > MAX_TASK_ID_LENGTH
+                    || dataLength < 0 || position + recordSize > fileSize) {
+                break;
+            }
+            final ByteBuffer taskIdBuffer = ByteBuffer.allocate(taskIdLength);
+            readFully(channel, taskIdBuffer, position + HEADER_SIZE);
+            final CRC32C crc = new CRC32C();
+            crc.update(taskIdBuffer.array());
+            final long dataOffset = position + HEADER_SIZE + taskIdLength;
+            long scanned = 0;
+            while (scanned < dataLength) {
+                scanBuffer.clear().limit((int) Math.min(SCAN_BUFFER_SIZE, dataLength - scanned));
+                readFully(channel, scanBuffer, dataOffset + scanned);
+                scanBuffer.flip();
+                scanned += scanBuffer.remaining();
+                crc.update(scanBuffer);
+            }
+            final ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+            readFully(channel, trailer, dataOffset + dataLength);
+            if (trailer.flip().getLong() != crc.getValue()) {
+                break;
+            }
+            final String chainTaskId = new String(taskIdBuffer.array(), StandardCharsets.UTF_8);
+            entries.add(new Entry(chainTaskId, new Location(segment.id, dataOffset, dataLength)));
+            segment.pendingRecords.incrementAndGet();
+            position += recordSize;
+        }
+        if (position < fileSize) {
+            log.warn("Truncating torn or corrupted spool records [segment:{}, validSize:{}, fileSize:{}]",
+                    segment.path, position, fileSize);
+            channel.truncate(position);
+            channel.force(true);
+        }
+        return position;
+    }
+
+    private void roll() throws IOException {
+        final Segment previous = active;
+        active = createSegment(previous.id + 1);
+        if (previous.pendingRecords.get() == 0) {
+            deleteSegment(previous);
+        }
+    }
+
+    private Segment createSegment(final long id) throws IOException {
+        final Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        final FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final Segment segment = new Segment(id, path, channel, channel.size());
+        channel.position(segment.size);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void deleteSegment(final Segment segment) {
+        segments.remove(segment.id);
+        try {
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+            log.debug("Spool segment deleted [segment:{}]", segment.path);
+        } catch (IOException e) {
+            log.warn("Failed to delete spool segment [segment:{}]", segment.path, e);
+        }
+    }
+
+    private static long parseSegmentId(final Path path) {
+        final String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of spool segment");
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.ipfs.task;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings of the in-memory cache of task IPFS hashes.
+ * <p>
+ * A task to IPFS hash mapping never changes once stored, the {@code maxEntries} most recently cached mappings
+ * are kept in memory for at most {@code ttl}. At startup, the cache is filled with the {@code warmUpEntries} most
+ * recently stored mappings.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "ipfs.name-cache")
+public class IpfsNameCacheConfig {
+    @Positive(message = "IPFS name cache max entries must be greater than 0")
+    int maxEntries;
+
+    @PositiveOrZero(message = "IPFS name cache warm-up entries must not be negative")
+    int warmUpEntries;
+
+    @DurationMin(millis = 1, message = "IPFS name cache TTL must be positive")
+    @NotNull(message = "IPFS name cache TTL must not be null")
+    Duration ttl;
+}
@@ -1,11 +1,17 @@
 package com.iexec.resultproxy.ipfs.task;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface IpfsNameRepository extends MongoRepository<IpfsName, String> {
+public interface IpfsNameRepository extends MongoRepository<IpfsName, String>, IpfsNameStore {
 
     Optional<IpfsName> findByTaskId(String taskId);
 
+    Stream<IpfsName> findAllByOrderByIdDesc(Limit limit);
+
+    void deleteByTaskId(String taskId);
+
 }
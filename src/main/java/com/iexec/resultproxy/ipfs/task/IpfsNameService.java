@@ -16,25 +16,112 @@
 
 package com.iexec.resultproxy.ipfs.task;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import net.jodah.expiringmap.ExpirationPolicy;
+import net.jodah.expiringmap.ExpiringMap;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
 /*
  * This service hold metadata for iExec result pushed to IPFS
  * It allows converting a taskId to an ipfsHash
  *
  * /!\ WARN: Mongo volume should be kept between reboots to keep taskId->ipfsHash mapping alive
+ *
+ * A mapping never changes once stored, the most recently cached mappings are kept in a bounded in-memory cache
+ * so that repeated lookups do not hit the store. The cache is filled when a mapping is stored or read from the store,
+ * and with the most recently stored mappings at startup. Lookups only take a shared read lock, the oldest cached
+ * mapping is evicted when the cache is full. Task IDs are kept as 4 longs rather than as 66 chars strings.
  * */
 @Slf4j
 @Service
 public class IpfsNameService {
 
-    private final IpfsNameRepository ipfsNameRepository;
+    public static final String METRIC_CACHE_REQUESTS = "iexec.ipfs.name.cache.requests";
+    public static final String METRIC_CACHE_HIT_RATIO = "iexec.ipfs.name.cache.hit.ratio";
+    public static final String METRIC_CACHE_SIZE = "iexec.ipfs.name.cache.size";
+
+    private static final int TASK_ID_LENGTH = 66;
+
+    /**
+     * Compact cache key of a {@code 0x} prefixed lowercase 32 bytes hexadecimal task ID.
+     */
+    private record TaskIdKey(long word0, long word1, long word2, long word3) {
+    }
+
+    private final IpfsNameStore ipfsNameStore;
+    private final int warmUpEntries;
+    private final ExpiringMap<Object, String> ipfsHashes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public IpfsNameService(IpfsNameStore ipfsNameStore, IpfsNameCacheConfig ipfsNameCacheConfig) {
+        this.ipfsNameStore = ipfsNameStore;
+        this.warmUpEntries = Math.min(ipfsNameCacheConfig.getWarmUpEntries(), ipfsNameCacheConfig.getMaxEntries());
+        this.ipfsHashes = ExpiringMap.builder()
+                .maxSize(ipfsNameCacheConfig.getMaxEntries())
+                .expiration(ipfsNameCacheConfig.getTtl().toMillis(), TimeUnit.MILLISECONDS)
+                .expirationPolicy(ExpirationPolicy.CREATED)
+                .build();
+    }
 
-    public IpfsNameService(IpfsNameRepository ipfsNameRepository) {
-        this.ipfsNameRepository = ipfsNameRepository;
+    @PostConstruct
+    void initializeCache() {
+        FunctionCounter.builder(METRIC_CACHE_REQUESTS, hits, LongAdder::doubleValue)
+                .description("Lookups of task IPFS hashes in the in-memory cache")
+                .tag("result", "hit")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder(METRIC_CACHE_REQUESTS, misses, LongAdder::doubleValue)
+                .description("Lookups of task IPFS hashes in the in-memory cache")
+                .tag("result", "miss")
+                .register(Metrics.globalRegistry);
+        Gauge.builder(METRIC_CACHE_HIT_RATIO, this, IpfsNameService::getCacheHitRatio)
+                .description("Share of task IPFS hash lookups served from the in-memory cache")
+                .register(Metrics.globalRegistry);
+        Gauge.builder(METRIC_CACHE_SIZE, ipfsHashes, Map::size)
+                .description("Number of task IPFS hashes in the in-memory cache")
+                .register(Metrics.globalRegistry);
+        warmUp();
+    }
+
+    /**
+     * Fills the cache with the most recently stored mappings, read through a cursor to keep memory bounded.
+     * <p>
+     * Mappings are inserted from the oldest to the newest by reversing the cursor order, the newest ones being
+     * the last to be evicted. A failure is not fatal, the cache is then filled on lookups.
+     */
+    void warmUp() {
+        if (warmUpEntries == 0) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final IpfsName[] ipfsNames = new IpfsName[warmUpEntries];
+        int count = 0;
+        try (Stream<IpfsName> recentIpfsNames = ipfsNameStore.findAllByOrderByIdDesc(Limit.of(warmUpEntries))) {
+            final Iterator<IpfsName> iterator = recentIpfsNames.iterator();
+            while (count < warmUpEntries && iterator.hasNext()) {
+                ipfsNames[count++] = iterator.next();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to warm up IPFS name cache [loaded:{}]", count, e);
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            ipfsHashes.put(toCacheKey(ipfsNames[i].getTaskId()), ipfsNames[i].getIpfsHash());
+        }
+        log.info("IPFS name cache warmed up [entries:{}, warmUpTime:{}ms]",
+                count, (System.nanoTime() - start) / 1_000_000);
     }
 
     public void setIpfsHashForTask(String taskId, String ipfsHash) {
@@ -42,15 +129,105 @@ public class IpfsNameService {
             log.error("Can't setIpfsHashForTask (ipfsHash already set for task result) [taskId:{}, existingIpfsHash:{}]", taskId, ipfsHash);
             return;
         }
-        ipfsNameRepository.save(new IpfsName(taskId, ipfsHash));
+        ipfsNameStore.save(new IpfsName(taskId, ipfsHash));
+        ipfsHashes.put(toCacheKey(taskId), ipfsHash);
     }
 
     public String getIpfsHashForTask(String taskId) {
-        Optional<IpfsName> taskResultIpfsHash = ipfsNameRepository.findByTaskId(taskId);
+        final Object cacheKey = toCacheKey(taskId);
+        final String cachedIpfsHash = ipfsHashes.get(cacheKey);
+        if (cachedIpfsHash != null) {
+            hits.increment();
+            return cachedIpfsHash;
+        }
+        misses.increment();
+        Optional<IpfsName> taskResultIpfsHash = ipfsNameStore.findByTaskId(taskId);
         if (taskResultIpfsHash.isPresent()) {
-            return taskResultIpfsHash.get().getIpfsHash();
+            final String ipfsHash = taskResultIpfsHash.get().getIpfsHash();
+            ipfsHashes.put(cacheKey, ipfsHash);
+            return ipfsHash;
         }
         return "";
     }
 
+    /**
+     * Replaces the mapping of a task, when a result was pushed under another IPFS hash than the stored one.
+     *
+     * @param taskId   ID of the task
+     * @param ipfsHash IPFS hash of the pushed result
+     */
+    public void replaceIpfsHashForTask(String taskId, String ipfsHash) {
+        final IpfsName ipfsName = ipfsNameStore.findByTaskId(taskId).orElseGet(() -> new IpfsName(taskId, ipfsHash));
+        ipfsName.setIpfsHash(ipfsHash);
+        ipfsNameStore.save(ipfsName);
+        ipfsHashes.put(toCacheKey(taskId), ipfsHash);
+    }
+
+    /**
+     * Removes the mapping of a task whose result could not be pushed, so that the result can be uploaded again.
+     *
+     * @param taskId ID of the task
+     */
+    public void removeIpfsHashForTask(String taskId) {
+        ipfsNameStore.deleteByTaskId(taskId);
+        ipfsHashes.remove(toCacheKey(taskId));
+    }
+
+    /**
+     * Looks a mapping up in the in-memory cache only, for callers reading the store on their own.
+     *
+     * @param taskId ID of the task
+     * @return The cached IPFS hash, an empty {@code Optional} on cache miss
+     */
+    public Optional<String> findCachedIpfsHashForTask(String taskId) {
+        final String cachedIpfsHash = ipfsHashes.get(toCacheKey(taskId));
+        if (cachedIpfsHash == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(cachedIpfsHash);
+    }
+
+    /**
+     * Adds a mapping read from or written to the store by the caller to the in-memory cache.
+     *
+     * @param taskId   ID of the task
+     * @param ipfsHash IPFS hash of the task result
+     */
+    public void cacheIpfsHashForTask(String taskId, String ipfsHash) {
+        ipfsHashes.put(toCacheKey(taskId), ipfsHash);
+    }
+
+    double getCacheHitRatio() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Packs a standard task ID in a {@link TaskIdKey}, other task IDs are kept as is.
+     * <p>
+     * Uppercase hexadecimal digits are not packed so that two task IDs differing by their case never share a key.
+     */
+    static Object toCacheKey(String taskId) {
+        if (taskId == null || taskId.length() != TASK_ID_LENGTH || !taskId.startsWith("0x")) {
+            return taskId;
+        }
+        final long[] words = new long[4];
+        for (int i = 0; i < TASK_ID_LENGTH - 2; i++) {
+            final char c = taskId.charAt(i + 2);
+            final int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else {
+                return taskId;
+            }
+            words[i / 16] = (words[i / 16] << 4) | digit;
+        }
+        return new TaskIdKey(words[0], words[1], words[2], words[3]);
+    }
+
 }
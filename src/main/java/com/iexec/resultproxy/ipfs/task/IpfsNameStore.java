@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.ipfs.task;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Storage of taskId to IPFS hash mappings.
+ * <p>
+ * Implemented by {@link IpfsNameRepository} on MongoDB, and by an embedded store when {@code storage.type=embedded}.
+ */
+public interface IpfsNameStore {
+
+    Optional<IpfsName> findByTaskId(String taskId);
+
+    /**
+     * Streams the most recently stored mappings, the stream must be closed once consumed.
+     *
+     * @param limit Maximum number of mappings to stream
+     * @return The mappings, from the newest to the oldest
+     */
+    Stream<IpfsName> findAllByOrderByIdDesc(Limit limit);
+
+    <S extends IpfsName> S save(S ipfsName);
+
+    void deleteByTaskId(String taskId);
+}
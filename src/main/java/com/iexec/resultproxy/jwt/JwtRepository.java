@@ -4,7 +4,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
 
-interface JwtRepository extends MongoRepository<Jwt, String> {
+interface JwtRepository extends MongoRepository<Jwt, String>, JwtStore {
 
     Optional<Jwt> findByWalletAddress(String walletAddress);
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.jwt;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Actuator endpoint listing and revoking stateless JWT tokens.
+ * <p>
+ * A revocation is stored in the shared revocation set and applied by other replicas on their next refresh.
+ */
+@Component
+@Endpoint(id = "jwtrevocations")
+@ConditionalOnProperty(name = "jwt.stateless.enabled", havingValue = "true")
+public class JwtRevocationEndpoint {
+
+    public record Revocations(Long version, Map<String, Instant> revokedBefore) {
+    }
+
+    private final JwtRevocationService jwtRevocationService;
+
+    public JwtRevocationEndpoint(JwtRevocationService jwtRevocationService) {
+        this.jwtRevocationService = jwtRevocationService;
+    }
+
+    @ReadOperation
+    public Revocations revocations() {
+        return new Revocations(jwtRevocationService.getVersion(), jwtRevocationService.getRevocations());
+    }
+
+    @WriteOperation
+    public boolean revoke(@Selector String walletAddress) {
+        return jwtRevocationService.revoke(walletAddress);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a local copy of the {@link JwtRevocationSet} used to validate stateless JWT tokens.
+ * <p>
+ * The local copy is refreshed periodically from the store, so that revocation checks never read the store.
+ * A revocation made on another replica is hence applied after at most one refresh interval.
+ * The set is only loaded when the stateless mode is enabled.
+ */
+@Slf4j
+@Service
+public class JwtRevocationService {
+
+    private static final int MAX_REVOCATION_ATTEMPTS = 5;
+
+    private final JwtRevocationSetStore jwtRevocationSetStore;
+    private final JwtStatelessConfig jwtStatelessConfig;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private volatile Map<String, Instant> revokedBefore = Map.of();
+    private volatile Long version;
+
+    public JwtRevocationService(JwtRevocationSetStore jwtRevocationSetStore, JwtStatelessConfig jwtStatelessConfig) {
+        this.jwtRevocationSetStore = jwtRevocationSetStore;
+        this.jwtStatelessConfig = jwtStatelessConfig;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!jwtStatelessConfig.isEnabled()) {
+            return;
+        }
+        refresh();
+        final long intervalMillis = jwtStatelessConfig.getRevocationRefreshInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Replaces the local copy of the revocation set if it changed in the store, a failure keeps the current copy.
+     */
+    void refresh() {
+        try {
+            jwtRevocationSetStore.findById(JwtRevocationSet.ID).ifPresent(this::apply);
+        } catch (DataAccessException e) {
+            log.warn("Failed to refresh JWT revocation set [version:{}]", version, e);
+        }
+    }
+
+    private synchronized void apply(JwtRevocationSet jwtRevocationSet) {
+        // embedded stores do not version documents, their sets are always applied
+        if (jwtRevocationSet.getVersion() != null && jwtRevocationSet.getVersion().equals(version)) {
+            return;
+        }
+        revokedBefore = jwtRevocationSet.getRevokedBefore() == null ? Map.of() : Map.copyOf(jwtRevocationSet.getRevokedBefore());
+        version = jwtRevocationSet.getVersion();
+        log.debug("JWT revocation set refreshed [version:{}, revocations:{}]", version, revokedBefore.size());
+    }
+
+    /**
+     * Checks whether a token has been revoked.
+     * <p>
+     * The {@code iat} claim having a second precision, the revocation instant is truncated to seconds and only tokens
+     * issued before that second are revoked. A token reissued right after a revocation is hence accepted, at the cost
+     * of keeping tokens issued during the same second as the revocation.
+     *
+     * @param walletAddress Wallet address found in the token audience
+     * @param issuedAt      Issue instant of the token
+     * @return {@literal true} if the token was issued before the second of the revocation of its wallet,
+     * {@literal false} otherwise
+     */
+    public boolean isRevoked(String walletAddress, Instant issuedAt) {
+        final Instant revocation = revokedBefore.get(walletAddress.toLowerCase(Locale.ROOT));
+        return revocation != null && issuedAt.isBefore(revocation.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * Revokes all tokens issued until now to a wallet, on all replicas.
+     * <p>
+     * Concurrent revocations from other replicas are retried with the latest version of the set.
+     *
+     * @param walletAddress Wallet address whose tokens are revoked
+     * @return {@literal true} if the revocation has been stored, {@literal false} otherwise
+     */
+    public boolean revoke(String walletAddress) {
+        final String wallet = walletAddress.toLowerCase(Locale.ROOT);
+        final Duration ttl = jwtStatelessConfig.getTtl();
+        for (int attempt = 1; attempt <= MAX_REVOCATION_ATTEMPTS; attempt++) {
+            final Instant now = Instant.now();
+            try {
+                final JwtRevocationSet current = jwtRevocationSetStore.findById(JwtRevocationSet.ID)
+                        .orElseGet(() -> new JwtRevocationSet(JwtRevocationSet.ID, null, Map.of()));
+                apply(jwtRevocationSetStore.save(current.withRevocation(wallet, now, now.minus(ttl))));
+                log.info("JWT tokens revoked [walletAddress:{}, version:{}]", wallet, version);
+                return true;
+            } catch (OptimisticLockingFailureException | DuplicateKeyException e) {
+                log.debug("Concurrent JWT revocation set update, retrying [walletAddress:{}, attempt:{}]", wallet, attempt);
+            } catch (DataAccessException e) {
+                log.error("Failed to revoke JWT tokens [walletAddress:{}]", wallet, e);
+                return false;
+            }
+        }
+        log.error("Failed to revoke JWT tokens after concurrent updates [walletAddress:{}, attempts:{}]",
+                wallet, MAX_REVOCATION_ATTEMPTS);
+        return false;
+    }
+
+    Map<String, Instant> getRevocations() {
+        return revokedBefore;
+    }
+
+    Long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Wallets whose stateless JWT tokens have been revoked, stored as a single versioned document.
+ * <p>
+ * Tokens of a revoked wallet issued before its revocation instant are rejected. A revocation is dropped once
+ * all tokens it applies to have expired, which keeps the set small.
+ */
+@Document
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JwtRevocationSet {
+
+    public static final String ID = "jwt-revocations";
+
+    @Id
+    private String id;
+
+    @Version
+    private Long version;
+
+    private Map<String, Instant> revokedBefore;
+
+    /**
+     * Returns a copy of this set with a new revocation, without revocations older than a given instant.
+     *
+     * @param walletAddress Lowercase wallet address
+     * @param revokedAt     Tokens of the wallet issued up to this instant are revoked
+     * @param expiredBefore Revocations before this instant only apply to expired tokens
+     * @return the updated set, keeping the version of this set for optimistic locking
+     */
+    public JwtRevocationSet withRevocation(String walletAddress, Instant revokedAt, Instant expiredBefore) {
+        final Map<String, Instant> revocations = revokedBefore == null ? new HashMap<>() : new HashMap<>(revokedBefore);
+        revocations.values().removeIf(instant -> instant.isBefore(expiredBefore));
+        revocations.put(walletAddress, revokedAt);
+        return new JwtRevocationSet(ID, version, revocations);
+    }
+}
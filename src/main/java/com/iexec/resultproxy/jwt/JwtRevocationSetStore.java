@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.jwt;
+
+import java.util.Optional;
+
+/**
+ * Storage of the {@link JwtRevocationSet} shared by all replicas.
+ * <p>
+ * Implemented by {@link JwtRevocationSetRepository} on MongoDB, and by an embedded store when {@code storage.type=embedded}.
+ */
+public interface JwtRevocationSetStore {
+
+    Optional<JwtRevocationSet> findById(String id);
+
+    /**
+     * Saves the revocation set.
+     *
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the set was updated by another replica
+     * @throws org.springframework.dao.DuplicateKeyException              if the set was created by another replica
+     */
+    <S extends JwtRevocationSet> S save(S jwtRevocationSet);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2022-2024 IEXEC BLOCKCHAIN TECH
+ * Copyright 2022-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,29 +17,57 @@
 package com.iexec.resultproxy.jwt;
 
 import com.iexec.common.utils.FileHelper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 
 @Slf4j
 @Service
 public class JwtService {
     static final int KEY_SIZE = 128;
-    private final byte[] jwtKey;
-    private final JwtRepository jwtRepository;
+    private final SecretKey signingKey;
+    // parsers are immutable and thread-safe, a single one is shared by all requests
+    private final JwtParser jwtParser;
+    private final JwtStore jwtStore;
+    private final JwtRevocationService jwtRevocationService;
+    private final boolean stateless;
+    private final Duration statelessTtl;
+    // identifies the signing key in stateless tokens, tokens signed with a rotated key are rejected without parsing
+    private final String keyId;
 
-    public JwtService(JwtConfig jwtConfig, JwtRepository jwtRepository) throws IOException {
-        this.jwtRepository = jwtRepository;
-        this.jwtKey = initKey(jwtConfig.getKeyPath());
+    public JwtService(JwtConfig jwtConfig,
+                      JwtStatelessConfig jwtStatelessConfig,
+                      JwtStore jwtStore,
+                      JwtRevocationService jwtRevocationService) throws IOException {
+        this.jwtStore = jwtStore;
+        this.jwtRevocationService = jwtRevocationService;
+        this.stateless = jwtStatelessConfig.isEnabled();
+        this.statelessTtl = jwtStatelessConfig.getTtl();
+        final byte[] key = initKey(jwtConfig.getKeyPath());
+        this.signingKey = Keys.hmacShaKeyFor(key);
+        this.keyId = computeKeyId(key);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     /**
@@ -68,6 +96,24 @@ public class JwtService {
         return Base64.getDecoder().decode(payload);
     }
 
+    private static String computeKeyId(byte[] key) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Tells whether tokens are validated without reading the database.
+     *
+     * @return {@literal true} if the stateless mode is enabled, {@literal false} otherwise
+     */
+    public boolean isStateless() {
+        return stateless;
+    }
+
     /**
      * Retrieves existing JWT from the database or creates it.
      * <p>
@@ -75,6 +121,7 @@ public class JwtService {
      * <ul>
      * <li> If a JWT is not found in storage for the given wallet address.
      * <li> If a JWT is found but was not signed with the correct key.
+     * <li> In stateless mode, if a JWT is found but was revoked or expires within half its TTL.
      * </ul>
      *
      * @param walletAddress Ethereum address for which
@@ -87,10 +134,9 @@ public class JwtService {
                     return new Jwt(walletAddress, "");
                 });
         String jwtString = jwt.getJwtString();
-        try {
-            getWalletAddressFromJwtString(jwtString);
+        if (isReusableJwt(jwtString)) {
             log.info("Valid JWT token retrieved for {}", walletAddress);
-        } catch (IllegalArgumentException | JwtException e) {
+        } else {
             log.warn("Invalid JWT token retrieved for {}, generating a new one", walletAddress);
             jwtString = createJwt(walletAddress);
             final Jwt newJwt = jwt.withNewToken(jwtString);
@@ -99,16 +145,49 @@ public class JwtService {
         return jwtString;
     }
 
+    private boolean isReusableJwt(String jwtString) {
+        if (stateless) {
+            return findStatelessClaims(jwtString)
+                    .map(claims -> claims.getExpiration().toInstant()
+                            .isAfter(Instant.now().plus(statelessTtl.dividedBy(2))))
+                    .orElse(false);
+        }
+        try {
+            getWalletAddressFromJwtString(jwtString);
+            return true;
+        } catch (IllegalArgumentException | JwtException e) {
+            return false;
+        }
+    }
+
     String createJwt(String walletAddress) {
-        return Jwts.builder()
+        final Instant now = Instant.now();
+        final JwtBuilder builder = Jwts.builder()
                 .setAudience(walletAddress)
-                .setIssuedAt(new Date())
-                .setSubject(UUID.randomUUID().toString())
-                .signWith(Keys.hmacShaKeyFor(jwtKey), SignatureAlgorithm.HS256)
+                .setIssuedAt(Date.from(now))
+                .setSubject(UUID.randomUUID().toString());
+        if (stateless) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, keyId)
+                    .setExpiration(Date.from(now.plus(statelessTtl)));
+        }
+        return builder.signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Checks whether a JWT token was issued by this instance and is still valid.
+     * <p>
+     * In stateful mode, the token must be the one stored for its wallet address.
+     * In stateless mode, no database lookup is performed, the token must carry the current key ID,
+     * must not be expired and must not be revoked.
+     *
+     * @param jwtString String representation of the JWT token to be validated
+     * @return {@literal true} if the token is valid, {@literal false} otherwise
+     */
     public boolean isValidJwt(String jwtString) {
+        if (stateless) {
+            return findStatelessClaims(jwtString).isPresent();
+        }
         try {
             String claimedWalletAddress = getWalletAddressFromJwtString(jwtString);
             Jwt existingJwt = findByWalletAddress(claimedWalletAddress).orElseThrow();
@@ -130,19 +209,65 @@ public class JwtService {
      * @return Wallet address extracted from the 'audience' claim
      */
     public String getWalletAddressFromJwtString(String jwtString) {
-        return Jwts.parserBuilder()
-                .setSigningKey(jwtKey)
-                .build()
+        return jwtParser
                 .parseClaimsJws(jwtString)
                 .getBody()
                 .getAudience();
     }
 
+    /**
+     * Extracts the wallet address from the 'audience' claim of a JWT token without any database lookup.
+     * <p>
+     * Only the signature is checked, {@link #isValidJwt(String)} must still be called to validate the token.
+     *
+     * @param jwtString String representation of the JWT token to be parsed
+     * @return Wallet address if the token was signed by this instance, an empty {@code Optional} otherwise
+     */
+    public Optional<String> findWalletAddressFromJwtString(String jwtString) {
+        try {
+            return Optional.ofNullable(getWalletAddressFromJwtString(jwtString));
+        } catch (IllegalArgumentException | JwtException e) {
+            log.warn("Invalid JWT token [message:{}]", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses a stateless JWT token and checks its key ID, expiry and revocation.
+     *
+     * @param jwtString String representation of the JWT token to be parsed
+     * @return Claims of the token if it is valid, an empty {@code Optional} otherwise
+     */
+    private Optional<Claims> findStatelessClaims(String jwtString) {
+        final Jws<Claims> jws;
+        try {
+            // signature and expiry are checked by the parser
+            jws = jwtParser.parseClaimsJws(jwtString);
+        } catch (IllegalArgumentException | JwtException e) {
+            log.warn("Invalid JWT token [message:{}]", e.getMessage());
+            return Optional.empty();
+        }
+        final Claims claims = jws.getBody();
+        if (!keyId.equals(jws.getHeader().getKeyId())
+                || claims.getExpiration() == null
+                || claims.getIssuedAt() == null
+                || claims.getAudience() == null) {
+            log.warn("Invalid JWT token [keyId:{}, expiration:{}, issuedAt:{}]",
+                    jws.getHeader().getKeyId(), claims.getExpiration(), claims.getIssuedAt());
+            return Optional.empty();
+        }
+        if (jwtRevocationService.isRevoked(claims.getAudience(), claims.getIssuedAt().toInstant())) {
+            log.warn("Revoked JWT token [walletAddress:{}, issuedAt:{}]", claims.getAudience(), claims.getIssuedAt());
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
     private Optional<Jwt> findByWalletAddress(String walletAddress) {
-        return jwtRepository.findByWalletAddress(walletAddress);
+        return jwtStore.findByWalletAddress(walletAddress);
     }
 
     private void save(Jwt jwt) {
-        jwtRepository.save(jwt);
+        jwtStore.save(jwt);
     }
 }
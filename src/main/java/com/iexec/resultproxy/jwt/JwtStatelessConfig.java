@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.jwt;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings of the stateless JWT validation mode.
+ * <p>
+ * When enabled, JWT tokens expire after {@code ttl} and are validated from their signature, key ID and expiry only.
+ * Revoked wallets are read from a revocation set refreshed every {@code revocationRefreshInterval}.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "jwt.stateless")
+public class JwtStatelessConfig {
+    boolean enabled;
+
+    @DurationMin(minutes = 1, message = "Stateless JWT TTL must be greater than 1m")
+    @NotNull(message = "Stateless JWT TTL must not be null")
+    Duration ttl;
+
+    @DurationMin(seconds = 1, message = "Stateless JWT revocation refresh interval must be greater than 1s")
+    @NotNull(message = "Stateless JWT revocation refresh interval must not be null")
+    Duration revocationRefreshInterval;
+}
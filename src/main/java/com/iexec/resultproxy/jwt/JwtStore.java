@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.jwt;
+
+import java.util.Optional;
+
+/**
+ * Storage of JWT tokens delivered to worker wallets.
+ * <p>
+ * Implemented by {@link JwtRepository} on MongoDB, and by an embedded store when {@code storage.type=embedded}.
+ */
+public interface JwtStore {
+
+    Optional<Jwt> findByWalletAddress(String walletAddress);
+
+    <S extends Jwt> S save(S jwt);
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.lease;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Cluster-wide lease on the upload of a task result, held by a single replica at a time.
+ * <p>
+ * The task ID is the document ID, so that two replicas never insert a lease for the same task.
+ * Taking over an expired lease relies on optimistic locking. Once the upload succeeds, the lease keeps
+ * the result link until it expires so that other replicas can answer with it.
+ * MongoDB removes the document once {@code expiresAt} is reached.
+ */
+@Document
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadLease {
+    @Id
+    private String chainTaskId;
+
+    @Version
+    private Long version;
+
+    private String owner;
+    @Indexed(expireAfter = "0s")
+    private Instant expiresAt;
+    private String resultLink;
+
+    public UploadLease(String chainTaskId, String owner, Instant expiresAt) {
+        this(chainTaskId, null, owner, expiresAt, null);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isCompleted() {
+        return resultLink != null;
+    }
+
+    UploadLease withOwner(String newOwner, Instant newExpiresAt) {
+        return new UploadLease(chainTaskId, version, newOwner, newExpiresAt, null);
+    }
+
+    UploadLease withExpiresAt(Instant newExpiresAt) {
+        return new UploadLease(chainTaskId, version, owner, newExpiresAt, resultLink);
+    }
+
+    UploadLease withResultLink(String newResultLink, Instant newExpiresAt) {
+        return new UploadLease(chainTaskId, version, owner, newExpiresAt, newResultLink);
+    }
+}
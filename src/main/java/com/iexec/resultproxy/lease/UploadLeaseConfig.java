@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.lease;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings of cluster-wide upload leases.
+ * <p>
+ * A lease expires after {@code ttl} unless renewed by its holder. A replica which cannot acquire the lease of a task
+ * answers right away with HTTP 409.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "upload-lease")
+public class UploadLeaseConfig {
+    boolean enabled;
+
+    @DurationMin(seconds = 1, message = "Upload lease TTL must be greater than 1s")
+    @NotNull(message = "Upload lease TTL must not be null")
+    Duration ttl;
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.lease;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deduplicates uploads of a task result across replicas with an {@link UploadLease} per task.
+ * <p>
+ * The replica which acquires the lease verifies and pushes the result, renewing the lease every third of its TTL
+ * during long pushes. Other replicas do not verify nor push the result, they answer right away with HTTP 409 and
+ * without the result link of the holder, their requester being unverified.
+ * <p>
+ * Leases are best effort: if the store is unavailable, uploads proceed without lease and the unique index
+ * on task IPFS hashes still rejects duplicate results.
+ */
+@Slf4j
+@Service
+public class UploadLeaseService {
+
+    private final UploadLeaseStore uploadLeaseStore;
+    private final UploadLeaseConfig uploadLeaseConfig;
+    private final String owner = UUID.randomUUID().toString();
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor();
+
+    public UploadLeaseService(UploadLeaseStore uploadLeaseStore, UploadLeaseConfig uploadLeaseConfig) {
+        this.uploadLeaseStore = uploadLeaseStore;
+        this.uploadLeaseConfig = uploadLeaseConfig;
+    }
+
+    @PreDestroy
+    void stop() {
+        renewer.shutdownNow();
+    }
+
+    /**
+     * Tries to acquire the upload lease of a task, the returned lease must be closed once the upload is over.
+     *
+     * @param chainTaskId ID of the task
+     * @return The lease, an empty {@code Optional} if it is held by another upload
+     */
+    public Optional<Lease> tryAcquire(String chainTaskId) {
+        if (!uploadLeaseConfig.isEnabled()) {
+            return Optional.of(new Lease(chainTaskId, null));
+        }
+        final Instant now = Instant.now();
+        final Instant expiresAt = now.plus(uploadLeaseConfig.getTtl());
+        try {
+            final UploadLease current = uploadLeaseStore.findByChainTaskId(chainTaskId).orElse(null);
+            if (current != null && !current.isExpired(now)) {
+                log.info("Upload lease held by another upload [chainTaskId:{}, owner:{}, completed:{}]",
+                        chainTaskId, current.getOwner(), current.isCompleted());
+                return Optional.empty();
+            }
+            final UploadLease acquired = uploadLeaseStore.save(current == null
+                    ? new UploadLease(chainTaskId, owner, expiresAt)
+                    : current.withOwner(owner, expiresAt));
+            return Optional.of(new Lease(chainTaskId, acquired));
+        } catch (DuplicateKeyException | OptimisticLockingFailureException e) {
+            log.info("Upload lease acquired concurrently by another upload [chainTaskId:{}]", chainTaskId);
+            return Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("Failed to acquire upload lease, uploading without lease [chainTaskId:{}]", chainTaskId, e);
+            return Optional.of(new Lease(chainTaskId, null));
+        }
+    }
+
+    /**
+     * Upload lease held by this replica.
+     * <p>
+     * The lease is renewed until it is completed or closed. Closing a lease which was not completed releases it,
+     * so that another upload can be attempted right away.
+     */
+    public final class Lease implements AutoCloseable {
+        private final String chainTaskId;
+        private final ScheduledFuture<?> renewal;
+        private UploadLease uploadLease;
+        private boolean completed;
+
+        private Lease(String chainTaskId, UploadLease uploadLease) {
+            this.chainTaskId = chainTaskId;
+            this.uploadLease = uploadLease;
+            if (uploadLease == null) {
+                this.renewal = null;
+                return;
+            }
+            final long renewalMillis = Math.max(1L, uploadLeaseConfig.getTtl().toMillis() / 3);
+            this.renewal = renewer.scheduleAtFixedRate(this::renew, renewalMillis, renewalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Marks the lease as completed, other uploads of the task are then rejected until it expires.
+         *
+         * @param resultLink Link of the uploaded result
+         */
+        public synchronized void complete(String resultLink) {
+            if (uploadLease == null || completed) {
+                return;
+            }
+            completed = true;
+            cancelRenewal();
+            try {
+                uploadLease = uploadLeaseStore.save(uploadLease.withResultLink(resultLink, expiresAt()));
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("Upload lease lost before completion [chainTaskId:{}]", chainTaskId);
+            } catch (DataAccessException e) {
+                log.warn("Failed to complete upload lease [chainTaskId:{}]", chainTaskId, e);
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            cancelRenewal();
+            if (uploadLease == null || completed) {
+                return;
+            }
+            try {
+                uploadLeaseStore.deleteByChainTaskIdAndOwner(chainTaskId, owner);
+            } catch (DataAccessException e) {
+                log.warn("Failed to release upload lease [chainTaskId:{}]", chainTaskId, e);
+            }
+            uploadLease = null;
+        }
+
+        private synchronized void renew() {
+            if (uploadLease == null || completed) {
+                return;
+            }
+            try {
+                uploadLease = uploadLeaseStore.save(uploadLease.withExpiresAt(expiresAt()));
+                log.debug("Upload lease renewed [chainTaskId:{}, expiresAt:{}]", chainTaskId, uploadLease.getExpiresAt());
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("Upload lease lost during upload [chainTaskId:{}]", chainTaskId);
+                uploadLease = null;
+                cancelRenewal();
+            } catch (DataAccessException e) {
+                log.warn("Failed to renew upload lease [chainTaskId:{}]", chainTaskId, e);
+            }
+        }
+
+        private void cancelRenewal() {
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+        }
+
+        private Instant expiresAt() {
+            return Instant.now().plus(uploadLeaseConfig.getTtl());
+        }
+    }
+}
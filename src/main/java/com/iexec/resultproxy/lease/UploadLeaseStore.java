@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.lease;
+
+import java.util.Optional;
+
+/**
+ * Storage of upload leases.
+ * <p>
+ * Implemented by {@link UploadLeaseRepository} on MongoDB, and by an embedded store when {@code storage.type=embedded}.
+ */
+public interface UploadLeaseStore {
+
+    Optional<UploadLease> findByChainTaskId(String chainTaskId);
+
+    /**
+     * Inserts a lease without version, or updates a lease if its version did not change since it was read.
+     *
+     * @param uploadLease Lease to save
+     * @param <S>         Type of the lease
+     * @return The saved lease, holding its new version
+     * @throws org.springframework.dao.DuplicateKeyException             if a lease without version already exists
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the lease was updated or deleted concurrently
+     */
+    <S extends UploadLease> S save(S uploadLease);
+
+    void deleteByChainTaskIdAndOwner(String chainTaskId, String owner);
+}
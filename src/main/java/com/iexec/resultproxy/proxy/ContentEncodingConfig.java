@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of compressed result uploads.
+ * <p>
+ * A {@code gzip} or {@code zstd} body decoded to more than {@code maxDecodedSize} bytes is rejected.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "content-encoding")
+public class ContentEncodingConfig {
+    @NotNull(message = "Content encoding max decoded size must not be null")
+    DataSize maxDecodedSize;
+}
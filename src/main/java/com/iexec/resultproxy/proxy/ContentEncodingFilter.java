@@ -0,0 +1,198 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.proxy;
+
+import com.github.luben.zstd.ZstdInputStream;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Decompresses {@code POST /v1/results} request bodies sent with a {@code gzip} or {@code zstd} {@code Content-Encoding}.
+ * <p>
+ * The body is decompressed as a stream while it is deserialized, the compressed payload is never fully buffered.
+ * <ul>
+ * <li>HTTP 413 (CONTENT TOO LARGE) - If the decoded body grows larger than the configured maximum.
+ * <li>HTTP 415 (UNSUPPORTED MEDIA TYPE) - If the encoding is not supported.
+ * </ul>
+ * <p>
+ * This filter runs before {@link UploadBudgetFilter}, compressed uploads are then accounted for their decoded size.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class ContentEncodingFilter extends OncePerRequestFilter {
+
+    static final String GZIP = "gzip";
+    static final String ZSTD = "zstd";
+    static final String IDENTITY = "identity";
+    private static final String RESULTS_PATH = "/v1/results";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final long maxDecodedSize;
+
+    public ContentEncodingFilter(final ContentEncodingConfig contentEncodingConfig) {
+        this.maxDecodedSize = contentEncodingConfig.getMaxDecodedSize().toBytes();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !RESULTS_PATH.equals(request.getRequestURI())
+                || request.getHeader(HttpHeaders.CONTENT_ENCODING) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING).trim().toLowerCase(Locale.ROOT);
+        if (IDENTITY.equals(encoding)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!GZIP.equals(encoding) && !ZSTD.equals(encoding)) {
+            log.warn("Unsupported content encoding [encoding:{}]", encoding);
+            response.sendError(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+            return;
+        }
+        final InputStream decodedBody;
+        try {
+            decodedBody = GZIP.equals(encoding)
+                    ? new GZIPInputStream(request.getInputStream(), BUFFER_SIZE)
+                    : new BufferedInputStream(new ZstdInputStream(request.getInputStream()), BUFFER_SIZE);
+        } catch (IOException e) {
+            log.warn("Failed to decode request body [encoding:{}]", encoding, e);
+            response.sendError(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+        try (decodedBody) {
+            filterChain.doFilter(new DecodedRequest(request, new LimitedInputStream(decodedBody, maxDecodedSize)), response);
+        }
+    }
+
+    /**
+     * Exposes a decompressed or size-limited body and hides headers describing the one sent on the wire.
+     */
+    static class DecodedRequest extends HttpServletRequestWrapper {
+        private final DecodedInputStream inputStream;
+
+        DecodedRequest(final HttpServletRequest request, final InputStream decodedBody) {
+            super(request);
+            this.inputStream = new DecodedInputStream(decodedBody);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            final String characterEncoding = getCharacterEncoding();
+            final Charset charset = characterEncoding != null ? Charset.forName(characterEncoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(inputStream, charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1L;
+        }
+
+        @Override
+        public String getHeader(final String name) {
+            return isHiddenHeader(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(final String name) {
+            return isHiddenHeader(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        private boolean isHiddenHeader(final String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    static class DecodedInputStream extends ServletInputStream {
+        private final InputStream delegate;
+        private boolean finished;
+
+        DecodedInputStream(final InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = delegate.read();
+            finished = value == -1;
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int count = delegate.read(b, off, len);
+            finished = count == -1;
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            throw new UnsupportedOperationException("Non-blocking reads are not supported on decoded bodies");
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * HTTP caching settings of result lookups.
+ * <p>
+ * Found IPFS hashes never change and are always served as immutable, negative answers may be cached
+ * by clients and intermediaries for {@code notFoundMaxAge}.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "http-cache")
+public class HttpCacheConfig {
+    @DurationMin(seconds = 0, message = "Not found max age must not be negative")
+    @NotNull(message = "Not found max age must not be null")
+    Duration notFoundMaxAge;
+}
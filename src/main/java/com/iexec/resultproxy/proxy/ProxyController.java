@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,91 +19,158 @@ package com.iexec.resultproxy.proxy;
 import com.iexec.common.result.ResultModel;
 import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
 import com.iexec.resultproxy.authorization.AuthorizationService;
+import com.iexec.resultproxy.idempotency.IdempotencyService;
+import com.iexec.resultproxy.idempotency.IdempotentResponse;
 import com.iexec.resultproxy.ipfs.task.IpfsNameService;
 import com.iexec.resultproxy.jwt.JwtService;
+import com.iexec.resultproxy.lease.UploadLeaseService;
+import com.iexec.resultproxy.ratelimit.RateLimiterService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import static org.springframework.http.ResponseEntity.ok;
 
 @Slf4j
 @CrossOrigin
 @RestController
+@Profile("!reactive")
 public class ProxyController {
 
     private final AuthorizationService authorizationService;
     private final JwtService jwtService;
     private final ProxyService proxyService;
     private final IpfsNameService ipfsNameService;
+    private final RateLimiterService rateLimiterService;
+    private final IdempotencyService idempotencyService;
+    private final UploadLeaseService uploadLeaseService;
+    private final CacheControl notFoundCacheControl;
 
     public ProxyController(AuthorizationService authorizationService,
                            JwtService jwtService,
                            ProxyService proxyService,
-                           IpfsNameService ipfsNameService) {
+                           IpfsNameService ipfsNameService,
+                           RateLimiterService rateLimiterService,
+                           IdempotencyService idempotencyService,
+                           UploadLeaseService uploadLeaseService,
+                           HttpCacheConfig httpCacheConfig) {
         this.authorizationService = authorizationService;
         this.jwtService = jwtService;
         this.proxyService = proxyService;
         this.ipfsNameService = ipfsNameService;
+        this.rateLimiterService = rateLimiterService;
+        this.idempotencyService = idempotencyService;
+        this.uploadLeaseService = uploadLeaseService;
+        this.notFoundCacheControl = CacheControl.maxAge(httpCacheConfig.getNotFoundMaxAge()).cachePublic();
     }
 
     /**
      * Logs against Result Proxy with valid {@code WorkerpoolAuthorization}.
      * <p>
      * The address of the signer needs to be stored in the {@code workerWallet} field of {@code WorkerpoolAuthorization}
+     * <p>
+     * Requests are rate limited per worker wallet once the challenge signature was checked, so that unsigned requests
+     * cannot exhaust the limit of another wallet. An HTTP 429 (TOO MANY REQUESTS) response with a {@code Retry-After}
+     * header is returned before any on-chain or database check when the limit is exceeded.
      */
     @PostMapping("/v1/results/token")
     public ResponseEntity<String> getJwt(@RequestHeader("Authorization") String authorization,
                                          @RequestBody WorkerpoolAuthorization workerpoolAuthorization) {
-        final String workerAddress = workerpoolAuthorization.getWorkerWallet();
-        final String challenge = authorizationService.getChallengeForWorker(workerpoolAuthorization);
-        if (!authorizationService.isSignedByHimself(challenge, authorization, workerAddress)) {
+        if (!authorizationService.isChallengeSignedByWorker(workerpoolAuthorization, authorization)) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        if (authorizationService.isAuthorizedOnExecutionWithDetailedIssue(workerpoolAuthorization).isPresent()) {
+        final Optional<Duration> retryAfter = rateLimiterService.tryAcquire(workerpoolAuthorization.getWorkerWallet());
+        if (retryAfter.isPresent()) {
+            return ProxyResponses.tooManyRequests(retryAfter.get());
+        }
+        if (authorizationService.putIfAuthorized(workerpoolAuthorization).isPresent()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
-        authorizationService.putIfAbsent(workerpoolAuthorization);
         final String jwtString = jwtService.getOrCreateJwt(workerpoolAuthorization.getWorkerWallet());
         return ResponseEntity.ok(jwtString);
     }
 
     /**
      * Push result on IPFS through iExec Result Proxy.
+     * <p>
+     * When an {@code Idempotency-Key} header is provided, the response of a successful upload is kept.
+     * A retry with the same key and the same payload is then answered with the original response without any check.
+     * <p>
+     * When upload leases are enabled, a single upload per task is verified and pushed across all replicas.
+     * Concurrent uploads of the same task are not verified, they wait for the outcome of the lease holder and are
+     * answered with HTTP 409 without its result link. Their clients then check with {@code HEAD /v1/results/{chainTaskId}}
+     * whether the result was uploaded.
      *
-     * @param token JWT authorization
-     * @param model Result payload containing the bytes to push on IPFS
+     * @param token          JWT authorization
+     * @param idempotencyKey Optional key identifying the upload across retries
+     * @param model          Result payload containing the bytes to push on IPFS
      * @return A response entity indicating the status and details of the operation
      * <ul>
      * <li>HTTP 200 (OK) - If the result file was pushed on IPFS. The multihash will be included in the response body.
-     * <li>HTTP 400 (BAD REQUEST) - If the operation was authorized but the file could not be pushed.
+     * <li>HTTP 400 (BAD REQUEST) - If the operation was authorized but the file could not be pushed,
+     * or if the idempotency key is invalid.
      * <li>HTTP 401 (UNAUTHORIZED) - If the operation was not authorized.
+     * <li>HTTP 409 (CONFLICT) - If another upload of the task result holds its lease.
+     * <li>HTTP 422 (UNPROCESSABLE ENTITY) - If the idempotency key was already used with a different payload.
      * </ul>
      */
     @PostMapping("/v1/results")
     public ResponseEntity<String> addResult(@RequestHeader("Authorization") String token,
+                                            @RequestHeader(name = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
                                             @RequestBody ResultModel model) {
         if (!jwtService.isValidJwt(token)) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED.value()).build();
         }
 
         final String walletAddress = jwtService.getWalletAddressFromJwtString(token);
-        final boolean canUploadResult = proxyService.canUploadResult(model, walletAddress);
+        String payloadDigest = null;
+        if (idempotencyKey != null) {
+            if (!IdempotencyService.isValidKey(idempotencyKey)) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).build();
+            }
+            payloadDigest = IdempotencyService.computePayloadDigest(model);
+            final IdempotentResponse previousResponse = idempotencyService.find(walletAddress, idempotencyKey).orElse(null);
+            if (previousResponse != null) {
+                return ProxyResponses.replay(previousResponse, payloadDigest, model.getChainTaskId(), walletAddress);
+            }
+        }
 
-        if (!canUploadResult) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED.value()).build();
+        final String chainTaskId = model.getChainTaskId();
+        final UploadLeaseService.Lease lease = uploadLeaseService.tryAcquire(chainTaskId).orElse(null);
+        if (lease == null) {
+            return ProxyResponses.leaseHeld(chainTaskId, walletAddress);
         }
 
-        final String resultLink = proxyService.addResult(model);
+        final String resultLink;
+        try (lease) {
+            final boolean canUploadResult = proxyService.canUploadResult(model, walletAddress);
+
+            if (!canUploadResult) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED.value()).build();
+            }
 
-        if (resultLink.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).build();
+            resultLink = proxyService.addResult(model);
+
+            if (resultLink.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).build();
+            }
+            lease.complete(resultLink);
         }
 
         log.info("Result uploaded successfully [chainTaskId:{}, uploadRequester:{}, resultLink:{}]",
                 model.getChainTaskId(), walletAddress, resultLink);
 
+        if (idempotencyKey != null) {
+            idempotencyService.save(walletAddress, idempotencyKey,
+                    new IdempotentResponse(payloadDigest, HttpStatus.OK.value(), resultLink));
+        }
         return ok(resultLink);
     }
 
@@ -117,11 +184,20 @@ public class ProxyController {
      * <li>HTTP 204 (NO CONTENT) - If the query was allowed and the given task result was uploaded through the current instance.
      * <li>HTTP 401 (UNAUTHORIZED) - If the client is not authorized to query the information.
      * <li>HTTP 404 (NOT FOUND) - If the query was allowed and no associated result was found.
+     * <li>HTTP 429 (TOO MANY REQUESTS) - If the wallet found in the JWT exceeded its rate limit.
      * </ul>
      */
     @RequestMapping(method = RequestMethod.HEAD, path = "/v1/results/{chainTaskId}")
     public ResponseEntity<String> isResultUploaded(@PathVariable(name = "chainTaskId") String chainTaskId,
                                                    @RequestHeader("Authorization") String token) {
+        final String walletAddress = jwtService.findWalletAddressFromJwtString(token).orElse(null);
+        if (walletAddress == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        final Optional<Duration> retryAfter = rateLimiterService.tryAcquire(walletAddress);
+        if (retryAfter.isPresent()) {
+            return ProxyResponses.tooManyRequests(retryAfter.get());
+        }
         if (!jwtService.isValidJwt(token)) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
@@ -133,18 +209,31 @@ public class ProxyController {
 
     /**
      * Retrieves ipfsHash for taskId if required
+     * <p>
+     * A found IPFS hash never changes, it is served with a strong {@code ETag} derived from the hash and
+     * an immutable {@code Cache-Control} so that clients, CDNs and reverse proxies can keep it.
      *
      * @param chainTaskId ID of the task
-     * @return IPFS multihash if found
+     * @param ifNoneMatch Optional entity tags of a previously received response
+     * @return A response entity indicating the status and details of the operation
+     * <ul>
+     * <li>HTTP 200 (OK) - If the IPFS hash was found. The multihash will be included in the response body.
+     * <li>HTTP 304 (NOT MODIFIED) - If the IPFS hash was found and matches the {@code If-None-Match} header.
+     * <li>HTTP 404 (NOT FOUND) - If no IPFS hash was found, this answer may be cached for a short period.
+     * </ul>
      */
     @GetMapping("/v1/results/{chainTaskId}/ipfshash")
-    public ResponseEntity<String> getIpfsHashForTask(@PathVariable("chainTaskId") String chainTaskId) {
+    public ResponseEntity<String> getIpfsHashForTask(@PathVariable("chainTaskId") String chainTaskId,
+                                                     @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         String ipfsHashForTask = ipfsNameService.getIpfsHashForTask(chainTaskId);
         if (ipfsHashForTask.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND.value()).build();
+            return ResponseEntity.status(HttpStatus.NOT_FOUND.value()).cacheControl(notFoundCacheControl).build();
         }
-        return ResponseEntity.ok(ipfsHashForTask);
+        final String eTag = "\"" + ipfsHashForTask + "\"";
+        if (ProxyResponses.matchesETag(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(ProxyResponses.IMMUTABLE).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(ProxyResponses.IMMUTABLE).body(ipfsHashForTask);
     }
 
 }
-
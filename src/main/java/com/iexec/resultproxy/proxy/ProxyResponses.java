@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import com.iexec.resultproxy.idempotency.IdempotentResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Responses shared by {@link ProxyController} and {@link ReactiveProxyController}, whichever stack is enabled.
+ */
+@Slf4j
+final class ProxyResponses {
+
+    static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    private ProxyResponses() {
+    }
+
+    /**
+     * Answers an upload of a task result whose lease is held by another upload.
+     * <p>
+     * The requester of this upload has not been verified, it is answered right away without the result link
+     * of the holder, and checks with {@code HEAD /v1/results/{chainTaskId}} whether the result was uploaded.
+     */
+    static ResponseEntity<String> leaseHeld(final String chainTaskId, final String walletAddress) {
+        log.info("Result upload held by another upload [chainTaskId:{}, uploadRequester:{}]",
+                chainTaskId, walletAddress);
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    static ResponseEntity<String> replay(final IdempotentResponse previousResponse, final String payloadDigest,
+                                         final String chainTaskId, final String walletAddress) {
+        if (!previousResponse.payloadDigest().equals(payloadDigest)) {
+            log.warn("Idempotency key reused with a different payload [chainTaskId:{}, uploadRequester:{}]",
+                    chainTaskId, walletAddress);
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        }
+        log.info("Replaying result upload response [chainTaskId:{}, uploadRequester:{}, status:{}]",
+                chainTaskId, walletAddress, previousResponse.status());
+        return ResponseEntity.status(previousResponse.status()).body(previousResponse.body());
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against an entity tag with the weak comparison required by RFC 9110.
+     */
+    static boolean matchesETag(final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (final String candidate : ifNoneMatch.split(",")) {
+            final String tag = candidate.trim();
+            if ("*".equals(tag) || eTag.equals(tag.startsWith("W/") ? tag.substring(2) : tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static ResponseEntity<String> tooManyRequests(final Duration retryAfter) {
+        final long retryAfterSeconds = Math.max(1L, (retryAfter.toMillis() + 999L) / 1000L);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+    }
+}
@@ -19,7 +19,6 @@ package com.iexec.resultproxy.proxy;
 import com.iexec.common.result.ComputedFile;
 import com.iexec.common.result.ResultModel;
 import com.iexec.common.utils.FileHelper;
-import com.iexec.common.worker.result.ResultUtils;
 import com.iexec.commons.poco.chain.ChainContribution;
 import com.iexec.commons.poco.chain.ChainDeal;
 import com.iexec.commons.poco.chain.ChainTask;
@@ -29,6 +28,8 @@ import com.iexec.commons.poco.utils.HashUtils;
 import com.iexec.resultproxy.authorization.AuthorizationService;
 import com.iexec.resultproxy.chain.IexecHubService;
 import com.iexec.resultproxy.ipfs.IpfsResultService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -40,25 +41,43 @@ import java.util.Objects;
 import static com.iexec.common.utils.IexecFileHelper.SLASH_IEXEC_OUT;
 import static com.iexec.common.utils.IexecFileHelper.readComputedFile;
 import static com.iexec.commons.poco.chain.ChainContributionStatus.REVEALED;
+import static com.iexec.resultproxy.tracing.ObservationKeys.CHAIN_TASK_ID;
+import static com.iexec.resultproxy.tracing.ObservationKeys.PAYLOAD_SIZE;
 
 /**
  * Service class to manage all the results. If the result is public, it will be stored on IPFS. If there is a dedicated
  * beneficiary, the result will be pushed to mongo.
+ * <p>
+ * The verification of a result is observed as an {@code iexec.result.verification} span, with child spans for
+ * on-chain reads, for the extraction of the zip in {@code /tmp} and for the digest computation.
  */
 @Service
 @Slf4j
 public class ProxyService {
 
+    public static final String OBSERVATION_VERIFICATION = "iexec.result.verification";
+    public static final String OBSERVATION_EXTRACTION = "iexec.result.extraction";
+    public static final String OBSERVATION_DIGEST = "iexec.result.digest";
+
     private final AuthorizationService authorizationService;
     private final IexecHubService iexecHubService;
     private final IpfsResultService ipfsResultService;
+    private final ResultDigestService resultDigestService;
+    private final ResultZipExtractor resultZipExtractor;
+    private final ObservationRegistry observationRegistry;
 
     public ProxyService(AuthorizationService authorizationService,
                         IexecHubService iexecHubService,
-                        IpfsResultService ipfsResultService) {
+                        IpfsResultService ipfsResultService,
+                        ResultDigestService resultDigestService,
+                        ResultZipExtractor resultZipExtractor,
+                        ObservationRegistry observationRegistry) {
         this.authorizationService = authorizationService;
         this.iexecHubService = iexecHubService;
         this.ipfsResultService = ipfsResultService;
+        this.resultDigestService = resultDigestService;
+        this.resultZipExtractor = resultZipExtractor;
+        this.observationRegistry = observationRegistry;
     }
 
     /**
@@ -78,6 +97,11 @@ public class ProxyService {
      * @return {@literal true} if result can be contributed, {@literal false} otherwise.
      */
     boolean canUploadResult(ResultModel model, String walletAddress) {
+        return observation(OBSERVATION_VERIFICATION, model.getChainTaskId(), model.getZip())
+                .observe(() -> verifyResult(model, walletAddress));
+    }
+
+    private boolean verifyResult(ResultModel model, String walletAddress) {
         final String chainTaskId = model.getChainTaskId();
         final byte[] zip = model.getZip();
 
@@ -151,16 +175,15 @@ public class ProxyService {
             }
 
             final String onChainHash = chainContribution.getResultHash();
-            try {
-                Files.write(Path.of(resultZipPath), zip);
-            } catch (IOException e) {
-                log.error("Can't write result file [chainTaskId:{}, uploader:{}]", chainTaskId, walletAddress);
+            final boolean isExtracted = observation(OBSERVATION_EXTRACTION, chainTaskId, zip)
+                    .observe(() -> writeAndExtract(chainTaskId, walletAddress, zip, resultZipPath, zipDestinationPath));
+            if (!isExtracted) {
                 return false;
             }
-            FileHelper.unZipFile(resultZipPath, zipDestinationPath);
 
             final ComputedFile computedFile = readComputedFile(chainTaskId, zipDestinationPath);
-            final String resultDigest = ResultUtils.computeWeb2ResultDigest(computedFile, resultFolderPath);
+            final String resultDigest = observation(OBSERVATION_DIGEST, chainTaskId, zip)
+                    .observe(() -> resultDigestService.computeWeb2ResultDigest(computedFile, resultFolderPath));
             final String computedResultHash = HashUtils.concatenateAndHash(chainTaskId, resultDigest);
 
             if (!Objects.equals(computedResultHash, onChainHash)) {
@@ -173,7 +196,36 @@ public class ProxyService {
             return true;
         } finally {
             FileHelper.deleteFolder(resultFolderPath);
+            try {
+                Files.deleteIfExists(Path.of(resultZipPath));
+            } catch (IOException e) {
+                log.warn("Can't delete result file [chainTaskId:{}, path:{}]", chainTaskId, resultZipPath, e);
+            }
+        }
+    }
+
+    private boolean writeAndExtract(String chainTaskId, String walletAddress, byte[] zip,
+                                    String resultZipPath, String zipDestinationPath) {
+        try {
+            Files.write(Path.of(resultZipPath), zip);
+        } catch (IOException e) {
+            log.error("Can't write result file [chainTaskId:{}, uploader:{}]", chainTaskId, walletAddress);
+            return false;
         }
+        try {
+            resultZipExtractor.extract(Path.of(resultZipPath), Path.of(zipDestinationPath));
+        } catch (IOException e) {
+            log.error("Can't extract result file [chainTaskId:{}, uploader:{}, reason:{}]",
+                    chainTaskId, walletAddress, e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    private Observation observation(String name, String chainTaskId, byte[] zip) {
+        return Observation.createNotStarted(name, observationRegistry)
+                .highCardinalityKeyValue(CHAIN_TASK_ID, String.valueOf(chainTaskId))
+                .highCardinalityKeyValue(PAYLOAD_SIZE, String.valueOf(zip == null ? 0 : zip.length));
     }
 
     String getResultFolderPath(String chainTaskId) {
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.proxy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+import com.iexec.common.result.ResultModel;
+import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
+import com.iexec.resultproxy.authorization.AuthorizationService;
+import com.iexec.resultproxy.idempotency.IdempotencyService;
+import com.iexec.resultproxy.idempotency.IdempotentResponse;
+import com.iexec.resultproxy.jwt.JwtService;
+import com.iexec.resultproxy.lease.UploadLeaseService;
+import com.iexec.resultproxy.ratelimit.RateLimiterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * WebFlux implementation of the {@link ProxyController} API, enabled with the {@code reactive} profile.
+ * <p>
+ * Responses are the same as the ones of {@link ProxyController}. Servlet filters do not apply to this stack:
+ * <ul>
+ * <li>Before its body is read, an upload acquires a share of the {@link UploadBudget} shared with the servlet stack,
+ * and holds it until processed. Upload bodies are read as {@link DataBuffer}s and joined, the share growing with
+ * the joined and decoded bytes as with {@link UploadBudgetFilter}. Uploads larger than the whole budget are rejected
+ * with HTTP 413 (PAYLOAD TOO LARGE), uploads for which the budget did not free up in time with HTTP 503
+ * (SERVICE UNAVAILABLE) and a {@code Retry-After} header
+ * <li>{@code gzip} and {@code zstd} {@code Content-Encoding}s are decoded while the joined body is deserialized,
+ * on a bounded elastic thread rather than on the event loop
+ * </ul>
+ */
+@Slf4j
+@CrossOrigin
+@RestController
+@Profile("reactive")
+public class ReactiveProxyController {
+
+    private final AuthorizationService authorizationService;
+    private final JwtService jwtService;
+    private final ReactiveProxyService reactiveProxyService;
+    private final RateLimiterService rateLimiterService;
+    private final IdempotencyService idempotencyService;
+    private final UploadLeaseService uploadLeaseService;
+    private final ObjectMapper objectMapper;
+    private final CacheControl notFoundCacheControl;
+    private final UploadBudget uploadBudget;
+    private final int maxBodySize;
+    private final long maxDecodedSize;
+
+    public ReactiveProxyController(AuthorizationService authorizationService,
+                                   JwtService jwtService,
+                                   ReactiveProxyService reactiveProxyService,
+                                   RateLimiterService rateLimiterService,
+                                   IdempotencyService idempotencyService,
+                                   UploadLeaseService uploadLeaseService,
+                                   ObjectMapper objectMapper,
+                                   HttpCacheConfig httpCacheConfig,
+                                   UploadBudget uploadBudget,
+                                   ContentEncodingConfig contentEncodingConfig) {
+        this.authorizationService = authorizationService;
+        this.jwtService = jwtService;
+        this.reactiveProxyService = reactiveProxyService;
+        this.rateLimiterService = rateLimiterService;
+        this.idempotencyService = idempotencyService;
+        this.uploadLeaseService = uploadLeaseService;
+        this.objectMapper = objectMapper;
+        this.notFoundCacheControl = CacheControl.maxAge(httpCacheConfig.getNotFoundMaxAge()).cachePublic();
+        this.uploadBudget = uploadBudget;
+        this.maxBodySize = (int) Math.min(Integer.MAX_VALUE, uploadBudget.getMaxBytes());
+        this.maxDecodedSize = Math.min(maxBodySize, contentEncodingConfig.getMaxDecodedSize().toBytes());
+    }
+
+    /**
+     * Logs against Result Proxy with valid {@code WorkerpoolAuthorization}.
+     *
+     * @see ProxyController#getJwt(String, WorkerpoolAuthorization)
+     */
+    @PostMapping("/v1/results/token")
+    public Mono<ResponseEntity<String>> getJwt(@RequestHeader("Authorization") String authorization,
+                                               @RequestBody WorkerpoolAuthorization workerpoolAuthorization) {
+        if (!authorizationService.isChallengeSignedByWorker(workerpoolAuthorization, authorization)) {
+            return status(HttpStatus.UNAUTHORIZED);
+        }
+        final String workerAddress = workerpoolAuthorization.getWorkerWallet();
+        final Optional<Duration> retryAfter = rateLimiterService.tryAcquire(workerAddress);
+        if (retryAfter.isPresent()) {
+            return Mono.just(ProxyResponses.tooManyRequests(retryAfter.get()));
+        }
+        return reactiveProxyService.findAuthorizationError(workerpoolAuthorization)
+                .flatMap(authorizationError -> status(HttpStatus.UNAUTHORIZED))
+                .switchIfEmpty(Mono.defer(() -> reactiveProxyService.getOrCreateJwt(workerAddress)
+                        .map(ResponseEntity::ok)));
+    }
+
+    /**
+     * Push result on IPFS through iExec Result Proxy.
+     *
+     * @param token           JWT authorization
+     * @param idempotencyKey  Optional key identifying the upload across retries
+     * @param contentEncoding Optional encoding of the body
+     * @param contentLength   Optional length of the body, before decoding
+     * @param body            Result payload containing the bytes to push on IPFS
+     * @return A response entity indicating the status and details of the operation
+     * @see ProxyController#addResult(String, String, ResultModel)
+     */
+    @PostMapping("/v1/results")
+    public Mono<ResponseEntity<String>> addResult(@RequestHeader("Authorization") String token,
+                                                  @RequestHeader(name = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                  @RequestHeader(name = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+                                                  @RequestHeader(name = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+                                                  @RequestBody Flux<DataBuffer> body) {
+        return reactiveProxyService.isValidJwt(token).flatMap(isValidJwt -> {
+            if (!isValidJwt) {
+                return status(HttpStatus.UNAUTHORIZED);
+            }
+            if (idempotencyKey != null && !IdempotencyService.isValidKey(idempotencyKey)) {
+                return status(HttpStatus.BAD_REQUEST);
+            }
+            final String walletAddress = jwtService.getWalletAddressFromJwtString(token);
+            final String encoding = contentEncoding != null ? contentEncoding.trim().toLowerCase(Locale.ROOT) : null;
+            if (encoding != null && !ContentEncodingFilter.IDENTITY.equals(encoding)
+                    && !ContentEncodingFilter.GZIP.equals(encoding) && !ContentEncodingFilter.ZSTD.equals(encoding)) {
+                log.warn("Unsupported content encoding [encoding:{}]", encoding);
+                return Mono.<ResponseEntity<String>>error(new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+            }
+            return withUploadBudget(contentLength, share -> readResultModel(body, encoding, share)
+                    .flatMap(model -> addResult(model, walletAddress, idempotencyKey)));
+        });
+    }
+
+    /**
+     * Checks if a given task has been uploaded on IPFS through the current iExec Result Proxy instance.
+     * <p>
+     * The result is considered as uploaded as soon as its IPFS hash is known, it is not loaded from IPFS.
+     *
+     * @see ProxyController#isResultUploaded(String, String)
+     */
+    @RequestMapping(method = RequestMethod.HEAD, path = "/v1/results/{chainTaskId}")
+    public Mono<ResponseEntity<String>> isResultUploaded(@PathVariable(name = "chainTaskId") String chainTaskId,
+                                                         @RequestHeader("Authorization") String token) {
+        final String walletAddress = jwtService.findWalletAddressFromJwtString(token).orElse(null);
+        if (walletAddress == null) {
+            return status(HttpStatus.UNAUTHORIZED);
+        }
+        final Optional<Duration> retryAfter = rateLimiterService.tryAcquire(walletAddress);
+        if (retryAfter.isPresent()) {
+            return Mono.just(ProxyResponses.tooManyRequests(retryAfter.get()));
+        }
+        return reactiveProxyService.isValidJwt(token).flatMap(isValidJwt -> {
+            if (!isValidJwt) {
+                return status(HttpStatus.UNAUTHORIZED);
+            }
+            return reactiveProxyService.isResultFound(chainTaskId)
+                    .flatMap(isResultFound -> status(isResultFound ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND));
+        });
+    }
+
+    /**
+     * Retrieves ipfsHash for taskId if required.
+     *
+     * @see ProxyController#getIpfsHashForTask(String, String)
+     */
+    @GetMapping("/v1/results/{chainTaskId}/ipfshash")
+    public Mono<ResponseEntity<String>> getIpfsHashForTask(@PathVariable("chainTaskId") String chainTaskId,
+                                                           @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return reactiveProxyService.getIpfsHashForTask(chainTaskId).map(ipfsHashForTask -> {
+            if (ipfsHashForTask.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).cacheControl(notFoundCacheControl).build();
+            }
+            final String eTag = "\"" + ipfsHashForTask + "\"";
+            if (ProxyResponses.matchesETag(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(ProxyResponses.IMMUTABLE).build();
+            }
+            return ResponseEntity.ok().eTag(eTag).cacheControl(ProxyResponses.IMMUTABLE).body(ipfsHashForTask);
+        });
+    }
+
+    private Mono<ResponseEntity<String>> addResult(final ResultModel model, final String walletAddress,
+                                                   final String idempotencyKey) {
+        final String chainTaskId = model.getChainTaskId();
+        final String payloadDigest = idempotencyKey != null ? IdempotencyService.computePayloadDigest(model) : null;
+        final Mono<ResponseEntity<String>> upload = Mono.usingWhen(
+                        Mono.fromCallable(() -> uploadLeaseService.tryAcquire(chainTaskId).orElse(null))
+                                .subscribeOn(Schedulers.boundedElastic()),
+                        lease -> upload(model, walletAddress, idempotencyKey, payloadDigest, lease),
+                        lease -> Mono.fromRunnable(lease::close).subscribeOn(Schedulers.boundedElastic()))
+                .switchIfEmpty(Mono.fromSupplier(() -> ProxyResponses.leaseHeld(chainTaskId, walletAddress)));
+        if (idempotencyKey == null) {
+            return upload;
+        }
+        return Mono.fromCallable(() -> idempotencyService.find(walletAddress, idempotencyKey).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(previousResponse -> ProxyResponses.replay(previousResponse, payloadDigest, chainTaskId, walletAddress))
+                .switchIfEmpty(Mono.defer(() -> upload));
+    }
+
+    private Mono<ResponseEntity<String>> upload(final ResultModel model, final String walletAddress,
+                                                final String idempotencyKey, final String payloadDigest,
+                                                final UploadLeaseService.Lease lease) {
+        final String chainTaskId = model.getChainTaskId();
+        return reactiveProxyService.canUploadResult(model, walletAddress)
+                .flatMap(canUploadResult -> canUploadResult
+                        ? reactiveProxyService.addResult(model)
+                        : Mono.<String>empty())
+                .flatMap(resultLink -> {
+                    if (resultLink.isEmpty()) {
+                        return status(HttpStatus.BAD_REQUEST);
+                    }
+                    return Mono.fromRunnable(() -> lease.complete(resultLink))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .then(Mono.defer(() -> uploaded(chainTaskId, walletAddress, idempotencyKey, payloadDigest, resultLink)));
+                })
+                .switchIfEmpty(Mono.defer(() -> status(HttpStatus.UNAUTHORIZED)));
+    }
+
+    private Mono<ResponseEntity<String>> uploaded(final String chainTaskId, final String walletAddress,
+                                                  final String idempotencyKey, final String payloadDigest,
+                                                  final String resultLink) {
+        log.info("Result uploaded successfully [chainTaskId:{}, uploadRequester:{}, resultLink:{}]",
+                chainTaskId, walletAddress, resultLink);
+        if (idempotencyKey == null) {
+            return Mono.just(ResponseEntity.ok(resultLink));
+        }
+        return Mono.fromRunnable(() -> idempotencyService.save(walletAddress, idempotencyKey,
+                        new IdempotentResponse(payloadDigest, HttpStatus.OK.value(), resultLink)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(ResponseEntity.ok(resultLink));
+    }
+
+    /**
+     * Runs an upload holding a share of the upload budget, acquired on a blocking thread before the body is read
+     * and released once the upload is processed or cancelled.
+     */
+    private Mono<ResponseEntity<String>> withUploadBudget(
+            final Long contentLength, final Function<UploadBudget.Share, Mono<ResponseEntity<String>>> upload) {
+        final long initialBytes = contentLength != null && contentLength >= 0
+                ? contentLength : uploadBudget.getUnknownLengthShare();
+        if (initialBytes > uploadBudget.getMaxBytes()) {
+            log.warn("Upload rejected, larger than upload budget [contentLength:{}, budget:{}]",
+                    contentLength, uploadBudget.getMaxBytes());
+            UploadBudget.countRejection(UploadBudget.REJECTION_TOO_LARGE);
+            return Mono.error(new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE));
+        }
+        final UploadBudget.Share share = uploadBudget.newShare(() -> {
+        });
+        return Mono.fromCallable(() -> share.growTo(initialBytes))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(acquired -> {
+                    if (!acquired) {
+                        UploadBudget.countRejection(UploadBudget.REJECTION_EXHAUSTED);
+                        return Mono.just(budgetExhausted());
+                    }
+                    return upload.apply(share);
+                })
+                .onErrorResume(ReactiveProxyController::isBudgetExhausted, e -> Mono.just(budgetExhausted()))
+                .doFinally(signalType -> share.release());
+    }
+
+    private static boolean isBudgetExhausted(final Throwable e) {
+        return e instanceof UploadBudgetExhaustedException || e.getCause() instanceof UploadBudgetExhaustedException;
+    }
+
+    private ResponseEntity<String> budgetExhausted() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, uploadBudget.getRetryAfterSeconds())
+                .build();
+    }
+
+    /**
+     * Joins the body buffers and deserializes the result model on a blocking thread, decoding the body first
+     * if required. Joined and decoded bytes are accounted against the share of the upload.
+     */
+    private Mono<ResultModel> readResultModel(final Flux<DataBuffer> body, final String encoding,
+                                              final UploadBudget.Share share) {
+        return DataBufferUtils.join(budgeted(body, share), maxBodySize)
+                .onErrorMap(e -> e instanceof DataBufferLimitException || e instanceof UploadTooLargeException,
+                        e -> new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), e))
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Missing result upload")))
+                .publishOn(Schedulers.boundedElastic())
+                .map(dataBuffer -> {
+                    final int encodedSize = dataBuffer.readableByteCount();
+                    try (InputStream encodedInput = dataBuffer.asInputStream(true);
+                         InputStream input = decode(encodedInput, encoding, share, encodedSize)) {
+                        return objectMapper.readValue(input, ResultModel.class);
+                    } catch (IOException e) {
+                        if (isBudgetExhausted(e)) {
+                            throw new UncheckedIOException(e);
+                        }
+                        if (e instanceof UploadTooLargeException || e.getCause() instanceof UploadTooLargeException) {
+                            log.warn("Result upload rejected, decoded body too large [encoding:{}, maxDecodedSize:{}]",
+                                    encoding, maxDecodedSize);
+                            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), e);
+                        }
+                        log.warn("Failed to read result upload [encoding:{}]", encoding, e);
+                        throw new ServerWebInputException("Failed to read result upload", null, e);
+                    }
+                });
+    }
+
+    /**
+     * Accounts body buffers against the share of the upload as they arrive, growing the share on a blocking thread
+     * only when the joined bytes exceed it.
+     */
+    private static Flux<DataBuffer> budgeted(final Flux<DataBuffer> body, final UploadBudget.Share share) {
+        final AtomicLong joinedBytes = new AtomicLong();
+        return body.concatMap(dataBuffer -> {
+            final long readBytes = joinedBytes.addAndGet(dataBuffer.readableByteCount());
+            if (share.holds(readBytes)) {
+                return Mono.just(dataBuffer);
+            }
+            return Mono.fromCallable(() -> {
+                        share.account(readBytes);
+                        return dataBuffer;
+                    })
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doOnError(e -> DataBufferUtils.release(dataBuffer));
+        });
+    }
+
+    private InputStream decode(final InputStream input, final String encoding,
+                               final UploadBudget.Share share, final long encodedSize) throws IOException {
+        if (ContentEncodingFilter.GZIP.equals(encoding)) {
+            return new BudgetedInputStream(
+                    new LimitedInputStream(new GZIPInputStream(input), maxDecodedSize), share, encodedSize);
+        }
+        if (ContentEncodingFilter.ZSTD.equals(encoding)) {
+            return new BudgetedInputStream(
+                    new LimitedInputStream(new ZstdInputStream(input), maxDecodedSize), share, encodedSize);
+        }
+        return input;
+    }
+
+    private static Mono<ResponseEntity<String>> status(final HttpStatus status) {
+        return Mono.just(ResponseEntity.status(status).build());
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.proxy;
+
+import com.iexec.common.result.ResultModel;
+import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
+import com.iexec.resultproxy.authorization.AuthorizationError;
+import com.iexec.resultproxy.authorization.AuthorizationService;
+import com.iexec.resultproxy.ipfs.IpfsPushConfig;
+import com.iexec.resultproxy.ipfs.IpfsResultService;
+import com.iexec.resultproxy.ipfs.ReactiveIpfsService;
+import com.iexec.resultproxy.ipfs.outbox.IpfsOutboxService;
+import com.iexec.resultproxy.ipfs.task.IpfsName;
+import com.iexec.resultproxy.ipfs.task.IpfsNameService;
+import com.iexec.resultproxy.ipfs.task.ReactiveIpfsNameRepository;
+import com.iexec.resultproxy.jwt.JwtRepository;
+import com.iexec.resultproxy.jwt.JwtService;
+import com.iexec.resultproxy.jwt.JwtStore;
+import com.iexec.resultproxy.jwt.ReactiveJwtRepository;
+import com.iexec.resultproxy.result.ResultStorageType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of {@link ProxyService} and of the JWT and authorization checks, used by the reactive stack.
+ * <p>
+ * JWTs and task to IPFS hash mappings are read and written with reactive Mongo repositories,
+ * and results are added to IPFS with the {@link ReactiveIpfsService} when the push is synchronous.
+ * The following steps are still blocking and run on the {@link Schedulers#boundedElastic()} scheduler:
+ * <ul>
+ * <li>On-chain reads and authorization storage performed by {@link AuthorizationService#putIfAuthorized}
+ * <li>On-chain reads and result checks performed by {@link ProxyService#canUploadResult(ResultModel, String)}
+ * <li>JWT creation, serialized by {@link JwtService#getOrCreateJwt(String)}
+ * <li>Pushes to a non IPFS result storage and asynchronous pushes through the IPFS outbox
+ * </ul>
+ * Reactive repositories read and write Mongo directly, the task to IPFS hash mapping of a result added to IPFS being
+ * saved with {@link ReactiveIpfsNameRepository}, the reactive stack hence requires {@code storage.type=mongo}.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveProxyService {
+
+    private final AuthorizationService authorizationService;
+    private final JwtService jwtService;
+    private final ProxyService proxyService;
+    private final IpfsNameService ipfsNameService;
+    private final IpfsOutboxService ipfsOutboxService;
+    private final ReactiveJwtRepository reactiveJwtRepository;
+    private final ReactiveIpfsNameRepository reactiveIpfsNameRepository;
+    private final ReactiveIpfsService reactiveIpfsService;
+    private final boolean asyncPush;
+
+    public ReactiveProxyService(AuthorizationService authorizationService,
+                                JwtService jwtService,
+                                JwtStore jwtStore,
+                                ProxyService proxyService,
+                                IpfsNameService ipfsNameService,
+                                IpfsOutboxService ipfsOutboxService,
+                                ReactiveJwtRepository reactiveJwtRepository,
+                                ReactiveIpfsNameRepository reactiveIpfsNameRepository,
+                                ObjectProvider<ReactiveIpfsService> reactiveIpfsService,
+                                IpfsPushConfig ipfsPushConfig) {
+        if (!(jwtStore instanceof JwtRepository)) {
+            throw new IllegalStateException("Reactive profile requires Mongo storage [storage.type:mongo]");
+        }
+        this.authorizationService = authorizationService;
+        this.jwtService = jwtService;
+        this.proxyService = proxyService;
+        this.ipfsNameService = ipfsNameService;
+        this.ipfsOutboxService = ipfsOutboxService;
+        this.reactiveJwtRepository = reactiveJwtRepository;
+        this.reactiveIpfsNameRepository = reactiveIpfsNameRepository;
+        this.reactiveIpfsService = reactiveIpfsService.getIfAvailable();
+        this.asyncPush = ipfsPushConfig.isAsync();
+    }
+
+    /**
+     * Checks a JWT was signed by this instance and is the one stored for the wallet in its audience claim.
+     * <p>
+     * In stateless mode, the token is validated in memory without any database lookup.
+     *
+     * @param jwtString String representation of the JWT token
+     * @return {@literal true} if the token is valid, {@literal false} otherwise
+     */
+    public Mono<Boolean> isValidJwt(String jwtString) {
+        if (jwtService.isStateless()) {
+            return Mono.just(jwtService.isValidJwt(jwtString));
+        }
+        final String walletAddress = jwtService.findWalletAddressFromJwtString(jwtString).orElse(null);
+        if (walletAddress == null) {
+            return Mono.just(false);
+        }
+        return reactiveJwtRepository.findByWalletAddress(walletAddress)
+                .map(jwt -> jwtString.equals(jwt.getJwtString()))
+                .defaultIfEmpty(false);
+    }
+
+    public Mono<String> getOrCreateJwt(String walletAddress) {
+        return Mono.fromCallable(() -> jwtService.getOrCreateJwt(walletAddress))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Checks a workerpool authorization against on-chain data and keeps it if the worker is authorized.
+     *
+     * @param workerpoolAuthorization Authorization to check
+     * @return The authorization error, an empty {@code Mono} if the worker is authorized
+     */
+    public Mono<AuthorizationError> findAuthorizationError(WorkerpoolAuthorization workerpoolAuthorization) {
+        return Mono.fromCallable(() -> authorizationService.putIfAuthorized(workerpoolAuthorization)
+                        .orElse(null))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Gets the IPFS hash of a task result from the in-memory cache of {@link IpfsNameService} or from Mongo.
+     *
+     * @param chainTaskId ID of the task
+     * @return The IPFS hash, or an empty string if no result was uploaded for the task
+     */
+    public Mono<String> getIpfsHashForTask(String chainTaskId) {
+        final String cachedIpfsHash = ipfsNameService.findCachedIpfsHashForTask(chainTaskId).orElse(null);
+        if (cachedIpfsHash != null) {
+            return Mono.just(cachedIpfsHash);
+        }
+        return reactiveIpfsNameRepository.findByTaskId(chainTaskId)
+                .map(IpfsName::getIpfsHash)
+                .doOnNext(ipfsHash -> ipfsNameService.cacheIpfsHashForTask(chainTaskId, ipfsHash))
+                .defaultIfEmpty("");
+    }
+
+    /**
+     * Checks whether a result has been uploaded for a task.
+     * <p>
+     * Unlike {@link ProxyService#isResultFound(String)}, the result is not loaded from the storage,
+     * a stored mapping or a pending push is enough.
+     *
+     * @param chainTaskId ID of the task
+     * @return {@literal true} if a result was uploaded, {@literal false} otherwise
+     */
+    public Mono<Boolean> isResultFound(String chainTaskId) {
+        if (ipfsOutboxService.isPending(chainTaskId)) {
+            return Mono.just(true);
+        }
+        return getIpfsHashForTask(chainTaskId).map(ipfsHash -> !ipfsHash.isEmpty());
+    }
+
+    public Mono<Boolean> canUploadResult(ResultModel model, String walletAddress) {
+        return Mono.fromCallable(() -> proxyService.canUploadResult(model, walletAddress))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Pushes a result and stores the task to IPFS hash mapping.
+     *
+     * @param model Result payload
+     * @return The result link, or an empty string if the result was already uploaded or could not be pushed
+     */
+    public Mono<String> addResult(ResultModel model) {
+        if (reactiveIpfsService == null || asyncPush) {
+            return Mono.fromCallable(() -> proxyService.addResult(model))
+                    .subscribeOn(Schedulers.boundedElastic());
+        }
+        final String chainTaskId = model.getChainTaskId();
+        return getIpfsHashForTask(chainTaskId)
+                .flatMap(existingIpfsHash -> existingIpfsHash.isEmpty()
+                        ? reactiveIpfsService.add(IpfsResultService.getResultFilename(chainTaskId), model.getZip())
+                        : Mono.just(""))
+                .flatMap(ipfsHash -> ipfsHash.isEmpty() ? Mono.just("") : saveIpfsHash(chainTaskId, ipfsHash));
+    }
+
+    private Mono<String> saveIpfsHash(String chainTaskId, String ipfsHash) {
+        return reactiveIpfsNameRepository.save(new IpfsName(chainTaskId, ipfsHash))
+                .doOnNext(ipfsName -> ipfsNameService.cacheIpfsHashForTask(chainTaskId, ipfsHash))
+                .thenReturn(ResultStorageType.IPFS.getLinkPrefix() + ipfsHash)
+                .onErrorResume(DuplicateKeyException.class, e -> {
+                    log.error("Can't save IPFS hash (ipfsHash already set for task result) [taskId:{}, ipfsHash:{}]",
+                            chainTaskId, ipfsHash);
+                    return Mono.just("");
+                });
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings of the digest computed to verify standard task results.
+ * <p>
+ * When {@code parallel} is enabled, result files are hashed concurrently on a pool of {@code parallelism} threads,
+ * {@literal 0} sizing the pool to the available processors.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "result-digest")
+public class ResultDigestConfig {
+    boolean parallel;
+
+    @PositiveOrZero(message = "Result digest parallelism must not be negative")
+    int parallelism;
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import com.iexec.common.result.ComputedFile;
+import com.iexec.common.worker.result.ResultUtils;
+import com.iexec.commons.poco.utils.BytesUtils;
+import com.iexec.commons.poco.utils.HashUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Computes the digest of a standard task result, as {@link ResultUtils#computeWeb2ResultDigest(ComputedFile, String)}.
+ * <p>
+ * The digest of a deterministic output directory is the Keccak-256 hash of the concatenated SHA-256 hashes of its
+ * files, sorted by name. When parallel digests are enabled, the files of such a directory are hashed concurrently
+ * on a bounded {@link ForkJoinPool} and streamed rather than read at once. SHA-256 being sequential, a single file
+ * is still hashed by one thread. Other layouts, such as empty directories or nested directories, are delegated
+ * to {@link ResultUtils} so that digests always match the ones computed by workers.
+ */
+@Slf4j
+@Service
+public class ResultDigestService {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final ForkJoinPool pool;
+
+    public ResultDigestService(ResultDigestConfig resultDigestConfig) {
+        if (resultDigestConfig.isParallel()) {
+            final int parallelism = resultDigestConfig.getParallelism() == 0
+                    ? Runtime.getRuntime().availableProcessors()
+                    : resultDigestConfig.getParallelism();
+            this.pool = new ForkJoinPool(parallelism);
+            log.info("Parallel result digests enabled [parallelism:{}]", parallelism);
+        } else {
+            this.pool = null;
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Computes the digest of the deterministic output of a standard task result.
+     *
+     * @param computedFile     Content of the {@code computed.json} file of the result
+     * @param resultFolderPath Folder where the result was extracted
+     * @return The digest, an empty string if the deterministic output cannot be read
+     */
+    public String computeWeb2ResultDigest(final ComputedFile computedFile, final String resultFolderPath) {
+        if (pool == null || computedFile == null || StringUtils.isEmpty(computedFile.getDeterministicOutputPath())) {
+            return ResultUtils.computeWeb2ResultDigest(computedFile, resultFolderPath);
+        }
+        final File deterministicOutput = new File(resultFolderPath + computedFile.getDeterministicOutputPath());
+        try {
+            if (deterministicOutput.isFile()) {
+                return sha256(deterministicOutput);
+            }
+            final File[] files = deterministicOutput.listFiles();
+            if (files == null || files.length == 0 || !Arrays.stream(files).allMatch(File::isFile)) {
+                return ResultUtils.computeWeb2ResultDigest(computedFile, resultFolderPath);
+            }
+            // files must be sorted as in HashUtils, the digest depends on their order
+            Arrays.sort(files);
+            final List<ForkJoinTask<String>> tasks = new ArrayList<>(files.length);
+            for (final File file : files) {
+                tasks.add(pool.submit(() -> sha256(file)));
+            }
+            final String[] hashes = new String[files.length];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = tasks.get(i).join();
+            }
+            return HashUtils.concatenateAndHash(hashes);
+        } catch (UncheckedIOException e) {
+            log.error("Failed to compute result digest [deterministicOutput:{}]", deterministicOutput, e);
+            return "";
+        }
+    }
+
+    private static String sha256(final File file) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        final byte[] buffer = new byte[READ_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return BytesUtils.bytesToString(digest.digest());
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Limits applied when extracting standard task results to verify their digest.
+ * <p>
+ * Extraction is aborted as soon as a result holds more than {@code maxEntries} entries, expands to more than
+ * {@code maxExpandedSize} or has an entry expanding more than {@code maxCompressionRatio} times its compressed size.
+ * Concurrent extractions share {@code bufferCount} heap buffers, an extraction waits at most {@code bufferWait}
+ * for a free buffer before failing.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "result-zip")
+public class ResultZipConfig {
+    @NotNull(message = "Result zip max expanded size must not be null")
+    DataSize maxExpandedSize;
+
+    @Positive(message = "Result zip max entries must be greater than 0")
+    int maxEntries;
+
+    @Positive(message = "Result zip max compression ratio must be greater than 0")
+    int maxCompressionRatio;
+
+    @Positive(message = "Result zip buffer count must be greater than 0")
+    int bufferCount;
+
+    @DurationMin(seconds = 0, message = "Result zip buffer wait must not be negative")
+    @NotNull(message = "Result zip buffer wait must not be null")
+    Duration bufferWait;
+}
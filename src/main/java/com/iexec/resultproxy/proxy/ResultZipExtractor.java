@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Enumeration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/**
+ * Streaming extractor of result zips with a bounded memory and disk footprint.
+ * <p>
+ * Entries are copied through heap buffers taken from a pool shared by concurrent extractions,
+ * so that memory used by extractions does not grow with the number of uploads. An extraction waiting longer than
+ * the configured duration for a free buffer fails.
+ * The central directory is read first and extraction is aborted as soon as a limit of {@link ResultZipConfig}
+ * is exceeded or an entry would be written outside the destination folder.
+ */
+@Slf4j
+@Service
+public class ResultZipExtractor {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final long maxExpandedSize;
+    private final int maxEntries;
+    private final int maxCompressionRatio;
+    private final long bufferWaitNanos;
+    private final BlockingQueue<byte[]> buffers;
+
+    public ResultZipExtractor(ResultZipConfig resultZipConfig) {
+        this.maxExpandedSize = resultZipConfig.getMaxExpandedSize().toBytes();
+        this.maxEntries = resultZipConfig.getMaxEntries();
+        this.maxCompressionRatio = resultZipConfig.getMaxCompressionRatio();
+        this.bufferWaitNanos = resultZipConfig.getBufferWait().toNanos();
+        this.buffers = new ArrayBlockingQueue<>(resultZipConfig.getBufferCount());
+        for (int i = 0; i < resultZipConfig.getBufferCount(); i++) {
+            buffers.add(new byte[BUFFER_SIZE]);
+        }
+    }
+
+    /**
+     * Extracts a zip to a folder, created if missing.
+     *
+     * @param zipPath     Path of the zip
+     * @param destination Folder receiving the zip entries
+     * @throws IOException if the zip cannot be read, an entry cannot be written, a limit is exceeded
+     *                     or no buffer was freed in time
+     */
+    public void extract(final Path zipPath, final Path destination) throws IOException {
+        final Path root = destination.toAbsolutePath().normalize();
+        try (ZipFile zipFile = new ZipFile(zipPath.toFile())) {
+            if (zipFile.size() > maxEntries) {
+                throw new ZipException("Too many zip entries [entries:" + zipFile.size() + ", max:" + maxEntries + "]");
+            }
+            Files.createDirectories(root);
+            final byte[] buffer = acquireBuffer();
+            try {
+                long expandedSize = 0;
+                final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                while (entries.hasMoreElements()) {
+                    final ZipEntry entry = entries.nextElement();
+                    final Path target = root.resolve(entry.getName()).normalize();
+                    if (!target.startsWith(root) || target.equals(root)) {
+                        throw new ZipException("Zip entry outside of destination [entry:" + entry.getName() + "]");
+                    }
+                    if (entry.isDirectory()) {
+                        Files.createDirectories(target);
+                    } else {
+                        Files.createDirectories(target.getParent());
+                        expandedSize += copy(zipFile, entry, target, buffer, expandedSize);
+                    }
+                }
+                log.debug("Zip extracted [zip:{}, entries:{}, expandedSize:{}]", zipPath, zipFile.size(), expandedSize);
+            } finally {
+                releaseBuffer(buffer);
+            }
+        }
+    }
+
+    byte[] acquireBuffer() throws IOException {
+        final byte[] buffer;
+        try {
+            buffer = buffers.poll(bufferWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a zip extraction buffer");
+        }
+        if (buffer == null) {
+            throw new IOException("No zip extraction buffer freed in time [bufferWaitNanos:" + bufferWaitNanos + "]");
+        }
+        return buffer;
+    }
+
+    void releaseBuffer(final byte[] buffer) {
+        buffers.add(buffer);
+    }
+
+    /**
+     * Copies an entry to a file, checking limits after each read.
+     *
+     * @return The expanded size of the entry
+     */
+    private long copy(final ZipFile zipFile, final ZipEntry entry, final Path target,
+                      final byte[] buffer, final long expandedSize) throws IOException {
+        final long maxEntrySize = Math.max(entry.getCompressedSize(), 1L) * maxCompressionRatio;
+        long entrySize = 0;
+        try (InputStream in = zipFile.getInputStream(entry);
+             FileChannel out = FileChannel.open(target,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                entrySize += read;
+                if (expandedSize + entrySize > maxExpandedSize) {
+                    throw new ZipException("Zip expanded size exceeds limit [entry:" + entry.getName()
+                            + ", max:" + maxExpandedSize + "]");
+                }
+                if (entrySize > maxEntrySize) {
+                    throw new ZipException("Zip entry compression ratio exceeds limit [entry:" + entry.getName()
+                            + ", compressedSize:" + entry.getCompressedSize() + ", max:" + maxCompressionRatio + "]");
+                }
+                final ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                while (chunk.hasRemaining()) {
+                    out.write(chunk);
+                }
+            }
+        }
+        return entrySize;
+    }
+}
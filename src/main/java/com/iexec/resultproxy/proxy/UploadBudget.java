@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global budget bounding the memory held by concurrent result uploads, shared by the servlet and reactive stacks.
+ * <p>
+ * Each upload holds a {@link Share} of the budget, counted in permits of 1 KiB, from before its body is read until
+ * it is processed. When the budget is exhausted, a share waits in arrival order for at most the configured duration.
+ * The share of an upload of unknown length starts at a fixed size and grows by the same step each time the bytes
+ * read exceed it.
+ */
+@Slf4j
+@Component
+public class UploadBudget {
+
+    public static final String METRIC_BYTES_IN_USE = "iexec.upload.budget.bytes.in.use";
+    public static final String METRIC_BYTES_WAITING = "iexec.upload.budget.bytes.waiting";
+    public static final String METRIC_REJECTIONS = "iexec.upload.budget.rejections";
+    static final String REJECTION_TOO_LARGE = "too_large";
+    static final String REJECTION_EXHAUSTED = "exhausted";
+    private static final int PERMIT_SIZE = 1024;
+
+    private final int maxPermits;
+    private final long maxBytes;
+    private final long maxWaitNanos;
+    private final long unknownLengthShare;
+    private final String retryAfterSeconds;
+    private final Semaphore budget;
+    private final AtomicLong bytesInUse = new AtomicLong();
+    private final AtomicLong bytesWaiting = new AtomicLong();
+
+    public UploadBudget(final UploadBudgetConfig uploadBudgetConfig) {
+        this.maxPermits = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(1L, uploadBudgetConfig.getMaxInFlight().toBytes() / PERMIT_SIZE));
+        this.maxBytes = (long) maxPermits * PERMIT_SIZE;
+        this.maxWaitNanos = uploadBudgetConfig.getMaxWait().toNanos();
+        this.unknownLengthShare = Math.max(1L, Math.min(uploadBudgetConfig.getUnknownLengthShare().toBytes(), maxBytes));
+        this.retryAfterSeconds = String.valueOf(Math.max(1L, uploadBudgetConfig.getMaxWait().toSeconds()));
+        this.budget = new Semaphore(maxPermits, true);
+        Gauge.builder(METRIC_BYTES_IN_USE, bytesInUse, AtomicLong::get)
+                .description("Bytes of result uploads being processed")
+                .baseUnit("bytes")
+                .register(Metrics.globalRegistry);
+        Gauge.builder(METRIC_BYTES_WAITING, bytesWaiting, AtomicLong::get)
+                .description("Bytes of result uploads waiting for the upload budget")
+                .baseUnit("bytes")
+                .register(Metrics.globalRegistry);
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    long getUnknownLengthShare() {
+        return unknownLengthShare;
+    }
+
+    String getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    long getBytesInUse() {
+        return bytesInUse.get();
+    }
+
+    /**
+     * Creates an empty share, to be grown before the body of its upload is read.
+     *
+     * @param onExhausted Called before an {@link UploadBudgetExhaustedException} is thrown while the body is read
+     * @return The share, to be released once the upload is processed
+     */
+    Share newShare(final Runnable onExhausted) {
+        return new Share(onExhausted);
+    }
+
+    static void countRejection(final String reason) {
+        Counter.builder(METRIC_REJECTIONS)
+                .description("Result uploads rejected by the upload budget")
+                .tag("reason", reason)
+                .register(Metrics.globalRegistry)
+                .increment();
+    }
+
+    private boolean acquire(final int permits, final long bytes) {
+        bytesWaiting.addAndGet(bytes);
+        try {
+            return budget.tryAcquire(permits, maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            bytesWaiting.addAndGet(-bytes);
+        }
+    }
+
+    /**
+     * Part of the budget held by an upload.
+     * <p>
+     * A share is grown by a single reader at a time. It may be released while it is growing, when the upload
+     * is cancelled, the permits acquired by the growth in progress are then given back as soon as they are acquired.
+     */
+    final class Share {
+        private final Runnable onExhausted;
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicInteger permits = new AtomicInteger();
+        private volatile boolean released;
+
+        private Share(final Runnable onExhausted) {
+            this.onExhausted = onExhausted;
+        }
+
+        /**
+         * Tells whether the share holds a number of bytes without growing.
+         */
+        boolean holds(final long neededBytes) {
+            return neededBytes <= bytes.get();
+        }
+
+        /**
+         * Grows the share to hold at least a number of bytes, waiting for the budget to free up.
+         *
+         * @return {@literal false} if the budget did not free up in time, the share is then left unchanged
+         */
+        boolean growTo(final long neededBytes) {
+            final long heldBytes = bytes.get();
+            if (neededBytes <= heldBytes) {
+                return true;
+            }
+            final int extraPermits = (int) ((neededBytes + PERMIT_SIZE - 1) / PERMIT_SIZE) - permits.get();
+            final long extraBytes = neededBytes - heldBytes;
+            if (released || !acquire(extraPermits, extraBytes)) {
+                log.warn("Upload rejected, upload budget exhausted [share:{}, bytesInUse:{}, bytesWaiting:{}]",
+                        neededBytes, bytesInUse.get(), bytesWaiting.get());
+                return false;
+            }
+            permits.addAndGet(extraPermits);
+            bytes.addAndGet(extraBytes);
+            bytesInUse.addAndGet(extraBytes);
+            if (released) {
+                releaseHeld();
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Grows the share of an upload of unknown length by a fixed step once the bytes it read exceed it.
+         *
+         * @param readBytes Bytes read so far
+         * @throws UploadTooLargeException        If more bytes than the whole budget were read
+         * @throws UploadBudgetExhaustedException If the budget did not free up in time
+         */
+        void account(final long readBytes) throws IOException {
+            if (holds(readBytes)) {
+                return;
+            }
+            if (readBytes > maxBytes) {
+                countRejection(REJECTION_TOO_LARGE);
+                throw new UploadTooLargeException(maxBytes);
+            }
+            if (!growTo(Math.min(maxBytes, Math.max(readBytes, bytes.get() + unknownLengthShare)))) {
+                countRejection(REJECTION_EXHAUSTED);
+                onExhausted.run();
+                throw new UploadBudgetExhaustedException(readBytes);
+            }
+        }
+
+        void release() {
+            released = true;
+            releaseHeld();
+        }
+
+        private void releaseHeld() {
+            bytesInUse.addAndGet(-bytes.getAndSet(0L));
+            budget.release(permits.getAndSet(0));
+        }
+    }
+}
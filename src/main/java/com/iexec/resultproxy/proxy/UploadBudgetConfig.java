@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings of the global in-flight upload memory budget.
+ * <p>
+ * Result uploads being processed hold at most {@code maxInFlight} bytes of request bodies, as declared by their
+ * {@code Content-Length}. Chunked and compressed uploads, whose decoded size is not declared, first hold
+ * {@code unknownLengthShare} bytes, then one more {@code unknownLengthShare} each time their decoded body grows larger.
+ * An upload waits at most {@code maxWait} for its share of the budget before being rejected.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "upload-budget")
+public class UploadBudgetConfig {
+    @NotNull(message = "Upload budget max in-flight size must not be null")
+    DataSize maxInFlight;
+
+    @DurationMin(seconds = 0, message = "Upload budget max wait must not be negative")
+    @NotNull(message = "Upload budget max wait must not be null")
+    Duration maxWait;
+
+    @NotNull(message = "Upload budget unknown length share must not be null")
+    DataSize unknownLengthShare;
+}
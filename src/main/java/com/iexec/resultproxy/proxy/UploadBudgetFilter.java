@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Bounds the memory held by concurrent {@code POST /v1/results} requests with the {@link UploadBudget}.
+ * <p>
+ * Each upload holds its JSON body, the decoded zip and a copy sent to the result storage at the same time.
+ * Before its body is read, an upload acquires a share of the budget equal to its {@code Content-Length},
+ * rounded up to the next KiB, and releases it once processed. When the budget is exhausted, the upload waits in
+ * arrival order for at most the configured duration.
+ * <p>
+ * This filter runs after {@link ContentEncodingFilter}. Chunked and compressed uploads, whose decoded size is not
+ * declared, first acquire a fixed share. Their decoded bytes are counted while the body is read, and the share
+ * grows by the same fixed step each time they exceed it, waiting for the budget like a new upload would.
+ * <ul>
+ * <li>HTTP 413 (CONTENT TOO LARGE) - If the upload is larger than the whole budget.
+ * <li>HTTP 503 (SERVICE UNAVAILABLE) - If the budget did not free up in time, with a {@code Retry-After} header.
+ * </ul>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class UploadBudgetFilter extends OncePerRequestFilter {
+
+    private static final String RESULTS_PATH = "/v1/results";
+
+    private final UploadBudget uploadBudget;
+
+    public UploadBudgetFilter(final UploadBudget uploadBudget) {
+        this.uploadBudget = uploadBudget;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !RESULTS_PATH.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final long contentLength = request.getContentLengthLong();
+        final boolean lengthDeclared = contentLength >= 0;
+        final long initialBytes = lengthDeclared ? contentLength : uploadBudget.getUnknownLengthShare();
+        if (initialBytes > uploadBudget.getMaxBytes()) {
+            log.warn("Upload rejected, larger than upload budget [contentLength:{}, budget:{}]",
+                    contentLength, uploadBudget.getMaxBytes());
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, UploadBudget.REJECTION_TOO_LARGE);
+            return;
+        }
+        final UploadBudget.Share share = uploadBudget.newShare(
+                () -> response.setHeader(HttpHeaders.RETRY_AFTER, uploadBudget.getRetryAfterSeconds()));
+        if (!share.growTo(initialBytes)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, uploadBudget.getRetryAfterSeconds());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, UploadBudget.REJECTION_EXHAUSTED);
+            return;
+        }
+        try {
+            final HttpServletRequest budgetedRequest = lengthDeclared ? request : new ContentEncodingFilter.DecodedRequest(
+                    request, new BudgetedInputStream(request.getInputStream(), share, 0L));
+            filterChain.doFilter(budgetedRequest, response);
+        } finally {
+            share.release();
+        }
+    }
+
+    private void reject(final HttpServletResponse response, final HttpStatus status, final String reason) throws IOException {
+        UploadBudget.countRejection(reason);
+        response.sendError(status.value());
+    }
+}
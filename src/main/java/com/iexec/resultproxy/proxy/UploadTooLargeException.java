@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.IOException;
+
+/**
+ * Thrown while reading a result upload body larger than the size it was admitted for.
+ * <p>
+ * Spring MVC answers HTTP 413 (CONTENT TOO LARGE) when it is found in the cause chain of a failed body read.
+ */
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+class UploadTooLargeException extends IOException {
+    UploadTooLargeException(final long limit) {
+        super("Upload body larger than " + limit + " bytes");
+    }
+}
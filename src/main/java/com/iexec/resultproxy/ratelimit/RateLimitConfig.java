@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ratelimit;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Per-wallet admission control settings.
+ * <p>
+ * A wallet may issue up to {@code capacity} requests in a burst, then one more request every {@code refillInterval}.
+ * Buckets of wallets which stayed idle for {@code idleTimeout} are evicted, {@code maxWallets} buckets at most are kept.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitConfig {
+    @Positive(message = "Rate limit capacity must be greater than 0")
+    int capacity;
+
+    @DurationMin(millis = 1, message = "Rate limit refill interval must be greater than 1ms")
+    @NotNull(message = "Rate limit refill interval must not be null")
+    Duration refillInterval;
+
+    @Positive(message = "Rate limit max wallets must be greater than 0")
+    int maxWallets;
+
+    @DurationMin(seconds = 1, message = "Rate limit idle timeout must be greater than 1s")
+    @NotNull(message = "Rate limit idle timeout must not be null")
+    Duration idleTimeout;
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jodah.expiringmap.ExpirationPolicy;
+import net.jodah.expiringmap.ExpiringMap;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-wallet admission control.
+ * <p>
+ * Each wallet owns a {@link TokenBucket}, buckets are stored in a bounded map and evicted after an idle period.
+ * An evicted bucket is recreated full, the idle timeout should then be longer than the time needed to refill a bucket.
+ */
+@Slf4j
+@Service
+public class RateLimiterService {
+
+    private final int capacity;
+    private final long refillIntervalNanos;
+    private final ExpiringMap<String, TokenBucket> buckets;
+
+    public RateLimiterService(final RateLimitConfig rateLimitConfig) {
+        this.capacity = rateLimitConfig.getCapacity();
+        this.refillIntervalNanos = rateLimitConfig.getRefillInterval().toNanos();
+        this.buckets = ExpiringMap.builder()
+                .maxSize(rateLimitConfig.getMaxWallets())
+                .expiration(rateLimitConfig.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .expirationPolicy(ExpirationPolicy.ACCESSED)
+                .build();
+    }
+
+    /**
+     * Tries to admit a request for a wallet.
+     * <p>
+     * Requests without wallet address are always admitted, they are expected to be rejected by later checks.
+     *
+     * @param walletAddress Wallet address of the requester
+     * @return An empty {@code Optional} if the request is admitted, the delay before a new request could be admitted otherwise
+     */
+    public Optional<Duration> tryAcquire(final String walletAddress) {
+        if (StringUtils.isEmpty(walletAddress)) {
+            return Optional.empty();
+        }
+        final long now = System.nanoTime();
+        final TokenBucket bucket = buckets.computeIfAbsent(walletAddress.toLowerCase(Locale.ROOT),
+                key -> new TokenBucket(capacity, refillIntervalNanos, now));
+        final long waitNanos = bucket.tryConsume(now);
+        if (waitNanos == 0L) {
+            return Optional.empty();
+        }
+        log.warn("Request rejected, rate limit exceeded [walletAddress:{}, retryAfter:{}ms]",
+                walletAddress, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        return Optional.of(Duration.ofNanos(waitNanos));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * The bucket state is held in a single {@code long}, the theoretical arrival time of the next request,
+ * as done in the generic cell rate algorithm. Consuming a token is a single compare-and-set on this value.
+ */
+class TokenBucket {
+
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    TokenBucket(final int capacity, final long refillIntervalNanos, final long nowNanos) {
+        this.refillIntervalNanos = refillIntervalNanos;
+        this.burstNanos = capacity * refillIntervalNanos;
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tries to consume a token.
+     *
+     * @param nowNanos Current time as given by {@link System#nanoTime()}
+     * @return {@literal 0} if a token has been consumed, the delay in nanoseconds before a token is available otherwise
+     */
+    long tryConsume(final long nowNanos) {
+        while (true) {
+            final long tat = theoreticalArrivalTime.get();
+            final long newTat = (tat - nowNanos > 0 ? tat : nowNanos) + refillIntervalNanos;
+            final long waitNanos = newTat - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                return 0L;
+            }
+        }
+    }
+}
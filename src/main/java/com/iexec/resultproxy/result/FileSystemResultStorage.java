@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.result;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Stores results in a content-addressed directory tree on the local filesystem.
+ * <p>
+ * A result is stored at {@code <directory>/<sha256[0:2]>/<sha256[2:4]>/<sha256>}, identical results are stored once.
+ * Results are written to a temporary file, forced to disk and atomically moved to their final path,
+ * a partially written result is then never visible.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "result-storage.type", havingValue = "filesystem")
+public class FileSystemResultStorage implements ResultStorage {
+
+    private static final String TMP_DIRECTORY = "tmp";
+
+    private final Path root;
+    private final Path tmpDirectory;
+
+    public FileSystemResultStorage(FileSystemResultStorageConfig config) throws IOException {
+        this.root = Path.of(config.getDirectory());
+        this.tmpDirectory = root.resolve(TMP_DIRECTORY);
+        Files.createDirectories(tmpDirectory);
+    }
+
+    @Override
+    public ResultStorageType getType() {
+        return ResultStorageType.FILESYSTEM;
+    }
+
+    @Override
+    public String computeLocationId(byte[] data) {
+        return ResultDigest.sha256Hex(data);
+    }
+
+    @Override
+    public String store(String chainTaskId, byte[] data) {
+        final String locationId = computeLocationId(data);
+        final Path path = getPath(locationId);
+        if (Files.exists(path)) {
+            log.debug("Result already stored [chainTaskId:{}, locationId:{}]", chainTaskId, locationId);
+            return locationId;
+        }
+        Path tmpFile = null;
+        try {
+            Files.createDirectories(path.getParent());
+            tmpFile = Files.createTempFile(tmpDirectory, locationId, ".zip");
+            try (FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.WRITE)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(tmpFile, path, StandardCopyOption.ATOMIC_MOVE);
+            return locationId;
+        } catch (FileAlreadyExistsException e) {
+            return locationId;
+        } catch (IOException e) {
+            log.error("Failed to store result [chainTaskId:{}, path:{}]", chainTaskId, path, e);
+            return "";
+        } finally {
+            deleteQuietly(tmpFile);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> load(String locationId) {
+        if (!ResultDigest.isSha256Hex(locationId)) {
+            return Optional.empty();
+        }
+        final Path path = getPath(locationId);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read until the buffer is full
+            }
+            return Optional.of(buffer.array());
+        } catch (NoSuchFileException e) {
+            log.warn("Result not found [locationId:{}]", locationId);
+        } catch (IOException | ArithmeticException e) {
+            log.error("Failed to load result [locationId:{}]", locationId, e);
+        }
+        return Optional.empty();
+    }
+
+    Path getPath(String locationId) {
+        return root.resolve(locationId.substring(0, 2)).resolve(locationId.substring(2, 4)).resolve(locationId);
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary result file [file:{}]", file, e);
+        }
+    }
+}
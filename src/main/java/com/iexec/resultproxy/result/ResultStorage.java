@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.result;
+
+import java.util.Optional;
+
+/**
+ * Backend storing result zips.
+ * <p>
+ * Results are addressed by a location ID derived from their content, the link returned to workers is the location ID
+ * qualified by the backend link prefix, for instance {@code /ipfs/<cid>} or {@code /file/<sha256>}.
+ * The backend is selected with the {@code result-storage.type} property, IPFS being the default.
+ */
+public interface ResultStorage {
+
+    ResultStorageType getType();
+
+    /**
+     * Computes the location ID a result will be stored at, without storing it.
+     *
+     * @param data Result as a zip
+     * @return The location ID
+     */
+    String computeLocationId(byte[] data);
+
+    /**
+     * Stores a result.
+     *
+     * @param chainTaskId ID of the task
+     * @param data        Result as a zip
+     * @return The location ID, or an empty string if the result could not be stored
+     */
+    String store(String chainTaskId, byte[] data);
+
+    /**
+     * Loads a result.
+     *
+     * @param locationId Location ID returned when the result was stored
+     * @return The result, or an empty {@code Optional} if the location ID is invalid or the result could not be loaded
+     */
+    Optional<byte[]> load(String locationId);
+
+    default String toLink(String locationId) {
+        return getType().getLinkPrefix() + locationId;
+    }
+}
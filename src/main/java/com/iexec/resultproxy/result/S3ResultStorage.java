@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.result;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * Stores results as objects of an S3-compatible bucket, keyed by the SHA-256 of their content.
+ * <p>
+ * The bucket is created at startup if it does not exist.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "result-storage.type", havingValue = "s3")
+public class S3ResultStorage implements ResultStorage {
+
+    private static final String CONTENT_TYPE = "application/zip";
+
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3ResultStorage(S3ResultStorageConfig config) {
+        final S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(config.getRegion()))
+                .forcePathStyle(config.isPathStyleAccess())
+                .credentialsProvider(StringUtils.isEmpty(config.getAccessKey())
+                        ? DefaultCredentialsProvider.create()
+                        : StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(config.getAccessKey(), config.getSecretKey())));
+        if (StringUtils.isNotEmpty(config.getEndpoint())) {
+            builder.endpointOverride(URI.create(config.getEndpoint()));
+        }
+        this.s3Client = builder.build();
+        this.bucket = config.getBucket();
+    }
+
+    @PostConstruct
+    void createBucketIfMissing() {
+        try {
+            s3Client.headBucket(request -> request.bucket(bucket));
+        } catch (NoSuchBucketException e) {
+            log.info("Creating S3 result bucket [bucket:{}]", bucket);
+            s3Client.createBucket(request -> request.bucket(bucket));
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        s3Client.close();
+    }
+
+    @Override
+    public ResultStorageType getType() {
+        return ResultStorageType.S3;
+    }
+
+    @Override
+    public String computeLocationId(byte[] data) {
+        return ResultDigest.sha256Hex(data);
+    }
+
+    @Override
+    public String store(String chainTaskId, byte[] data) {
+        final String locationId = computeLocationId(data);
+        try {
+            s3Client.putObject(request -> request
+                            .bucket(bucket)
+                            .key(locationId)
+                            .contentType(CONTENT_TYPE)
+                            .contentLength((long) data.length),
+                    RequestBody.fromInputStream(new ByteArrayInputStream(data), data.length));
+            return locationId;
+        } catch (SdkException e) {
+            log.error("Failed to store result [chainTaskId:{}, bucket:{}, key:{}]", chainTaskId, bucket, locationId, e);
+            return "";
+        }
+    }
+
+    @Override
+    public Optional<byte[]> load(String locationId) {
+        if (!ResultDigest.isSha256Hex(locationId)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(s3Client.getObjectAsBytes(request -> request.bucket(bucket).key(locationId))
+                    .asByteArray());
+        } catch (NoSuchKeyException e) {
+            log.warn("Result not found [bucket:{}, key:{}]", bucket, locationId);
+        } catch (SdkException e) {
+            log.error("Failed to load result [bucket:{}, key:{}]", bucket, locationId, e);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.result;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration of the S3-compatible result storage.
+ * <p>
+ * An empty endpoint targets AWS S3, an empty access key uses the default AWS credentials provider chain.
+ */
+@Value
+@Validated
+@ConfigurationProperties(prefix = "result-storage.s3")
+public class S3ResultStorageConfig {
+    String endpoint;
+
+    @NotEmpty(message = "S3 result storage region must not be empty")
+    String region;
+
+    @NotEmpty(message = "S3 result storage bucket must not be empty")
+    String bucket;
+
+    String accessKey;
+    String secretKey;
+    boolean pathStyleAccess;
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import com.iexec.resultproxy.authorization.Authorization;
+import com.iexec.resultproxy.authorization.AuthorizationStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Embedded {@link AuthorizationStore}, documents are identified by their task ID and worker wallet.
+ * Documents are not versioned and the given document is returned as is on save.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "embedded")
+public class EmbeddedAuthorizationStore extends EmbeddedStore<Authorization> implements AuthorizationStore {
+
+    public EmbeddedAuthorizationStore(EmbeddedStorageConfig config) {
+        super(config, "authorizations");
+    }
+
+    @Override
+    public Optional<Authorization> findByChainTaskIdAndWorkerWallet(String chainTaskId, String workerWallet) {
+        return find(getKey(chainTaskId, workerWallet));
+    }
+
+    @Override
+    public <S extends Authorization> S save(S authorization) {
+        final String key = getKey(authorization.getChainTaskId(), authorization.getWorkerWallet());
+        if (authorization.getId() == null) {
+            insert(key, authorization);
+        } else {
+            upsert(key, authorization);
+        }
+        return authorization;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        delete(id);
+    }
+
+    @Override
+    public Optional<Authorization> deleteByChainTaskIdAndWorkerWallet(String chainTaskId, String workerWallet) {
+        return findAndDelete(getKey(chainTaskId, workerWallet));
+    }
+
+    @Override
+    protected void encode(Authorization authorization, DataOutput output) throws IOException {
+        writeNullableString(output, authorization.getChainTaskId());
+        writeNullableString(output, authorization.getWorkerWallet());
+        writeNullableString(output, authorization.getEnclaveChallenge());
+    }
+
+    @Override
+    protected Authorization decode(String key, DataInput input) throws IOException {
+        return new Authorization(key, null,
+                readNullableString(input), readNullableString(input), readNullableString(input));
+    }
+
+    private static String getKey(String chainTaskId, String workerWallet) {
+        return chainTaskId + "/" + workerWallet;
+    }
+}
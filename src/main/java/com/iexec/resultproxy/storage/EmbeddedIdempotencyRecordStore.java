@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import com.iexec.resultproxy.idempotency.IdempotencyRecord;
+import com.iexec.resultproxy.idempotency.IdempotencyRecordStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Embedded {@link IdempotencyRecordStore}, documents are not versioned and the given document is returned as is on save.
+ * <p>
+ * Expired records are deleted when they are looked up.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "embedded")
+public class EmbeddedIdempotencyRecordStore extends EmbeddedStore<IdempotencyRecord> implements IdempotencyRecordStore {
+
+    public EmbeddedIdempotencyRecordStore(EmbeddedStorageConfig config) {
+        super(config, "idempotency-records");
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> findByKey(String key) {
+        final Optional<IdempotencyRecord> idempotencyRecord = find(key);
+        if (idempotencyRecord.isPresent() && !idempotencyRecord.get().getExpiresAt().isAfter(Instant.now())) {
+            delete(key);
+            return Optional.empty();
+        }
+        return idempotencyRecord;
+    }
+
+    @Override
+    public <S extends IdempotencyRecord> S save(S idempotencyRecord) {
+        if (idempotencyRecord.getId() == null) {
+            insert(idempotencyRecord.getKey(), idempotencyRecord);
+        } else {
+            upsert(idempotencyRecord.getKey(), idempotencyRecord);
+        }
+        return idempotencyRecord;
+    }
+
+    @Override
+    protected void encode(IdempotencyRecord idempotencyRecord, DataOutput output) throws IOException {
+        writeNullableString(output, idempotencyRecord.getPayloadDigest());
+        output.writeInt(idempotencyRecord.getStatus());
+        writeNullableString(output, idempotencyRecord.getBody());
+        output.writeLong(idempotencyRecord.getExpiresAt().toEpochMilli());
+    }
+
+    @Override
+    protected IdempotencyRecord decode(String key, DataInput input) throws IOException {
+        final String payloadDigest = readNullableString(input);
+        final int status = input.readInt();
+        final String body = readNullableString(input);
+        final Instant expiresAt = Instant.ofEpochMilli(input.readLong());
+        return new IdempotencyRecord(key, null, key, payloadDigest, status, body, expiresAt);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import com.iexec.resultproxy.ipfs.task.IpfsName;
+import com.iexec.resultproxy.ipfs.task.IpfsNameStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Primary
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "embedded")
+public class EmbeddedIpfsNameStore extends EmbeddedStore<IpfsName> implements IpfsNameStore {
+
+    public EmbeddedIpfsNameStore(EmbeddedStorageConfig config) {
+        super(config, "ipfs-names");
+    }
+
+    @Override
+    public Optional<IpfsName> findByTaskId(String taskId) {
+        return find(taskId);
+    }
+
+    @Override
+    public Stream<IpfsName> findAllByOrderByIdDesc(Limit limit) {
+        return findLatest(limit.isUnlimited() ? Integer.MAX_VALUE : limit.max()).stream();
+    }
+
+    @Override
+    public <S extends IpfsName> S save(S ipfsName) {
+        if (ipfsName.getId() == null) {
+            insert(ipfsName.getTaskId(), ipfsName);
+            ipfsName.setId(ipfsName.getTaskId());
+        } else {
+            upsert(ipfsName.getTaskId(), ipfsName);
+        }
+        return ipfsName;
+    }
+
+    @Override
+    public void deleteByTaskId(String taskId) {
+        delete(taskId);
+    }
+
+    @Override
+    protected void encode(IpfsName ipfsName, DataOutput output) throws IOException {
+        writeNullableString(output, ipfsName.getIpfsHash());
+    }
+
+    @Override
+    protected IpfsName decode(String taskId, DataInput input) throws IOException {
+        final IpfsName ipfsName = new IpfsName(taskId, readNullableString(input));
+        ipfsName.setId(taskId);
+        return ipfsName;
+    }
+}
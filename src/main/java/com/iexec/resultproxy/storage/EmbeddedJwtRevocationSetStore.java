@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import com.iexec.resultproxy.jwt.JwtRevocationSet;
+import com.iexec.resultproxy.jwt.JwtRevocationSetStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Embedded {@link JwtRevocationSetStore}, documents are not versioned and the given document is returned as is on save.
+ * <p>
+ * An embedded store is only used by a single replica, concurrent revocations are hence never detected.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "embedded")
+public class EmbeddedJwtRevocationSetStore extends EmbeddedStore<JwtRevocationSet> implements JwtRevocationSetStore {
+
+    public EmbeddedJwtRevocationSetStore(EmbeddedStorageConfig config) {
+        super(config, "jwt-revocations");
+    }
+
+    @Override
+    public Optional<JwtRevocationSet> findById(String id) {
+        return find(id);
+    }
+
+    @Override
+    public <S extends JwtRevocationSet> S save(S jwtRevocationSet) {
+        upsert(jwtRevocationSet.getId(), jwtRevocationSet);
+        return jwtRevocationSet;
+    }
+
+    @Override
+    protected void encode(JwtRevocationSet jwtRevocationSet, DataOutput output) throws IOException {
+        final Map<String, Instant> revokedBefore = jwtRevocationSet.getRevokedBefore();
+        output.writeInt(revokedBefore.size());
+        for (final Map.Entry<String, Instant> revocation : revokedBefore.entrySet()) {
+            output.writeUTF(revocation.getKey());
+            output.writeLong(revocation.getValue().toEpochMilli());
+        }
+    }
+
+    @Override
+    protected JwtRevocationSet decode(String id, DataInput input) throws IOException {
+        final int size = input.readInt();
+        final Map<String, Instant> revokedBefore = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            revokedBefore.put(input.readUTF(), Instant.ofEpochMilli(input.readLong()));
+        }
+        return new JwtRevocationSet(id, null, revokedBefore);
+    }
+}
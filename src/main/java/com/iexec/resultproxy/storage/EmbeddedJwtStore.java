@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import com.iexec.resultproxy.jwt.Jwt;
+import com.iexec.resultproxy.jwt.JwtStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Embedded {@link JwtStore}, documents are not versioned and the given document is returned as is on save.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "embedded")
+public class EmbeddedJwtStore extends EmbeddedStore<Jwt> implements JwtStore {
+
+    public EmbeddedJwtStore(EmbeddedStorageConfig config) {
+        super(config, "jwts");
+    }
+
+    @Override
+    public Optional<Jwt> findByWalletAddress(String walletAddress) {
+        return find(walletAddress);
+    }
+
+    @Override
+    public <S extends Jwt> S save(S jwt) {
+        if (jwt.getId() == null) {
+            insert(jwt.getWalletAddress(), jwt);
+        } else {
+            upsert(jwt.getWalletAddress(), jwt);
+        }
+        return jwt;
+    }
+
+    @Override
+    protected void encode(Jwt jwt, DataOutput output) throws IOException {
+        writeNullableString(output, jwt.getJwtString());
+    }
+
+    @Override
+    protected Jwt decode(String walletAddress, DataInput input) throws IOException {
+        return new Jwt(walletAddress, null, walletAddress, readNullableString(input));
+    }
+}
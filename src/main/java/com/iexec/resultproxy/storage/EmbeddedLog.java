@@ -0,0 +1,471 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only key-value log file with an in-memory {@link LongHashIndex}.
+ * <p>
+ * Each write appends a record and forces it to disk before the index is updated, records are laid out as follows:
+ * <pre>
+ * | CRC32C of the following fields (4) | type (1) | key length (2) | value length (4) | key | value |
+ * </pre>
+ * The index maps a 64-bit fingerprint of each live key to a handle packing the position and the length of its
+ * latest record, a lookup then costs one positional read. The index is rebuilt by replaying the log when it is
+ * opened, a torn record at the end of the log, left by a crash during a write, is truncated.
+ * <p>
+ * Overwritten and deleted records remain in the file until {@link #compact()} rewrites live records to a new file,
+ * in their original order.
+ * Reads are concurrent, writes are serialized.
+ */
+@Slf4j
+class EmbeddedLog implements Closeable {
+
+    static final int HEADER_SIZE = 11;
+    static final int MAX_RECORD_SIZE = (1 << 24) - 1;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int LENGTH_BITS = 24;
+    private static final long LENGTH_MASK = (1L << LENGTH_BITS) - 1;
+    private static final int INITIAL_INDEX_SIZE = 1024;
+    private static final String COMPACTION_SUFFIX = ".compact";
+
+    private final Path path;
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private final Object writeLock = new Object();
+    private FileChannel channel;
+    private LongHashIndex index;
+    private long size;
+    private long liveBytes;
+
+    EmbeddedLog(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Opens the log file, creating it if needed, and rebuilds the index by replaying it.
+     *
+     * @throws IOException if the log cannot be read
+     */
+    void open() throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.deleteIfExists(path.resolveSibling(path.getFileName() + COMPACTION_SUFFIX));
+        synchronized (writeLock) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            index = new LongHashIndex(INITIAL_INDEX_SIZE);
+            liveBytes = 0;
+            size = replay();
+        }
+    }
+
+    Optional<byte[]> get(final String key) {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final byte[][] found = new byte[1][];
+        indexLock.readLock().lock();
+        try {
+            index.get(fingerprint(keyBytes), handle -> {
+                final byte[] record = readRecord(handle);
+                if (hasKey(record, keyBytes)) {
+                    found[0] = record;
+                    return true;
+                }
+                return false;
+            });
+        } finally {
+            indexLock.readLock().unlock();
+        }
+        if (found[0] == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.copyOfRange(found[0], HEADER_SIZE + keyBytes.length, found[0].length));
+    }
+
+    /**
+     * Writes a value for a key.
+     *
+     * @param key          Key
+     * @param value        Value
+     * @param onlyIfAbsent Whether an existing value must be kept
+     * @return {@literal true} if the value has been written, {@literal false} if the key exists and was kept
+     * @throws IOException if the record cannot be written
+     */
+    boolean put(final String key, final byte[] value, final boolean onlyIfAbsent) throws IOException {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final long fingerprint = fingerprint(keyBytes);
+        synchronized (writeLock) {
+            if (onlyIfAbsent && index.get(fingerprint, isKey(keyBytes)) != LongHashIndex.NOT_FOUND) {
+                return false;
+            }
+            final long handle = append(PUT, keyBytes, value);
+            final long previous;
+            indexLock.writeLock().lock();
+            try {
+                previous = index.put(fingerprint, handle, isKey(keyBytes));
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+            liveBytes += lengthOf(handle);
+            if (previous != LongHashIndex.NOT_FOUND) {
+                liveBytes -= lengthOf(previous);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key Key
+     * @return {@literal true} if the key existed, {@literal false} otherwise
+     * @throws IOException if the record cannot be written
+     */
+    boolean remove(final String key) throws IOException {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final long fingerprint = fingerprint(keyBytes);
+        synchronized (writeLock) {
+            if (index.get(fingerprint, isKey(keyBytes)) == LongHashIndex.NOT_FOUND) {
+                return false;
+            }
+            append(DELETE, keyBytes, new byte[0]);
+            final long previous;
+            indexLock.writeLock().lock();
+            try {
+                previous = index.remove(fingerprint, isKey(keyBytes));
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+            liveBytes -= lengthOf(previous);
+            return true;
+        }
+    }
+
+    /**
+     * Removes a key and returns its value, no other write can happen in between.
+     *
+     * @param key Key
+     * @return The removed value, an empty {@code Optional} if the key did not exist
+     * @throws IOException if the record cannot be written
+     */
+    Optional<byte[]> getAndRemove(final String key) throws IOException {
+        synchronized (writeLock) {
+            final Optional<byte[]> value = get(key);
+            if (value.isPresent()) {
+                remove(key);
+            }
+            return value;
+        }
+    }
+
+    int count() {
+        indexLock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the live records which were written last.
+     *
+     * @param limit Maximum number of records to return
+     * @return Keys and values of the records, from the newest to the oldest
+     */
+    List<Map.Entry<String, byte[]>> getLatest(final int limit) {
+        final List<byte[]> records = new ArrayList<>();
+        indexLock.readLock().lock();
+        try {
+            final long[] handles = sortedHandles();
+            for (int i = handles.length - 1; i >= 0 && records.size() < limit; i--) {
+                records.add(readRecord(handles[i]));
+            }
+        } finally {
+            indexLock.readLock().unlock();
+        }
+        final List<Map.Entry<String, byte[]>> entries = new ArrayList<>(records.size());
+        for (final byte[] record : records) {
+            final int keyLength = keyLengthOf(record);
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(
+                    new String(record, HEADER_SIZE, keyLength, StandardCharsets.UTF_8),
+                    Arrays.copyOfRange(record, HEADER_SIZE + keyLength, record.length)));
+        }
+        return entries;
+    }
+
+    long getSize() {
+        synchronized (writeLock) {
+            return size;
+        }
+    }
+
+    /**
+     * Gets the share of the log file occupied by overwritten or deleted records.
+     *
+     * @return A ratio between 0 and 1
+     */
+    double getGarbageRatio() {
+        synchronized (writeLock) {
+            return size == 0 ? 0 : 1 - (double) liveBytes / size;
+        }
+    }
+
+    /**
+     * Rewrites live records to a new log file which atomically replaces the current one.
+     * <p>
+     * Writes are blocked during the compaction, reads are only blocked while the new file is swapped in.
+     *
+     * @throws IOException if the new log file cannot be written
+     */
+    void compact() throws IOException {
+        synchronized (writeLock) {
+            final Path compactionPath = path.resolveSibling(path.getFileName() + COMPACTION_SUFFIX);
+            final LongHashIndex compactedIndex = new LongHashIndex(index.size());
+            long position = 0L;
+            try (FileChannel compactionChannel = FileChannel.open(compactionPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (final long handle : sortedHandles()) {
+                    final byte[] record = readRecord(handle);
+                    writeFully(compactionChannel, ByteBuffer.wrap(record), position);
+                    final long fingerprint = fingerprint(Arrays.copyOfRange(record, HEADER_SIZE, HEADER_SIZE + keyLengthOf(record)));
+                    compactedIndex.put(fingerprint, toHandle(position, record.length), candidate -> false);
+                    position += record.length;
+                }
+                compactionChannel.force(true);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            Files.move(compactionPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            final FileChannel compactedChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            final FileChannel previousChannel = channel;
+            final long previousSize = size;
+            indexLock.writeLock().lock();
+            try {
+                channel = compactedChannel;
+                index = compactedIndex;
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+            size = position;
+            liveBytes = position;
+            previousChannel.close();
+            log.info("Embedded log compacted [path:{}, previousSize:{}, size:{}, entries:{}]",
+                    path, previousSize, size, compactedIndex.size());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writeLock) {
+            indexLock.writeLock().lock();
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+        }
+    }
+
+    private long replay() throws IOException {
+        final long fileSize = channel.size();
+        long position = 0;
+        try (InputStream fileStream = Files.newInputStream(path);
+             DataInputStream input = new DataInputStream(new BufferedInputStream(fileStream, 64 * 1024))) {
+            while (position + HEADER_SIZE <= fileSize) {
+                final int crc = input.readInt();
+                final byte type = input.readByte();
+                final int keyLength = input.readUnsignedShort();
+                final int valueLength = input.readInt();
+                final long recordLength = (long) HEADER_SIZE + keyLength + valueLength;
+                if ((type != PUT && type != DELETE) || valueLength < 0
+                        || recordLength > MAX_RECORD_SIZE || position + recordLength > fileSize) {
+                    break;
+                }
+                final byte[] record = new byte[(int) recordLength];
+                ByteBuffer.wrap(record).putInt(crc).put(type).putShort((short) keyLength).putInt(valueLength);
+                input.readFully(record, HEADER_SIZE, keyLength + valueLength);
+                if (crc != checksum(record)) {
+                    break;
+                }
+                apply(type, Arrays.copyOfRange(record, HEADER_SIZE, HEADER_SIZE + keyLength),
+                        toHandle(position, record.length));
+                position += recordLength;
+            }
+        } catch (EOFException e) {
+            log.debug("Unexpected end of embedded log [path:{}, position:{}]", path, position);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (position < fileSize) {
+            log.warn("Truncating torn or corrupted embedded log records [path:{}, validSize:{}, fileSize:{}]",
+                    path, position, fileSize);
+            channel.truncate(position);
+            channel.force(true);
+        }
+        return position;
+    }
+
+    private void apply(final byte type, final byte[] keyBytes, final long handle) {
+        final long fingerprint = fingerprint(keyBytes);
+        final long previous = type == PUT
+                ? index.put(fingerprint, handle, isKey(keyBytes))
+                : index.remove(fingerprint, isKey(keyBytes));
+        if (type == PUT) {
+            liveBytes += lengthOf(handle);
+        }
+        if (previous != LongHashIndex.NOT_FOUND) {
+            liveBytes -= lengthOf(previous);
+        }
+    }
+
+    private long append(final byte type, final byte[] keyBytes, final byte[] value) throws IOException {
+        final int recordLength = HEADER_SIZE + keyBytes.length + value.length;
+        if (keyBytes.length > 0xFFFF || recordLength > MAX_RECORD_SIZE) {
+            throw new IllegalArgumentException("Record too large [keyLength:" + keyBytes.length
+                    + ", valueLength:" + value.length + "]");
+        }
+        final byte[] record = new byte[recordLength];
+        ByteBuffer.wrap(record)
+                .putInt(0)
+                .put(type)
+                .putShort((short) keyBytes.length)
+                .putInt(value.length)
+                .put(keyBytes)
+                .put(value)
+                .putInt(0, checksum(record));
+        final long position = size;
+        try {
+            writeFully(channel, ByteBuffer.wrap(record), position);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        channel.force(false);
+        size = position + recordLength;
+        return toHandle(position, recordLength);
+    }
+
+    /**
+     * Gets the handles of live records sorted by position, hence in write order.
+     */
+    private long[] sortedHandles() {
+        final long[] handles = new long[index.size()];
+        final int[] count = {0};
+        index.forEach((fingerprint, handle) -> handles[count[0]++] = handle);
+        Arrays.sort(handles);
+        return handles;
+    }
+
+    private LongPredicate isKey(final byte[] keyBytes) {
+        return handle -> hasKey(readRecord(handle), keyBytes);
+    }
+
+    private byte[] readRecord(final long handle) {
+        final ByteBuffer buffer = ByteBuffer.allocate(lengthOf(handle));
+        long position = handle >>> LENGTH_BITS;
+        try {
+            while (buffer.hasRemaining()) {
+                final int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of embedded log [path:" + path + "]");
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.array();
+    }
+
+    private static void writeFully(final FileChannel fileChannel, final ByteBuffer buffer, long position) {
+        try {
+            while (buffer.hasRemaining()) {
+                position += fileChannel.write(buffer, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean hasKey(final byte[] record, final byte[] keyBytes) {
+        final int keyLength = keyLengthOf(record);
+        return keyLength == keyBytes.length
+                && Arrays.equals(record, HEADER_SIZE, HEADER_SIZE + keyLength, keyBytes, 0, keyBytes.length);
+    }
+
+    private static int keyLengthOf(final byte[] record) {
+        return ((record[5] & 0xFF) << 8) | (record[6] & 0xFF);
+    }
+
+    private static int checksum(final byte[] record) {
+        final CRC32C crc = new CRC32C();
+        crc.update(record, 4, record.length - 4);
+        return (int) crc.getValue();
+    }
+
+    private static long toHandle(final long position, final int length) {
+        return (position << LENGTH_BITS) | length;
+    }
+
+    private static int lengthOf(final long handle) {
+        return (int) (handle & LENGTH_MASK);
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash of a key, finalized with the MurmurHash3 mixer to spread low-entropy keys.
+     */
+    static long fingerprint(final byte[] keyBytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte b : keyBytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically compacts embedded stores whose log holds too many overwritten or deleted records.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "embedded")
+public class EmbeddedStorageCompactor {
+
+    private final List<EmbeddedStore<?>> stores;
+    private final EmbeddedStorageConfig config;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    public EmbeddedStorageCompactor(List<EmbeddedStore<?>> stores, EmbeddedStorageConfig config) {
+        this.stores = stores;
+        this.config = config;
+    }
+
+    @PostConstruct
+    void start() {
+        final long intervalMillis = config.getCompactionInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::compact, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    void compact() {
+        for (final EmbeddedStore<?> store : stores) {
+            try {
+                store.compactIfNeeded(config.getCompactionMinSize().toBytes(), config.getCompactionGarbageRatio());
+            } catch (IOException | RuntimeException e) {
+                log.error("Embedded store compaction failed [store:{}]", store.getName(), e);
+            }
+        }
+    }
+}
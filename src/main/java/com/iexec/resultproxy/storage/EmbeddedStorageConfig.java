@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Value;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Value
+@Validated
+@ConfigurationProperties(prefix = "storage.embedded")
+public class EmbeddedStorageConfig {
+    @NotEmpty(message = "Embedded storage directory must not be empty")
+    String directory;
+
+    @DurationMin(seconds = 1, message = "Embedded storage compaction interval must be greater than 1s")
+    @NotNull(message = "Embedded storage compaction interval must not be null")
+    Duration compactionInterval;
+
+    @DecimalMin(value = "0.1", message = "Embedded storage compaction garbage ratio must be greater than 0.1")
+    @DecimalMax(value = "0.9", message = "Embedded storage compaction garbage ratio must be less than 0.9")
+    double compactionGarbageRatio;
+
+    @NotNull(message = "Embedded storage compaction min size must not be null")
+    DataSize compactionMinSize;
+}
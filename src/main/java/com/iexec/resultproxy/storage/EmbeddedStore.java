@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Base class of stores persisting documents in an {@link EmbeddedLog}.
+ * <p>
+ * Documents are identified by a natural key, which is also used as document ID. As with a unique index on MongoDB,
+ * inserting a document whose key already exists fails with a {@link DuplicateKeyException}.
+ * I/O failures are reported as {@link DataAccessResourceFailureException}.
+ *
+ * @param <T> Type of the stored documents
+ */
+@Slf4j
+abstract class EmbeddedStore<T> {
+
+    private final String name;
+    private final EmbeddedLog dataLog;
+
+    protected EmbeddedStore(final EmbeddedStorageConfig config, final String name) {
+        this.name = name;
+        this.dataLog = new EmbeddedLog(Path.of(config.getDirectory()).resolve(name + ".log"));
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        final long start = System.nanoTime();
+        dataLog.open();
+        log.info("Embedded store opened [store:{}, entries:{}, size:{}, openTime:{}ms]",
+                name, dataLog.count(), dataLog.getSize(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        dataLog.close();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int count() {
+        return dataLog.count();
+    }
+
+    /**
+     * Compacts the underlying log when it is large enough and holds enough overwritten or deleted records.
+     *
+     * @param minSize      Size below which the log is never compacted
+     * @param garbageRatio Share of the log which must be garbage to trigger a compaction
+     * @return {@literal true} if the log has been compacted, {@literal false} otherwise
+     * @throws IOException if the compaction failed
+     */
+    boolean compactIfNeeded(final long minSize, final double garbageRatio) throws IOException {
+        if (dataLog.getSize() < minSize || dataLog.getGarbageRatio() < garbageRatio) {
+            return false;
+        }
+        dataLog.compact();
+        return true;
+    }
+
+    protected abstract void encode(T document, DataOutput output) throws IOException;
+
+    protected abstract T decode(String key, DataInput input) throws IOException;
+
+    protected Optional<T> find(final String key) {
+        try {
+            final Optional<byte[]> value = dataLog.get(key);
+            if (value.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(decode(key, new DataInputStream(new ByteArrayInputStream(value.get()))));
+        } catch (IOException | UncheckedIOException e) {
+            throw new DataAccessResourceFailureException("Failed to read from embedded store [store:" + name + "]", e);
+        }
+    }
+
+    /**
+     * Finds the documents which were written last.
+     *
+     * @param limit Maximum number of documents to return
+     * @return The documents, from the newest to the oldest
+     */
+    protected List<T> findLatest(final int limit) {
+        try {
+            final List<T> documents = new ArrayList<>();
+            for (final Map.Entry<String, byte[]> entry : dataLog.getLatest(limit)) {
+                documents.add(decode(entry.getKey(), new DataInputStream(new ByteArrayInputStream(entry.getValue()))));
+            }
+            return documents;
+        } catch (IOException | UncheckedIOException e) {
+            throw new DataAccessResourceFailureException("Failed to read from embedded store [store:" + name + "]", e);
+        }
+    }
+
+    protected void insert(final String key, final T document) {
+        if (!write(key, document, true)) {
+            throw new DuplicateKeyException("Document already exists [store:" + name + ", key:" + key + "]");
+        }
+    }
+
+    protected void upsert(final String key, final T document) {
+        write(key, document, false);
+    }
+
+    protected void delete(final String key) {
+        try {
+            dataLog.remove(key);
+        } catch (IOException | UncheckedIOException e) {
+            throw new DataAccessResourceFailureException("Failed to write to embedded store [store:" + name + "]", e);
+        }
+    }
+
+    /**
+     * Deletes a document and returns it, as a MongoDB {@code findAndRemove} does.
+     *
+     * @param key Key of the document
+     * @return The deleted document, an empty {@code Optional} if it did not exist
+     */
+    protected Optional<T> findAndDelete(final String key) {
+        final Optional<byte[]> value;
+        try {
+            value = dataLog.getAndRemove(key);
+        } catch (IOException | UncheckedIOException e) {
+            throw new DataAccessResourceFailureException("Failed to write to embedded store [store:" + name + "]", e);
+        }
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(decode(key, new DataInputStream(new ByteArrayInputStream(value.get()))));
+        } catch (IOException | UncheckedIOException e) {
+            throw new DataAccessResourceFailureException("Failed to read from embedded store [store:" + name + "]", e);
+        }
+    }
+
+    private boolean write(final String key, final T document, final boolean onlyIfAbsent) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            encode(document, new DataOutputStream(bytes));
+            return dataLog.put(key, bytes.toByteArray(), onlyIfAbsent);
+        } catch (IOException | UncheckedIOException e) {
+            throw new DataAccessResourceFailureException("Failed to write to embedded store [store:" + name + "]", e);
+        }
+    }
+
+    protected static void writeNullableString(final DataOutput output, final String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    protected static String readNullableString(final DataInput input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import com.iexec.resultproxy.lease.UploadLease;
+import com.iexec.resultproxy.lease.UploadLeaseStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Embedded {@link UploadLeaseStore}, leases are versioned as on MongoDB so that concurrent uploads
+ * of a single node are deduplicated as well.
+ * <p>
+ * Expired leases are deleted when they are looked up.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "embedded")
+public class EmbeddedUploadLeaseStore extends EmbeddedStore<UploadLease> implements UploadLeaseStore {
+
+    public EmbeddedUploadLeaseStore(EmbeddedStorageConfig config) {
+        super(config, "upload-leases");
+    }
+
+    @Override
+    public synchronized Optional<UploadLease> findByChainTaskId(String chainTaskId) {
+        final Optional<UploadLease> uploadLease = find(chainTaskId);
+        if (uploadLease.isPresent() && uploadLease.get().isExpired(Instant.now())) {
+            delete(chainTaskId);
+            return Optional.empty();
+        }
+        return uploadLease;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <S extends UploadLease> S save(S uploadLease) {
+        final String chainTaskId = uploadLease.getChainTaskId();
+        final Long expectedVersion = uploadLease.getVersion();
+        final UploadLease current = find(chainTaskId).orElse(null);
+        if (expectedVersion == null && current != null) {
+            throw new DuplicateKeyException("Upload lease already exists [chainTaskId:" + chainTaskId + "]");
+        }
+        if (expectedVersion != null && (current == null || !Objects.equals(expectedVersion, current.getVersion()))) {
+            throw new OptimisticLockingFailureException("Upload lease was modified [chainTaskId:" + chainTaskId + "]");
+        }
+        final UploadLease saved = new UploadLease(chainTaskId, expectedVersion == null ? 0L : expectedVersion + 1,
+                uploadLease.getOwner(), uploadLease.getExpiresAt(), uploadLease.getResultLink());
+        upsert(chainTaskId, saved);
+        return (S) saved;
+    }
+
+    @Override
+    public synchronized void deleteByChainTaskIdAndOwner(String chainTaskId, String owner) {
+        final UploadLease current = find(chainTaskId).orElse(null);
+        if (current != null && Objects.equals(owner, current.getOwner())) {
+            delete(chainTaskId);
+        }
+    }
+
+    @Override
+    protected void encode(UploadLease uploadLease, DataOutput output) throws IOException {
+        output.writeLong(uploadLease.getVersion());
+        writeNullableString(output, uploadLease.getOwner());
+        output.writeLong(uploadLease.getExpiresAt().toEpochMilli());
+        writeNullableString(output, uploadLease.getResultLink());
+    }
+
+    @Override
+    protected UploadLease decode(String chainTaskId, DataInput input) throws IOException {
+        final long version = input.readLong();
+        final String owner = readNullableString(input);
+        final Instant expiresAt = Instant.ofEpochMilli(input.readLong());
+        final String resultLink = readNullableString(input);
+        return new UploadLease(chainTaskId, version, owner, expiresAt, resultLink);
+    }
+}
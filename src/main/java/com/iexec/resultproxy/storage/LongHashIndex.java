@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * Open addressing hash table mapping 64-bit key fingerprints to record handles, backed by two {@code long[]}.
+ * <p>
+ * Keys are not stored: distinct keys may share a fingerprint, callers then discriminate candidates
+ * with a predicate checking the key of the record behind a handle. Removed slots are marked as deleted
+ * and reclaimed when the table is rehashed.
+ * <p>
+ * This class is not thread-safe.
+ */
+class LongHashIndex {
+
+    static final long NOT_FOUND = -1L;
+    private static final long EMPTY = -1L;
+    private static final long DELETED = -2L;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    private long[] fingerprints;
+    private long[] handles;
+    private int mask;
+    private int size;
+    private int usedSlots;
+
+    LongHashIndex(final int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the handle of a key.
+     *
+     * @param fingerprint Fingerprint of the key
+     * @param isKey       Checks whether a candidate handle belongs to the key
+     * @return The handle, or {@link #NOT_FOUND}
+     */
+    long get(final long fingerprint, final LongPredicate isKey) {
+        final int slot = find(fingerprint, isKey);
+        return slot < 0 ? NOT_FOUND : handles[slot];
+    }
+
+    /**
+     * Associates a handle to a key.
+     *
+     * @param fingerprint Fingerprint of the key
+     * @param handle      Non-negative handle
+     * @param isKey       Checks whether a candidate handle belongs to the key
+     * @return The previous handle of the key, or {@link #NOT_FOUND}
+     */
+    long put(final long fingerprint, final long handle, final LongPredicate isKey) {
+        final int existing = find(fingerprint, isKey);
+        if (existing >= 0) {
+            final long previous = handles[existing];
+            handles[existing] = handle;
+            return previous;
+        }
+        if (usedSlots + 1 > MAX_LOAD_FACTOR * fingerprints.length) {
+            rehash(tableSizeFor(size + 1));
+        }
+        int slot = mix(fingerprint) & mask;
+        while (handles[slot] >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (handles[slot] == EMPTY) {
+            usedSlots++;
+        }
+        fingerprints[slot] = fingerprint;
+        handles[slot] = handle;
+        size++;
+        return NOT_FOUND;
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param fingerprint Fingerprint of the key
+     * @param isKey       Checks whether a candidate handle belongs to the key
+     * @return The removed handle, or {@link #NOT_FOUND}
+     */
+    long remove(final long fingerprint, final LongPredicate isKey) {
+        final int slot = find(fingerprint, isKey);
+        if (slot < 0) {
+            return NOT_FOUND;
+        }
+        final long previous = handles[slot];
+        handles[slot] = DELETED;
+        size--;
+        return previous;
+    }
+
+    /**
+     * Visits all handles, in no particular order.
+     *
+     * @param visitor Called with the fingerprint and the handle of each key
+     */
+    void forEach(final HandleVisitor visitor) {
+        for (int slot = 0; slot < handles.length; slot++) {
+            if (handles[slot] >= 0) {
+                visitor.visit(fingerprints[slot], handles[slot]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface HandleVisitor {
+        void visit(long fingerprint, long handle);
+    }
+
+    private int find(final long fingerprint, final LongPredicate isKey) {
+        int slot = mix(fingerprint) & mask;
+        while (handles[slot] != EMPTY) {
+            if (handles[slot] >= 0 && fingerprints[slot] == fingerprint && isKey.test(handles[slot])) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void rehash(final int tableSize) {
+        final long[] oldFingerprints = fingerprints;
+        final long[] oldHandles = handles;
+        allocate(tableSize);
+        for (int slot = 0; slot < oldHandles.length; slot++) {
+            if (oldHandles[slot] >= 0) {
+                int newSlot = mix(oldFingerprints[slot]) & mask;
+                while (handles[newSlot] != EMPTY) {
+                    newSlot = (newSlot + 1) & mask;
+                }
+                fingerprints[newSlot] = oldFingerprints[slot];
+                handles[newSlot] = oldHandles[slot];
+                usedSlots++;
+            }
+        }
+    }
+
+    private void allocate(final int tableSize) {
+        fingerprints = new long[tableSize];
+        handles = new long[tableSize];
+        Arrays.fill(handles, EMPTY);
+        mask = tableSize - 1;
+        usedSlots = 0;
+    }
+
+    private static int tableSizeFor(final int expectedSize) {
+        final long minSize = (long) Math.ceil(Math.max(expectedSize, 8) / MAX_LOAD_FACTOR) * 2;
+        return (int) Math.min(1L << 30, Long.highestOneBit(minSize - 1) << 1);
+    }
+
+    private static int mix(final long fingerprint) {
+        return (int) (fingerprint ^ (fingerprint >>> 32));
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.tracing;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Names of the key values attached to observations, hence to the spans they are traced as.
+ * <p>
+ * High cardinality keys such as task IDs are only recorded on spans, not as metric tags.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ObservationKeys {
+    public static final String CHAIN_TASK_ID = "chain.task.id";
+    public static final String CHAIN_DEAL_ID = "chain.deal.id";
+    public static final String PAYLOAD_SIZE = "payload.size";
+    public static final String OPERATION = "operation";
+}
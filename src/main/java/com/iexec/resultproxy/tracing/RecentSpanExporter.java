@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Span exporter keeping the most recently ended spans in memory.
+ * <p>
+ * Spring Boot registers every {@link SpanExporter} bean next to the OTLP exporter, spans can then be inspected
+ * through the {@code recentspans} actuator endpoint without running a collector. Only sampled spans are exported.
+ */
+@Component
+@ConditionalOnProperty(name = "tracing.recent-spans.enabled", havingValue = "true")
+public class RecentSpanExporter implements SpanExporter {
+
+    public record SpanSummary(String traceId, String spanId, String parentSpanId, String name, String kind,
+                              Instant start, Duration duration, String status, Map<String, String> attributes) {
+        static SpanSummary of(SpanData span) {
+            final Map<String, String> attributes = new LinkedHashMap<>();
+            span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+            return new SpanSummary(
+                    span.getTraceId(),
+                    span.getSpanId(),
+                    span.getParentSpanContext().isValid() ? span.getParentSpanId() : null,
+                    span.getName(),
+                    span.getKind().name(),
+                    Instant.ofEpochSecond(0L, span.getStartEpochNanos()),
+                    Duration.ofNanos(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                    span.getStatus().getStatusCode().name(),
+                    attributes);
+        }
+    }
+
+    private final int capacity;
+    private final Deque<SpanSummary> spans;
+    private boolean shutdown;
+
+    public RecentSpanExporter(RecentSpansConfig recentSpansConfig) {
+        this.capacity = recentSpansConfig.getCapacity();
+        this.spans = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spanData) {
+        if (shutdown) {
+            return CompletableResultCode.ofFailure();
+        }
+        for (final SpanData span : spanData) {
+            if (spans.size() == capacity) {
+                spans.removeFirst();
+            }
+            spans.addLast(SpanSummary.of(span));
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        shutdown = true;
+        spans.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Lists recent spans, the most recently ended first.
+     *
+     * @param traceId ID of the trace to keep spans of, all spans are listed when {@literal null}
+     * @return The spans
+     */
+    public synchronized List<SpanSummary> getSpans(String traceId) {
+        final List<SpanSummary> result = new ArrayList<>();
+        spans.descendingIterator().forEachRemaining(span -> {
+            if (traceId == null || traceId.equals(span.traceId())) {
+                result.add(span);
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the spans kept by the {@link RecentSpanExporter}, optionally filtered by trace ID.
+ */
+@Component
+@Endpoint(id = "recentspans")
+@ConditionalOnProperty(name = "tracing.recent-spans.enabled", havingValue = "true")
+public class RecentSpansEndpoint {
+
+    private final RecentSpanExporter recentSpanExporter;
+
+    public RecentSpansEndpoint(RecentSpanExporter recentSpanExporter) {
+        this.recentSpanExporter = recentSpanExporter;
+    }
+
+    @ReadOperation
+    public List<RecentSpanExporter.SpanSummary> spans(@OptionalParameter String traceId) {
+        return recentSpanExporter.getSpans(traceId);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.authorization;
+
+import com.iexec.commons.poco.utils.BytesUtils;
+import com.iexec.commons.poco.utils.HashUtils;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorizationHashesTests {
+
+    @ParameterizedTest
+    @CsvSource({
+            "0xabcd, 0x0123, 0x4567",
+            "0x1Aa3F2eb8A7d6Ec6D8e4b2C83bEE5C4B3e4C0E5b, 0x877210dbec7b8461e396751e311b574d6b6909e3618dd0622f7182eaffdc6901, 0x0000000000000000000000000000000000000000",
+            "abcd, 123, 0x",
+            "0x1, 0xfff, ''",
+    })
+    void shouldHashWorkerChallengeAsHashUtils(final String workerWallet, final String chainTaskId, final String enclaveChallenge) {
+        assertThat(BytesUtils.bytesToString(AuthorizationHashes.hashWorkerChallenge(workerWallet, chainTaskId, enclaveChallenge)))
+                .isEqualTo(HashUtils.concatenateAndHash(workerWallet, chainTaskId, enclaveChallenge));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0x1Aa3F2eb8A7d6Ec6D8e4b2C83bEE5C4B3e4C0E5b, 0x877210dbec7b8461e396751e311b574d6b6909e3618dd0622f7182eaffdc6901, 0x09b727883db89fa3b3504f83e0c67d04a0d4fc35a9670cc4517c49d2a27ad171",
+            "0xabcd, 0x0123, 0x4",
+    })
+    void shouldHashEnclaveMessageAsHashUtils(final String walletAddress, final String chainTaskId, final String deterministHash) {
+        final String resultHash = HashUtils.concatenateAndHash(chainTaskId, deterministHash);
+        final String resultSeal = HashUtils.concatenateAndHash(walletAddress, chainTaskId, deterministHash);
+        final String expected = HashUtils.concatenateAndHash(resultHash, resultSeal);
+        // hash twice to check the per-thread digest is reused without leftover state
+        assertThat(BytesUtils.bytesToString(AuthorizationHashes.hashEnclaveMessage(walletAddress, chainTaskId, deterministHash)))
+                .isEqualTo(expected);
+        assertThat(BytesUtils.bytesToString(AuthorizationHashes.hashEnclaveMessage(walletAddress, chainTaskId, deterministHash)))
+                .isEqualTo(expected);
+    }
+}
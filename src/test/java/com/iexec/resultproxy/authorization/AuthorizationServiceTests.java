@@ -25,6 +25,7 @@ import com.iexec.commons.poco.utils.BytesUtils;
 import com.iexec.commons.poco.utils.HashUtils;
 import com.iexec.commons.poco.utils.SignatureUtils;
 import com.iexec.resultproxy.chain.IexecHubService;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -89,7 +90,7 @@ class AuthorizationServiceTests {
         enclaveCreds = Credentials.create(Keys.createEcKeyPair());
         workerCreds = Credentials.create(Keys.createEcKeyPair());
         authorizationRepository.deleteAll();
-        authorizationService = new AuthorizationService(authorizationRepository, iexecHubService);
+        authorizationService = new AuthorizationService(authorizationRepository, iexecHubService, new AuthorizationCacheConfig(1000), ObservationRegistry.NOOP);
     }
 
     // region isAuthorizedOnExecutionWithDetailedIssue
@@ -211,7 +212,7 @@ class AuthorizationServiceTests {
     @Test
     void shouldNotBeSignedByEnclaveWhenEnclaveSignatureIsEmpty() {
         final WorkerpoolAuthorization authorization = getWorkerpoolAuthorization(true);
-        authorizationService.putIfAbsent(authorization);
+        authorizationService.putIfAbsent(authorization, getFinalDeadline());
         final ResultModel model = ResultModel.builder()
                 .chainTaskId(CHAIN_TASK_ID)
                 .enclaveSignature(ResultModel.EMPTY_WEB3_SIG)
@@ -233,7 +234,7 @@ class AuthorizationServiceTests {
     @Test
     void shouldNotBeSignedByEnclaveWhenSignedByOther() throws GeneralSecurityException {
         final WorkerpoolAuthorization authorization = getWorkerpoolAuthorization(true);
-        authorizationService.putIfAbsent(authorization);
+        authorizationService.putIfAbsent(authorization, getFinalDeadline());
         final ResultModel model = ResultModel.builder()
                 .chainTaskId(CHAIN_TASK_ID)
                 .enclaveSignature(getEnclaveSignature(Keys.createEcKeyPair()))
@@ -245,7 +246,7 @@ class AuthorizationServiceTests {
     @Test
     void shouldBeSignedByEnclave() {
         final WorkerpoolAuthorization authorization = getWorkerpoolAuthorization(true);
-        authorizationService.putIfAbsent(authorization);
+        authorizationService.putIfAbsent(authorization, getFinalDeadline());
         final ResultModel model = ResultModel.builder()
                 .chainTaskId(CHAIN_TASK_ID)
                 .enclaveSignature(getEnclaveSignature(enclaveCreds.getEcKeyPair()))
@@ -253,26 +254,72 @@ class AuthorizationServiceTests {
                 .build();
         assertThat(authorizationService.checkEnclaveSignature(model, workerCreds.getAddress())).isTrue();
     }
+
+    @Test
+    void shouldConsumeAuthorizationOnlyOnce() {
+        final WorkerpoolAuthorization authorization = getWorkerpoolAuthorization(true);
+        authorizationService.putIfAbsent(authorization, getFinalDeadline());
+        final ResultModel model = ResultModel.builder()
+                .chainTaskId(CHAIN_TASK_ID)
+                .enclaveSignature(getEnclaveSignature(enclaveCreds.getEcKeyPair()))
+                .deterministHash(RESULT_DIGEST)
+                .build();
+        assertThat(authorizationService.checkEnclaveSignature(model, workerCreds.getAddress())).isTrue();
+        assertThat(authorizationRepository.count()).isZero();
+        assertThat(authorizationService.checkEnclaveSignature(model, workerCreds.getAddress())).isFalse();
+    }
+
+    @Test
+    void shouldNotConsumeAuthorizationCachedByThisInstanceWhenConsumedByAnother() {
+        final WorkerpoolAuthorization authorization = getWorkerpoolAuthorization(true);
+        authorizationService.putIfAbsent(authorization, getFinalDeadline());
+        authorizationRepository.deleteAll();
+        final ResultModel model = ResultModel.builder()
+                .chainTaskId(CHAIN_TASK_ID)
+                .enclaveSignature(getEnclaveSignature(enclaveCreds.getEcKeyPair()))
+                .deterministHash(RESULT_DIGEST)
+                .build();
+        assertThat(authorizationService.checkEnclaveSignature(model, workerCreds.getAddress())).isFalse();
+    }
+
+    @Test
+    void shouldBeSignedByEnclaveWhenAuthorizationOnlyInStore() {
+        final WorkerpoolAuthorization authorization = getWorkerpoolAuthorization(true);
+        authorizationRepository.save(new Authorization(authorization));
+        final ResultModel model = ResultModel.builder()
+                .chainTaskId(CHAIN_TASK_ID)
+                .enclaveSignature(getEnclaveSignature(enclaveCreds.getEcKeyPair()))
+                .deterministHash(RESULT_DIGEST)
+                .build();
+        assertThat(authorizationService.checkEnclaveSignature(model, workerCreds.getAddress())).isTrue();
+        assertThat(authorizationRepository.count()).isZero();
+        assertThat(authorizationService.checkEnclaveSignature(model, workerCreds.getAddress())).isFalse();
+    }
     // endregion
 
     // region putIfAbsent
     @Test
     void shouldNotAddAuthorizationTwiceInCollection() {
         final WorkerpoolAuthorization stdAuthorization = getWorkerpoolAuthorization(false);
-        authorizationService.putIfAbsent(stdAuthorization);
+        authorizationService.putIfAbsent(stdAuthorization, getFinalDeadline());
         assertThat(authorizationRepository.count()).isOne();
-        authorizationService.putIfAbsent(stdAuthorization);
+        authorizationService.putIfAbsent(stdAuthorization, getFinalDeadline());
         assertThat(authorizationRepository.count()).isOne();
         authorizationRepository.deleteAll();
+        authorizationService = new AuthorizationService(authorizationRepository, iexecHubService, new AuthorizationCacheConfig(1000), ObservationRegistry.NOOP);
         final WorkerpoolAuthorization teeAuthorization = getWorkerpoolAuthorization(true);
-        authorizationService.putIfAbsent(teeAuthorization);
+        authorizationService.putIfAbsent(teeAuthorization, getFinalDeadline());
         assertThat(authorizationRepository.count()).isOne();
-        authorizationService.putIfAbsent(teeAuthorization);
+        authorizationService.putIfAbsent(teeAuthorization, getFinalDeadline());
         assertThat(authorizationRepository.count()).isOne();
     }
     // endregion
 
     // region utils
+    private Instant getFinalDeadline() {
+        return Instant.now().plus(1, ChronoUnit.HOURS);
+    }
+
     private String getEnclaveSignature(final ECKeyPair ecKeyPair) {
         final String resultHash = HashUtils.concatenateAndHash(CHAIN_TASK_ID, RESULT_DIGEST);
         final String resultSeal = HashUtils.concatenateAndHash(workerCreds.getAddress(), CHAIN_TASK_ID, RESULT_DIGEST);
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.chain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.request.Transaction;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchingHttpServiceTests {
+
+    private static final String FROM = "0x0000000000000000000000000000000000000001";
+    private static final String TO = "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> receivedBatchSizes = new CopyOnWriteArrayList<>();
+    private volatile boolean rejectBatches;
+    private HttpServer server;
+    private String url;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", this::handle);
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    /**
+     * Answers {@code eth_call} requests with their call data and other requests with {@code 0x1}.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            final JsonNode answer;
+            if (body.isArray() && rejectBatches) {
+                receivedBatchSizes.add(body.size());
+                answer = objectMapper.createObjectNode()
+                        .put("jsonrpc", "2.0")
+                        .set("error", objectMapper.createObjectNode().put("code", -32600).put("message", "batch"));
+            } else if (body.isArray()) {
+                receivedBatchSizes.add(body.size());
+                final ArrayNode responses = objectMapper.createArrayNode();
+                body.forEach(request -> responses.add(respond(request)));
+                answer = responses;
+            } else {
+                receivedBatchSizes.add(1);
+                answer = respond(body);
+            }
+            final byte[] bytes = objectMapper.writeValueAsBytes(answer);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    private ObjectNode respond(JsonNode request) {
+        final String result = BatchingHttpService.ETH_CALL.equals(request.get("method").asText())
+                ? request.get("params").get(0).get("data").asText()
+                : "0x1";
+        return objectMapper.createObjectNode()
+                .put("jsonrpc", "2.0")
+                .put("id", request.get("id").asLong())
+                .put("result", result);
+    }
+
+    private static String callData(int i) {
+        return String.format("0x%064x", i);
+    }
+
+    private List<String> callConcurrently(Web3j web3j, int count) {
+        final ExecutorService executor = Executors.newFixedThreadPool(count);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                final String data = callData(i);
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                        return web3j.ethCall(Transaction.createEthCallTransaction(FROM, TO, data),
+                                DefaultBlockParameterName.LATEST).send().getValue();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, executor));
+            }
+            start.countDown();
+            return results.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> expectedResults(int count) {
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            expected.add(callData(i));
+        }
+        return expected;
+    }
+
+    @Test
+    void shouldBatchConcurrentCalls() {
+        final Web3j web3j = Web3j.build(new BatchingHttpService(url, new RpcBatchingConfig(true, Duration.ofMillis(200), 50)));
+        assertThat(callConcurrently(web3j, 10)).containsExactlyElementsOf(expectedResults(10));
+        assertThat(receivedBatchSizes).hasSizeLessThan(10);
+        assertThat(receivedBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldCapBatchSize() {
+        final Web3j web3j = Web3j.build(new BatchingHttpService(url, new RpcBatchingConfig(true, Duration.ofMillis(200), 3)));
+        assertThat(callConcurrently(web3j, 9)).containsExactlyElementsOf(expectedResults(9));
+        assertThat(receivedBatchSizes).allMatch(size -> size <= 3);
+    }
+
+    @Test
+    void shouldSendCallsOneByOneWhenBatchIsRejected() {
+        rejectBatches = true;
+        final Web3j web3j = Web3j.build(new BatchingHttpService(url, new RpcBatchingConfig(true, Duration.ofMillis(200), 50)));
+        assertThat(callConcurrently(web3j, 5)).containsExactlyElementsOf(expectedResults(5));
+        assertThat(receivedBatchSizes.stream().filter(size -> size == 1)).hasSize(5);
+    }
+
+    @Test
+    void shouldNotBatchOtherMethods() throws IOException {
+        final Web3j web3j = Web3j.build(new BatchingHttpService(url, new RpcBatchingConfig(true, Duration.ofMillis(200), 50)));
+        assertThat(web3j.ethBlockNumber().send().getBlockNumber()).isOne();
+        assertThat(receivedBatchSizes).containsExactly(1);
+    }
+}
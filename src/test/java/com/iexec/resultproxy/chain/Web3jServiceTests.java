@@ -16,14 +16,31 @@
 
 package com.iexec.resultproxy.chain;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.request.Transaction;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,6 +55,8 @@ import static org.assertj.core.api.Assertions.assertThat;
         "chain.gas-price-multiplier=1.0",
         "chain.gas-price-cap=22000000000"})
 class Web3jServiceTests {
+    private static final String FROM = "0x0000000000000000000000000000000000000001";
+
     @Autowired
     private ChainConfig chainConfig;
 
@@ -53,6 +72,81 @@ class Web3jServiceTests {
 
     @Test
     void shouldCreateInstance() {
-        assertThat(new Web3jService(chainConfig)).isNotNull();
+        assertThat(new Web3jService(chainConfig, new RpcBatchingConfig(false, Duration.ofMillis(5), 50))).isNotNull();
+    }
+
+    // region getWeb3j
+    @Test
+    void shouldUseBatchingClientWhenEnabled() throws IOException {
+        assertThat(receivedBodies(new RpcBatchingConfig(true, Duration.ofSeconds(5), 2)))
+                .anyMatch(JsonNode::isArray);
+    }
+
+    @Test
+    void shouldUsePlainClientWhenDisabled() throws IOException {
+        assertThat(receivedBodies(new RpcBatchingConfig(false, Duration.ofSeconds(5), 2)))
+                .hasSize(2)
+                .noneMatch(JsonNode::isArray);
+    }
+
+    /**
+     * Sends 2 concurrent {@code eth_call} requests through the client of a {@link Web3jService} targeting a stub node,
+     * and returns the JSON-RPC bodies received by the node.
+     */
+    private List<JsonNode> receivedBodies(RpcBatchingConfig rpcBatchingConfig) throws IOException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final List<JsonNode> bodies = new CopyOnWriteArrayList<>();
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                final JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+                bodies.add(body);
+                final JsonNode answer;
+                if (body.isArray()) {
+                    final ArrayNode responses = objectMapper.createArrayNode();
+                    body.forEach(request -> responses.add(respond(objectMapper, request)));
+                    answer = responses;
+                } else {
+                    answer = respond(objectMapper, body);
+                }
+                final byte[] bytes = objectMapper.writeValueAsBytes(answer);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+            }
+        });
+        server.start();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final ChainConfig stubChainConfig = new ChainConfig(
+                    134, true, "http://localhost:" + server.getAddress().getPort(),
+                    "0x3eca1B216A7DF1C7689aEb259fFB83ADFB894E7f", Duration.ofSeconds(5),
+                    1.0f, 22000000000L
+            );
+            final Web3j web3j = new Web3jService(stubChainConfig, rpcBatchingConfig).getWeb3j();
+            bodies.clear();
+            final List<CompletableFuture<String>> results = IntStream.range(0, 2).mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    return web3j.ethCall(Transaction.createEthCallTransaction(FROM, stubChainConfig.getHubAddress(), "0x"),
+                            DefaultBlockParameterName.LATEST).send().getValue();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, executor)).toList();
+            assertThat(results).allMatch(result -> "0x1".equals(result.join()));
+            return bodies;
+        } finally {
+            executor.shutdownNow();
+            server.stop(0);
+        }
+    }
+
+    private static ObjectNode respond(ObjectMapper objectMapper, JsonNode request) {
+        return objectMapper.createObjectNode()
+                .put("jsonrpc", "2.0")
+                .put("id", request.get("id").asLong())
+                .put("result", "0x1");
     }
+    // endregion
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.diagnostics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.iexec.resultproxy.tracing.ObservationKeys.CHAIN_TASK_ID;
+import static com.iexec.resultproxy.tracing.ObservationKeys.PAYLOAD_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class DiagnosticsObservationHandlerTests {
+
+    private static final String TASK_ID = "0x1";
+
+    private SlowRequestRecorder recorder;
+    private ObservationRegistry registry;
+
+    @BeforeEach
+    void init() {
+        recorder = new SlowRequestRecorder(new SlowRequestsConfig(10));
+        registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new DiagnosticsObservationHandler(recorder));
+    }
+
+    private void serveRequest() {
+        final Observation request = Observation.start(DiagnosticsObservationHandler.HTTP_SERVER_REQUESTS, registry)
+                .lowCardinalityKeyValue("method", "POST")
+                .lowCardinalityKeyValue("uri", "/v1/results")
+                .lowCardinalityKeyValue("status", "200");
+        try (Observation.Scope ignored = request.openScope()) {
+            Observation.createNotStarted("iexec.chain.read", registry)
+                    .contextualName("chain getChainTask")
+                    .highCardinalityKeyValue(CHAIN_TASK_ID, TASK_ID)
+                    .observe(() -> { });
+            Observation.createNotStarted("iexec.result.push", registry)
+                    .highCardinalityKeyValue(CHAIN_TASK_ID, TASK_ID)
+                    .highCardinalityKeyValue(PAYLOAD_SIZE, "42")
+                    .observe(() -> { });
+        } finally {
+            request.stop();
+        }
+    }
+
+    @Test
+    void shouldRecordRequestWithStages() {
+        serveRequest();
+        final List<SlowRequest> requests = recorder.getSlowestRequests();
+        assertThat(requests).hasSize(1);
+        final SlowRequest request = requests.get(0);
+        assertThat(request.method()).isEqualTo("POST");
+        assertThat(request.uri()).isEqualTo("/v1/results");
+        assertThat(request.status()).isEqualTo("200");
+        assertThat(request.chainTaskId()).isEqualTo(TASK_ID);
+        assertThat(request.stages())
+                .extracting(SlowRequest.Stage::name, SlowRequest.Stage::detail)
+                .containsExactly(
+                        tuple("iexec.chain.read", "chain getChainTask"),
+                        tuple("iexec.result.push", null));
+    }
+
+    @Test
+    void shouldNotRecordObservationsOutsideRequests() {
+        Observation.createNotStarted("iexec.result.push", registry).observe(() -> { });
+        assertThat(recorder.getSlowestRequests()).isEmpty();
+    }
+
+    @Test
+    void shouldCommitFlightRecorderEvents(@TempDir Path tempDir) throws IOException {
+        final Path dump = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RequestEvent.NAME);
+            recording.enable(StageEvent.NAME);
+            recording.start();
+            serveRequest();
+            recording.stop();
+            recording.dump(dump);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(events)
+                .extracting(event -> event.getEventType().getName())
+                .containsExactlyInAnyOrder(StageEvent.NAME, StageEvent.NAME, RequestEvent.NAME);
+        final RecordedEvent push = events.stream()
+                .filter(event -> "iexec.result.push".equals(event.getString("stage")))
+                .findFirst()
+                .orElseThrow();
+        assertThat(push.getString("chainTaskId")).isEqualTo(TASK_ID);
+        assertThat(push.getLong("payloadSize")).isEqualTo(42L);
+        final RecordedEvent request = events.stream()
+                .filter(event -> RequestEvent.NAME.equals(event.getEventType().getName()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(request.getString("uri")).isEqualTo("/v1/results");
+        assertThat(request.getString("chainTaskId")).isEqualTo(TASK_ID);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowRequestRecorderTests {
+
+    private static SlowRequest request(long durationMillis) {
+        return new SlowRequest(Instant.now(), "POST", "/v1/results", "200", null,
+                Duration.ofMillis(durationMillis), List.of());
+    }
+
+    @Test
+    void shouldKeepSlowestRequests() {
+        final SlowRequestRecorder recorder = new SlowRequestRecorder(new SlowRequestsConfig(2));
+        recorder.record(request(10));
+        recorder.record(request(30));
+        recorder.record(request(20));
+        recorder.record(request(5));
+        assertThat(recorder.getSlowestRequests())
+                .extracting(SlowRequest::duration)
+                .containsExactly(Duration.ofMillis(30), Duration.ofMillis(20));
+    }
+
+    @Test
+    void shouldOnlyAdmitSlowerRequestsOnceFull() {
+        final SlowRequestRecorder recorder = new SlowRequestRecorder(new SlowRequestsConfig(1));
+        assertThat(recorder.isCandidate(Duration.ofMillis(1).toNanos())).isTrue();
+        recorder.record(request(10));
+        assertThat(recorder.isCandidate(Duration.ofMillis(10).toNanos())).isFalse();
+        assertThat(recorder.isCandidate(Duration.ofMillis(11).toNanos())).isTrue();
+    }
+
+    @Test
+    void shouldReset() {
+        final SlowRequestRecorder recorder = new SlowRequestRecorder(new SlowRequestsConfig(1));
+        recorder.record(request(10));
+        recorder.reset();
+        assertThat(recorder.getSlowestRequests()).isEmpty();
+        assertThat(recorder.isCandidate(Duration.ofMillis(1).toNanos())).isTrue();
+    }
+
+    @Test
+    void shouldNotRecordWhenDisabled() {
+        final SlowRequestRecorder recorder = new SlowRequestRecorder(new SlowRequestsConfig(0));
+        assertThat(recorder.isCandidate(Long.MAX_VALUE)).isFalse();
+        recorder.record(request(10));
+        assertThat(recorder.getSlowestRequests()).isEmpty();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.idempotency;
+
+import com.iexec.common.result.ResultModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTests {
+
+    private static final String WALLET_ADDRESS = "0x123ABC";
+    private static final String IDEMPOTENCY_KEY = "8e03978e-40d5-43e8-bc93-6894a57f9324";
+    private static final String STORE_KEY = "0x123abc/" + IDEMPOTENCY_KEY;
+    private static final IdempotentResponse RESPONSE = new IdempotentResponse("digest", 200, "/ipfs/hash");
+
+    @Mock
+    private IdempotencyRecordStore idempotencyRecordStore;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void init() {
+        idempotencyService = new IdempotencyService(idempotencyRecordStore, new IdempotencyConfig(Duration.ofHours(1), 10));
+    }
+
+    // region isValidKey
+    @Test
+    void shouldAcceptPrintableKeys() {
+        assertThat(IdempotencyService.isValidKey(IDEMPOTENCY_KEY)).isTrue();
+        assertThat(IdempotencyService.isValidKey("a".repeat(IdempotencyService.MAX_KEY_LENGTH))).isTrue();
+    }
+
+    @Test
+    void shouldRejectInvalidKeys() {
+        assertThat(IdempotencyService.isValidKey(null)).isFalse();
+        assertThat(IdempotencyService.isValidKey("")).isFalse();
+        assertThat(IdempotencyService.isValidKey("with space")).isFalse();
+        assertThat(IdempotencyService.isValidKey("a".repeat(IdempotencyService.MAX_KEY_LENGTH + 1))).isFalse();
+    }
+    // endregion
+
+    // region computePayloadDigest
+    @Test
+    void shouldComputeSameDigestForSamePayload() {
+        final ResultModel model = ResultModel.builder().chainTaskId("0x1").zip(new byte[]{1, 2}).build();
+        final ResultModel copy = ResultModel.builder().chainTaskId("0x1").zip(new byte[]{1, 2}).build();
+        assertThat(IdempotencyService.computePayloadDigest(model))
+                .isEqualTo(IdempotencyService.computePayloadDigest(copy))
+                .hasSize(64);
+    }
+
+    @Test
+    void shouldComputeDifferentDigestsForDifferentPayloads() {
+        final ResultModel model = ResultModel.builder().chainTaskId("0x1").zip(new byte[]{1, 2}).build();
+        final ResultModel otherZip = ResultModel.builder().chainTaskId("0x1").zip(new byte[]{1, 3}).build();
+        final ResultModel shiftedFields = ResultModel.builder().chainTaskId("0x1").deterministHash("").zip(new byte[]{1, 2}).build();
+        final String digest = IdempotencyService.computePayloadDigest(model);
+        assertThat(IdempotencyService.computePayloadDigest(otherZip)).isNotEqualTo(digest);
+        assertThat(IdempotencyService.computePayloadDigest(shiftedFields)).isNotEqualTo(digest);
+    }
+    // endregion
+
+    // region find and save
+    @Test
+    void shouldFindSavedResponseWithoutStoreLookup() {
+        idempotencyService.save(WALLET_ADDRESS, IDEMPOTENCY_KEY, RESPONSE);
+        assertThat(idempotencyService.find(WALLET_ADDRESS.toLowerCase(), IDEMPOTENCY_KEY)).contains(RESPONSE);
+        verify(idempotencyRecordStore, never()).findByKey(any());
+        final ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordStore).save(captor.capture());
+        assertThat(captor.getValue().getKey()).isEqualTo(STORE_KEY);
+        assertThat(captor.getValue().getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void shouldFindResponseInStore() {
+        when(idempotencyRecordStore.findByKey(STORE_KEY)).thenReturn(Optional.of(new IdempotencyRecord(
+                STORE_KEY, "digest", 200, "/ipfs/hash", Instant.now().plusSeconds(60))));
+        assertThat(idempotencyService.find(WALLET_ADDRESS, IDEMPOTENCY_KEY)).contains(RESPONSE);
+        assertThat(idempotencyService.find(WALLET_ADDRESS, IDEMPOTENCY_KEY)).contains(RESPONSE);
+        verify(idempotencyRecordStore, times(1)).findByKey(STORE_KEY);
+    }
+
+    @Test
+    void shouldNotFindExpiredResponseInStore() {
+        when(idempotencyRecordStore.findByKey(STORE_KEY)).thenReturn(Optional.of(new IdempotencyRecord(
+                STORE_KEY, "digest", 200, "/ipfs/hash", Instant.now().minusSeconds(1))));
+        assertThat(idempotencyService.find(WALLET_ADDRESS, IDEMPOTENCY_KEY)).isEmpty();
+    }
+
+    @Test
+    void shouldNotFindResponseWhenStoreFails() {
+        when(idempotencyRecordStore.findByKey(STORE_KEY)).thenThrow(new DataAccessResourceFailureException("down"));
+        assertThat(idempotencyService.find(WALLET_ADDRESS, IDEMPOTENCY_KEY)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepResponseInCacheWhenStoreFails() {
+        when(idempotencyRecordStore.save(any())).thenThrow(new DuplicateKeyException("duplicate"));
+        idempotencyService.save(WALLET_ADDRESS, IDEMPOTENCY_KEY, RESPONSE);
+        assertThat(idempotencyService.find(WALLET_ADDRESS, IDEMPOTENCY_KEY)).contains(RESPONSE);
+    }
+    // endregion
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ipfs;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static com.iexec.resultproxy.ipfs.IpfsCidCalculator.CHUNK_SIZE;
+import static com.iexec.resultproxy.ipfs.IpfsCidCalculator.MAX_LINKS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+class IpfsCidCalculatorTests {
+
+    @Container
+    private static final GenericContainer<?> ipfsContainer = new GenericContainer<>(DockerImageName.parse(System.getProperty("ipfs.image")))
+            .withExposedPorts(5001)
+            .waitingFor(Wait.forLogMessage(".*Daemon is ready.*", 1));
+
+    private static IpfsService ipfsService;
+
+    @BeforeAll
+    static void startIpfsService() {
+        ipfsService = new IpfsService(new IpfsConfig(
+                "http://" + ipfsContainer.getHost() + ":" + ipfsContainer.getMappedPort(5001)));
+        ipfsService.start();
+    }
+
+    @AfterAll
+    static void stopIpfsService() {
+        ipfsService.stop();
+    }
+
+    @Test
+    void shouldComputeKnownCids() {
+        assertThat(IpfsCidCalculator.computeCid(new byte[0]))
+                .isEqualTo("QmbFMke1KXqnYyBBWxB74N4c5SBnJMVAiMNRcGu6x1AwQH");
+        assertThat(IpfsCidCalculator.computeCid("hello world\n".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo("QmT78zSuBmuS4z925WZfrqQ1qHaJ56DQaTfyMUF7F8ff5o");
+    }
+
+    static Stream<Arguments> corpus() throws IOException {
+        return Stream.of(
+                Arguments.of("empty", new byte[0]),
+                Arguments.of("one byte", randomBytes(1)),
+                Arguments.of("one chunk", randomBytes(CHUNK_SIZE)),
+                Arguments.of("one chunk and one byte", randomBytes(CHUNK_SIZE + 1)),
+                Arguments.of("full depth 1 tree", randomBytes(MAX_LINKS * CHUNK_SIZE)),
+                Arguments.of("depth 2 tree", randomBytes(MAX_LINKS * CHUNK_SIZE + 1)),
+                Arguments.of("small result zip", resultZip(1, 1024)),
+                Arguments.of("result zip with many files", resultZip(500, 4096)),
+                Arguments.of("large result zip", resultZip(4, 3 * 1024 * 1024))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("corpus")
+    void shouldComputeSameCidAsDaemon(final String name, final byte[] content) {
+        final String localCid = IpfsCidCalculator.computeCid(content);
+        final String daemonCid = ipfsService.add("iexec-result-" + name, content);
+        assertThat(localCid).isEqualTo(daemonCid);
+    }
+
+    private static byte[] randomBytes(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] resultZip(final int fileCount, final int fileSize) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("computed.json"));
+            zip.write("{\"deterministic-output-path\":\"/iexec_out/result-0.bin\"}".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            for (int i = 0; i < fileCount; i++) {
+                zip.putNextEntry(new ZipEntry("result-" + i + ".bin"));
+                zip.write(randomBytes(fileSize + i));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
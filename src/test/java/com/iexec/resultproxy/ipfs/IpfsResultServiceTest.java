@@ -1,5 +1,5 @@
 /*
- * Copyright 2020-2024 IEXEC BLOCKCHAIN TECH
+ * Copyright 2020-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,24 +17,36 @@
 package com.iexec.resultproxy.ipfs;
 
 import com.iexec.commons.poco.utils.BytesUtils;
+import com.iexec.resultproxy.ipfs.outbox.IpfsOutboxService;
 import com.iexec.resultproxy.ipfs.task.IpfsNameService;
+import com.iexec.resultproxy.result.ResultStorage;
+import com.iexec.resultproxy.result.ResultStorageType;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class IpfsResultServiceTest {
@@ -43,7 +55,13 @@ class IpfsResultServiceTest {
     private IpfsNameService ipfsNameService;
 
     @Mock
-    private IpfsService ipfsService;
+    private ResultStorage resultStorage;
+
+    @Mock
+    private IpfsOutboxService ipfsOutboxService;
+
+    @Mock
+    private IpfsPushConfig ipfsPushConfig;
 
     @Spy
     @InjectMocks
@@ -54,6 +72,8 @@ class IpfsResultServiceTest {
     @BeforeEach
     void init() {
         MockitoAnnotations.openMocks(this);
+        when(resultStorage.getType()).thenReturn(ResultStorageType.IPFS);
+        when(resultStorage.toLink(anyString())).thenCallRealMethod();
         chainTaskId = "0x1";
     }
 
@@ -67,10 +87,61 @@ class IpfsResultServiceTest {
     @Test
     void shouldAddResult() {
         when(ipfsNameService.getIpfsHashForTask(anyString())).thenReturn("");
-        when(ipfsService.add(any(), any())).thenReturn("QmfZ88JXmx2FJsAxT4ZsJBVhBUXdPoRbDZhbkSS1WsMbUA");
+        when(resultStorage.store(any(), any())).thenReturn("QmfZ88JXmx2FJsAxT4ZsJBVhBUXdPoRbDZhbkSS1WsMbUA");
         assertThat(ipfsResultService.addResult(chainTaskId, new byte[0]))
                 .isEqualTo("/ipfs/QmfZ88JXmx2FJsAxT4ZsJBVhBUXdPoRbDZhbkSS1WsMbUA");
     }
+
+    @Test
+    void shouldAddResultWithLocalHashBeforePush() {
+        final IpfsResultService asyncService = new IpfsResultService(
+                resultStorage, ipfsNameService, ipfsOutboxService, new IpfsPushConfig(true, 1), ObservationRegistry.NOOP);
+        final String emptyFileHash = "QmbFMke1KXqnYyBBWxB74N4c5SBnJMVAiMNRcGu6x1AwQH";
+        when(ipfsNameService.getIpfsHashForTask(anyString())).thenReturn("");
+        when(resultStorage.computeLocationId(any())).thenReturn(emptyFileHash);
+        when(ipfsOutboxService.enqueue(eq(chainTaskId), any(), eq(emptyFileHash))).thenReturn(true);
+        assertThat(asyncService.addResult(chainTaskId, new byte[0])).isEqualTo("/ipfs/" + emptyFileHash);
+        verify(ipfsNameService).setIpfsHashForTask(chainTaskId, emptyFileHash);
+        verify(resultStorage, never()).store(any(), any());
+    }
+
+    @Test
+    void shouldNotAddResultWhenOutboxRejectsIt() {
+        final IpfsResultService asyncService = new IpfsResultService(
+                resultStorage, ipfsNameService, ipfsOutboxService, new IpfsPushConfig(true, 1), ObservationRegistry.NOOP);
+        when(resultStorage.computeLocationId(any())).thenReturn("Qm");
+        when(ipfsNameService.getIpfsHashForTask(anyString())).thenReturn("");
+        when(ipfsOutboxService.enqueue(eq(chainTaskId), any(), anyString())).thenReturn(false);
+        assertThat(asyncService.addResult(chainTaskId, new byte[0])).isEmpty();
+        verify(ipfsNameService).removeIpfsHashForTask(chainTaskId);
+    }
+
+    @Test
+    void shouldNotEnqueueResultWhenMappingIsNotSaved() {
+        final IpfsResultService asyncService = new IpfsResultService(
+                resultStorage, ipfsNameService, ipfsOutboxService, new IpfsPushConfig(true, 1), ObservationRegistry.NOOP);
+        when(resultStorage.computeLocationId(any())).thenReturn("Qm");
+        when(ipfsNameService.getIpfsHashForTask(anyString())).thenReturn("");
+        doThrow(new DataAccessResourceFailureException("down")).when(ipfsNameService).setIpfsHashForTask(chainTaskId, "Qm");
+        assertThatThrownBy(() -> asyncService.addResult(chainTaskId, new byte[0]))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(ipfsOutboxService, never()).enqueue(anyString(), any(), anyString());
+    }
+
+    @Test
+    void shouldRemoveMappingWhenEnqueueFails() {
+        final IpfsResultService asyncService = new IpfsResultService(
+                resultStorage, ipfsNameService, ipfsOutboxService, new IpfsPushConfig(true, 1), ObservationRegistry.NOOP);
+        when(resultStorage.computeLocationId(any())).thenReturn("Qm");
+        when(ipfsNameService.getIpfsHashForTask(anyString())).thenReturn("");
+        when(ipfsOutboxService.enqueue(eq(chainTaskId), any(), anyString())).thenThrow(new IllegalStateException("stopped"));
+        assertThatThrownBy(() -> asyncService.addResult(chainTaskId, new byte[0]))
+                .isInstanceOf(IllegalStateException.class);
+        final InOrder inOrder = inOrder(ipfsNameService, ipfsOutboxService);
+        inOrder.verify(ipfsNameService).setIpfsHashForTask(chainTaskId, "Qm");
+        inOrder.verify(ipfsOutboxService).enqueue(eq(chainTaskId), any(), eq("Qm"));
+        inOrder.verify(ipfsNameService).removeIpfsHashForTask(chainTaskId);
+    }
     // endregion
 
     // region doesResultExist
@@ -80,6 +151,13 @@ class IpfsResultServiceTest {
         assertThat(ipfsResultService.doesResultExist(chainTaskId)).isTrue();
     }
 
+    @Test
+    void shouldResultExistWhenPushIsPending() {
+        when(ipfsOutboxService.isPending(chainTaskId)).thenReturn(true);
+        assertThat(ipfsResultService.doesResultExist(chainTaskId)).isTrue();
+        verify(ipfsResultService, never()).getResult(chainTaskId);
+    }
+
     @Test
     void shouldResultNotExist() {
         doReturn(Optional.empty()).when(ipfsResultService).getResult(chainTaskId);
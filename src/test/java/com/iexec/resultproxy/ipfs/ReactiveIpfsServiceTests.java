@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ipfs;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveIpfsServiceTests {
+
+    private static final String IPFS_HASH = "QmcipfsHash";
+
+    private HttpServer server;
+    private volatile int status;
+    private volatile String requestQuery;
+    private volatile String requestBody;
+    private ReactiveIpfsService reactiveIpfsService;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(ReactiveIpfsService.ADD_PATH, this::handle);
+        server.start();
+        status = 200;
+        reactiveIpfsService = new ReactiveIpfsService(
+                new IpfsConfig("http://localhost:" + server.getAddress().getPort()), WebClient.builder());
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        requestQuery = exchange.getRequestURI().getQuery();
+        requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1);
+        final byte[] response = ("{\"Name\":\"iexec-result-0x1\",\"Hash\":\"" + IPFS_HASH + "\",\"Size\":\"14\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, response.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(response);
+        }
+    }
+
+    @Test
+    void shouldAddFile() {
+        assertThat(reactiveIpfsService.add("iexec-result-0x1", new byte[]{1, 2, 3}).block()).isEqualTo(IPFS_HASH);
+        assertThat(requestQuery).isEqualTo("pin=true");
+        assertThat(requestBody).contains("name=\"file\"", "filename=\"iexec-result-0x1\"");
+    }
+
+    @Test
+    void shouldReturnEmptyHashOnError() {
+        status = 500;
+        assertThat(reactiveIpfsService.add("iexec-result-0x1", new byte[]{1, 2, 3}).block()).isEmpty();
+    }
+}
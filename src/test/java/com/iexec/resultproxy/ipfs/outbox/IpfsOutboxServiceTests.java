@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.ipfs.outbox;
+
+import com.iexec.resultproxy.ipfs.IpfsPushConfig;
+import com.iexec.resultproxy.ipfs.task.IpfsNameService;
+import com.iexec.resultproxy.result.ResultStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IpfsOutboxServiceTests {
+
+    private static final String CHAIN_TASK_ID = "0x1";
+    private static final String IPFS_HASH = "QmbFMke1KXqnYyBBWxB74N4c5SBnJMVAiMNRcGu6x1AwQH";
+    private static final byte[] DATA = new byte[0];
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private ResultStorage resultStorage;
+
+    @Mock
+    private OutboxEntryRepository outboxEntryRepository;
+
+    @Mock
+    private IpfsNameService ipfsNameService;
+
+    private IpfsOutboxService outboxService;
+
+    @BeforeEach
+    void init() {
+        outboxService = createService(true);
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        outboxService.stop();
+    }
+
+    private IpfsOutboxService createService(boolean async) {
+        final IpfsOutboxConfig outboxConfig = new IpfsOutboxConfig(directory.toString(),
+                DataSize.ofMegabytes(1), Duration.ofMillis(10), Duration.ofMillis(100));
+        return new IpfsOutboxService(resultStorage, outboxEntryRepository, ipfsNameService,
+                new IpfsPushConfig(async, 1), outboxConfig);
+    }
+
+    // region enqueue
+    @Test
+    void shouldNotEnqueueWhenDisabled() throws IOException {
+        outboxService = createService(false);
+        outboxService.start();
+        assertThat(outboxService.enqueue(CHAIN_TASK_ID, DATA, IPFS_HASH)).isFalse();
+    }
+
+    @Test
+    void shouldEnqueueAndPushResult() throws IOException {
+        when(resultStorage.store(CHAIN_TASK_ID, DATA)).thenReturn(IPFS_HASH);
+        outboxService.start();
+        assertThat(outboxService.enqueue(CHAIN_TASK_ID, DATA, IPFS_HASH)).isTrue();
+        verify(outboxEntryRepository).save(any(OutboxEntry.class));
+        verify(outboxEntryRepository, timeout(1000)).deleteByChainTaskId(CHAIN_TASK_ID);
+    }
+
+    @Test
+    void shouldRetryFailedPush() throws IOException {
+        when(resultStorage.store(any(), any())).thenReturn("").thenReturn("").thenReturn(IPFS_HASH);
+        when(outboxEntryRepository.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        outboxService.start();
+        assertThat(outboxService.enqueue(CHAIN_TASK_ID, DATA, IPFS_HASH)).isTrue();
+        verify(outboxEntryRepository, timeout(2000)).deleteByChainTaskId(CHAIN_TASK_ID);
+        verify(resultStorage, times(3)).add(any(), any());
+    }
+
+    @Test
+    void shouldReplaceIpfsHashWhenPushedUnderAnotherHash() throws IOException {
+        when(resultStorage.store(CHAIN_TASK_ID, DATA)).thenReturn("QmOther");
+        outboxService.start();
+        assertThat(outboxService.enqueue(CHAIN_TASK_ID, DATA, IPFS_HASH)).isTrue();
+        verify(outboxEntryRepository, timeout(1000)).deleteByChainTaskId(CHAIN_TASK_ID);
+        verify(ipfsNameService).replaceIpfsHashForTask(CHAIN_TASK_ID, "QmOther");
+    }
+
+    @Test
+    void shouldRetryPushWhenIpfsHashCannotBeReplaced() throws IOException {
+        when(resultStorage.store(CHAIN_TASK_ID, DATA)).thenReturn("QmOther");
+        when(outboxEntryRepository.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        doThrow(new DataAccessResourceFailureException("down")).doNothing()
+                .when(ipfsNameService).replaceIpfsHashForTask(CHAIN_TASK_ID, "QmOther");
+        outboxService.start();
+        assertThat(outboxService.enqueue(CHAIN_TASK_ID, DATA, IPFS_HASH)).isTrue();
+        verify(outboxEntryRepository, timeout(2000)).deleteByChainTaskId(CHAIN_TASK_ID);
+        verify(ipfsNameService, times(2)).replaceIpfsHashForTask(CHAIN_TASK_ID, "QmOther");
+    }
+
+    @Test
+    void shouldNotEnqueueWhenOutboxEntryCannotBeSaved() throws IOException {
+        when(outboxEntryRepository.save(any())).thenThrow(new DataAccessResourceFailureException("down"));
+        outboxService.start();
+        assertThat(outboxService.enqueue(CHAIN_TASK_ID, DATA, IPFS_HASH)).isFalse();
+        assertThat(outboxService.isPending(CHAIN_TASK_ID)).isFalse();
+    }
+    // endregion
+
+    // region start
+    @Test
+    void shouldReplayPendingPushesOnStart() throws IOException {
+        try (ResultSpool spool = new ResultSpool(directory, DataSize.ofMegabytes(1).toBytes())) {
+            spool.open();
+            final ResultSpool.Location location = spool.append(CHAIN_TASK_ID, DATA);
+            when(outboxEntryRepository.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.of(
+                    new OutboxEntry(CHAIN_TASK_ID, IPFS_HASH, location.segmentId(), location.offset())));
+        }
+        when(resultStorage.store(any(), any())).thenReturn(IPFS_HASH);
+        outboxService.start();
+        verify(resultStorage, timeout(1000)).store(eq(CHAIN_TASK_ID), any());
+        verify(outboxEntryRepository, timeout(1000)).deleteByChainTaskId(CHAIN_TASK_ID);
+    }
+
+    @Test
+    void shouldDropSpooledResultWithoutOutboxEntryOnStart() throws IOException {
+        try (ResultSpool spool = new ResultSpool(directory, DataSize.ofMegabytes(1).toBytes())) {
+            spool.open();
+            spool.append(CHAIN_TASK_ID, DATA);
+        }
+        when(outboxEntryRepository.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        outboxService.start();
+        assertThat(outboxService.isPending(CHAIN_TASK_ID)).isFalse();
+        verify(resultStorage, never()).add(any(), any());
+    }
+    // endregion
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.ipfs.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResultSpoolTests {
+
+    private static final String CHAIN_TASK_ID = "0x1";
+    private static final long SEGMENT_SIZE = 1024L;
+
+    @TempDir
+    private Path directory;
+
+    // region append
+    @Test
+    void shouldAppendAndReadResult() throws IOException {
+        final byte[] data = "result".getBytes(StandardCharsets.UTF_8);
+        try (ResultSpool spool = new ResultSpool(directory, SEGMENT_SIZE)) {
+            assertThat(spool.open()).isEmpty();
+            final ResultSpool.Location location = spool.append(CHAIN_TASK_ID, data);
+            assertThat(location.length()).isEqualTo(data.length);
+            assertThat(spool.read(location)).isEqualTo(data);
+        }
+    }
+
+    @Test
+    void shouldRollSegmentWhenFull() throws IOException {
+        try (ResultSpool spool = new ResultSpool(directory, SEGMENT_SIZE)) {
+            spool.open();
+            final ResultSpool.Location first = spool.append("0x1", new byte[600]);
+            final ResultSpool.Location second = spool.append("0x2", new byte[600]);
+            assertThat(second.segmentId()).isEqualTo(first.segmentId() + 1);
+            assertThat(spool.getSegmentCount()).isEqualTo(2);
+        }
+    }
+    // endregion
+
+    // region release
+    @Test
+    void shouldDeleteReleasedSegmentOnceInactive() throws IOException {
+        try (ResultSpool spool = new ResultSpool(directory, SEGMENT_SIZE)) {
+            spool.open();
+            final ResultSpool.Location first = spool.append("0x1", new byte[600]);
+            spool.append("0x2", new byte[600]);
+            spool.release(first);
+            assertThat(spool.getSegmentCount()).isOne();
+            assertThatThrownBy(() -> spool.read(first)).isInstanceOf(IOException.class);
+        }
+        assertThat(listSegments()).hasSize(1);
+    }
+
+    @Test
+    void shouldKeepActiveSegmentWhenReleased() throws IOException {
+        try (ResultSpool spool = new ResultSpool(directory, SEGMENT_SIZE)) {
+            spool.open();
+            spool.release(spool.append(CHAIN_TASK_ID, new byte[10]));
+            assertThat(spool.getSegmentCount()).isOne();
+        }
+    }
+    // endregion
+
+    // region open
+    @Test
+    void shouldReplayRecordsOnOpen() throws IOException {
+        final ResultSpool.Location location;
+        try (ResultSpool spool = new ResultSpool(directory, SEGMENT_SIZE)) {
+            spool.open();
+            location = spool.append(CHAIN_TASK_ID, "result".getBytes(StandardCharsets.UTF_8));
+        }
+        try (ResultSpool spool = new ResultSpool(directory, SEGMENT_SIZE)) {
+            final List<ResultSpool.Entry> entries = spool.open();
+            assertThat(entries).containsExactly(new ResultSpool.Entry(CHAIN_TASK_ID, location));
+            assertThat(new String(spool.read(location), StandardCharsets.UTF_8)).isEqualTo("result");
+        }
+    }
+
+    @Test
+    void shouldTruncateTornRecordOnOpen() throws IOException {
+        final ResultSpool.Location location;
+        try (ResultSpool spool = new ResultSpool(directory, SEGMENT_SIZE)) {
+            spool.open();
+            location = spool.append(CHAIN_TASK_ID, new byte[10]);
+            spool.append("0x2", new byte[10]);
+        }
+        final Path segment = listSegments().get(0);
+        final long validSize = location.offset() + location.length() + ResultSpool.TRAILER_SIZE;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(segment) - 3);
+        }
+        try (ResultSpool spool = new ResultSpool(directory, SEGMENT_SIZE)) {
+            assertThat(spool.open()).containsExactly(new ResultSpool.Entry(CHAIN_TASK_ID, location));
+        }
+        assertThat(Files.size(segment)).isEqualTo(validSize);
+    }
+
+    @Test
+    void shouldDropCorruptedRecordOnOpen() throws IOException {
+        final ResultSpool.Location location;
+        try (ResultSpool spool = new ResultSpool(directory, SEGMENT_SIZE)) {
+            spool.open();
+            location = spool.append(CHAIN_TASK_ID, new byte[10]);
+        }
+        final Path segment = listSegments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1}), location.offset());
+        }
+        try (ResultSpool spool = new ResultSpool(directory, SEGMENT_SIZE)) {
+            assertThat(spool.open()).isEmpty();
+        }
+        assertThat(Files.size(segment)).isZero();
+    }
+    // endregion
+
+    private List<Path> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+}
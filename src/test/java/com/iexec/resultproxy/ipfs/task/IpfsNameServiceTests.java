@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.ipfs.task;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IpfsNameServiceTests {
+
+    private static final String TASK_ID = "0x1";
+    private static final String IPFS_HASH = "QmYwAPJzv5CZsnA625s3Xf2nemtYgPpHdWEz79ojWnPbdG";
+    private static final String CHAIN_TASK_ID = "0x" + "0123456789abcdef".repeat(4);
+
+    @Mock
+    private IpfsNameStore ipfsNameStore;
+
+    private IpfsNameService ipfsNameService;
+
+    @BeforeEach
+    void init() {
+        ipfsNameService = new IpfsNameService(ipfsNameStore, new IpfsNameCacheConfig(2, 2, Duration.ofHours(1)));
+    }
+
+    // region getIpfsHashForTask
+    @Test
+    void shouldReadIpfsHashFromStoreOnce() {
+        when(ipfsNameStore.findByTaskId(TASK_ID)).thenReturn(Optional.of(new IpfsName(TASK_ID, IPFS_HASH)));
+        assertThat(ipfsNameService.getIpfsHashForTask(TASK_ID)).isEqualTo(IPFS_HASH);
+        assertThat(ipfsNameService.getIpfsHashForTask(TASK_ID)).isEqualTo(IPFS_HASH);
+        verify(ipfsNameStore, times(1)).findByTaskId(TASK_ID);
+    }
+
+    @Test
+    void shouldNotCacheMissingIpfsHash() {
+        when(ipfsNameStore.findByTaskId(TASK_ID)).thenReturn(Optional.empty());
+        assertThat(ipfsNameService.getIpfsHashForTask(TASK_ID)).isEmpty();
+        assertThat(ipfsNameService.getIpfsHashForTask(TASK_ID)).isEmpty();
+        verify(ipfsNameStore, times(2)).findByTaskId(TASK_ID);
+    }
+
+    @Test
+    void shouldEvictOldestCachedIpfsHash() {
+        when(ipfsNameStore.findByTaskId(anyString()))
+                .thenAnswer(invocation -> Optional.of(new IpfsName(invocation.getArgument(0), IPFS_HASH)));
+        ipfsNameService.getIpfsHashForTask("0x1");
+        ipfsNameService.getIpfsHashForTask("0x2");
+        ipfsNameService.getIpfsHashForTask("0x1");
+        ipfsNameService.getIpfsHashForTask("0x3");
+        ipfsNameService.getIpfsHashForTask("0x2");
+        ipfsNameService.getIpfsHashForTask("0x1");
+        verify(ipfsNameStore, times(2)).findByTaskId("0x1");
+        verify(ipfsNameStore, times(1)).findByTaskId("0x2");
+    }
+
+    @Test
+    void shouldComputeCacheHitRatio() {
+        when(ipfsNameStore.findByTaskId(CHAIN_TASK_ID)).thenReturn(Optional.of(new IpfsName(CHAIN_TASK_ID, IPFS_HASH)));
+        assertThat(ipfsNameService.getCacheHitRatio()).isZero();
+        for (int i = 0; i < 4; i++) {
+            ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID);
+        }
+        assertThat(ipfsNameService.getCacheHitRatio()).isEqualTo(0.75);
+    }
+    // endregion
+
+    // region setIpfsHashForTask
+    @Test
+    void shouldServeSavedIpfsHashFromCache() {
+        when(ipfsNameStore.findByTaskId(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        ipfsNameService.setIpfsHashForTask(CHAIN_TASK_ID, IPFS_HASH);
+        assertThat(ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID)).isEqualTo(IPFS_HASH);
+        verify(ipfsNameStore).save(any());
+        verify(ipfsNameStore, times(1)).findByTaskId(CHAIN_TASK_ID);
+    }
+
+    @Test
+    void shouldNotSaveIpfsHashWhenAlreadySet() {
+        when(ipfsNameStore.findByTaskId(TASK_ID)).thenReturn(Optional.of(new IpfsName(TASK_ID, IPFS_HASH)));
+        ipfsNameService.setIpfsHashForTask(TASK_ID, "QmOther");
+        verify(ipfsNameStore, never()).save(any());
+    }
+    // endregion
+
+    // region replaceIpfsHashForTask
+    @Test
+    void shouldReplaceIpfsHash() {
+        final IpfsName ipfsName = new IpfsName(CHAIN_TASK_ID, IPFS_HASH);
+        when(ipfsNameStore.findByTaskId(CHAIN_TASK_ID)).thenReturn(Optional.of(ipfsName));
+        ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID);
+        ipfsNameService.replaceIpfsHashForTask(CHAIN_TASK_ID, "QmOther");
+        verify(ipfsNameStore).save(ipfsName);
+        assertThat(ipfsName.getIpfsHash()).isEqualTo("QmOther");
+        assertThat(ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID)).isEqualTo("QmOther");
+    }
+    // endregion
+
+    // region removeIpfsHashForTask
+    @Test
+    void shouldRemoveIpfsHash() {
+        when(ipfsNameStore.findByTaskId(CHAIN_TASK_ID))
+                .thenReturn(Optional.of(new IpfsName(CHAIN_TASK_ID, IPFS_HASH)))
+                .thenReturn(Optional.empty());
+        ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID);
+        ipfsNameService.removeIpfsHashForTask(CHAIN_TASK_ID);
+        verify(ipfsNameStore).deleteByTaskId(CHAIN_TASK_ID);
+        assertThat(ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID)).isEmpty();
+    }
+    // endregion
+
+    // region warmUp
+    @Test
+    void shouldWarmUpWithMostRecentIpfsHashes() {
+        when(ipfsNameStore.findAllByOrderByIdDesc(Limit.of(2))).thenReturn(Stream.of(
+                new IpfsName("0x3", "Qm3"), new IpfsName("0x2", "Qm2"), new IpfsName("0x1", "Qm1")));
+        ipfsNameService.warmUp();
+        assertThat(ipfsNameService.getIpfsHashForTask("0x3")).isEqualTo("Qm3");
+        assertThat(ipfsNameService.getIpfsHashForTask("0x2")).isEqualTo("Qm2");
+        verify(ipfsNameStore, never()).findByTaskId(anyString());
+    }
+
+    @Test
+    void shouldNotFailWhenWarmUpFails() {
+        when(ipfsNameStore.findAllByOrderByIdDesc(any())).thenThrow(new DataAccessResourceFailureException("down"));
+        ipfsNameService.warmUp();
+        when(ipfsNameStore.findByTaskId(TASK_ID)).thenReturn(Optional.of(new IpfsName(TASK_ID, IPFS_HASH)));
+        assertThat(ipfsNameService.getIpfsHashForTask(TASK_ID)).isEqualTo(IPFS_HASH);
+    }
+
+    @Test
+    void shouldNotWarmUpWhenDisabled() {
+        new IpfsNameService(ipfsNameStore, new IpfsNameCacheConfig(2, 0, Duration.ofHours(1))).warmUp();
+        verifyNoInteractions(ipfsNameStore);
+    }
+    // endregion
+
+    // region toCacheKey
+    @Test
+    void shouldPackStandardTaskIds() {
+        assertThat(IpfsNameService.toCacheKey(CHAIN_TASK_ID))
+                .isNotInstanceOf(String.class)
+                .isEqualTo(IpfsNameService.toCacheKey("0x" + "0123456789abcdef".repeat(4)));
+    }
+
+    @Test
+    void shouldNotPackOtherTaskIds() {
+        final String upperCaseTaskId = CHAIN_TASK_ID.toUpperCase().replace("0X", "0x");
+        assertThat(IpfsNameService.toCacheKey(upperCaseTaskId)).isEqualTo(upperCaseTaskId);
+        assertThat(IpfsNameService.toCacheKey(TASK_ID)).isEqualTo(TASK_ID);
+    }
+    // endregion
+}
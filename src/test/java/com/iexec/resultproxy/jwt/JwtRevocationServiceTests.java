@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtRevocationServiceTests {
+
+    private static final String WALLET = "0xAbC0000000000000000000000000000000000001";
+
+    @Mock
+    private JwtRevocationSetStore store;
+
+    private JwtRevocationService jwtRevocationService;
+
+    @BeforeEach
+    void init() {
+        jwtRevocationService = new JwtRevocationService(store,
+                new JwtStatelessConfig(true, Duration.ofHours(1), Duration.ofSeconds(30)));
+    }
+
+    private static JwtRevocationSet newSet(Long version, Map<String, Instant> revokedBefore) {
+        return new JwtRevocationSet(JwtRevocationSet.ID, version, revokedBefore);
+    }
+
+    // region isRevoked
+    @Test
+    void shouldRevokeTokensIssuedBeforeRevocationSecond() {
+        final Instant revokedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusMillis(500);
+        when(store.findById(JwtRevocationSet.ID)).thenReturn(Optional.of(newSet(1L, Map.of(WALLET.toLowerCase(), revokedAt))));
+        jwtRevocationService.refresh();
+        assertThat(jwtRevocationService.isRevoked(WALLET, revokedAt.minusSeconds(1))).isTrue();
+        assertThat(jwtRevocationService.isRevoked(WALLET, revokedAt.plusSeconds(1))).isFalse();
+        assertThat(jwtRevocationService.isRevoked("0x2", revokedAt.minusSeconds(1))).isFalse();
+    }
+
+    @Test
+    void shouldNotRevokeTokenReissuedDuringRevocationSecond() {
+        final Instant revokedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusMillis(500);
+        when(store.findById(JwtRevocationSet.ID)).thenReturn(Optional.of(newSet(1L, Map.of(WALLET.toLowerCase(), revokedAt))));
+        jwtRevocationService.refresh();
+        // iat claims have a second precision, a token reissued after the revocation has the truncated instant
+        assertThat(jwtRevocationService.isRevoked(WALLET, revokedAt.truncatedTo(ChronoUnit.SECONDS))).isFalse();
+    }
+
+    @Test
+    void shouldKeepRevocationsWhenRefreshFails() {
+        final Instant revokedAt = Instant.now();
+        when(store.findById(JwtRevocationSet.ID))
+                .thenReturn(Optional.of(newSet(1L, Map.of(WALLET.toLowerCase(), revokedAt))))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        jwtRevocationService.refresh();
+        jwtRevocationService.refresh();
+        assertThat(jwtRevocationService.isRevoked(WALLET, revokedAt.minusSeconds(1))).isTrue();
+        assertThat(jwtRevocationService.getVersion()).isEqualTo(1L);
+    }
+    // endregion
+
+    // region revoke
+    @Test
+    void shouldCreateRevocationSet() {
+        when(store.findById(JwtRevocationSet.ID)).thenReturn(Optional.empty());
+        when(store.save(any(JwtRevocationSet.class))).thenAnswer(invocation -> {
+            final JwtRevocationSet set = invocation.getArgument(0);
+            return newSet(0L, set.getRevokedBefore());
+        });
+        assertThat(jwtRevocationService.revoke(WALLET)).isTrue();
+        assertThat(jwtRevocationService.isRevoked(WALLET, Instant.now().minusSeconds(2))).isTrue();
+        assertThat(jwtRevocationService.getVersion()).isZero();
+    }
+
+    @Test
+    void shouldRetryRevocationOnConcurrentUpdate() {
+        final Instant otherRevokedAt = Instant.now();
+        when(store.findById(JwtRevocationSet.ID))
+                .thenReturn(Optional.of(newSet(1L, Map.of())))
+                .thenReturn(Optional.of(newSet(2L, Map.of("0x2", otherRevokedAt))));
+        when(store.save(any(JwtRevocationSet.class)))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenAnswer(invocation -> {
+                    final JwtRevocationSet set = invocation.getArgument(0);
+                    return newSet(set.getVersion() + 1, set.getRevokedBefore());
+                });
+        assertThat(jwtRevocationService.revoke(WALLET)).isTrue();
+        final ArgumentCaptor<JwtRevocationSet> captor = ArgumentCaptor.forClass(JwtRevocationSet.class);
+        verify(store, times(2)).save(captor.capture());
+        assertThat(captor.getValue().getVersion()).isEqualTo(2L);
+        assertThat(captor.getValue().getRevokedBefore()).containsOnlyKeys("0x2", WALLET.toLowerCase());
+        assertThat(jwtRevocationService.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldDropExpiredRevocations() {
+        final Instant expiredRevocation = Instant.now().minus(Duration.ofHours(2));
+        when(store.findById(JwtRevocationSet.ID)).thenReturn(Optional.of(newSet(1L, Map.of("0x2", expiredRevocation))));
+        when(store.save(any(JwtRevocationSet.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        jwtRevocationService.revoke(WALLET);
+        assertThat(jwtRevocationService.getRevocations()).containsOnlyKeys(WALLET.toLowerCase());
+    }
+
+    @Test
+    void shouldNotRevokeWhenStoreIsDown() {
+        when(store.findById(JwtRevocationSet.ID)).thenThrow(new DataAccessResourceFailureException("down"));
+        assertThat(jwtRevocationService.revoke(WALLET)).isFalse();
+        verify(store, never()).save(any());
+    }
+    // endregion
+}
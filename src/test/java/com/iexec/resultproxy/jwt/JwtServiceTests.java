@@ -17,6 +17,7 @@
 package com.iexec.resultproxy.jwt;
 
 import com.iexec.common.utils.FileHelper;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -36,6 +37,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Optional;
 import java.util.UUID;
@@ -44,6 +48,7 @@ import static com.iexec.resultproxy.jwt.JwtService.KEY_SIZE;
 import static io.jsonwebtoken.security.Keys.hmacShaKeyFor;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class JwtServiceTests {
@@ -51,8 +56,12 @@ class JwtServiceTests {
     @TempDir
     private static Path tmpDir;
     private JwtConfig jwtConfig;
+    private final JwtStatelessConfig statefulConfig = new JwtStatelessConfig(false, Duration.ofHours(1), Duration.ofSeconds(30));
+    private final JwtStatelessConfig statelessConfig = new JwtStatelessConfig(true, Duration.ofHours(1), Duration.ofSeconds(30));
     @Mock
     private JwtRepository jwtRepository;
+    @Mock
+    private JwtRevocationService jwtRevocationService;
     private JwtService jwtService;
     private String walletAddress;
     private static final byte[] badJwtKey = SecureRandom.getSeed(KEY_SIZE);
@@ -68,7 +77,7 @@ class JwtServiceTests {
         jwtConfig = new JwtConfig(String.join(File.separator, tmpDir.toString(), ".key"));
         MockitoAnnotations.openMocks(this);
         walletAddress = getWalletAddress();
-        jwtService = new JwtService(jwtConfig, jwtRepository);
+        jwtService = new JwtService(jwtConfig, statefulConfig, jwtRepository, jwtRevocationService);
     }
 
     @Test
@@ -77,7 +86,7 @@ class JwtServiceTests {
         Files.deleteIfExists(keyFilePath);
         FileHelper.createFileWithContent(jwtConfig.getKeyPath(), UUID.randomUUID().toString());
         assertThrows(IllegalArgumentException.class,
-                () -> new JwtService(jwtConfig, jwtRepository));
+                () -> new JwtService(jwtConfig, statefulConfig, jwtRepository, jwtRevocationService));
         Files.deleteIfExists(keyFilePath);
     }
 
@@ -85,7 +94,7 @@ class JwtServiceTests {
     @Test
     void shouldValidateTokenWhenKeyFileExists() throws IOException {
         String token = jwtService.createJwt(walletAddress);
-        JwtService newService = new JwtService(jwtConfig, jwtRepository);
+        JwtService newService = new JwtService(jwtConfig, statefulConfig, jwtRepository, jwtRevocationService);
         assertAll(
                 () -> assertEquals(walletAddress, jwtService.getWalletAddressFromJwtString(token)),
                 () -> assertEquals(walletAddress, newService.getWalletAddressFromJwtString(token))
@@ -96,7 +105,7 @@ class JwtServiceTests {
     void shouldNotValidateTokenWhenKeyFileRecreated() throws IOException {
         String token = jwtService.createJwt(walletAddress);
         Files.deleteIfExists(Path.of(jwtConfig.getKeyPath()));
-        JwtService newService = new JwtService(jwtConfig, jwtRepository);
+        JwtService newService = new JwtService(jwtConfig, statefulConfig, jwtRepository, jwtRevocationService);
         assertAll(
                 () -> assertEquals(walletAddress, jwtService.getWalletAddressFromJwtString(token)),
                 () -> assertThrows(SignatureException.class,
@@ -253,4 +262,101 @@ class JwtServiceTests {
     }
     //endregion
 
+    //region stateless
+    private JwtService newStatelessService() throws IOException {
+        return new JwtService(jwtConfig, statelessConfig, jwtRepository, jwtRevocationService);
+    }
+
+    private byte[] readServiceKey() throws IOException {
+        return Base64.getDecoder().decode(Files.readString(Path.of(jwtConfig.getKeyPath())));
+    }
+
+    private String signWithServiceKey(JwtBuilder builder) throws IOException {
+        return builder.signWith(hmacShaKeyFor(readServiceKey()), SignatureAlgorithm.HS256).compact();
+    }
+
+    @Test
+    void statelessTokenIsValidWithoutRepositoryLookup() throws IOException {
+        final JwtService statelessService = newStatelessService();
+        final String token = statelessService.createJwt(walletAddress);
+        assertAll(
+                () -> assertTrue(statelessService.isStateless()),
+                () -> assertTrue(statelessService.isValidJwt(token)),
+                () -> verifyNoInteractions(jwtRepository),
+                () -> verify(jwtRevocationService).isRevoked(eq(walletAddress), any())
+        );
+    }
+
+    @Test
+    void statelessTokenIsNotValidWhenRevoked() throws IOException {
+        final JwtService statelessService = newStatelessService();
+        final String token = statelessService.createJwt(walletAddress);
+        when(jwtRevocationService.isRevoked(eq(walletAddress), any())).thenReturn(true);
+        assertAll(
+                () -> assertFalse(statelessService.isValidJwt(token)),
+                () -> verifyNoInteractions(jwtRepository)
+        );
+    }
+
+    @Test
+    void statelessTokenIsNotValidWhenExpired() throws IOException {
+        final JwtService statelessService = newStatelessService();
+        final String keyId = Jwts.parserBuilder()
+                .setSigningKey(hmacShaKeyFor(readServiceKey()))
+                .build()
+                .parseClaimsJws(statelessService.createJwt(walletAddress))
+                .getHeader()
+                .getKeyId();
+        final Instant issuedAt = Instant.now().minus(Duration.ofHours(2));
+        final String expiredToken = signWithServiceKey(Jwts.builder()
+                .setHeaderParam("kid", keyId)
+                .setAudience(walletAddress)
+                .setIssuedAt(Date.from(issuedAt))
+                .setExpiration(Date.from(issuedAt.plus(Duration.ofHours(1))))
+                .setSubject(UUID.randomUUID().toString()));
+        assertFalse(statelessService.isValidJwt(expiredToken));
+    }
+
+    @Test
+    void statelessTokenIsNotValidWithoutKeyIdOrExpiration() throws IOException {
+        final JwtService statelessService = newStatelessService();
+        final String statefulToken = jwtService.createJwt(walletAddress);
+        final String otherKeyIdToken = signWithServiceKey(Jwts.builder()
+                .setHeaderParam("kid", "0000000000000000")
+                .setAudience(walletAddress)
+                .setIssuedAt(new Date())
+                .setExpiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .setSubject(UUID.randomUUID().toString()));
+        assertAll(
+                () -> assertFalse(statelessService.isValidJwt(statefulToken)),
+                () -> assertFalse(statelessService.isValidJwt(otherKeyIdToken)),
+                () -> verifyNoInteractions(jwtRevocationService)
+        );
+    }
+
+    @Test
+    void shouldReplaceStoredTokenWithoutExpirationInStatelessMode() throws IOException {
+        final JwtService statelessService = newStatelessService();
+        final String statefulToken = jwtService.createJwt(walletAddress);
+        when(jwtRepository.findByWalletAddress(walletAddress)).thenReturn(Optional.of(new Jwt(walletAddress, statefulToken)));
+        final String token = statelessService.getOrCreateJwt(walletAddress);
+        assertAll(
+                () -> assertNotEquals(statefulToken, token),
+                () -> assertTrue(statelessService.isValidJwt(token)),
+                () -> verify(jwtRepository).save(any())
+        );
+    }
+
+    @Test
+    void shouldReuseStoredStatelessToken() throws IOException {
+        final JwtService statelessService = newStatelessService();
+        final String statelessToken = statelessService.createJwt(walletAddress);
+        when(jwtRepository.findByWalletAddress(walletAddress)).thenReturn(Optional.of(new Jwt(walletAddress, statelessToken)));
+        assertAll(
+                () -> assertEquals(statelessToken, statelessService.getOrCreateJwt(walletAddress)),
+                () -> verify(jwtRepository, never()).save(any())
+        );
+    }
+    //endregion
+
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.lease;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadLeaseServiceTests {
+
+    private static final String CHAIN_TASK_ID = "0x1";
+    private static final String RESULT_LINK = "/ipfs/QmHash";
+
+    @Mock
+    private UploadLeaseStore uploadLeaseStore;
+
+    private UploadLeaseService uploadLeaseService;
+
+    @BeforeEach
+    void init() {
+        uploadLeaseService = new UploadLeaseService(uploadLeaseStore,
+                new UploadLeaseConfig(true, Duration.ofMinutes(1)));
+    }
+
+    @AfterEach
+    void cleanup() {
+        uploadLeaseService.stop();
+    }
+
+    private static UploadLease heldLease(String owner, String resultLink) {
+        return new UploadLease(CHAIN_TASK_ID, 1L, owner, Instant.now().plusSeconds(60), resultLink);
+    }
+
+    private void mockSave() {
+        when(uploadLeaseStore.save(any(UploadLease.class))).thenAnswer(invocation -> {
+            final UploadLease uploadLease = invocation.getArgument(0);
+            return new UploadLease(uploadLease.getChainTaskId(),
+                    uploadLease.getVersion() == null ? 0L : uploadLease.getVersion() + 1,
+                    uploadLease.getOwner(), uploadLease.getExpiresAt(), uploadLease.getResultLink());
+        });
+    }
+
+    // region tryAcquire
+    @Test
+    void shouldNotUseStoreWhenDisabled() {
+        final UploadLeaseService disabledService = new UploadLeaseService(uploadLeaseStore,
+                new UploadLeaseConfig(false, Duration.ofMinutes(1)));
+        try (UploadLeaseService.Lease lease = disabledService.tryAcquire(CHAIN_TASK_ID).orElseThrow()) {
+            lease.complete(RESULT_LINK);
+        }
+        verifyNoInteractions(uploadLeaseStore);
+    }
+
+    @Test
+    void shouldAcquireMissingLease() {
+        when(uploadLeaseStore.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        mockSave();
+        assertThat(uploadLeaseService.tryAcquire(CHAIN_TASK_ID)).isPresent();
+        final ArgumentCaptor<UploadLease> captor = ArgumentCaptor.forClass(UploadLease.class);
+        verify(uploadLeaseStore).save(captor.capture());
+        assertThat(captor.getValue().getVersion()).isNull();
+        assertThat(captor.getValue().getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void shouldTakeOverExpiredLease() {
+        final UploadLease expired = new UploadLease(CHAIN_TASK_ID, 3L, "other", Instant.now().minusSeconds(1), null);
+        when(uploadLeaseStore.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.of(expired));
+        mockSave();
+        assertThat(uploadLeaseService.tryAcquire(CHAIN_TASK_ID)).isPresent();
+        final ArgumentCaptor<UploadLease> captor = ArgumentCaptor.forClass(UploadLease.class);
+        verify(uploadLeaseStore).save(captor.capture());
+        assertThat(captor.getValue().getVersion()).isEqualTo(3L);
+        assertThat(captor.getValue().getOwner()).isNotEqualTo("other");
+    }
+
+    @Test
+    void shouldNotAcquireHeldLease() {
+        when(uploadLeaseStore.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.of(heldLease("other", null)));
+        assertThat(uploadLeaseService.tryAcquire(CHAIN_TASK_ID)).isEmpty();
+        verify(uploadLeaseStore, never()).save(any());
+    }
+
+    @Test
+    void shouldNotAcquireLeaseInsertedConcurrently() {
+        when(uploadLeaseStore.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        when(uploadLeaseStore.save(any(UploadLease.class))).thenThrow(new DuplicateKeyException("duplicate"));
+        assertThat(uploadLeaseService.tryAcquire(CHAIN_TASK_ID)).isEmpty();
+    }
+
+    @Test
+    void shouldNotAcquireLeaseTakenOverConcurrently() {
+        final UploadLease expired = new UploadLease(CHAIN_TASK_ID, 3L, "other", Instant.now().minusSeconds(1), null);
+        when(uploadLeaseStore.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.of(expired));
+        when(uploadLeaseStore.save(any(UploadLease.class))).thenThrow(new OptimisticLockingFailureException("conflict"));
+        assertThat(uploadLeaseService.tryAcquire(CHAIN_TASK_ID)).isEmpty();
+    }
+
+    @Test
+    void shouldUploadWithoutLeaseWhenStoreIsDown() {
+        when(uploadLeaseStore.findByChainTaskId(CHAIN_TASK_ID)).thenThrow(new DataAccessResourceFailureException("down"));
+        try (UploadLeaseService.Lease lease = uploadLeaseService.tryAcquire(CHAIN_TASK_ID).orElseThrow()) {
+            lease.complete(RESULT_LINK);
+        }
+        verify(uploadLeaseStore, never()).save(any());
+        verify(uploadLeaseStore, never()).deleteByChainTaskIdAndOwner(any(), any());
+    }
+    // endregion
+
+    // region Lease
+    @Test
+    void shouldStoreResultLinkOnCompletion() {
+        when(uploadLeaseStore.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        mockSave();
+        try (UploadLeaseService.Lease lease = uploadLeaseService.tryAcquire(CHAIN_TASK_ID).orElseThrow()) {
+            lease.complete(RESULT_LINK);
+        }
+        final ArgumentCaptor<UploadLease> captor = ArgumentCaptor.forClass(UploadLease.class);
+        verify(uploadLeaseStore, times(2)).save(captor.capture());
+        assertThat(captor.getValue().getResultLink()).isEqualTo(RESULT_LINK);
+        assertThat(captor.getValue().getVersion()).isZero();
+        verify(uploadLeaseStore, never()).deleteByChainTaskIdAndOwner(any(), any());
+    }
+
+    @Test
+    void shouldReleaseLeaseWhenNotCompleted() {
+        when(uploadLeaseStore.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        mockSave();
+        uploadLeaseService.tryAcquire(CHAIN_TASK_ID).orElseThrow().close();
+        verify(uploadLeaseStore).deleteByChainTaskIdAndOwner(eq(CHAIN_TASK_ID), any());
+    }
+
+    @Test
+    void shouldRenewLeaseDuringLongUploads() {
+        final UploadLeaseService shortLeaseService = new UploadLeaseService(uploadLeaseStore,
+                new UploadLeaseConfig(true, Duration.ofMillis(300)));
+        when(uploadLeaseStore.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        mockSave();
+        try (UploadLeaseService.Lease ignored = shortLeaseService.tryAcquire(CHAIN_TASK_ID).orElseThrow()) {
+            verify(uploadLeaseStore, timeout(1000).atLeast(3)).save(any());
+        } finally {
+            shortLeaseService.stop();
+        }
+    }
+    // endregion
+}
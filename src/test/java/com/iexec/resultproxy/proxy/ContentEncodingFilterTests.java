@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.proxy;
+
+import com.github.luben.zstd.Zstd;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContentEncodingFilterTests {
+
+    private static final byte[] BODY = "{\"chainTaskId\":\"0x1\",\"zip\":\"UEsDBBQ=\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final ContentEncodingFilter filter = new ContentEncodingFilter(
+            new ContentEncodingConfig(DataSize.ofBytes(BODY.length)));
+
+    private MockHttpServletRequest uploadRequest(final String encoding, final byte[] content) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/results");
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        request.setContent(content);
+        return request;
+    }
+
+    private byte[] readForwardedBody(final MockFilterChain chain) throws IOException {
+        final ServletRequest forwarded = chain.getRequest();
+        assertThat(forwarded).isNotNull();
+        assertThat(((HttpServletRequest) forwarded).getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(forwarded.getContentLengthLong()).isEqualTo(-1L);
+        return forwarded.getInputStream().readAllBytes();
+    }
+
+    @Test
+    void shouldDecodeGzipBody() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(BODY);
+        }
+        final MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(uploadRequest("gzip", out.toByteArray()), new MockHttpServletResponse(), chain);
+        assertThat(readForwardedBody(chain)).isEqualTo(BODY);
+    }
+
+    @Test
+    void shouldDecodeZstdBody() throws Exception {
+        final MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(uploadRequest("ZSTD", Zstd.compress(BODY)), new MockHttpServletResponse(), chain);
+        assertThat(readForwardedBody(chain)).isEqualTo(BODY);
+    }
+
+    @Test
+    void shouldFailBodyDecodedLargerThanMaxSize() throws Exception {
+        final byte[] largerBody = Arrays.copyOf(BODY, BODY.length + 1);
+        final MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(uploadRequest("zstd", Zstd.compress(largerBody)), new MockHttpServletResponse(), chain);
+        assertThatThrownBy(() -> readForwardedBody(chain))
+                .isInstanceOf(UploadTooLargeException.class);
+    }
+
+    @Test
+    void shouldRejectUnsupportedEncoding() throws Exception {
+        final MockFilterChain chain = new MockFilterChain();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(uploadRequest("br", BODY), response, chain);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void shouldRejectCorruptedGzipBody() throws Exception {
+        final MockFilterChain chain = new MockFilterChain();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(uploadRequest("gzip", BODY), response, chain);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/v1/results/token", "/v1/results/0x1"})
+    void shouldIgnoreOtherEndpoints(final String path) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, "br");
+        final MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024-2025 IEXEC BLOCKCHAIN TECH
+ * Copyright 2024-2026 IEXEC BLOCKCHAIN TECH
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,22 +19,37 @@ package com.iexec.resultproxy.proxy;
 import com.iexec.common.result.ResultModel;
 import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
 import com.iexec.resultproxy.authorization.AuthorizationService;
+import com.iexec.resultproxy.idempotency.IdempotencyService;
+import com.iexec.resultproxy.idempotency.IdempotentResponse;
 import com.iexec.resultproxy.ipfs.task.IpfsNameService;
 import com.iexec.resultproxy.jwt.JwtService;
+import com.iexec.resultproxy.lease.UploadLeaseConfig;
+import com.iexec.resultproxy.lease.UploadLeaseService;
+import com.iexec.resultproxy.lease.UploadLeaseStore;
+import com.iexec.resultproxy.ratelimit.RateLimiterService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static com.iexec.resultproxy.authorization.AuthorizationError.EMPTY_PARAMS_UNAUTHORIZED;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,7 +59,6 @@ class ProxyControllerTests {
     private static final String WORKER_WALLET = "0x2";
     private static final String ENCLAVE_CHALLENGE = "0x3";
     // Worker challenge computed by proxy to verify WORKER authorization
-    private static final String WORKER_CHALLENGE = "0x4";
     // Signed worker challenge provided by worker
     private static final String WORKER_AUTH = "0x5";
     private static final String TOKEN = "TOKEN";
@@ -65,34 +79,53 @@ class ProxyControllerTests {
     private JwtService jwtService;
     @Mock
     private ProxyService proxyService;
+    @Mock
+    private RateLimiterService rateLimiterService;
+    @Mock
+    private IdempotencyService idempotencyService;
+    @Spy
+    private UploadLeaseService uploadLeaseService = new UploadLeaseService(mock(UploadLeaseStore.class),
+            new UploadLeaseConfig(false, Duration.ofSeconds(30)));
+    @Spy
+    private HttpCacheConfig httpCacheConfig = new HttpCacheConfig(Duration.ofSeconds(5));
 
     @Spy
     @InjectMocks
     private ProxyController controller;
 
     // region getJwt
+    @Test
+    void shouldNotGetJwtWhenRateLimited() {
+        when(authorizationService.isChallengeSignedByWorker(AUTHORIZATION, WORKER_AUTH)).thenReturn(true);
+        when(rateLimiterService.tryAcquire(WORKER_WALLET)).thenReturn(Optional.of(Duration.ofMillis(1500)));
+        assertThat(controller.getJwt(WORKER_AUTH, AUTHORIZATION))
+                .isEqualTo(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "2")
+                        .build());
+        verify(authorizationService, never()).putIfAuthorized(any());
+        verifyNoInteractions(jwtService);
+    }
+
     @Test
     void shouldNotGetJwtWhenAuthorizationIsNotValid() {
-        when(authorizationService.getChallengeForWorker(AUTHORIZATION)).thenReturn(WORKER_CHALLENGE);
-        when(authorizationService.isSignedByHimself(WORKER_CHALLENGE, WORKER_AUTH, WORKER_WALLET)).thenReturn(false);
+        when(authorizationService.isChallengeSignedByWorker(AUTHORIZATION, WORKER_AUTH)).thenReturn(false);
         assertThat(controller.getJwt(WORKER_AUTH, AUTHORIZATION))
                 .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        verifyNoInteractions(rateLimiterService);
     }
 
     @Test
     void shouldNotGetJwtWhenWorkerpoolAuthorizationIsNotValid() {
-        when(authorizationService.getChallengeForWorker(AUTHORIZATION)).thenReturn(WORKER_CHALLENGE);
-        when(authorizationService.isSignedByHimself(WORKER_CHALLENGE, WORKER_AUTH, WORKER_WALLET)).thenReturn(true);
-        when(authorizationService.isAuthorizedOnExecutionWithDetailedIssue(AUTHORIZATION)).thenReturn(Optional.of(EMPTY_PARAMS_UNAUTHORIZED));
+        when(authorizationService.isChallengeSignedByWorker(AUTHORIZATION, WORKER_AUTH)).thenReturn(true);
+        when(authorizationService.putIfAuthorized(AUTHORIZATION)).thenReturn(Optional.of(EMPTY_PARAMS_UNAUTHORIZED));
         assertThat(controller.getJwt(WORKER_AUTH, AUTHORIZATION))
                 .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
     }
 
     @Test
     void shouldGetJwtWhenAuthorizationIsValid() {
-        when(authorizationService.getChallengeForWorker(AUTHORIZATION)).thenReturn(WORKER_CHALLENGE);
-        when(authorizationService.isSignedByHimself(WORKER_CHALLENGE, WORKER_AUTH, WORKER_WALLET)).thenReturn(true);
-        when(authorizationService.isAuthorizedOnExecutionWithDetailedIssue(AUTHORIZATION)).thenReturn(Optional.empty());
+        when(authorizationService.isChallengeSignedByWorker(AUTHORIZATION, WORKER_AUTH)).thenReturn(true);
+        when(authorizationService.putIfAuthorized(AUTHORIZATION)).thenReturn(Optional.empty());
         when(jwtService.getOrCreateJwt(WORKER_WALLET)).thenReturn(TOKEN);
         assertThat(controller.getJwt(WORKER_AUTH, AUTHORIZATION))
                 .isEqualTo(ResponseEntity.ok(TOKEN));
@@ -103,7 +136,7 @@ class ProxyControllerTests {
     @Test
     void shouldNotAddResultWhenJwtNotValid() {
         when(jwtService.isValidJwt("token")).thenReturn(false);
-        assertThat(controller.addResult("token", ResultModel.builder().build()))
+        assertThat(controller.addResult("token", null, ResultModel.builder().build()))
                 .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED.value()).build());
     }
 
@@ -111,7 +144,7 @@ class ProxyControllerTests {
     void shouldNotAddResultOnChecksFailure() {
         when(jwtService.isValidJwt("token")).thenReturn(true);
         when(proxyService.canUploadResult(any(), any())).thenReturn(false);
-        assertThat(controller.addResult("token", ResultModel.builder().build()))
+        assertThat(controller.addResult("token", null, ResultModel.builder().build()))
                 .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED.value()).build());
     }
 
@@ -121,7 +154,7 @@ class ProxyControllerTests {
         when(jwtService.isValidJwt("token")).thenReturn(true);
         when(proxyService.canUploadResult(any(), any())).thenReturn(true);
         when(proxyService.addResult(any())).thenReturn("");
-        assertThat(controller.addResult("token", model))
+        assertThat(controller.addResult("token", null, model))
                 .isEqualTo(ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).build());
     }
 
@@ -131,14 +164,101 @@ class ProxyControllerTests {
         when(jwtService.isValidJwt("token")).thenReturn(true);
         when(proxyService.canUploadResult(any(), any())).thenReturn(true);
         when(proxyService.addResult(any())).thenReturn("/ipfs");
-        assertThat(controller.addResult("token", model))
+        assertThat(controller.addResult("token", null, model))
+                .isEqualTo(ResponseEntity.ok("/ipfs"));
+    }
+
+    @Test
+    void shouldAnswerConflictWithoutResultLinkWhenLeaseIsHeld() {
+        final ResultModel model = ResultModel.builder().chainTaskId(CHAIN_TASK_ID).build();
+        when(jwtService.isValidJwt("token")).thenReturn(true);
+        doReturn(Optional.empty()).when(uploadLeaseService).tryAcquire(CHAIN_TASK_ID);
+        assertThat(controller.addResult("token", null, model))
+                .isEqualTo(ResponseEntity.status(HttpStatus.CONFLICT).build());
+        verifyNoInteractions(proxyService);
+    }
+
+    @Test
+    void shouldNotAddResultWithInvalidIdempotencyKey() {
+        when(jwtService.isValidJwt("token")).thenReturn(true);
+        assertThat(controller.addResult("token", "invalid key", ResultModel.builder().build()))
+                .isEqualTo(ResponseEntity.status(HttpStatus.BAD_REQUEST.value()).build());
+        verifyNoInteractions(idempotencyService, proxyService);
+    }
+
+    @Test
+    void shouldSaveResponseWhenIdempotencyKeyIsProvided() {
+        final ResultModel model = ResultModel.builder().chainTaskId(CHAIN_TASK_ID).build();
+        when(jwtService.isValidJwt("token")).thenReturn(true);
+        when(jwtService.getWalletAddressFromJwtString("token")).thenReturn(WORKER_WALLET);
+        when(idempotencyService.find(WORKER_WALLET, "key")).thenReturn(Optional.empty());
+        when(proxyService.canUploadResult(any(), any())).thenReturn(true);
+        when(proxyService.addResult(any())).thenReturn("/ipfs");
+        assertThat(controller.addResult("token", "key", model))
+                .isEqualTo(ResponseEntity.ok("/ipfs"));
+        verify(idempotencyService).save(WORKER_WALLET, "key",
+                new IdempotentResponse(IdempotencyService.computePayloadDigest(model), 200, "/ipfs"));
+    }
+
+    @Test
+    void shouldNotSaveFailedResponseWhenIdempotencyKeyIsProvided() {
+        when(jwtService.isValidJwt("token")).thenReturn(true);
+        when(jwtService.getWalletAddressFromJwtString("token")).thenReturn(WORKER_WALLET);
+        when(idempotencyService.find(WORKER_WALLET, "key")).thenReturn(Optional.empty());
+        when(proxyService.canUploadResult(any(), any())).thenReturn(false);
+        assertThat(controller.addResult("token", "key", ResultModel.builder().build()))
+                .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED.value()).build());
+        verify(idempotencyService, never()).save(any(), any(), any());
+    }
+
+    @Test
+    void shouldReplayResponseWhenIdempotencyKeyWasUsedWithSamePayload() {
+        final ResultModel model = ResultModel.builder().chainTaskId(CHAIN_TASK_ID).build();
+        when(jwtService.isValidJwt("token")).thenReturn(true);
+        when(jwtService.getWalletAddressFromJwtString("token")).thenReturn(WORKER_WALLET);
+        when(idempotencyService.find(WORKER_WALLET, "key")).thenReturn(Optional.of(
+                new IdempotentResponse(IdempotencyService.computePayloadDigest(model), 200, "/ipfs")));
+        assertThat(controller.addResult("token", "key", model))
                 .isEqualTo(ResponseEntity.ok("/ipfs"));
+        verifyNoInteractions(proxyService);
+    }
+
+    @Test
+    void shouldRejectWhenIdempotencyKeyWasUsedWithDifferentPayload() {
+        final ResultModel model = ResultModel.builder().chainTaskId(CHAIN_TASK_ID).build();
+        when(jwtService.isValidJwt("token")).thenReturn(true);
+        when(jwtService.getWalletAddressFromJwtString("token")).thenReturn(WORKER_WALLET);
+        when(idempotencyService.find(WORKER_WALLET, "key")).thenReturn(Optional.of(
+                new IdempotentResponse("otherDigest", 200, "/ipfs")));
+        assertThat(controller.addResult("token", "key", model))
+                .isEqualTo(ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build());
+        verifyNoInteractions(proxyService);
     }
     // endregion
 
     // region isResultUploaded
+    @Test
+    void shouldAnswerUnauthorizedWhenJwtNotSigned() {
+        when(jwtService.findWalletAddressFromJwtString("token")).thenReturn(Optional.empty());
+        assertThat(controller.isResultUploaded("chainTaskId", "token"))
+                .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        verifyNoInteractions(rateLimiterService, proxyService);
+    }
+
+    @Test
+    void shouldAnswerTooManyRequestsWhenRateLimited() {
+        when(jwtService.findWalletAddressFromJwtString("token")).thenReturn(Optional.of(WORKER_WALLET));
+        when(rateLimiterService.tryAcquire(WORKER_WALLET)).thenReturn(Optional.of(Duration.ofMillis(10)));
+        assertThat(controller.isResultUploaded("chainTaskId", "token"))
+                .isEqualTo(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build());
+        verifyNoInteractions(proxyService);
+    }
+
     @Test
     void shouldAnswerUnauthorizedWhenJwtNotValid() {
+        when(jwtService.findWalletAddressFromJwtString("token")).thenReturn(Optional.of(WORKER_WALLET));
         when(jwtService.isValidJwt("token")).thenReturn(false);
         assertThat(controller.isResultUploaded("chainTaskId", "token"))
                 .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
@@ -146,6 +266,7 @@ class ProxyControllerTests {
 
     @Test
     void shouldAnswerNotFoundWhenResultNotFound() {
+        when(jwtService.findWalletAddressFromJwtString("token")).thenReturn(Optional.of(WORKER_WALLET));
         when(jwtService.isValidJwt("token")).thenReturn(true);
         when(proxyService.isResultFound("chainTaskId")).thenReturn(false);
         assertThat(controller.isResultUploaded("chainTaskId", "token"))
@@ -154,6 +275,7 @@ class ProxyControllerTests {
 
     @Test
     void shouldAnswerNoContentWhenResultFound() {
+        when(jwtService.findWalletAddressFromJwtString("token")).thenReturn(Optional.of(WORKER_WALLET));
         when(jwtService.isValidJwt("token")).thenReturn(true);
         when(proxyService.isResultFound("chainTaskId")).thenReturn(true);
         assertThat(controller.isResultUploaded("chainTaskId", "token"))
@@ -162,11 +284,47 @@ class ProxyControllerTests {
     // endregion
 
     // region getIpfsHashForTask
+    private static final String IPFS_HASH = "QmYwAPJzv5CZsnA625s3Xf2nemtYgPpHdWEz79ojWnPbdG";
+    private static final String ETAG = "\"" + IPFS_HASH + "\"";
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
     @Test
     void shouldAnswerNotFoundWhenIpfsHashNotFound() {
         when(ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID)).thenReturn("");
-        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID))
-                .isEqualTo(ResponseEntity.status(HttpStatus.NOT_FOUND.value()).build());
+        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID, null))
+                .isEqualTo(ResponseEntity.status(HttpStatus.NOT_FOUND.value())
+                        .cacheControl(CacheControl.maxAge(Duration.ofSeconds(5)).cachePublic())
+                        .build());
+    }
+
+    @Test
+    void shouldAnswerImmutableIpfsHashWithETag() {
+        when(ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(IPFS_HASH);
+        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID, null))
+                .isEqualTo(ResponseEntity.ok().eTag(ETAG).cacheControl(IMMUTABLE).body(IPFS_HASH));
+    }
+
+    @Test
+    void shouldAnswerIpfsHashWhenETagDoesNotMatch() {
+        when(ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(IPFS_HASH);
+        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID, "\"QmOther\""))
+                .isEqualTo(ResponseEntity.ok().eTag(ETAG).cacheControl(IMMUTABLE).body(IPFS_HASH));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenETagMatches() {
+        when(ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(IPFS_HASH);
+        final ResponseEntity<String> notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(ETAG).cacheControl(IMMUTABLE).build();
+        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID, ETAG)).isEqualTo(notModified);
+        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID, "\"QmOther\", W/" + ETAG)).isEqualTo(notModified);
+        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID, "*")).isEqualTo(notModified);
+    }
+
+    @Test
+    void shouldNotAnswerNotModifiedWhenIpfsHashNotFound() {
+        when(ipfsNameService.getIpfsHashForTask(CHAIN_TASK_ID)).thenReturn("");
+        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID, "*").getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
     // endregion
 }
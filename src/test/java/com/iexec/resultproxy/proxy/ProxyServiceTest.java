@@ -32,8 +32,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Optional;
 
@@ -85,6 +87,11 @@ class ProxyServiceTest {
     private IexecHubService iexecHubService;
     @Mock
     private IpfsResultService ipfsResultService;
+    @Spy
+    private ResultDigestService resultDigestService = new ResultDigestService(new ResultDigestConfig(false, 0));
+    @Spy
+    private ResultZipExtractor resultZipExtractor = new ResultZipExtractor(
+            new ResultZipConfig(DataSize.ofMegabytes(16), 100, 1000, 1, Duration.ofSeconds(1)));
 
     @Spy
     @InjectMocks
@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.proxy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iexec.common.result.ResultModel;
+import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
+import com.iexec.resultproxy.authorization.AuthorizationService;
+import com.iexec.resultproxy.idempotency.IdempotencyService;
+import com.iexec.resultproxy.idempotency.IdempotentResponse;
+import com.iexec.resultproxy.jwt.JwtService;
+import com.iexec.resultproxy.lease.UploadLease;
+import com.iexec.resultproxy.lease.UploadLeaseConfig;
+import com.iexec.resultproxy.lease.UploadLeaseService;
+import com.iexec.resultproxy.lease.UploadLeaseStore;
+import com.iexec.resultproxy.ratelimit.RateLimiterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import static com.iexec.resultproxy.authorization.AuthorizationError.EMPTY_PARAMS_UNAUTHORIZED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProxyControllerTests {
+
+    private static final String CHAIN_TASK_ID = "0x1";
+    private static final String WORKER_WALLET = "0x2";
+    private static final String WORKER_AUTH = "0x5";
+    private static final String TOKEN = "TOKEN";
+    private static final String IPFS_HASH = "QmcipfsHash";
+    private static final String RESULT_LINK = "/ipfs/" + IPFS_HASH;
+    private static final WorkerpoolAuthorization AUTHORIZATION = WorkerpoolAuthorization.builder()
+            .chainTaskId(CHAIN_TASK_ID)
+            .workerWallet(WORKER_WALLET)
+            .build();
+    private static final ResultModel MODEL = ResultModel.builder()
+            .chainTaskId(CHAIN_TASK_ID)
+            .zip(new byte[]{1, 2, 3})
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private AuthorizationService authorizationService;
+    @Mock
+    private JwtService jwtService;
+    @Mock
+    private ReactiveProxyService reactiveProxyService;
+    @Mock
+    private RateLimiterService rateLimiterService;
+    @Mock
+    private IdempotencyService idempotencyService;
+    @Mock
+    private UploadLeaseStore uploadLeaseStore;
+
+    private final UploadBudget uploadBudget = new UploadBudget(
+            new UploadBudgetConfig(DataSize.ofKilobytes(1), Duration.ofMillis(100), DataSize.ofKilobytes(1)));
+    private ReactiveProxyController controller;
+
+    @BeforeEach
+    void init() {
+        controller = new ReactiveProxyController(authorizationService, jwtService, reactiveProxyService,
+                rateLimiterService, idempotencyService,
+                new UploadLeaseService(uploadLeaseStore,
+                        new UploadLeaseConfig(false, Duration.ofSeconds(30))),
+                objectMapper,
+                new HttpCacheConfig(Duration.ofSeconds(5)),
+                uploadBudget,
+                new ContentEncodingConfig(DataSize.ofKilobytes(1)));
+    }
+
+    private Flux<DataBuffer> toBody(final byte[] bytes) {
+        return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes));
+    }
+
+    private Flux<DataBuffer> toBody(final ResultModel model) throws IOException {
+        return toBody(objectMapper.writeValueAsBytes(model));
+    }
+
+    private void mockValidJwt() {
+        when(reactiveProxyService.isValidJwt(TOKEN)).thenReturn(Mono.just(true));
+        when(jwtService.getWalletAddressFromJwtString(TOKEN)).thenReturn(WORKER_WALLET);
+    }
+
+    // region getJwt
+    @Test
+    void shouldNotGetJwtWhenRateLimited() {
+        when(authorizationService.isChallengeSignedByWorker(AUTHORIZATION, WORKER_AUTH)).thenReturn(true);
+        when(rateLimiterService.tryAcquire(WORKER_WALLET)).thenReturn(Optional.of(Duration.ofMillis(1500)));
+        assertThat(controller.getJwt(WORKER_AUTH, AUTHORIZATION).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "2")
+                        .build());
+        verifyNoInteractions(reactiveProxyService);
+    }
+
+    @Test
+    void shouldNotGetJwtWhenChallengeIsNotSigned() {
+        when(authorizationService.isChallengeSignedByWorker(AUTHORIZATION, WORKER_AUTH)).thenReturn(false);
+        assertThat(controller.getJwt(WORKER_AUTH, AUTHORIZATION).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        verifyNoInteractions(rateLimiterService, reactiveProxyService);
+    }
+
+    @Test
+    void shouldNotGetJwtWhenWorkerpoolAuthorizationIsNotValid() {
+        when(authorizationService.isChallengeSignedByWorker(AUTHORIZATION, WORKER_AUTH)).thenReturn(true);
+        when(reactiveProxyService.findAuthorizationError(AUTHORIZATION)).thenReturn(Mono.just(EMPTY_PARAMS_UNAUTHORIZED));
+        assertThat(controller.getJwt(WORKER_AUTH, AUTHORIZATION).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        verify(reactiveProxyService, never()).getOrCreateJwt(any());
+    }
+
+    @Test
+    void shouldGetJwtWhenAuthorizationIsValid() {
+        when(authorizationService.isChallengeSignedByWorker(AUTHORIZATION, WORKER_AUTH)).thenReturn(true);
+        when(reactiveProxyService.findAuthorizationError(AUTHORIZATION)).thenReturn(Mono.empty());
+        when(reactiveProxyService.getOrCreateJwt(WORKER_WALLET)).thenReturn(Mono.just(TOKEN));
+        assertThat(controller.getJwt(WORKER_AUTH, AUTHORIZATION).block())
+                .isEqualTo(ResponseEntity.ok(TOKEN));
+    }
+    // endregion
+
+    // region addResult
+    @Test
+    void shouldNotAddResultWhenJwtNotValid() throws IOException {
+        when(reactiveProxyService.isValidJwt(TOKEN)).thenReturn(Mono.just(false));
+        assertThat(controller.addResult(TOKEN, null, null, null, toBody(MODEL)).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+    }
+
+    @Test
+    void shouldNotAddResultOnChecksFailure() throws IOException {
+        mockValidJwt();
+        when(reactiveProxyService.canUploadResult(any(), any())).thenReturn(Mono.just(false));
+        assertThat(controller.addResult(TOKEN, null, null, null, toBody(MODEL)).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        verify(reactiveProxyService, never()).addResult(any());
+    }
+
+    @Test
+    void shouldNotAddResultWhenPushFailed() throws IOException {
+        mockValidJwt();
+        when(reactiveProxyService.canUploadResult(any(), any())).thenReturn(Mono.just(true));
+        when(reactiveProxyService.addResult(any())).thenReturn(Mono.just(""));
+        assertThat(controller.addResult(TOKEN, null, null, null, toBody(MODEL)).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
+    }
+
+    @Test
+    void shouldAddResult() throws IOException {
+        mockValidJwt();
+        when(reactiveProxyService.canUploadResult(any(), any())).thenReturn(Mono.just(true));
+        when(reactiveProxyService.addResult(argThat(model -> CHAIN_TASK_ID.equals(model.getChainTaskId()))))
+                .thenReturn(Mono.just(RESULT_LINK));
+        assertThat(controller.addResult(TOKEN, null, null, null, toBody(MODEL)).block())
+                .isEqualTo(ResponseEntity.ok(RESULT_LINK));
+    }
+
+    @Test
+    void shouldAnswerConflictWhenUploadLeaseIsHeld() throws IOException {
+        controller = new ReactiveProxyController(authorizationService, jwtService, reactiveProxyService,
+                rateLimiterService, idempotencyService,
+                new UploadLeaseService(uploadLeaseStore,
+                        new UploadLeaseConfig(true, Duration.ofSeconds(30))),
+                objectMapper,
+                new HttpCacheConfig(Duration.ofSeconds(5)),
+                uploadBudget,
+                new ContentEncodingConfig(DataSize.ofKilobytes(1)));
+        mockValidJwt();
+        when(uploadLeaseStore.findByChainTaskId(CHAIN_TASK_ID)).thenReturn(Optional.of(
+                new UploadLease(CHAIN_TASK_ID, 0L, "other", Instant.now().plusSeconds(30), null)));
+        assertThat(controller.addResult(TOKEN, null, null, null, toBody(MODEL)).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.CONFLICT).build());
+        verify(reactiveProxyService, never()).canUploadResult(any(), any());
+    }
+
+    @Test
+    void shouldAddGzipEncodedResult() throws IOException {
+        mockValidJwt();
+        when(reactiveProxyService.canUploadResult(any(), any())).thenReturn(Mono.just(true));
+        when(reactiveProxyService.addResult(argThat(model -> CHAIN_TASK_ID.equals(model.getChainTaskId()))))
+                .thenReturn(Mono.just(RESULT_LINK));
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(objectMapper.writeValueAsBytes(MODEL));
+        }
+        assertThat(controller.addResult(TOKEN, null, "gzip", null, toBody(compressed.toByteArray())).block())
+                .isEqualTo(ResponseEntity.ok(RESULT_LINK));
+    }
+
+    @Test
+    void shouldRejectEncodedBodyDecodedLargerThanMaxSize() throws IOException {
+        mockValidJwt();
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(new byte[2048]);
+        }
+        final Mono<ResponseEntity<String>> response =
+                controller.addResult(TOKEN, null, "gzip", null, toBody(compressed.toByteArray()));
+        assertThatThrownBy(response::block)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+        verify(reactiveProxyService, never()).canUploadResult(any(), any());
+    }
+
+    @Test
+    void shouldRejectUnsupportedContentEncoding() throws IOException {
+        mockValidJwt();
+        final Mono<ResponseEntity<String>> response = controller.addResult(TOKEN, null, "br", null, toBody(MODEL));
+        assertThatThrownBy(response::block)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+    }
+
+    @Test
+    void shouldRejectBodyLargerThanBudget() {
+        mockValidJwt();
+        final Mono<ResponseEntity<String>> response = controller.addResult(TOKEN, null, null, null, toBody(new byte[2048]));
+        assertThatThrownBy(response::block)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+        verifyNoInteractions(idempotencyService);
+    }
+
+    @Test
+    void shouldAnswerServiceUnavailableWhenBudgetExhausted() throws IOException {
+        mockValidJwt();
+        final UploadBudget.Share heldShare = uploadBudget.newShare(() -> {
+        });
+        assertThat(heldShare.growTo(1024)).isTrue();
+        try {
+            assertThat(controller.addResult(TOKEN, null, null, null, toBody(MODEL)).block())
+                    .isEqualTo(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, "1")
+                            .build());
+            verify(reactiveProxyService, never()).canUploadResult(any(), any());
+        } finally {
+            heldShare.release();
+        }
+        assertThat(uploadBudget.getBytesInUse()).isZero();
+    }
+
+    @Test
+    void shouldReleaseBudgetOnceResultIsAdded() throws IOException {
+        mockValidJwt();
+        when(reactiveProxyService.canUploadResult(any(), any())).thenReturn(Mono.just(true));
+        when(reactiveProxyService.addResult(any())).thenReturn(Mono.just(RESULT_LINK));
+        final byte[] body = objectMapper.writeValueAsBytes(MODEL);
+        assertThat(controller.addResult(TOKEN, null, null, (long) body.length, toBody(body)).block())
+                .isEqualTo(ResponseEntity.ok(RESULT_LINK));
+        assertThat(uploadBudget.getBytesInUse()).isZero();
+    }
+
+    @Test
+    void shouldReplayResponseWhenIdempotencyKeyIsKnown() throws IOException {
+        mockValidJwt();
+        final String payloadDigest = IdempotencyService.computePayloadDigest(MODEL);
+        when(idempotencyService.find(WORKER_WALLET, "key"))
+                .thenReturn(Optional.of(new IdempotentResponse(payloadDigest, HttpStatus.OK.value(), RESULT_LINK)));
+        assertThat(controller.addResult(TOKEN, "key", null, null, toBody(MODEL)).block())
+                .isEqualTo(ResponseEntity.ok(RESULT_LINK));
+        verify(reactiveProxyService, never()).canUploadResult(any(), any());
+    }
+
+    @Test
+    void shouldSaveResponseWhenIdempotencyKeyIsNew() throws IOException {
+        mockValidJwt();
+        when(idempotencyService.find(WORKER_WALLET, "key")).thenReturn(Optional.empty());
+        when(reactiveProxyService.canUploadResult(any(), any())).thenReturn(Mono.just(true));
+        when(reactiveProxyService.addResult(any())).thenReturn(Mono.just(RESULT_LINK));
+        assertThat(controller.addResult(TOKEN, "key", null, null, toBody(MODEL)).block())
+                .isEqualTo(ResponseEntity.ok(RESULT_LINK));
+        verify(idempotencyService).save(WORKER_WALLET, "key", new IdempotentResponse(
+                IdempotencyService.computePayloadDigest(MODEL), HttpStatus.OK.value(), RESULT_LINK));
+    }
+    // endregion
+
+    // region isResultUploaded
+    @Test
+    void shouldNotCheckResultWhenJwtNotSigned() {
+        when(jwtService.findWalletAddressFromJwtString(TOKEN)).thenReturn(Optional.empty());
+        assertThat(controller.isResultUploaded(CHAIN_TASK_ID, TOKEN).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        verifyNoInteractions(rateLimiterService, reactiveProxyService);
+    }
+
+    @Test
+    void shouldFindUploadedResult() {
+        when(jwtService.findWalletAddressFromJwtString(TOKEN)).thenReturn(Optional.of(WORKER_WALLET));
+        when(rateLimiterService.tryAcquire(WORKER_WALLET)).thenReturn(Optional.empty());
+        when(reactiveProxyService.isValidJwt(TOKEN)).thenReturn(Mono.just(true));
+        when(reactiveProxyService.isResultFound(CHAIN_TASK_ID)).thenReturn(Mono.just(true));
+        assertThat(controller.isResultUploaded(CHAIN_TASK_ID, TOKEN).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.NO_CONTENT).build());
+    }
+
+    @Test
+    void shouldNotFindMissingResult() {
+        when(jwtService.findWalletAddressFromJwtString(TOKEN)).thenReturn(Optional.of(WORKER_WALLET));
+        when(rateLimiterService.tryAcquire(WORKER_WALLET)).thenReturn(Optional.empty());
+        when(reactiveProxyService.isValidJwt(TOKEN)).thenReturn(Mono.just(true));
+        when(reactiveProxyService.isResultFound(CHAIN_TASK_ID)).thenReturn(Mono.just(false));
+        assertThat(controller.isResultUploaded(CHAIN_TASK_ID, TOKEN).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+    // endregion
+
+    // region getIpfsHashForTask
+    @Test
+    void shouldNotFindIpfsHash() {
+        when(reactiveProxyService.getIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(Mono.just(""));
+        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID, null).block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .cacheControl(CacheControl.maxAge(Duration.ofSeconds(5)).cachePublic())
+                        .build());
+    }
+
+    @Test
+    void shouldGetIpfsHash() {
+        when(reactiveProxyService.getIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(Mono.just(IPFS_HASH));
+        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID, null).block())
+                .isEqualTo(ResponseEntity.ok()
+                        .eTag("\"" + IPFS_HASH + "\"")
+                        .cacheControl(ProxyResponses.IMMUTABLE)
+                        .body(IPFS_HASH));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenETagMatches() {
+        when(reactiveProxyService.getIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(Mono.just(IPFS_HASH));
+        assertThat(controller.getIpfsHashForTask(CHAIN_TASK_ID, "\"" + IPFS_HASH + "\"").block())
+                .isEqualTo(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag("\"" + IPFS_HASH + "\"")
+                        .cacheControl(ProxyResponses.IMMUTABLE)
+                        .build());
+    }
+    // endregion
+}
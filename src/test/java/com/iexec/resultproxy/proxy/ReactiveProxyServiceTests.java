@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.proxy;
+
+import com.iexec.common.result.ResultModel;
+import com.iexec.resultproxy.authorization.AuthorizationService;
+import com.iexec.resultproxy.ipfs.IpfsPushConfig;
+import com.iexec.resultproxy.ipfs.IpfsResultService;
+import com.iexec.resultproxy.ipfs.ReactiveIpfsService;
+import com.iexec.resultproxy.ipfs.outbox.IpfsOutboxService;
+import com.iexec.resultproxy.ipfs.task.IpfsName;
+import com.iexec.resultproxy.ipfs.task.IpfsNameService;
+import com.iexec.resultproxy.ipfs.task.ReactiveIpfsNameRepository;
+import com.iexec.resultproxy.jwt.Jwt;
+import com.iexec.resultproxy.jwt.JwtRepository;
+import com.iexec.resultproxy.jwt.JwtService;
+import com.iexec.resultproxy.jwt.JwtStore;
+import com.iexec.resultproxy.jwt.ReactiveJwtRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveProxyServiceTests {
+
+    private static final String CHAIN_TASK_ID = "0x1";
+    private static final String WALLET = "0x2";
+    private static final String TOKEN = "TOKEN";
+    private static final String IPFS_HASH = "QmcipfsHash";
+    private static final byte[] ZIP = {1, 2, 3};
+    private static final ResultModel MODEL = ResultModel.builder().chainTaskId(CHAIN_TASK_ID).zip(ZIP).build();
+
+    @Mock
+    private AuthorizationService authorizationService;
+    @Mock
+    private JwtService jwtService;
+    @Mock
+    private JwtRepository jwtRepository;
+    @Mock
+    private ProxyService proxyService;
+    @Mock
+    private IpfsNameService ipfsNameService;
+    @Mock
+    private IpfsOutboxService ipfsOutboxService;
+    @Mock
+    private ReactiveJwtRepository reactiveJwtRepository;
+    @Mock
+    private ReactiveIpfsNameRepository reactiveIpfsNameRepository;
+    @Mock
+    private ReactiveIpfsService reactiveIpfsService;
+    @Mock
+    private ObjectProvider<ReactiveIpfsService> reactiveIpfsServiceProvider;
+
+    private ReactiveProxyService createService(final JwtStore jwtStore, final boolean asyncPush) {
+        return new ReactiveProxyService(authorizationService, jwtService, jwtStore, proxyService, ipfsNameService,
+                ipfsOutboxService, reactiveJwtRepository, reactiveIpfsNameRepository,
+                reactiveIpfsServiceProvider, new IpfsPushConfig(asyncPush, 1));
+    }
+
+    private ReactiveProxyService createService() {
+        when(reactiveIpfsServiceProvider.getIfAvailable()).thenReturn(reactiveIpfsService);
+        return createService(jwtRepository, false);
+    }
+
+    @Test
+    void shouldRequireMongoStorage() {
+        final JwtStore embeddedStore = mock(JwtStore.class);
+        assertThatThrownBy(() -> createService(embeddedStore, false))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // region isValidJwt
+    @Test
+    void shouldNotValidateJwtNotSignedByInstance() {
+        final ReactiveProxyService service = createService();
+        when(jwtService.findWalletAddressFromJwtString(TOKEN)).thenReturn(Optional.empty());
+        assertThat(service.isValidJwt(TOKEN).block()).isFalse();
+        verifyNoInteractions(reactiveJwtRepository);
+    }
+
+    @Test
+    void shouldNotValidateJwtWhenNoneStored() {
+        final ReactiveProxyService service = createService();
+        when(jwtService.findWalletAddressFromJwtString(TOKEN)).thenReturn(Optional.of(WALLET));
+        when(reactiveJwtRepository.findByWalletAddress(WALLET)).thenReturn(Mono.empty());
+        assertThat(service.isValidJwt(TOKEN).block()).isFalse();
+    }
+
+    @Test
+    void shouldValidateStoredJwt() {
+        final ReactiveProxyService service = createService();
+        when(jwtService.findWalletAddressFromJwtString(TOKEN)).thenReturn(Optional.of(WALLET));
+        when(reactiveJwtRepository.findByWalletAddress(WALLET)).thenReturn(Mono.just(new Jwt(WALLET, TOKEN)));
+        assertThat(service.isValidJwt(TOKEN).block()).isTrue();
+    }
+    // endregion
+
+    // region getIpfsHashForTask
+    @Test
+    void shouldGetIpfsHashFromCache() {
+        final ReactiveProxyService service = createService();
+        when(ipfsNameService.findCachedIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(Optional.of(IPFS_HASH));
+        assertThat(service.getIpfsHashForTask(CHAIN_TASK_ID).block()).isEqualTo(IPFS_HASH);
+        verifyNoInteractions(reactiveIpfsNameRepository);
+    }
+
+    @Test
+    void shouldGetIpfsHashFromRepositoryAndCacheIt() {
+        final ReactiveProxyService service = createService();
+        when(ipfsNameService.findCachedIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        when(reactiveIpfsNameRepository.findByTaskId(CHAIN_TASK_ID)).thenReturn(Mono.just(new IpfsName(CHAIN_TASK_ID, IPFS_HASH)));
+        assertThat(service.getIpfsHashForTask(CHAIN_TASK_ID).block()).isEqualTo(IPFS_HASH);
+        verify(ipfsNameService).cacheIpfsHashForTask(CHAIN_TASK_ID, IPFS_HASH);
+    }
+
+    @Test
+    void shouldNotGetMissingIpfsHash() {
+        final ReactiveProxyService service = createService();
+        when(ipfsNameService.findCachedIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        when(reactiveIpfsNameRepository.findByTaskId(CHAIN_TASK_ID)).thenReturn(Mono.empty());
+        assertThat(service.getIpfsHashForTask(CHAIN_TASK_ID).block()).isEmpty();
+        assertThat(service.isResultFound(CHAIN_TASK_ID).block()).isFalse();
+    }
+
+    @Test
+    void shouldFindResultPendingInOutbox() {
+        final ReactiveProxyService service = createService();
+        when(ipfsOutboxService.isPending(CHAIN_TASK_ID)).thenReturn(true);
+        assertThat(service.isResultFound(CHAIN_TASK_ID).block()).isTrue();
+        verifyNoInteractions(ipfsNameService, reactiveIpfsNameRepository);
+    }
+    // endregion
+
+    // region addResult
+    @Test
+    void shouldAddResultWithReactiveIpfsClient() {
+        final ReactiveProxyService service = createService();
+        when(ipfsNameService.findCachedIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        when(reactiveIpfsNameRepository.findByTaskId(CHAIN_TASK_ID)).thenReturn(Mono.empty());
+        when(reactiveIpfsService.add(IpfsResultService.getResultFilename(CHAIN_TASK_ID), ZIP)).thenReturn(Mono.just(IPFS_HASH));
+        when(reactiveIpfsNameRepository.save(any())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        assertThat(service.addResult(MODEL).block()).isEqualTo("/ipfs/" + IPFS_HASH);
+        verify(ipfsNameService).cacheIpfsHashForTask(CHAIN_TASK_ID, IPFS_HASH);
+        verifyNoInteractions(proxyService);
+    }
+
+    @Test
+    void shouldNotAddResultAlreadyUploaded() {
+        final ReactiveProxyService service = createService();
+        when(ipfsNameService.findCachedIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(Optional.of(IPFS_HASH));
+        assertThat(service.addResult(MODEL).block()).isEmpty();
+        verifyNoInteractions(reactiveIpfsService);
+    }
+
+    @Test
+    void shouldNotSaveIpfsHashWhenPushFailed() {
+        final ReactiveProxyService service = createService();
+        when(ipfsNameService.findCachedIpfsHashForTask(CHAIN_TASK_ID)).thenReturn(Optional.empty());
+        when(reactiveIpfsNameRepository.findByTaskId(CHAIN_TASK_ID)).thenReturn(Mono.empty());
+        when(reactiveIpfsService.add(any(), any())).thenReturn(Mono.just(""));
+        assertThat(service.addResult(MODEL).block()).isEmpty();
+        verify(reactiveIpfsNameRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldAddResultWithBlockingPathWhenPushIsAsync() {
+        when(reactiveIpfsServiceProvider.getIfAvailable()).thenReturn(reactiveIpfsService);
+        final ReactiveProxyService service = createService(jwtRepository, true);
+        when(proxyService.addResult(MODEL)).thenReturn("/ipfs/" + IPFS_HASH);
+        assertThat(service.addResult(MODEL).block()).isEqualTo("/ipfs/" + IPFS_HASH);
+        verifyNoInteractions(reactiveIpfsService);
+    }
+    // endregion
+}
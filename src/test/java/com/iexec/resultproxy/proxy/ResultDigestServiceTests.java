@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import com.iexec.common.result.ComputedFile;
+import com.iexec.common.worker.result.ResultUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultDigestServiceTests {
+
+    @TempDir
+    Path resultFolder;
+
+    private final Random random = new Random(42L);
+    private ResultDigestService parallelDigestService;
+
+    @BeforeEach
+    void init() throws IOException {
+        Files.createDirectories(resultFolder.resolve("iexec_out"));
+        parallelDigestService = new ResultDigestService(new ResultDigestConfig(true, 4));
+    }
+
+    @AfterEach
+    void stop() {
+        parallelDigestService.stop();
+    }
+
+    private void writeFile(final String name, final int size) throws IOException {
+        final byte[] content = new byte[size];
+        random.nextBytes(content);
+        Files.write(resultFolder.resolve("iexec_out").resolve(name), content);
+    }
+
+    private void assertSameDigestAsResultUtils(final String deterministicOutputPath) {
+        final ComputedFile computedFile = ComputedFile.builder().deterministicOutputPath(deterministicOutputPath).build();
+        final String expected = ResultUtils.computeWeb2ResultDigest(computedFile, resultFolder.toString());
+        assertThat(parallelDigestService.computeWeb2ResultDigest(computedFile, resultFolder.toString()))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void shouldComputeSameDigestForSingleFile() throws IOException {
+        writeFile("result.txt", 200_000);
+        assertSameDigestAsResultUtils("/iexec_out/result.txt");
+    }
+
+    @Test
+    void shouldComputeSameDigestForDirectory() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            writeFile("file-" + i + ".bin", random.nextInt(100_000));
+        }
+        writeFile("computed.json", 64);
+        assertSameDigestAsResultUtils("/iexec_out");
+    }
+
+    @Test
+    void shouldComputeSameDigestForEmptyDirectory() {
+        assertSameDigestAsResultUtils("/iexec_out");
+    }
+
+    @Test
+    void shouldComputeSameDigestForMissingOutput() {
+        assertSameDigestAsResultUtils("/iexec_out/missing.txt");
+    }
+
+    @Test
+    void shouldComputeSameDigestWhenSequential() throws IOException {
+        writeFile("result.txt", 1_000);
+        final ResultDigestService sequentialDigestService = new ResultDigestService(new ResultDigestConfig(false, 0));
+        final ComputedFile computedFile = ComputedFile.builder().deterministicOutputPath("/iexec_out").build();
+        assertThat(sequentialDigestService.computeWeb2ResultDigest(computedFile, resultFolder.toString()))
+                .isEqualTo(ResultUtils.computeWeb2ResultDigest(computedFile, resultFolder.toString()));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResultZipExtractorTests {
+
+    @TempDir
+    Path tmpFolder;
+
+    // a single buffer checks buffers are given back to the pool after each extraction, including failed ones
+    private final ResultZipExtractor extractor = new ResultZipExtractor(
+            new ResultZipConfig(DataSize.ofKilobytes(512), 4, 100, 1, Duration.ofMillis(50)));
+
+    private Path createZip(final Map<String, byte[]> entries) throws IOException {
+        final Path zipPath = Files.createTempFile(tmpFolder, "result", ".zip");
+        try (OutputStream out = Files.newOutputStream(zipPath); ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (final Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        return zipPath;
+    }
+
+    private static byte[] randomBytes(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(42L).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    void shouldExtractZip() throws IOException {
+        final byte[] result = randomBytes(200_000);
+        final Path zipPath = createZip(Map.of(
+                "computed.json", "{}".getBytes(StandardCharsets.UTF_8),
+                "output/result.bin", result));
+        final Path destination = tmpFolder.resolve("iexec_out");
+        extractor.extract(zipPath, destination);
+        assertThat(destination.resolve("computed.json")).hasContent("{}");
+        assertThat(destination.resolve("output/result.bin")).hasBinaryContent(result);
+        // the pooled buffer can be acquired again
+        extractor.extract(zipPath, tmpFolder.resolve("other"));
+    }
+
+    @Test
+    void shouldRejectEntryOutsideOfDestination() throws IOException {
+        final Path zipPath = createZip(Map.of("../evil.txt", new byte[1]));
+        assertThatThrownBy(() -> extractor.extract(zipPath, tmpFolder.resolve("iexec_out")))
+                .isInstanceOf(ZipException.class)
+                .hasMessageContaining("outside of destination");
+        assertThat(tmpFolder.resolve("evil.txt")).doesNotExist();
+    }
+
+    @Test
+    void shouldRejectTooManyEntries() throws IOException {
+        final Path zipPath = createZip(Map.of("1", new byte[1], "2", new byte[1], "3", new byte[1],
+                "4", new byte[1], "5", new byte[1]));
+        assertThatThrownBy(() -> extractor.extract(zipPath, tmpFolder.resolve("iexec_out")))
+                .isInstanceOf(ZipException.class)
+                .hasMessageContaining("Too many zip entries");
+        assertThat(tmpFolder.resolve("iexec_out")).doesNotExist();
+    }
+
+    @Test
+    void shouldRejectExpandedSizeOverLimit() throws IOException {
+        final Path zipPath = createZip(Map.of("1", randomBytes(300_000), "2", randomBytes(300_000)));
+        assertThatThrownBy(() -> extractor.extract(zipPath, tmpFolder.resolve("iexec_out")))
+                .isInstanceOf(ZipException.class)
+                .hasMessageContaining("expanded size exceeds limit");
+    }
+
+    @Test
+    void shouldRejectCompressionRatioOverLimit() throws IOException {
+        final Path zipPath = createZip(Map.of("zeros", new byte[400_000]));
+        assertThatThrownBy(() -> extractor.extract(zipPath, tmpFolder.resolve("iexec_out")))
+                .isInstanceOf(ZipException.class)
+                .hasMessageContaining("compression ratio exceeds limit");
+        extractor.extract(createZip(Map.of("result", randomBytes(1_000))), tmpFolder.resolve("other"));
+    }
+
+    @Test
+    void shouldFailWhenNoBufferIsFreedInTime() throws IOException {
+        final Path zipPath = createZip(Map.of("result", randomBytes(1_000)));
+        final byte[] buffer = extractor.acquireBuffer();
+        assertThatThrownBy(() -> extractor.extract(zipPath, tmpFolder.resolve("iexec_out")))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("No zip extraction buffer freed in time");
+        extractor.releaseBuffer(buffer);
+        extractor.extract(zipPath, tmpFolder.resolve("other"));
+    }
+
+    @Test
+    void shouldRejectInvalidZip() throws IOException {
+        final Path zipPath = Files.write(tmpFolder.resolve("empty.zip"), new byte[0]);
+        assertThatThrownBy(() -> extractor.extract(zipPath, tmpFolder.resolve("iexec_out")))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.proxy;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UploadBudgetFilterTests {
+
+    private final UploadBudget uploadBudget = new UploadBudget(
+            new UploadBudgetConfig(DataSize.ofKilobytes(10), Duration.ofMillis(100), DataSize.ofKilobytes(4)));
+    private final UploadBudgetFilter filter = new UploadBudgetFilter(uploadBudget);
+
+    private MockHttpServletRequest uploadRequest(final int contentLength) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/results");
+        request.setContent(new byte[contentLength]);
+        return request;
+    }
+
+    private HttpServletRequest chunkedUploadRequest(final int bodySize) {
+        return new HttpServletRequestWrapper(uploadRequest(bodySize)) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1L;
+            }
+        };
+    }
+
+    private MockFilterChain readingChain(final long[] bytesInUse) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                bytesInUse[0] = uploadBudget.getBytesInUse();
+                req.getInputStream().readAllBytes();
+            }
+        });
+    }
+
+    @Test
+    void shouldForwardUploadWithinBudget() throws Exception {
+        final long[] bytesInUse = new long[1];
+        final MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                bytesInUse[0] = uploadBudget.getBytesInUse();
+            }
+        });
+        filter.doFilter(uploadRequest(4096), new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(bytesInUse[0]).isEqualTo(4096);
+        assertThat(uploadBudget.getBytesInUse()).isZero();
+    }
+
+    @Test
+    void shouldNotFilterOtherRequests() throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/results/0x1/ipfshash");
+        final MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void shouldAdmitUploadWithoutContentLengthWithFixedShare() throws Exception {
+        final long[] bytesInUse = new long[1];
+        final MockFilterChain chain = readingChain(bytesInUse);
+        filter.doFilter(chunkedUploadRequest(3 * 1024), new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(bytesInUse[0]).isEqualTo(4 * 1024);
+        assertThat(uploadBudget.getBytesInUse()).isZero();
+    }
+
+    @Test
+    void shouldGrowShareOfUploadWithoutContentLengthLargerThanFixedShare() throws Exception {
+        final UploadBudget defaultBudget = new UploadBudget(
+                new UploadBudgetConfig(DataSize.ofMegabytes(256), Duration.ofMillis(100), DataSize.ofMegabytes(16)));
+        final UploadBudgetFilter defaultFilter = new UploadBudgetFilter(defaultBudget);
+        final long[] bytesInUse = new long[1];
+        final MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.getInputStream().readAllBytes();
+                bytesInUse[0] = defaultBudget.getBytesInUse();
+            }
+        });
+        defaultFilter.doFilter(chunkedUploadRequest(17 * 1024 * 1024), new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(bytesInUse[0]).isEqualTo(32L * 1024 * 1024);
+        assertThat(defaultBudget.getBytesInUse()).isZero();
+    }
+
+    @Test
+    void shouldFailUploadWithoutContentLengthLargerThanBudget() {
+        final long[] bytesInUse = new long[1];
+        final MockFilterChain chain = readingChain(bytesInUse);
+        assertThatThrownBy(() -> filter.doFilter(chunkedUploadRequest(10 * 1024 + 1), new MockHttpServletResponse(), chain))
+                .isInstanceOf(UploadTooLargeException.class);
+        assertThat(uploadBudget.getBytesInUse()).isZero();
+    }
+
+    @Test
+    void shouldRejectUploadLargerThanBudget() throws Exception {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(uploadRequest(10 * 1024 + 1), response, chain);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void shouldRejectUploadWhenBudgetExhausted() throws Exception {
+        final CountDownLatch holding = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final MockFilterChain blockingChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                holding.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> firstUpload = executor.submit(() -> {
+                filter.doFilter(uploadRequest(8 * 1024), new MockHttpServletResponse(), blockingChain);
+                return null;
+            });
+            assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+            final MockHttpServletResponse response = new MockHttpServletResponse();
+            final MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(uploadRequest(4 * 1024), response, chain);
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+            assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+            assertThat(chain.getRequest()).isNull();
+
+            release.countDown();
+            firstUpload.get(5, TimeUnit.SECONDS);
+            final MockFilterChain retriedChain = new MockFilterChain();
+            filter.doFilter(uploadRequest(4 * 1024), new MockHttpServletResponse(), retriedChain);
+            assertThat(retriedChain.getRequest()).isNotNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.iexec.resultproxy.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterServiceTests {
+
+    private static final String WALLET_ADDRESS = "0x123abc";
+    private static final long REFILL_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimiterService rateLimiterService = new RateLimiterService(
+            new RateLimitConfig(3, Duration.ofMinutes(1), 10, Duration.ofMinutes(10)));
+
+    // region TokenBucket
+    @Test
+    void shouldConsumeBurstThenReject() {
+        final TokenBucket bucket = new TokenBucket(3, REFILL_INTERVAL_NANOS, 0L);
+        IntStream.range(0, 3).forEach(i -> assertThat(bucket.tryConsume(0L)).isZero());
+        assertThat(bucket.tryConsume(0L)).isEqualTo(REFILL_INTERVAL_NANOS);
+    }
+
+    @Test
+    void shouldRefillAfterInterval() {
+        final TokenBucket bucket = new TokenBucket(1, REFILL_INTERVAL_NANOS, 0L);
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(REFILL_INTERVAL_NANOS / 2)).isEqualTo(REFILL_INTERVAL_NANOS / 2);
+        assertThat(bucket.tryConsume(REFILL_INTERVAL_NANOS)).isZero();
+    }
+
+    @Test
+    void shouldNotAccumulateMoreThanCapacity() {
+        final TokenBucket bucket = new TokenBucket(2, REFILL_INTERVAL_NANOS, 0L);
+        final long later = 100 * REFILL_INTERVAL_NANOS;
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isPositive();
+    }
+    // endregion
+
+    // region tryAcquire
+    @Test
+    void shouldAdmitRequestsWithoutWallet() {
+        IntStream.range(0, 10).forEach(i -> assertThat(rateLimiterService.tryAcquire("")).isEmpty());
+        assertThat(rateLimiterService.tryAcquire(null)).isEmpty();
+    }
+
+    @Test
+    void shouldRejectWalletOverLimit() {
+        IntStream.range(0, 3).forEach(i -> assertThat(rateLimiterService.tryAcquire(WALLET_ADDRESS)).isEmpty());
+        assertThat(rateLimiterService.tryAcquire(WALLET_ADDRESS.toUpperCase()))
+                .hasValueSatisfying(retryAfter -> assertThat(retryAfter).isPositive());
+    }
+
+    @Test
+    void shouldNotRejectOtherWallets() {
+        IntStream.range(0, 3).forEach(i -> rateLimiterService.tryAcquire(WALLET_ADDRESS));
+        assertThat(rateLimiterService.tryAcquire(WALLET_ADDRESS)).isPresent();
+        assertThat(rateLimiterService.tryAcquire("0xabc123")).isEmpty();
+    }
+    // endregion
+}
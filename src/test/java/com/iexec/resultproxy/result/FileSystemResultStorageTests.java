@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.result;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSystemResultStorageTests {
+
+    private static final String CHAIN_TASK_ID = "0x1";
+    private static final byte[] DATA = "result".getBytes(StandardCharsets.UTF_8);
+    private static final String DATA_SHA256 = "f6a214f7a5fcda0c2cee9660b7fc29f5649e3c68aad48e20e950137c98913a68";
+
+    @TempDir
+    private Path directory;
+
+    private FileSystemResultStorage storage;
+
+    @BeforeEach
+    void init() throws IOException {
+        storage = new FileSystemResultStorage(new FileSystemResultStorageConfig(directory.toString()));
+    }
+
+    @Test
+    void shouldStoreResultAtContentAddress() {
+        final String locationId = storage.store(CHAIN_TASK_ID, DATA);
+        assertThat(locationId).isEqualTo(DATA_SHA256);
+        assertThat(storage.getPath(locationId))
+                .exists()
+                .hasParent(directory.resolve(locationId.substring(0, 2)).resolve(locationId.substring(2, 4)));
+        assertThat(storage.toLink(locationId)).isEqualTo("/file/" + locationId);
+    }
+
+    @Test
+    void shouldLoadStoredResult() {
+        final String locationId = storage.store(CHAIN_TASK_ID, DATA);
+        assertThat(storage.load(locationId)).hasValue(DATA);
+    }
+
+    @Test
+    void shouldStoreIdenticalResultsOnce() throws IOException {
+        final String locationId = storage.store(CHAIN_TASK_ID, DATA);
+        assertThat(storage.store("0x2", DATA)).isEqualTo(locationId);
+        try (var files = Files.list(directory.resolve("tmp"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldStoreEmptyResult() {
+        final String locationId = storage.store(CHAIN_TASK_ID, new byte[0]);
+        assertThat(storage.load(locationId)).hasValue(new byte[0]);
+    }
+
+    @Test
+    void shouldNotLoadMissingOrInvalidLocation() {
+        assertThat(storage.load(storage.computeLocationId(DATA))).isEmpty();
+        assertThat(storage.load("../../etc/passwd")).isEmpty();
+        assertThat(storage.load("QmbFMke1KXqnYyBBWxB74N4c5SBnJMVAiMNRcGu6x1AwQH")).isEmpty();
+    }
+}
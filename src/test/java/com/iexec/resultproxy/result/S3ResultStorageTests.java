@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.result;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+class S3ResultStorageTests {
+
+    private static final String CHAIN_TASK_ID = "0x1";
+    private static final byte[] DATA = "result".getBytes(StandardCharsets.UTF_8);
+
+    @Container
+    private static final MinIOContainer minio = new MinIOContainer(DockerImageName.parse(System.getProperty("minio.image")));
+
+    private S3ResultStorage storage;
+
+    @BeforeEach
+    void init() {
+        storage = new S3ResultStorage(new S3ResultStorageConfig(minio.getS3URL(), "us-east-1", "iexec-results",
+                minio.getUserName(), minio.getPassword(), true));
+        storage.createBucketIfMissing();
+    }
+
+    @AfterEach
+    void cleanup() {
+        storage.close();
+    }
+
+    @Test
+    void shouldStoreAndLoadResult() {
+        final String locationId = storage.store(CHAIN_TASK_ID, DATA);
+        assertThat(locationId).isEqualTo("f6a214f7a5fcda0c2cee9660b7fc29f5649e3c68aad48e20e950137c98913a68");
+        assertThat(storage.toLink(locationId)).isEqualTo("/s3/" + locationId);
+        assertThat(storage.load(locationId)).hasValue(DATA);
+    }
+
+    @Test
+    void shouldStoreIdenticalResultsAtSameLocation() {
+        assertThat(storage.store("0x2", DATA)).isEqualTo(storage.store(CHAIN_TASK_ID, DATA));
+    }
+
+    @Test
+    void shouldNotLoadMissingOrInvalidLocation() {
+        assertThat(storage.load(storage.computeLocationId(new byte[]{1}))).isEmpty();
+        assertThat(storage.load("QmbFMke1KXqnYyBBWxB74N4c5SBnJMVAiMNRcGu6x1AwQH")).isEmpty();
+    }
+
+    @Test
+    void shouldNotFailWhenBucketExists() {
+        storage.createBucketIfMissing();
+        assertThat(storage.store(CHAIN_TASK_ID, DATA)).isNotEmpty();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import com.iexec.commons.poco.chain.WorkerpoolAuthorization;
+import com.iexec.resultproxy.authorization.Authorization;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmbeddedAuthorizationStoreTests {
+
+    private static final String CHAIN_TASK_ID = "0x1";
+    private static final String WORKER_WALLET = "0x2";
+    private static final String ENCLAVE_CHALLENGE = "0x3";
+
+    @TempDir
+    private Path directory;
+
+    private EmbeddedAuthorizationStore store;
+
+    @BeforeEach
+    void init() throws IOException {
+        store = new EmbeddedAuthorizationStore(new EmbeddedStorageConfig(
+                directory.toString(), Duration.ofMinutes(1), 0.5, DataSize.ofMegabytes(1)));
+        store.open();
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        store.close();
+    }
+
+    private Authorization newAuthorization() {
+        return new Authorization(WorkerpoolAuthorization.builder()
+                .chainTaskId(CHAIN_TASK_ID)
+                .workerWallet(WORKER_WALLET)
+                .enclaveChallenge(ENCLAVE_CHALLENGE)
+                .build());
+    }
+
+    @Test
+    void shouldSaveAndFindAuthorization() {
+        store.save(newAuthorization());
+        assertThat(store.findByChainTaskIdAndWorkerWallet(CHAIN_TASK_ID, WORKER_WALLET))
+                .hasValueSatisfying(authorization -> {
+                    assertThat(authorization.getId()).isNotNull();
+                    assertThat(authorization.getChainTaskId()).isEqualTo(CHAIN_TASK_ID);
+                    assertThat(authorization.getWorkerWallet()).isEqualTo(WORKER_WALLET);
+                    assertThat(authorization.getEnclaveChallenge()).isEqualTo(ENCLAVE_CHALLENGE);
+                });
+    }
+
+    @Test
+    void shouldRejectDuplicateAuthorization() {
+        store.save(newAuthorization());
+        final Authorization duplicate = newAuthorization();
+        assertThatThrownBy(() -> store.save(duplicate)).isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void shouldDeleteAuthorizationById() {
+        store.save(newAuthorization());
+        final String id = store.findByChainTaskIdAndWorkerWallet(CHAIN_TASK_ID, WORKER_WALLET).orElseThrow().getId();
+        store.deleteById(id);
+        assertThat(store.findByChainTaskIdAndWorkerWallet(CHAIN_TASK_ID, WORKER_WALLET)).isEmpty();
+    }
+
+    @Test
+    void shouldFindAndDeleteAuthorizationOnce() {
+        store.save(newAuthorization());
+        assertThat(store.deleteByChainTaskIdAndWorkerWallet(CHAIN_TASK_ID, WORKER_WALLET))
+                .hasValueSatisfying(authorization -> assertThat(authorization.getEnclaveChallenge()).isEqualTo(ENCLAVE_CHALLENGE));
+        assertThat(store.deleteByChainTaskIdAndWorkerWallet(CHAIN_TASK_ID, WORKER_WALLET)).isEmpty();
+        assertThat(store.findByChainTaskIdAndWorkerWallet(CHAIN_TASK_ID, WORKER_WALLET)).isEmpty();
+    }
+
+    @Test
+    void shouldFindAuthorizationAfterRestart() throws IOException {
+        store.save(newAuthorization());
+        store.close();
+        store.open();
+        assertThat(store.findByChainTaskIdAndWorkerWallet(CHAIN_TASK_ID, WORKER_WALLET)).isPresent();
+    }
+}
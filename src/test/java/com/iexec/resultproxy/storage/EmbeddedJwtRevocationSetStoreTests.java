@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import com.iexec.resultproxy.jwt.JwtRevocationSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedJwtRevocationSetStoreTests {
+
+    private static final Instant REVOKED_AT = Instant.ofEpochMilli(1_700_000_000_000L);
+
+    @TempDir
+    private Path directory;
+
+    private EmbeddedStorageConfig config;
+    private EmbeddedJwtRevocationSetStore store;
+
+    @BeforeEach
+    void init() throws IOException {
+        config = new EmbeddedStorageConfig(directory.toString(), Duration.ofMinutes(1), 0.5, DataSize.ofMegabytes(1));
+        store = new EmbeddedJwtRevocationSetStore(config);
+        store.open();
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void shouldSaveAndFindRevocationSet() {
+        store.save(new JwtRevocationSet(JwtRevocationSet.ID, null, Map.of("0x1", REVOKED_AT)));
+        assertThat(store.findById(JwtRevocationSet.ID))
+                .hasValueSatisfying(set -> {
+                    assertThat(set.getVersion()).isNull();
+                    assertThat(set.getRevokedBefore()).containsExactlyEntriesOf(Map.of("0x1", REVOKED_AT));
+                });
+    }
+
+    @Test
+    void shouldReplaceRevocationSet() {
+        final JwtRevocationSet set = new JwtRevocationSet(JwtRevocationSet.ID, null, Map.of("0x1", REVOKED_AT));
+        store.save(set);
+        store.save(set.withRevocation("0x2", REVOKED_AT.plusSeconds(1), REVOKED_AT));
+        assertThat(store.findById(JwtRevocationSet.ID).orElseThrow().getRevokedBefore())
+                .containsOnlyKeys("0x1", "0x2");
+    }
+
+    @Test
+    void shouldReadRevocationSetAfterReopen() throws IOException {
+        store.save(new JwtRevocationSet(JwtRevocationSet.ID, null, Map.of("0x1", REVOKED_AT)));
+        store.close();
+        store = new EmbeddedJwtRevocationSetStore(config);
+        store.open();
+        assertThat(store.findById(JwtRevocationSet.ID).orElseThrow().getRevokedBefore())
+                .containsEntry("0x1", REVOKED_AT);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmbeddedLogTests {
+
+    @TempDir
+    private Path directory;
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private EmbeddedLog openLog() throws IOException {
+        final EmbeddedLog log = new EmbeddedLog(directory.resolve("test.log"));
+        log.open();
+        return log;
+    }
+
+    // region put
+    @Test
+    void shouldPutAndGet() throws IOException {
+        try (EmbeddedLog log = openLog()) {
+            assertThat(log.put("key", bytes("value"), false)).isTrue();
+            assertThat(log.get("key")).hasValue(bytes("value"));
+            assertThat(log.get("missing")).isEmpty();
+            assertThat(log.count()).isOne();
+        }
+    }
+
+    @Test
+    void shouldOverwriteValue() throws IOException {
+        try (EmbeddedLog log = openLog()) {
+            log.put("key", bytes("value"), false);
+            log.put("key", bytes("other"), false);
+            assertThat(log.get("key")).hasValue(bytes("other"));
+            assertThat(log.count()).isOne();
+            assertThat(log.getGarbageRatio()).isPositive();
+        }
+    }
+
+    @Test
+    void shouldNotOverwriteValueWhenOnlyIfAbsent() throws IOException {
+        try (EmbeddedLog log = openLog()) {
+            log.put("key", bytes("value"), true);
+            assertThat(log.put("key", bytes("other"), true)).isFalse();
+            assertThat(log.get("key")).hasValue(bytes("value"));
+        }
+    }
+    // endregion
+
+    // region remove
+    @Test
+    void shouldRemoveKey() throws IOException {
+        try (EmbeddedLog log = openLog()) {
+            log.put("key", bytes("value"), false);
+            assertThat(log.remove("key")).isTrue();
+            assertThat(log.remove("key")).isFalse();
+            assertThat(log.get("key")).isEmpty();
+            assertThat(log.count()).isZero();
+        }
+    }
+
+    @Test
+    void shouldGetAndRemoveKey() throws IOException {
+        try (EmbeddedLog log = openLog()) {
+            log.put("key", bytes("value"), false);
+            assertThat(log.getAndRemove("key")).hasValue(bytes("value"));
+            assertThat(log.getAndRemove("key")).isEmpty();
+            assertThat(log.get("key")).isEmpty();
+        }
+    }
+    // endregion
+
+    // region open
+    @Test
+    void shouldReplayLogOnOpen() throws IOException {
+        try (EmbeddedLog log = openLog()) {
+            for (int i = 0; i < 5000; i++) {
+                log.put("key-" + i, bytes("value-" + i), false);
+            }
+            log.put("key-1", bytes("updated"), false);
+            log.remove("key-2");
+        }
+        try (EmbeddedLog log = openLog()) {
+            assertThat(log.count()).isEqualTo(4999);
+            assertThat(log.get("key-0")).hasValue(bytes("value-0"));
+            assertThat(log.get("key-1")).hasValue(bytes("updated"));
+            assertThat(log.get("key-2")).isEmpty();
+            assertThat(log.get("key-4999")).hasValue(bytes("value-4999"));
+        }
+    }
+
+    @Test
+    void shouldTruncateTornRecordOnOpen() throws IOException {
+        final long validSize;
+        try (EmbeddedLog log = openLog()) {
+            log.put("key", bytes("value"), false);
+            validSize = log.getSize();
+            log.put("torn", bytes("value"), false);
+        }
+        final Path file = directory.resolve("test.log");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(file) - 2);
+        }
+        try (EmbeddedLog log = openLog()) {
+            assertThat(log.get("key")).hasValue(bytes("value"));
+            assertThat(log.get("torn")).isEmpty();
+            assertThat(log.getSize()).isEqualTo(validSize);
+            log.put("next", bytes("value"), false);
+        }
+        try (EmbeddedLog log = openLog()) {
+            assertThat(log.get("next")).hasValue(bytes("value"));
+        }
+    }
+    // endregion
+
+    // region getLatest
+    @Test
+    void shouldGetLatestRecordsFromNewestToOldest() throws IOException {
+        try (EmbeddedLog log = openLog()) {
+            log.put("key-1", bytes("value-1"), false);
+            log.put("key-2", bytes("value-2"), false);
+            log.put("key-3", bytes("value-3"), false);
+            log.put("key-1", bytes("value-4"), false);
+            log.remove("key-3");
+            final List<Map.Entry<String, byte[]>> latest = log.getLatest(10);
+            assertThat(latest).extracting(Map.Entry::getKey).containsExactly("key-1", "key-2");
+            assertThat(latest.get(0).getValue()).isEqualTo(bytes("value-4"));
+            assertThat(log.getLatest(1)).extracting(Map.Entry::getKey).containsExactly("key-1");
+        }
+    }
+
+    @Test
+    void shouldKeepWriteOrderWhenCompacting() throws IOException {
+        try (EmbeddedLog log = openLog()) {
+            for (int i = 0; i < 100; i++) {
+                log.put("key-" + i, bytes("value-" + i), false);
+            }
+            log.put("key-0", bytes("value"), false);
+            log.compact();
+            assertThat(log.getLatest(3)).extracting(Map.Entry::getKey).containsExactly("key-0", "key-99", "key-98");
+        }
+    }
+    // endregion
+
+    // region compact
+    @Test
+    void shouldCompactLog() throws IOException {
+        try (EmbeddedLog log = openLog()) {
+            for (int i = 0; i < 100; i++) {
+                log.put("key-" + (i % 10), bytes("value-" + i), false);
+            }
+            log.remove("key-0");
+            final long sizeBeforeCompaction = log.getSize();
+            log.compact();
+            assertThat(log.getSize()).isLessThan(sizeBeforeCompaction);
+            assertThat(log.getGarbageRatio()).isZero();
+            assertThat(log.count()).isEqualTo(9);
+            assertThat(log.get("key-9")).hasValue(bytes("value-99"));
+            log.put("key-0", bytes("value"), false);
+        }
+        try (EmbeddedLog log = openLog()) {
+            assertThat(log.count()).isEqualTo(10);
+            assertThat(log.get("key-0")).hasValue(bytes("value"));
+            assertThat(log.get("key-1")).hasValue(bytes("value-91"));
+        }
+    }
+    // endregion
+}
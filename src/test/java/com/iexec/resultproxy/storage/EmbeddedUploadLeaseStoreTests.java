@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import com.iexec.resultproxy.lease.UploadLease;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmbeddedUploadLeaseStoreTests {
+
+    private static final String CHAIN_TASK_ID = "0x1";
+
+    @TempDir
+    private Path directory;
+
+    private EmbeddedUploadLeaseStore store;
+
+    @BeforeEach
+    void init() throws IOException {
+        store = new EmbeddedUploadLeaseStore(new EmbeddedStorageConfig(
+                directory.toString(), Duration.ofMinutes(1), 0.5, DataSize.ofMegabytes(1)));
+        store.open();
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        store.close();
+    }
+
+    private static UploadLease newLease(String owner) {
+        return new UploadLease(CHAIN_TASK_ID, owner, Instant.now().plusSeconds(60));
+    }
+
+    @Test
+    void shouldInsertAndFindLease() {
+        final UploadLease saved = store.save(newLease("owner"));
+        assertThat(saved.getVersion()).isZero();
+        assertThat(store.findByChainTaskId(CHAIN_TASK_ID))
+                .hasValueSatisfying(uploadLease -> {
+                    assertThat(uploadLease.getVersion()).isZero();
+                    assertThat(uploadLease.getOwner()).isEqualTo("owner");
+                    assertThat(uploadLease.isCompleted()).isFalse();
+                });
+    }
+
+    @Test
+    void shouldRejectDuplicateLease() {
+        store.save(newLease("owner"));
+        final UploadLease duplicate = newLease("other");
+        assertThatThrownBy(() -> store.save(duplicate)).isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void shouldUpdateLeaseWithCurrentVersion() {
+        final UploadLease saved = store.save(newLease("owner"));
+        final UploadLease completed = store.save(new UploadLease(CHAIN_TASK_ID, saved.getVersion(), "owner",
+                saved.getExpiresAt(), "/ipfs/QmHash"));
+        assertThat(completed.getVersion()).isEqualTo(1L);
+        assertThat(store.findByChainTaskId(CHAIN_TASK_ID).orElseThrow().getResultLink()).isEqualTo("/ipfs/QmHash");
+    }
+
+    @Test
+    void shouldRejectLeaseWithStaleVersion() {
+        final UploadLease saved = store.save(newLease("owner"));
+        store.save(new UploadLease(CHAIN_TASK_ID, saved.getVersion(), "owner", saved.getExpiresAt(), null));
+        final UploadLease stale = new UploadLease(CHAIN_TASK_ID, saved.getVersion(), "other", saved.getExpiresAt(), null);
+        assertThatThrownBy(() -> store.save(stale)).isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void shouldDeleteExpiredLeaseOnLookup() {
+        store.save(new UploadLease(CHAIN_TASK_ID, "owner", Instant.now().minusSeconds(1)));
+        assertThat(store.findByChainTaskId(CHAIN_TASK_ID)).isEmpty();
+        assertThat(store.count()).isZero();
+    }
+
+    @Test
+    void shouldOnlyDeleteLeaseOfOwner() {
+        store.save(newLease("owner"));
+        store.deleteByChainTaskIdAndOwner(CHAIN_TASK_ID, "other");
+        assertThat(store.findByChainTaskId(CHAIN_TASK_ID)).isPresent();
+        store.deleteByChainTaskIdAndOwner(CHAIN_TASK_ID, "owner");
+        assertThat(store.findByChainTaskId(CHAIN_TASK_ID)).isEmpty();
+    }
+}
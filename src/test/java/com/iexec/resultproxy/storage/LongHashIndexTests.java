@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongHashIndexTests {
+
+    @Test
+    void shouldDiscriminateKeysSharingFingerprint() {
+        final LongHashIndex index = new LongHashIndex(8);
+        index.put(42L, 1L, handle -> false);
+        index.put(42L, 2L, handle -> false);
+        assertThat(index.get(42L, handle -> handle == 1L)).isEqualTo(1L);
+        assertThat(index.get(42L, handle -> handle == 2L)).isEqualTo(2L);
+        assertThat(index.remove(42L, handle -> handle == 1L)).isEqualTo(1L);
+        assertThat(index.get(42L, handle -> handle == 2L)).isEqualTo(2L);
+        assertThat(index.size()).isOne();
+    }
+
+    @Test
+    void shouldReplaceHandle() {
+        final LongHashIndex index = new LongHashIndex(8);
+        index.put(7L, 1L, handle -> true);
+        assertThat(index.put(7L, 3L, handle -> handle == 1L)).isEqualTo(1L);
+        assertThat(index.get(7L, handle -> true)).isEqualTo(3L);
+        assertThat(index.size()).isOne();
+    }
+
+    @Test
+    void shouldGrowAndReuseDeletedSlots() {
+        final LongHashIndex index = new LongHashIndex(8);
+        for (long i = 0; i < 10_000; i++) {
+            final long handle = i;
+            index.put(EmbeddedLog.fingerprint(Long.toString(i).getBytes()), handle, candidate -> candidate == handle);
+        }
+        for (long i = 0; i < 10_000; i += 2) {
+            final long handle = i;
+            index.remove(EmbeddedLog.fingerprint(Long.toString(i).getBytes()), candidate -> candidate == handle);
+        }
+        assertThat(index.size()).isEqualTo(5_000);
+        assertThat(index.get(EmbeddedLog.fingerprint("9999".getBytes()), candidate -> candidate == 9999L)).isEqualTo(9999L);
+        assertThat(index.get(EmbeddedLog.fingerprint("9998".getBytes()), candidate -> true)).isEqualTo(LongHashIndex.NOT_FOUND);
+    }
+}
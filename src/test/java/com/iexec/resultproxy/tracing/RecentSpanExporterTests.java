@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026-2026 IEXEC BLOCKCHAIN TECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.iexec.resultproxy.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentSpanExporterTests {
+
+    private RecentSpanExporter exporter;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void init() {
+        exporter = new RecentSpanExporter(new RecentSpansConfig(true, 3));
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void close() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void shouldKeepParentAndAttributes() {
+        final Span parent = tracer.spanBuilder("parent").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            tracer.spanBuilder("child")
+                    .setAttribute(ObservationKeys.CHAIN_TASK_ID, "0x1")
+                    .setAttribute(ObservationKeys.PAYLOAD_SIZE, 42L)
+                    .startSpan()
+                    .end();
+        } finally {
+            parent.end();
+        }
+        final List<RecentSpanExporter.SpanSummary> spans = exporter.getSpans(null);
+        assertThat(spans).extracting(RecentSpanExporter.SpanSummary::name).containsExactly("parent", "child");
+        final RecentSpanExporter.SpanSummary child = spans.get(1);
+        assertThat(child.traceId()).isEqualTo(parent.getSpanContext().getTraceId());
+        assertThat(child.parentSpanId()).isEqualTo(parent.getSpanContext().getSpanId());
+        assertThat(child.attributes())
+                .containsEntry(ObservationKeys.CHAIN_TASK_ID, "0x1")
+                .containsEntry(ObservationKeys.PAYLOAD_SIZE, "42");
+        assertThat(spans.get(0).parentSpanId()).isNull();
+    }
+
+    @Test
+    void shouldEvictOldestSpans() {
+        for (int i = 0; i < 5; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+        assertThat(exporter.getSpans(null))
+                .extracting(RecentSpanExporter.SpanSummary::name)
+                .containsExactly("span-4", "span-3", "span-2");
+    }
+
+    @Test
+    void shouldFilterByTraceId() {
+        final Span first = tracer.spanBuilder("first").startSpan();
+        first.end();
+        tracer.spanBuilder("second").startSpan().end();
+        assertThat(exporter.getSpans(first.getSpanContext().getTraceId()))
+                .extracting(RecentSpanExporter.SpanSummary::name)
+                .containsExactly("first");
+    }
+}